@@ -0,0 +1,39 @@
+package com.study.my_spring_study_diary.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트와 요청 비율 (가중치 합 100)
+ */
+enum Endpoint {
+    CREATE("POST /api/v1/logs", 10),
+    READ("GET /api/v1/logs/{id}", 40),
+    PAGE("GET /api/v1/logs/page", 20),
+    SEARCH("GET /api/v1/logs/search", 15),
+    UPDATE("PUT /api/v1/logs/{id}", 10),
+    DELETE("DELETE /api/v1/logs/{id}", 5);
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    /**
+     * 0~99 사이의 값으로 가중치에 맞는 엔드포인트 선택
+     */
+    static Endpoint pick(int percentile) {
+        int cumulative = 0;
+        for (Endpoint endpoint : values()) {
+            cumulative += endpoint.weight;
+            if (percentile < cumulative) {
+                return endpoint;
+            }
+        }
+        return READ;
+    }
+}
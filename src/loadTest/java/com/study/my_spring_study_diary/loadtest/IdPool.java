@@ -0,0 +1,45 @@
+package com.study.my_spring_study_diary.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 중 존재하는 학습 일지 ID 목록
+ * (생성 시 추가, 삭제 시 제거)
+ */
+class IdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+    synchronized void add(Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * 무작위 ID (없으면 null)
+     */
+    synchronized Long random() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * 무작위 ID를 꺼내서 목록에서 제거 (삭제 요청용)
+     */
+    synchronized Long take() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long last = ids.remove(ids.size() - 1);
+        if (index == ids.size()) {
+            return last;
+        }
+        return ids.set(index, last);
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.my_spring_study_diary.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 HDR 히스토그램과 결과 집계
+ */
+class LatencyReport {
+
+    // 1µs ~ 60초, 유효 숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> rejected = new EnumMap<>(Endpoint.class);
+    private final AtomicLong overflow = new AtomicLong();
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+            rejected.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(Endpoint endpoint, long latencyNanos, int status) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (micros > HIGHEST_TRACKABLE_MICROS) {
+            overflow.incrementAndGet();
+            micros = HIGHEST_TRACKABLE_MICROS;
+        }
+        histograms.get(endpoint).recordValue(micros);
+
+        if (status == 503) {
+            rejected.get(endpoint).increment();
+        } else if (status < 200 || status >= 300) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    String toMarkdown(long elapsedNanos, int targetRate, int users) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder markdown = new StringBuilder("# StudyLogController Load Test\n\n");
+        markdown.append(String.format("목표 요청률 %d req/s, 가상 사용자 %d명, 측정 %.1f초%n%n", targetRate, users, seconds));
+        markdown.append("지연 시간은 예정 시작 시각 기준(ms, coordinated omission 보정)\n\n");
+        markdown.append("| endpoint | requests | req/s | errors | 503 | p50 | p95 | p99 | p99.9 | max |\n");
+        markdown.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            total.add(histogram);
+            appendRow(markdown, endpoint.getLabel(), histogram, seconds,
+                    errors.get(endpoint).sum(), rejected.get(endpoint).sum());
+        }
+        appendRow(markdown, "**total**", total, seconds,
+                errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                rejected.values().stream().mapToLong(LongAdder::sum).sum());
+
+        if (overflow.get() > 0) {
+            markdown.append(String.format("%n60초를 넘은 요청 %d건은 60초로 기록했습니다.%n", overflow.get()));
+        }
+        return markdown.toString();
+    }
+
+    private void appendRow(StringBuilder markdown, String label, Histogram histogram,
+                           double seconds, long errorCount, long rejectedCount) {
+        long count = histogram.getTotalCount();
+        markdown.append(String.format("| %s | %d | %.1f | %d | %d | %s | %s | %s | %s | %s |%n",
+                label, count, count / seconds, errorCount, rejectedCount,
+                millis(histogram, 50.0), millis(histogram, 95.0), millis(histogram, 99.0),
+                millis(histogram, 99.9), count == 0 ? "-" : String.format("%.2f", histogram.getMaxValue() / 1000.0)));
+    }
+
+    private String millis(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) {
+            return "-";
+        }
+        return String.format("%.2f", histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+}
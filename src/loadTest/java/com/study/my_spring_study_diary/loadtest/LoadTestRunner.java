@@ -0,0 +1,118 @@
+package com.study.my_spring_study_diary.loadtest;
+
+import com.study.my_spring_study_diary.MySpringStudyDiaryApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudyLogController 부하 테스트 실행기
+ *
+ * H2 프로파일로 애플리케이션을 띄운 뒤(또는 loadtest.target으로 지정한 서버에)
+ * 여러 가상 사용자가 생성/조회/페이징/검색/수정/삭제를 섞어서 고정 요청률로 호출합니다.
+ *
+ * 실행 예시:
+ *   ./gradlew loadTest
+ *   ./gradlew loadTest -Dloadtest.rate=500 -Dloadtest.duration=60 -Dloadtest.users=100
+ *   ./gradlew loadTest -Dloadtest.target=http://localhost:8081
+ *
+ * 옵션 (시스템 프로퍼티):
+ *   loadtest.rate      초당 요청 수 (기본값: 200)
+ *   loadtest.duration  측정 시간, 초 (기본값: 30)
+ *   loadtest.warmup    워밍업 시간, 초 (기본값: 5, 결과에서 제외)
+ *   loadtest.users     가상 사용자 수 (기본값: 50)
+ *   loadtest.seed-logs 시작 전 미리 만들어 둘 학습 일지 수 (기본값: 500)
+ *   loadtest.target    이미 떠 있는 서버 주소 (지정하면 애플리케이션을 띄우지 않음)
+ *
+ * 결과: build/reports/load-test/report.md
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 5);
+        int users = Integer.getInteger("loadtest.users", 50);
+        int seedLogs = Integer.getInteger("loadtest.seed-logs", 500);
+        String target = System.getProperty("loadtest.target");
+
+        ConfigurableApplicationContext context = null;
+        if (target == null || target.isBlank()) {
+            context = startApplication();
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            StudyLogApiClient client = new StudyLogApiClient(target);
+            IdPool idPool = new IdPool();
+            System.out.printf("대상: %s, 초기 데이터 %d건 생성 중...%n", target, seedLogs);
+            for (int i = 0; i < seedLogs; i++) {
+                idPool.add(client.createForSeed());
+            }
+
+            System.out.printf("워밍업 %d초...%n", warmupSeconds);
+            run(client, idPool, new LatencyReport(), rate, warmupSeconds, users);
+
+            System.out.printf("측정 시작: %d req/s, %d초, 가상 사용자 %d명%n", rate, durationSeconds, users);
+            LatencyReport report = new LatencyReport();
+            long elapsedNanos = run(client, idPool, report, rate, durationSeconds, users);
+
+            String markdown = report.toMarkdown(elapsedNanos, rate, users);
+            System.out.println(markdown);
+
+            Path directory = Path.of("build", "reports", "load-test");
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("report.md"), markdown);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        SpringApplication application = new SpringApplication(MySpringStudyDiaryApplication.class);
+        application.setAdditionalProfiles("h2");
+        return application.run("--server.port=0", "--logging.level.root=WARN");
+    }
+
+    /**
+     * 가상 사용자들을 실행하고 실제 경과 시간(ns)을 반환
+     *
+     * 각 가상 사용자는 (users / rate) 초 간격의 "예정 시작 시각"을 가지고,
+     * 지연 시간은 실제 시작 시각이 아니라 예정 시작 시각부터 측정합니다.
+     * 서버가 느려서 요청이 밀리면 밀린 시간까지 지연으로 기록되어
+     * coordinated omission으로 백분위가 좋게 보이는 문제를 피합니다.
+     */
+    private static long run(StudyLogApiClient client, IdPool idPool, LatencyReport report,
+                            int rate, int durationSeconds, int users) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * users / rate;
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            // 사용자마다 시작 시각을 조금씩 어긋나게 해서 요청이 한 순간에 몰리지 않게 함
+            long firstIntendedNanos = startNanos + intervalNanos * i / users;
+            VirtualUser virtualUser = new VirtualUser(i, client, idPool, report,
+                    firstIntendedNanos, intervalNanos, endNanos);
+            virtualUsers.add(virtualUser);
+            executor.execute(virtualUser);
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 120L, TimeUnit.SECONDS);
+        return System.nanoTime() - startNanos;
+    }
+
+    private LoadTestRunner() {
+    }
+}
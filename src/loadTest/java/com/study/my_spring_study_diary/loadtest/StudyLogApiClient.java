@@ -0,0 +1,122 @@
+package com.study.my_spring_study_diary.loadtest;
+
+import com.study.my_spring_study_diary.dataset.SyntheticStudyLogGenerator;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /api/v1/logs HTTP 클라이언트
+ */
+class StudyLogApiClient {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] KEYWORDS = {"Java", "Spring", "Stream", "인덱스", "정리", "JPA"};
+
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // 요청 본문 생성용 (스레드마다 따로 쓰지 않도록 synchronized 로 접근)
+    private final SyntheticStudyLogGenerator generator =
+            new SyntheticStudyLogGenerator(1234, LocalDate.now(), 365);
+
+    StudyLogApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 초기 데이터 생성 (생성된 ID 반환)
+     */
+    Long createForSeed() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(Endpoint.CREATE, null);
+        return extractId(response.body());
+    }
+
+    /**
+     * 엔드포인트 호출
+     *
+     * @param id 대상 ID (READ/UPDATE/DELETE)
+     */
+    HttpResponse<String> send(Endpoint endpoint, Long id) throws IOException, InterruptedException {
+        HttpRequest request = switch (endpoint) {
+            case CREATE -> json(HttpRequest.newBuilder(uri("/api/v1/logs")), "POST", createBody());
+            case READ -> HttpRequest.newBuilder(uri("/api/v1/logs/" + id)).GET().build();
+            case PAGE -> HttpRequest.newBuilder(uri("/api/v1/logs/page?page="
+                    + ThreadLocalRandom.current().nextInt(5) + "&size=10")).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(uri(searchQuery())).GET().build();
+            case UPDATE -> json(HttpRequest.newBuilder(uri("/api/v1/logs/" + id)), "PUT", updateBody());
+            case DELETE -> HttpRequest.newBuilder(uri("/api/v1/logs/" + id)).DELETE().build();
+        };
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    static Long extractId(String body) {
+        Matcher matcher = ID_PATTERN.matcher(body);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String searchQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder query = new StringBuilder("/api/v1/logs/search?page=0&size=10");
+        if (random.nextBoolean()) {
+            query.append("&title=").append(URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8));
+        }
+        if (random.nextBoolean()) {
+            query.append("&category=").append(Category.values()[random.nextInt(Category.values().length)].name());
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&startDate=").append(LocalDate.now().minusDays(30));
+        }
+        return query.toString();
+    }
+
+    private String createBody() {
+        StudyLog studyLog;
+        synchronized (generator) {
+            studyLog = generator.next();
+        }
+        return "{"
+                + "\"title\":" + quote(studyLog.getTitle()) + ","
+                + "\"content\":" + quote(studyLog.getContent()) + ","
+                + "\"category\":" + quote(studyLog.getCategory().name()) + ","
+                + "\"understanding\":" + quote(studyLog.getUnderstanding().name()) + ","
+                + "\"studyTime\":" + studyLog.getStudyTime() + ","
+                + "\"studyDate\":" + quote(studyLog.getStudyDate().toString())
+                + "}";
+    }
+
+    private String updateBody() {
+        return "{\"studyTime\":" + (10 + ThreadLocalRandom.current().nextInt(120)) + "}";
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
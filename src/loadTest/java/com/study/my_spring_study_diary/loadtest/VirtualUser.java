@@ -0,0 +1,81 @@
+package com.study.my_spring_study_diary.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가상 사용자
+ *
+ * 정해진 간격마다 요청을 하나씩 보내는 open-model 부하 생성기입니다.
+ * 지연 시간은 "예정 시작 시각 → 응답 완료"로 측정합니다 (coordinated omission 보정).
+ */
+class VirtualUser implements Runnable {
+
+    private final int number;
+    private final StudyLogApiClient client;
+    private final IdPool idPool;
+    private final LatencyReport report;
+    private final long intervalNanos;
+    private final long endNanos;
+
+    private long intendedStartNanos;
+
+    VirtualUser(int number, StudyLogApiClient client, IdPool idPool, LatencyReport report,
+                long firstIntendedNanos, long intervalNanos, long endNanos) {
+        this.number = number;
+        this.client = client;
+        this.idPool = idPool;
+        this.report = report;
+        this.intendedStartNanos = firstIntendedNanos;
+        this.intervalNanos = intervalNanos;
+        this.endNanos = endNanos;
+    }
+
+    @Override
+    public void run() {
+        while (intendedStartNanos < endNanos) {
+            // 예정 시각까지 대기 (이미 늦었으면 바로 실행)
+            long waitNanos = intendedStartNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Endpoint endpoint = Endpoint.pick(ThreadLocalRandom.current().nextInt(100));
+            execute(endpoint);
+
+            intendedStartNanos += intervalNanos;
+        }
+    }
+
+    private void execute(Endpoint endpoint) {
+        Long id = switch (endpoint) {
+            case READ, UPDATE -> idPool.random();
+            case DELETE -> idPool.take();
+            default -> null;
+        };
+
+        // 대상 ID가 없으면 조회로 대체
+        if (id == null && (endpoint == Endpoint.READ || endpoint == Endpoint.UPDATE || endpoint == Endpoint.DELETE)) {
+            endpoint = Endpoint.PAGE;
+        }
+
+        int status;
+        try {
+            HttpResponse<String> response = client.send(endpoint, id);
+            status = response.statusCode();
+            if (endpoint == Endpoint.CREATE && status == 200) {
+                idPool.add(StudyLogApiClient.extractId(response.body()));
+            }
+        } catch (Exception e) {
+            status = -1;
+        }
+
+        report.record(endpoint, System.nanoTime() - intendedStartNanos, status);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualUser-" + number;
+    }
+}
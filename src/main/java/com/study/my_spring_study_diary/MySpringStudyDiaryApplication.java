@@ -1,14 +1,22 @@
 package com.study.my_spring_study_diary;
 
+import com.study.my_spring_study_diary.startup.StartupTimingReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.ApplicationContext;
 
 @SpringBootApplication
 public class MySpringStudyDiaryApplication {
 
+	// 시작 단계 기록 개수 (빈 생성 단계 포함, 넘치면 이후 단계는 버림)
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(MySpringStudyDiaryApplication.class, args);
+		SpringApplication application = new SpringApplication(MySpringStudyDiaryApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.addListeners(new StartupTimingReport());
+		application.run(args);
 
 		// 등록된 모든 Bean 이름 출력
 //		ApplicationContext context = SpringApplication.run(MySpringStudyDiaryApplication.class, args);
@@ -0,0 +1,144 @@
+package com.study.my_spring_study_diary.autocomplete;
+
+import com.study.my_spring_study_diary.cache.StudyLogDerivedIndex;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogTitle;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목 자동완성 인덱스
+ *
+ * 입력할 때마다 /search?titleKeyword=로 LIKE '%…%' 전체 스캔 + COUNT를 하지 않도록
+ * 제목 빈도를 TitleTrie에 담아 두고 접두어로 상위 제목을 바로 돌려줍니다.
+ *
+ * 수정/삭제 시 이전 제목의 빈도를 줄이려면 ID별로 무엇을 더했는지 알아야 하므로
+ * (다른 노드 변경은 ID만 오고, 재적재 중 변경은 다시 반영되므로 한 건 반영이 멱등이어야 함)
+ * 제목 문자열 대신 제목 키의 64비트 해시만 ID별로 기억합니다.
+ *
+ * 적재 시에는 ID와 제목만 읽습니다. (내용은 읽지 않음)
+ *
+ * 메모리: 트라이는 max-titles개 제목까지로 제한되지만, ID별 해시는 일지 수에 비례합니다. (일지당 HashMap 항목 하나)
+ */
+@Component
+public class TitleAutocompleteIndex extends StudyLogDerivedIndex<List<StudyLogTitle>> {
+
+    private final TitleTrie trie;
+    // ID → 더한 제목 키의 해시 (TitleTrie.add의 반환값)
+    private final Map<Long, Long> keyHashById = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TitleAutocompleteIndex(
+            StudyLogDao studyLogDao,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.autocomplete.top-k:10}") int topK,
+            @Value("${study-diary.autocomplete.max-titles:50000}") int maxTitles,
+            @Value("${study-diary.autocomplete.max-title-length:100}") int maxTitleLength) {
+        super(studyLogDao, "자동완성 인덱스");
+        this.trie = new TitleTrie(topK, maxTitles, maxTitleLength);
+
+        Gauge.builder("studylog.autocomplete.titles", this, TitleAutocompleteIndex::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.autocomplete.evictions", this, TitleAutocompleteIndex::evictions)
+                .register(meterRegistry);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 접두어로 시작하는 제목 (같은 제목의 일지가 많은 순)
+     */
+    public List<TitleTrie.Suggestion> suggest(String prefix, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return trie.suggest(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double evictions() {
+        lock.readLock().lock();
+        try {
+            return trie.getEvictions();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 갱신 ==========
+
+    @Override
+    protected List<StudyLogTitle> load() {
+        return studyLogDao.findAllTitles();
+    }
+
+    @Override
+    protected int replace(List<StudyLogTitle> titles) {
+        lock.writeLock().lock();
+        try {
+            trie.clear();
+            keyHashById.clear();
+            for (StudyLogTitle title : titles) {
+                putLocked(title.getId(), title.getTitle());
+            }
+            return trie.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void apply(StudyLog studyLog) {
+        lock.writeLock().lock();
+        try {
+            putLocked(studyLog.getId(), studyLog.getTitle());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(Long id, String title) {
+        Long previous = keyHashById.remove(id);
+        if (previous != null) {
+            trie.removeHash(previous);
+        }
+        long hash = trie.add(title);
+        if (hash != 0) {
+            keyHashById.put(id, hash);
+        }
+    }
+
+    @Override
+    protected void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Long previous = keyHashById.remove(id);
+            if (previous != null) {
+                trie.removeHash(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
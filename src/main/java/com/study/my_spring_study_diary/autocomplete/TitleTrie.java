@@ -0,0 +1,365 @@
+package com.study.my_spring_study_diary.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 빈도 가중치 제목 트라이 (자동완성용)
+ *
+ * 정규화한 제목(소문자, 공백 하나로)을 글자 단위로 저장하고,
+ * 노드마다 그 아래 제목 중 빈도 상위 topK개를 미리 계산해 둡니다.
+ * - 조회: 접두어 길이만큼 내려가서 저장된 목록을 그대로 반환 → O(접두어 길이)
+ * - 추가/삭제: 해당 제목의 경로만 아래에서 위로 다시 계산 → O(제목 길이 × 자식 수 × topK)
+ *
+ * 메모리 상한 (트라이 자체는 최대 maxTitles개 제목 × maxTitleLength 글자)
+ * - 자식은 HashMap 대신 정렬된 char[] + Node[] 배열로 저장 (이진 탐색)
+ * - 제목은 maxTitleLength 글자까지만 키로 사용
+ * - 서로 다른 제목이 maxTitles개를 넘으면 빈도가 가장 낮은 제목을 내보냄
+ *   (내보낸 제목이 다시 들어오면 빈도 1부터 다시 셈)
+ *
+ * 제목은 키의 64비트 해시로 찾습니다. 호출하는 쪽은 제목 문자열 대신 add()가 돌려준 해시만 기억해 두었다가
+ * removeHash()로 뺄 수 있습니다. (해시가 겹칠 확률은 무시할 만큼 작고, 겹치면 두 제목이 한 항목으로 합쳐짐)
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class TitleTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    // 빈도 높은 순, 같으면 제목 키 사전 순
+    private static final Comparator<Entry> BY_RANK =
+            Comparator.comparingInt((Entry entry) -> -entry.count).thenComparing(entry -> entry.key);
+
+    // 내보낼 제목 선택용 (빈도 낮은 순)
+    private final TreeSet<Entry> byFrequency =
+            new TreeSet<>(Comparator.comparingInt((Entry entry) -> entry.count).thenComparing(entry -> entry.key));
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Node root = new Node();
+    private final int topK;
+    private final int maxTitles;
+    private final int maxTitleLength;
+    private long evictions;
+
+    public TitleTrie(int topK, int maxTitles, int maxTitleLength) {
+        if (topK < 1 || maxTitles < 1 || maxTitleLength < 1) {
+            throw new IllegalArgumentException("topK, maxTitles, maxTitleLength는 1 이상이어야 합니다.");
+        }
+        this.topK = topK;
+        this.maxTitles = maxTitles;
+        this.maxTitleLength = maxTitleLength;
+    }
+
+    /**
+     * 자동완성 키 (소문자, 연속 공백은 하나로, 최대 maxTitleLength 글자)
+     */
+    public String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+        return normalized.length() > maxTitleLength ? normalized.substring(0, maxTitleLength) : normalized;
+    }
+
+    /**
+     * 정규화한 키의 64비트 해시 (FNV-1a + 비트 섞기, 0은 "없음"으로 쓰므로 피함)
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 접두어로 시작하는 제목 상위 limit개 (빈도 높은 순, limit은 topK까지)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        Node node = root;
+        // 입력 중인 접두어의 끝 공백은 "다음 단어"를 뜻하므로 앞 공백만 제거
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").stripLeading();
+        // 키는 maxTitleLength 글자까지만 저장되므로 더 긴 접두어는 그 길이까지로 찾음
+        int length = Math.min(key.length(), maxTitleLength);
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        if (node == null) {
+            return suggestions;
+        }
+        for (int i = 0; i < node.top.length && i < limit; i++) {
+            suggestions.add(new Suggestion(node.top[i].title, node.top[i].count));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 루트를 포함한 노드 수 (빈 노드가 정리되는지 테스트에서 확인)
+     */
+    int nodeCount() {
+        return root.count();
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 제목 빈도 +1 (표시용 제목은 가장 최근 값으로 교체)
+     *
+     * @return 제목 키의 해시 (removeHash에 넘김, 빈 제목이라 무시했으면 0)
+     */
+    public long add(String title) {
+        String key = normalize(title);
+        if (key.isEmpty()) {
+            return 0;
+        }
+
+        long hash = hash(key);
+        Entry entry = entries.get(hash);
+        if (entry == null) {
+            if (entries.size() >= maxTitles) {
+                evict(byFrequency.first());
+            }
+            entry = new Entry(key, hash);
+            entries.put(hash, entry);
+        } else {
+            byFrequency.remove(entry);
+        }
+        entry.title = title.trim();
+        entry.count++;
+        byFrequency.add(entry);
+
+        Node[] path = path(entry.key, true);
+        path[path.length - 1].terminal = entry;
+        recompute(path);
+        return hash;
+    }
+
+    /**
+     * 제목 빈도 -1 (0이 되면 트라이에서 제거, 없는 제목이면 무시)
+     */
+    public void remove(String title) {
+        String key = normalize(title);
+        if (!key.isEmpty()) {
+            removeHash(hash(key));
+        }
+    }
+
+    /**
+     * add()가 돌려준 해시로 빈도 -1 (내보냈거나 없는 제목이면 무시)
+     */
+    public void removeHash(long hash) {
+        Entry entry = entries.get(hash);
+        if (entry == null) {
+            return;
+        }
+
+        byFrequency.remove(entry);
+        entry.count--;
+        if (entry.count > 0) {
+            byFrequency.add(entry);
+            recompute(path(entry.key, false));
+        } else {
+            entries.remove(hash);
+            detach(entry.key);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        byFrequency.clear();
+        root.keys = NO_KEYS;
+        root.children = NO_CHILDREN;
+        root.terminal = null;
+        root.top = NO_ENTRIES;
+    }
+
+    private void evict(Entry entry) {
+        byFrequency.remove(entry);
+        entries.remove(entry.hash);
+        detach(entry.key);
+        evictions++;
+    }
+
+    /**
+     * 제목을 트라이에서 떼어내고, 빈 노드는 정리한 뒤 경로를 다시 계산
+     */
+    private void detach(String key) {
+        Node[] path = path(key, false);
+        path[path.length - 1].terminal = null;
+        for (int depth = path.length - 1; depth > 0; depth--) {
+            Node node = path[depth];
+            if (node.terminal != null || node.children.length > 0) {
+                break;
+            }
+            path[depth - 1].removeChild(key.charAt(depth - 1));
+        }
+        recompute(path);
+    }
+
+    /**
+     * 루트부터 키 끝까지의 노드 경로 (create가 false면 이미 있는 경로라고 가정)
+     */
+    private Node[] path(String key, boolean create) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = path[i].child(key.charAt(i));
+            if (child == null) {
+                child = new Node();
+                if (create) {
+                    path[i].addChild(key.charAt(i), child);
+                }
+            }
+            path[i + 1] = child;
+        }
+        return path;
+    }
+
+    /**
+     * 경로의 상위 목록을 아래에서 위로 다시 계산
+     * 노드의 상위 topK는 자기 제목과 자식들의 상위 topK를 합친 것 중 상위 topK입니다.
+     */
+    private void recompute(Node[] path) {
+        Entry[] buffer = new Entry[topK];
+        for (int depth = path.length - 1; depth >= 0; depth--) {
+            Node node = path[depth];
+            int size = 0;
+            if (node.terminal != null) {
+                size = insert(buffer, size, node.terminal);
+            }
+            for (Node child : node.children) {
+                for (Entry entry : child.top) {
+                    // 자식 목록도 정렬되어 있으므로 들어가지 못하면 나머지도 못 들어감
+                    if (size == topK && BY_RANK.compare(entry, buffer[topK - 1]) >= 0) {
+                        break;
+                    }
+                    size = insert(buffer, size, entry);
+                }
+            }
+            node.top = size == 0 ? NO_ENTRIES : Arrays.copyOf(buffer, size);
+        }
+    }
+
+    /**
+     * 정렬된 buffer에 삽입 (가득 차 있으면 마지막 항목이 밀려남)
+     */
+    private int insert(Entry[] buffer, int size, Entry entry) {
+        int position = size;
+        while (position > 0 && BY_RANK.compare(entry, buffer[position - 1]) < 0) {
+            position--;
+        }
+        if (position >= topK) {
+            return size;
+        }
+        int moved = Math.min(size, topK - 1) - position;
+        System.arraycopy(buffer, position, buffer, position + 1, moved);
+        buffer[position] = entry;
+        return Math.min(size + 1, topK);
+    }
+
+    // ========== 내부 구조 ==========
+
+    private static class Entry {
+
+        private final String key;
+        private final long hash;
+        private String title;
+        private int count;
+
+        private Entry(String key, long hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    private static class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Entry terminal;
+        private Entry[] top = NO_ENTRIES;
+
+        private int count() {
+            int count = 1;
+            for (Node child : children) {
+                count += child.count();
+            }
+            return count;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(char c, Node child) {
+            int index = -(Arrays.binarySearch(keys, c) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = c;
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+
+    /**
+     * 자동완성 후보 (표시용 제목과 같은 제목의 일지 수)
+     */
+    public static class Suggestion {
+
+        private final String title;
+        private final int count;
+
+        public Suggestion(String title, int count) {
+            this.title = title;
+            this.count = count;
+        }
+
+        public String getTitle() { return title; }
+        public int getCount() { return count; }
+    }
+}
@@ -0,0 +1,217 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 캐시 무효화 버스
+ *
+ * 동작 방식:
+ * 1. 로컬 쓰기 → 즉시 로컬 캐시 무효화 + study_log_changes 테이블에 변경 기록
+ * 2. 각 노드는 주기적으로 테이블을 version 순서대로 배치 조회(tailing)
+ * 3. 다른 노드가 기록한 변경이면 해당 ID와 쿼리 페이지를 무효화
+ *
+ * 별도의 메시지 브로커 없이 "poll 주기 + 처리 시간" 이내로 staleness가 제한됩니다.
+ *
+ * AUTO_INCREMENT 값은 커밋 순서와 다를 수 있어 version에 일시적인 구멍(gap)이 생길 수 있습니다.
+ * 구멍이 보이면 gap-timeout 동안은 그 앞에서 멈춰 기다리고, 이후 항목은 미리 무효화만 해둡니다.
+ * (무효화는 멱등이므로 같은 항목을 다시 처리해도 문제없습니다)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final StudyLogChangeLog changeLog;
+    private final List<CacheInvalidationListener> listeners;
+    private final String nodeId;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionHours;
+
+    private volatile boolean enabled;
+
+    // 마지막으로 처리를 확정한 version
+    private volatile long lastVersion;
+
+    // 현재 기다리고 있는 구멍을 처음 발견한 시각 (0이면 구멍 없음)
+    private long gapDetectedAt = 0;
+
+    public CacheInvalidationBus(
+            StudyLogChangeLog changeLog,
+            List<CacheInvalidationListener> listeners,
+            @Value("${study-diary.node-id:}") String nodeId,
+            @Value("${study-diary.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${study-diary.cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${study-diary.cache.invalidation.gap-timeout-ms:10000}") long gapTimeoutMillis,
+            @Value("${study-diary.cache.invalidation.retention-hours:24}") long retentionHours) {
+        this.changeLog = changeLog;
+        this.listeners = listeners;
+        this.nodeId = (nodeId == null || nodeId.isBlank()) ? UUID.randomUUID().toString() : nodeId;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 시작 시점의 마지막 version부터 tailing 시작
+     * (시작 직후에는 캐시가 비어 있으므로 과거 변경은 볼 필요가 없음)
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            lastVersion = changeLog.currentVersion();
+            log.info("캐시 무효화 버스 시작 (node: {}, version: {})", nodeId, lastVersion);
+        } catch (DataAccessException e) {
+            log.warn("study_log_changes 테이블을 사용할 수 없어 노드 간 무효화를 끕니다: {}", e.getMessage());
+            enabled = false;
+        }
+    }
+
+    // ========== PUBLISH ==========
+
+    /**
+     * 로컬 쓰기 이벤트 처리
+     */
+    @EventListener
+    public void onStudyLogChanged(StudyLogChangedEvent event) {
+        StudyLog before = event.getBefore();
+        StudyLog after = event.getAfter();
+        StudyLogChange change = new StudyLogChange(
+                0,
+                event.getLogId(),
+                event.getType(),
+                after != null ? after.getCategory() : null,
+                before != null ? before.getCategory() : null,
+                nodeId,
+                LocalDateTime.now());
+
+        // 1. 로컬 캐시는 즉시 무효화
+        dispatch(List.of(change), true);
+
+        // 2. 다른 노드를 위해 변경 로그에 기록 (복제로 받은 변경은 리더가 이미 기록함)
+        if (enabled && !event.isReplicated()) {
+            try {
+                changeLog.append(change);
+            } catch (DataAccessException e) {
+                log.warn("변경 로그 기록 실패 (id: {}), 다른 노드는 TTL 만료 시까지 이전 값을 볼 수 있습니다: {}",
+                        change.getLogId(), e.getMessage());
+            }
+        }
+    }
+
+    // ========== TAILING ==========
+
+    /**
+     * 변경 로그를 배치 단위로 읽어 다른 노드의 변경을 무효화
+     */
+    @Scheduled(fixedDelayString = "${study-diary.cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                List<StudyLogChange> batch = changeLog.findAfter(lastVersion, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                List<StudyLogChange> remoteChanges = new ArrayList<>();
+                for (StudyLogChange change : batch) {
+                    if (!nodeId.equals(change.getNodeId())) {
+                        remoteChanges.add(change);
+                    }
+                }
+                if (!remoteChanges.isEmpty()) {
+                    dispatch(remoteChanges, false);
+                }
+
+                boolean waitingOnGap = advance(batch);
+                if (waitingOnGap || batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("변경 로그 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 연속된 version까지만 lastVersion을 전진
+     *
+     * @return 구멍 앞에서 기다리는 중이면 true
+     */
+    private boolean advance(List<StudyLogChange> batch) {
+        for (StudyLogChange change : batch) {
+            long version = change.getVersion();
+
+            if (version != lastVersion + 1) {
+                long now = System.currentTimeMillis();
+                if (gapDetectedAt == 0) {
+                    gapDetectedAt = now;
+                }
+                if (now - gapDetectedAt < gapTimeoutMillis) {
+                    return true;
+                }
+                // 충분히 기다렸으면 롤백 등으로 영구히 빈 번호로 보고 건너뜀
+            }
+
+            lastVersion = version;
+            gapDetectedAt = 0;
+        }
+        return false;
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 정리
+     */
+    @Scheduled(fixedDelayString = "${study-diary.cache.invalidation.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = changeLog.deleteOlderThan(LocalDateTime.now().minusHours(retentionHours));
+            if (deleted > 0) {
+                log.debug("오래된 변경 로그 {}건 삭제", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("변경 로그 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(List<StudyLogChange> changes, boolean local) {
+        for (CacheInvalidationListener listener : listeners) {
+            if (!local || listener.receivesLocalChanges()) {
+                listener.invalidate(changes);
+            }
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getLastVersion() {
+        return lastVersion;
+    }
+}
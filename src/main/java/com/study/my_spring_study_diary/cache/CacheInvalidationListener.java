@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.cache;
+
+import java.util.List;
+
+/**
+ * 캐시 무효화 수신자
+ *
+ * 로컬 쓰기와 다른 노드의 쓰기(변경 로그 테일링) 모두 이 인터페이스로 전달됩니다.
+ * 같은 변경이 두 번 이상 전달될 수 있으므로 구현체는 멱등하게 동작해야 합니다.
+ */
+public interface CacheInvalidationListener {
+
+    void invalidate(List<StudyLogChange> changes);
+
+    /**
+     * 로컬 쓰기도 전달받을지 여부
+     * 로컬 변경은 StudyLogChangedEvent로 직접 처리하는 수신자는 false를 반환합니다.
+     */
+    default boolean receivesLocalChanges() {
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마지막으로 성공한 조회 응답 (DB 포화/장애 시 stale-while-revalidate)
+ *
+ * PageQueryCache/StudyLogResponseCache와 달리 쓰기가 있어도 지우지 않고, DB에서 다시 읽을 때마다 덮어씁니다.
+ * 삭제된 학습 일지의 단건 응답만 지웁니다. (없는 글을 보여 주지 않도록)
+ * 저하 모드에서 돌려준 키는 다시 읽을 목록에 넣어 두고, DB가 돌아오면 서비스가 다시 읽습니다.
+ *
+ * 메트릭:
+ * - studylog.degraded.stale-served (kind=by-id|page) : 오래된 응답을 돌려준 횟수
+ * - studylog.degraded.unavailable                    : 대신할 응답이 없어 실패한 횟수
+ * - studylog.degraded.stale.size                     : 보관 중인 응답 수
+ */
+@Component
+public class LastKnownGoodCache implements CacheInvalidationListener {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxStaleMillis;
+    private final int maxPendingRefresh;
+
+    // PageQueryKey 또는 학습 일지 ID(Long) → 응답, 접근 순서 LRU
+    private final Map<Object, Stale<?>> entries;
+    private final Set<Object> pendingRefresh = new LinkedHashSet<>();
+
+    private final AtomicLong staleByIdCount = new AtomicLong();
+    private final AtomicLong stalePageCount = new AtomicLong();
+    private final AtomicLong unavailableCount = new AtomicLong();
+
+    public LastKnownGoodCache(
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.degraded-mode.enabled:true}") boolean enabled,
+            @Value("${study-diary.degraded-mode.stale.max-size:5000}") int maxSize,
+            @Value("${study-diary.degraded-mode.stale.max-age-seconds:600}") long maxStaleSeconds,
+            @Value("${study-diary.degraded-mode.stale.max-pending-refresh:500}") int maxPendingRefresh) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxStaleMillis = maxStaleSeconds * 1000;
+        this.maxPendingRefresh = maxPendingRefresh;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Stale<?>> eldest) {
+                return size() > LastKnownGoodCache.this.maxSize;
+            }
+        };
+
+        FunctionCounter.builder("studylog.degraded.stale-served", staleByIdCount, AtomicLong::get)
+                .tag("kind", "by-id")
+                .description("DB 포화/장애로 마지막 성공 응답을 돌려준 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.degraded.stale-served", stalePageCount, AtomicLong::get)
+                .tag("kind", "page")
+                .description("DB 포화/장애로 마지막 성공 응답을 돌려준 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.degraded.unavailable", unavailableCount, AtomicLong::get)
+                .description("DB 포화/장애인데 대신할 응답이 없어 실패한 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("studylog.degraded.stale.size", this, LastKnownGoodCache::size)
+                .description("보관 중인 마지막 성공 응답 수")
+                .register(meterRegistry);
+    }
+
+    // ========== STORE ==========
+
+    public void putById(StudyLogResponse response) {
+        put(response.getId(), response);
+    }
+
+    public void putPage(PageQueryKey key, Page<StudyLogResponse> page) {
+        put(key, page);
+    }
+
+    private synchronized void put(Object key, Object value) {
+        if (!enabled) {
+            return;
+        }
+        entries.put(key, new Stale<>(value, System.currentTimeMillis()));
+        pendingRefresh.remove(key);
+    }
+
+    // ========== SERVE STALE ==========
+
+    /**
+     * 마지막 성공 응답 (없거나 max-age보다 오래되었으면 null) - 돌려준 키는 다시 읽을 목록에 추가
+     */
+    @SuppressWarnings("unchecked")
+    public Stale<StudyLogResponse> staleById(Long id) {
+        Stale<StudyLogResponse> stale = (Stale<StudyLogResponse>) serve(id);
+        (stale != null ? staleByIdCount : unavailableCount).incrementAndGet();
+        return stale;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Stale<Page<StudyLogResponse>> stalePage(PageQueryKey key) {
+        Stale<Page<StudyLogResponse>> stale = (Stale<Page<StudyLogResponse>>) serve(key);
+        (stale != null ? stalePageCount : unavailableCount).incrementAndGet();
+        return stale;
+    }
+
+    private synchronized Stale<?> serve(Object key) {
+        if (!enabled) {
+            return null;
+        }
+        Stale<?> stale = entries.get(key);
+        if (stale == null || stale.getAgeMillis() > maxStaleMillis) {
+            return null;
+        }
+        if (pendingRefresh.size() < maxPendingRefresh) {
+            pendingRefresh.add(key);
+        }
+        return stale;
+    }
+
+    /**
+     * 다시 읽을 키를 꺼냄 (PageQueryKey 또는 Long)
+     */
+    public synchronized List<Object> drainPendingRefresh() {
+        List<Object> keys = new ArrayList<>(pendingRefresh);
+        pendingRefresh.clear();
+        return keys;
+    }
+
+    // ========== INVALIDATION ==========
+
+    @Override
+    public synchronized void invalidate(List<StudyLogChange> changes) {
+        for (StudyLogChange change : changes) {
+            if (change.getChangeType() == StudyLogChangeType.DELETED) {
+                entries.remove(change.getLogId());
+                pendingRefresh.remove(change.getLogId());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장 시각과 함께 보관한 응답
+     */
+    public static final class Stale<T> {
+        private final T value;
+        private final long storedAt;
+
+        private Stale(T value, long storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getAgeMillis() {
+            return System.currentTimeMillis() - storedAt;
+        }
+    }
+}
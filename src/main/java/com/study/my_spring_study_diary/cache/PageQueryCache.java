@@ -0,0 +1,167 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 페이징 조회 결과 캐시 (버전 태그 + TTL + 크기 제한)
+ *
+ * 쓰기가 일어날 때 캐시 전체를 지우지 않고 "버전"만 올립니다.
+ * - 전역 버전    : 모든 쓰기마다 증가 → 카테고리 조건이 없는 조회(전체/검색)에 사용
+ * - 카테고리 버전 : 해당 카테고리 쓰기마다 증가 → 카테고리 조건이 있는 조회에 사용
+ *
+ * 저장할 때의 버전과 현재 버전이 다르면 그 항목은 무효입니다.
+ * 그래서 SPRING 카테고리에 쓰기가 일어나도 JAVA 카테고리 페이지는 그대로 재사용됩니다.
+ *
+ * 메트릭:
+ * - studylog.cache.page.requests (result=hit|miss)
+ * - studylog.cache.page.hit-ratio
+ * - studylog.cache.page.size
+ */
+@Component
+public class PageQueryCache implements CacheInvalidationListener {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLongArray categoryVersions = new AtomicLongArray(Category.values().length);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final Map<PageQueryKey, CachedPage> entries;
+
+    public PageQueryCache(
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.cache.page.enabled:true}") boolean enabled,
+            @Value("${study-diary.cache.page.max-size:1000}") int maxSize,
+            @Value("${study-diary.cache.page.ttl-seconds:30}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageQueryKey, CachedPage> eldest) {
+                return size() > PageQueryCache.this.maxSize;
+            }
+        };
+
+        FunctionCounter.builder("studylog.cache.page.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.cache.page.requests", missCount, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("studylog.cache.page.hit-ratio", this, PageQueryCache::getHitRatio)
+                .register(meterRegistry);
+        Gauge.builder("studylog.cache.page.size", this, PageQueryCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (만료되었거나 버전이 바뀌었으면 null)
+     */
+    public Page<StudyLogResponse> get(PageQueryKey key) {
+        if (!enabled) {
+            return null;
+        }
+
+        long currentVersion = currentVersion(key);
+        synchronized (this) {
+            CachedPage cached = entries.get(key);
+            if (cached != null) {
+                boolean expired = System.currentTimeMillis() - cached.cachedAt > ttlMillis;
+                if (!expired && cached.version == currentVersion) {
+                    hitCount.incrementAndGet();
+                    return cached.page;
+                }
+                entries.remove(key);
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 키가 의존하는 현재 버전
+     * 조회를 시작하기 전에 받아두었다가 put에 넘겨야 합니다.
+     */
+    public long currentVersion(PageQueryKey key) {
+        // 카테고리 조건이 없거나 패싯을 함께 세면 모든 변경에 영향을 받으므로 전역 버전
+        Set<Category> categories = key.getCondition().categoryEnums();
+        if (categories.isEmpty() || key.getKind() == PageQueryKey.Kind.FACETED_SEARCH) {
+            return globalVersion.get();
+        }
+        // 여러 카테고리: 각 버전은 증가만 하므로 합이 바뀌면 그중 하나가 바뀐 것
+        long version = 0;
+        for (Category category : categories) {
+            version += categoryVersions.get(category.ordinal());
+        }
+        return version;
+    }
+
+    /**
+     * 조회 결과 저장
+     *
+     * @param version 조회 시작 전에 currentVersion()으로 받아둔 값
+     *                (조회 도중 쓰기가 있었다면 이미 버전이 바뀌어 다음 get에서 무효 처리됨)
+     */
+    public void put(PageQueryKey key, Page<StudyLogResponse> page, long version) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            entries.put(key, new CachedPage(page, version, System.currentTimeMillis()));
+        }
+    }
+
+    @Override
+    public void invalidate(List<StudyLogChange> changes) {
+        globalVersion.incrementAndGet();
+        for (StudyLogChange change : changes) {
+            if (change.getCategory() != null) {
+                categoryVersions.incrementAndGet(change.getCategory().ordinal());
+            }
+            if (change.getPreviousCategory() != null && change.getPreviousCategory() != change.getCategory()) {
+                categoryVersions.incrementAndGet(change.getPreviousCategory().ordinal());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static class CachedPage {
+        private final Page<StudyLogResponse> page;
+        private final long version;
+        private final long cachedAt;
+
+        private CachedPage(Page<StudyLogResponse> page, long version, long cachedAt) {
+            this.page = page;
+            this.version = version;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
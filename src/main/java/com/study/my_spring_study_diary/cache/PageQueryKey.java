@@ -0,0 +1,109 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.dao.StudyLogSearchCondition;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 페이징 조회의 정규화된 키
+ *
+ * 빈 문자열/공백 키워드는 null로, 카테고리/이해도/학습 시간 구간은 대문자 정렬 Set으로 맞춰서
+ * 의미가 같은 요청은 같은 키가 되도록 합니다.
+ * (정규화는 StudyLogSearchCondition이 담당)
+ */
+public final class PageQueryKey {
+
+    /**
+     * 조회 종류
+     */
+    public enum Kind {
+        ALL, CATEGORY, SEARCH,
+        // 검색 + 패싯 개수 (패싯은 선택하지 않은 카테고리도 세므로 모든 변경에 영향을 받음)
+        FACETED_SEARCH
+    }
+
+    private final Kind kind;
+    private final StudyLogSearchCondition condition;
+    private final int page;
+    private final int size;
+
+    private PageQueryKey(Kind kind, StudyLogSearchCondition condition, int page, int size) {
+        this.kind = kind;
+        this.condition = condition;
+        this.page = page;
+        this.size = size;
+    }
+
+    public static PageQueryKey all(int page, int size) {
+        return new PageQueryKey(Kind.ALL,
+                StudyLogSearchCondition.of(null, null, null, null, null, null), page, size);
+    }
+
+    public static PageQueryKey category(String category, int page, int size) {
+        return new PageQueryKey(Kind.CATEGORY,
+                StudyLogSearchCondition.of(null, List.of(category), null, null, null, null), page, size);
+    }
+
+    public static PageQueryKey search(String titleKeyword, Collection<String> categories,
+                                      Collection<String> understandings, Collection<String> studyTimeBuckets,
+                                      LocalDate startDate, LocalDate endDate, int page, int size,
+                                      boolean facets) {
+        return new PageQueryKey(facets ? Kind.FACETED_SEARCH : Kind.SEARCH,
+                StudyLogSearchCondition.of(titleKeyword, categories, understandings, studyTimeBuckets,
+                        startDate, endDate),
+                page, size);
+    }
+
+    public Kind getKind() { return kind; }
+    public StudyLogSearchCondition getCondition() { return condition; }
+    public String getTitleKeyword() { return condition.getTitleKeyword(); }
+    public Set<String> getCategories() { return condition.getCategories(); }
+    public LocalDate getStartDate() { return condition.getStartDate(); }
+    public LocalDate getEndDate() { return condition.getEndDate(); }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+
+    /**
+     * 카테고리가 하나만 지정된 경우 그 카테고리 (아니면 null)
+     */
+    public String getCategory() {
+        Set<String> categories = condition.getCategories();
+        return categories.size() == 1 ? categories.iterator().next() : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PageQueryKey that)) return false;
+        return page == that.page
+                && size == that.size
+                && kind == that.kind
+                && Objects.equals(condition.getTitleKeyword(), that.condition.getTitleKeyword())
+                && condition.getCategories().equals(that.condition.getCategories())
+                && condition.getUnderstandings().equals(that.condition.getUnderstandings())
+                && condition.getStudyTimeBuckets().equals(that.condition.getStudyTimeBuckets())
+                && Objects.equals(condition.getStartDate(), that.condition.getStartDate())
+                && Objects.equals(condition.getEndDate(), that.condition.getEndDate());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, condition.getTitleKeyword(), condition.getCategories(),
+                condition.getUnderstandings(), condition.getStudyTimeBuckets(),
+                condition.getStartDate(), condition.getEndDate(), page, size);
+    }
+
+    @Override
+    public String toString() {
+        return kind + "{title=" + condition.getTitleKeyword()
+                + ", categories=" + condition.getCategories()
+                + ", understandings=" + condition.getUnderstandings()
+                + ", studyTimes=" + condition.getStudyTimeBuckets()
+                + ", startDate=" + condition.getStartDate() + ", endDate=" + condition.getEndDate()
+                + ", page=" + page + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.my_spring_study_diary.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 요청의 동시 실행을 하나로 합치는 유틸리티 (single-flight)
+ *
+ * 같은 key로 이미 실행 중인 호출이 있으면 새로 실행하지 않고 그 결과를 함께 기다립니다.
+ * 실행이 끝나면 key를 제거하므로 결과를 캐싱하지는 않습니다.
+ *
+ * 실행마다 시작할 때의 캐시 버전(무효화 횟수)을 붙여 둡니다.
+ * 실행 중인 호출보다 새 버전을 들고 온 요청(그 사이에 쓰기가 있었음)은 합류하지 않고 새로 실행하므로,
+ * 자기 쓰기 직후의 조회가 쓰기 전에 시작한 조회 결과를 받지 않습니다.
+ * 이후 같은 key의 요청은 새 실행에 합류합니다.
+ *
+ * @param <K> 정규화된 요청 키 (equals/hashCode 필수)
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param version 조회를 시작하기 전에 받아둔 캐시 버전 (쓰기마다 증가하는 값)
+     */
+    public V execute(K key, long version, Supplier<V> loader) {
+        Flight<V> flight = new Flight<>(version);
+        while (true) {
+            Flight<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (existing.version >= version) {
+                return await(existing.future);
+            }
+            // 쓰기 전에 시작한 실행 → 새 실행으로 교체 (이전 실행자는 끝나면 자기 것만 제거)
+            if (inFlight.replace(key, existing, flight)) {
+                break;
+            }
+        }
+
+        try {
+            V value = loader.get();
+            flight.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 최초 실행자가 던진 예외를 그대로 다시 던짐
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 실행 중인 key 개수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static class Flight<V> {
+        private final long version;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private Flight(long version) {
+            this.version = version;
+        }
+    }
+}
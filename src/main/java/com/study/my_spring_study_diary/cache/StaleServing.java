@@ -0,0 +1,48 @@
+package com.study.my_spring_study_diary.cache;
+
+/**
+ * 이번 요청에 오래된(stale) 응답을 돌려줬다는 표시
+ *
+ * 서비스가 LastKnownGoodCache의 응답을 돌려줄 때 mark()하고,
+ * StaleResponseAdvice가 응답을 쓰기 직전에 consume()해서 헤더(Warning, Age)를 붙입니다.
+ * 서비스 계층이 웹 계층(HttpServletResponse)을 알지 않도록 요청 스레드에 값을 남기는 방식입니다.
+ *
+ * 응답 본문을 쓰지 않고 끝난 요청(예외, 본문 없는 응답)은 consume()이 호출되지 않으므로
+ * StaleServingFilter가 요청이 끝날 때 clear()해서 풀의 다음 요청으로 넘어가지 않게 합니다.
+ */
+public final class StaleServing {
+
+    private static final long NOT_STALE = -1;
+
+    private static final ThreadLocal<long[]> AGE_MILLIS = ThreadLocal.withInitial(() -> new long[]{NOT_STALE});
+
+    private StaleServing() {
+    }
+
+    /**
+     * 오래된 응답 표시 (여러 번이면 가장 오래된 값)
+     */
+    public static void mark(long ageMillis) {
+        long[] age = AGE_MILLIS.get();
+        age[0] = Math.max(age[0], ageMillis);
+    }
+
+    /**
+     * 표시를 읽고 지움
+     *
+     * @return 응답의 나이(ms), 오래된 응답이 아니면 -1
+     */
+    public static long consume() {
+        long[] age = AGE_MILLIS.get();
+        long ageMillis = age[0];
+        age[0] = NOT_STALE;
+        return ageMillis;
+    }
+
+    /**
+     * 표시 제거 (요청 스레드를 돌려주기 전에 호출)
+     */
+    public static void clear() {
+        AGE_MILLIS.remove();
+    }
+}
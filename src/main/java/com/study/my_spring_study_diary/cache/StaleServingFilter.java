@@ -0,0 +1,30 @@
+package com.study.my_spring_study_diary.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 끝나면 오래된 응답 표시(StaleServing) 제거
+ *
+ * StaleResponseAdvice는 응답 본문을 쓸 때만 실행되므로, 마지막 성공 응답을 돌려준 뒤
+ * 예외로 끝나거나 본문 없이 끝난 요청의 표시는 남아 있다가 같은 스레드의 다음 요청에 헤더가 붙을 수 있습니다.
+ */
+@Component
+public class StaleServingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StaleServing.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * study_log_changes 테이블의 한 행 (변경 로그 항목)
+ *
+ * version은 단조 증가하며, 각 노드는 마지막으로 처리한 version 이후의 항목만 읽어갑니다.
+ * 로컬에서 방금 일어난 변경은 아직 version이 없으므로 0으로 표시합니다.
+ */
+public class StudyLogChange {
+
+    private final long version;
+    private final Long logId;
+    private final StudyLogChangeType changeType;
+    private final Category category;           // 변경 후 카테고리 (삭제면 null)
+    private final Category previousCategory;   // 변경 전 카테고리 (생성이면 null)
+    private final String nodeId;
+    private final LocalDateTime changedAt;
+
+    public StudyLogChange(long version, Long logId, StudyLogChangeType changeType,
+                          Category category, Category previousCategory,
+                          String nodeId, LocalDateTime changedAt) {
+        this.version = version;
+        this.logId = logId;
+        this.changeType = changeType;
+        this.category = category;
+        this.previousCategory = previousCategory;
+        this.nodeId = nodeId;
+        this.changedAt = changedAt;
+    }
+
+    public long getVersion() { return version; }
+    public Long getLogId() { return logId; }
+    public StudyLogChangeType getChangeType() { return changeType; }
+    public Category getCategory() { return category; }
+    public Category getPreviousCategory() { return previousCategory; }
+    public String getNodeId() { return nodeId; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
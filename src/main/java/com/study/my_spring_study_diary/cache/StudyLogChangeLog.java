@@ -0,0 +1,87 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * study_log_changes 테이블 접근 객체
+ *
+ * 모든 노드가 같은 테이블에 변경을 append 하고, version 순서대로 읽어갑니다.
+ * MySQL과 H2 양쪽에서 동작하도록 표준 SQL만 사용합니다.
+ */
+@Repository
+public class StudyLogChangeLog {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudyLogChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 변경 항목 추가 (version은 DB가 자동 증가로 부여)
+     */
+    public void append(StudyLogChange change) {
+        String sql = """
+                INSERT INTO study_log_changes (log_id, change_type, category, previous_category, node_id)
+                VALUES (?, ?, ?, ?, ?)
+                """;
+        jdbcTemplate.update(sql,
+                change.getLogId(),
+                change.getChangeType().name(),
+                change.getCategory() != null ? change.getCategory().name() : null,
+                change.getPreviousCategory() != null ? change.getPreviousCategory().name() : null,
+                change.getNodeId());
+    }
+
+    /**
+     * 주어진 version 이후의 변경을 순서대로 최대 limit건 조회
+     */
+    public List<StudyLogChange> findAfter(long version, int limit) {
+        String sql = """
+                SELECT * FROM study_log_changes
+                WHERE version > ?
+                ORDER BY version
+                LIMIT ?
+                """;
+        return jdbcTemplate.query(sql, changeRowMapper, version, limit);
+    }
+
+    /**
+     * 현재까지 기록된 마지막 version (비어 있으면 0)
+     */
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(version), 0) FROM study_log_changes", Long.class);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * 보관 기간이 지난 변경 항목 정리
+     */
+    public int deleteOlderThan(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM study_log_changes WHERE changed_at < ?", Timestamp.valueOf(threshold));
+    }
+
+    private final RowMapper<StudyLogChange> changeRowMapper = (rs, rowNum) -> {
+        String category = rs.getString("category");
+        String previousCategory = rs.getString("previous_category");
+        Timestamp changedAt = rs.getTimestamp("changed_at");
+        return new StudyLogChange(
+                rs.getLong("version"),
+                rs.getLong("log_id"),
+                StudyLogChangeType.valueOf(rs.getString("change_type")),
+                category != null ? Category.valueOf(category) : null,
+                previousCategory != null ? Category.valueOf(previousCategory) : null,
+                rs.getString("node_id"),
+                changedAt != null ? changedAt.toLocalDateTime() : null);
+    };
+}
@@ -0,0 +1,201 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학습 일지에서 파생한 메모리 인덱스의 기반 클래스 (학습 시간 집계, 복습 대기열, 유사 일지, 자동완성)
+ *
+ * 갱신 경로:
+ * - 로컬 쓰기: StudyLogService가 발행하는 StudyLogChangedEvent를 받아 바로 반영
+ * - 다른 노드의 쓰기: 캐시 무효화 버스로 ID를 전달받아 DAO에서 다시 읽어 반영
+ * - 시작 시 또는 다른 노드 변경 반영에 실패한 뒤: 다음 조회 때 전체를 다시 적재
+ *
+ * 하위 클래스는 전체 읽기(load), 인덱스 교체(replace), 한 건 반영(apply/remove)만 구현합니다.
+ * load는 락 밖에서 호출하고, 나머지는 하위 클래스가 자기 락 안에서 처리합니다.
+ *
+ * 재적재 중 쓰기: load와 replace 사이에 반영한 변경은 replace로 사라지므로,
+ * 재적재 중에 반영한 ID를 모아 두었다가 replace 후 DAO에서 다시 읽어 반영합니다.
+ * (load 시작 전에 커밋된 쓰기는 load 결과에 이미 들어 있음)
+ *
+ * @param <S> load가 읽어 온 전체 데이터
+ */
+@Slf4j
+public abstract class StudyLogDerivedIndex<S> implements CacheInvalidationListener {
+
+    protected final StudyLogDao studyLogDao;
+
+    // 로그에 쓸 인덱스 이름
+    private final String name;
+
+    // 초기 적재(또는 다른 노드 변경 반영)에 실패하면 false → 다음 조회 때 전체 재적재
+    private volatile boolean loaded = false;
+
+    // 재적재 중(load 시작 ~ replace 끝)에 반영한 ID, 재적재 중이 아니면 null
+    private volatile Set<Long> changedDuringReload;
+
+    // 재적재는 한 번에 하나만
+    private final Object reloadLock = new Object();
+
+    protected StudyLogDerivedIndex(StudyLogDao studyLogDao, String name) {
+        this.studyLogDao = studyLogDao;
+        this.name = name;
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    // ========== 하위 클래스 구현 ==========
+
+    /**
+     * 인덱스를 새로 만들 전체 데이터 읽기 (락 밖에서 호출)
+     */
+    protected abstract S load();
+
+    /**
+     * 인덱스를 비우고 전체 데이터로 다시 채움
+     *
+     * @return 적재한 항목 수 (로그용)
+     */
+    protected abstract int replace(S snapshot);
+
+    /**
+     * 일지 한 건 반영 (같은 값이 여러 번 전달되어도 결과가 같아야 함)
+     */
+    protected abstract void apply(StudyLog studyLog);
+
+    /**
+     * 일지 한 건 제거 (인덱스에 없으면 무시)
+     */
+    protected abstract void remove(Long id);
+
+    // ========== 조회 전 확인 ==========
+
+    /**
+     * 적재되지 않았으면 전체 재적재 (조회 메서드 시작 시 호출)
+     */
+    protected void ensureLoaded() {
+        if (!loaded) {
+            synchronized (reloadLock) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 로컬 쓰기 반영 (createStudyLog, updateStudyLog, deleteStudyLog)
+     *
+     * 이미 저장된 쓰기 뒤에 동기로 호출되므로 반영에 실패해도 예외를 던지지 않고
+     * 다음 조회 때 전체를 다시 적재합니다. (쓰기 요청이 실패로 보이지 않도록)
+     */
+    @EventListener
+    public void onStudyLogChanged(StudyLogChangedEvent event) {
+        markChanged(event.getLogId());
+        StudyLog after = event.getAfter();
+        try {
+            if (after != null) {
+                apply(after);
+            } else {
+                remove(event.getLogId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("로컬 변경을 {}에 반영하지 못해 다음 조회 때 다시 적재합니다 (id: {}): {}",
+                    name, event.getLogId(), e.getMessage());
+            loaded = false;
+        }
+    }
+
+    /**
+     * 로컬 변경은 onStudyLogChanged에서 이미 반영하므로 받지 않음
+     */
+    @Override
+    public boolean receivesLocalChanges() {
+        return false;
+    }
+
+    /**
+     * 다른 노드의 쓰기 반영 (변경된 ID를 DAO에서 다시 읽음)
+     */
+    @Override
+    public void invalidate(List<StudyLogChange> changes) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (StudyLogChange change : changes) {
+            ids.add(change.getLogId());
+        }
+        refresh(ids);
+    }
+
+    /**
+     * 전체를 다시 읽어 인덱스를 새로 만듦
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            Set<Long> changed = ConcurrentHashMap.newKeySet();
+            changedDuringReload = changed;
+
+            S snapshot;
+            int size;
+            try {
+                snapshot = load();
+            } catch (RuntimeException e) {
+                changedDuringReload = null;
+                log.warn("{} 적재 실패, 다음 조회 때 다시 시도합니다: {}", name, e.getMessage());
+                return;
+            }
+            try {
+                size = replace(snapshot);
+            } finally {
+                changedDuringReload = null;
+            }
+            loaded = true;
+            log.info("{} 적재 완료 ({}건)", name, size);
+
+            // 읽는 동안 반영한 변경은 replace로 덮였으므로 다시 읽어 반영
+            if (!changed.isEmpty()) {
+                log.debug("{} 적재 중 변경된 {}건 다시 반영", name, changed.size());
+                refresh(changed);
+            }
+        }
+    }
+
+    /**
+     * ID별로 DAO에서 다시 읽어 반영 (없으면 제거, 조회 실패면 다음 조회 때 전체 재적재)
+     */
+    private void refresh(Collection<Long> ids) {
+        try {
+            for (Long id : ids) {
+                markChanged(id);
+                studyLogDao.findById(id).ifPresentOrElse(this::apply, () -> remove(id));
+            }
+        } catch (RuntimeException e) {
+            log.warn("다른 노드의 변경을 {}에 반영하지 못해 다음 조회 때 다시 적재합니다: {}", name, e.getMessage());
+            loaded = false;
+        }
+    }
+
+    /**
+     * 재적재 중이면 반영할 ID 기록 (반영 전에 호출)
+     */
+    private void markChanged(Long id) {
+        Set<Long> changed = changedDuringReload;
+        if (changed != null) {
+            changed.add(id);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID별 학습 일지 응답 캐시 (LRU + TTL)
+ *
+ * 무효화 버스로 로컬/원격 변경을 모두 전달받고,
+ * 버스가 꺼져 있거나 기록에 실패한 경우를 대비해 TTL로 staleness 상한을 둡니다.
+ */
+@Component
+public class StudyLogResponseCache implements CacheInvalidationListener {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // 접근 순서로 정렬되는 LinkedHashMap → 가장 오래 안 쓴 항목부터 제거
+    private final Map<Long, CachedResponse> entries;
+
+    // 무효화가 일어날 때마다 증가 (조회 도중 무효화된 결과를 넣지 않기 위함)
+    private long invalidationCount = 0;
+
+    public StudyLogResponseCache(
+            @Value("${study-diary.cache.by-id.max-size:10000}") int maxSize,
+            @Value("${study-diary.cache.by-id.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedResponse> eldest) {
+                return size() > StudyLogResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized StudyLogResponse get(Long id) {
+        CachedResponse cached = entries.get(id);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.cachedAt > ttlMillis) {
+            entries.remove(id);
+            return null;
+        }
+        return cached.response;
+    }
+
+    /**
+     * 조회 시작 전에 받아두는 값. put 할 때 함께 넘깁니다.
+     */
+    public synchronized long stamp() {
+        return invalidationCount;
+    }
+
+    /**
+     * 조회 도중 무효화가 없었을 때만 저장
+     */
+    public synchronized void put(StudyLogResponse response, long stamp) {
+        if (stamp != invalidationCount) {
+            return;
+        }
+        entries.put(response.getId(), new CachedResponse(response, System.currentTimeMillis()));
+    }
+
+    @Override
+    public synchronized void invalidate(List<StudyLogChange> changes) {
+        invalidationCount++;
+        for (StudyLogChange change : changes) {
+            entries.remove(change.getLogId());
+        }
+    }
+
+    public synchronized void clear() {
+        invalidationCount++;
+        entries.clear();
+    }
+
+    private static class CachedResponse {
+        private final StudyLogResponse response;
+        private final long cachedAt;
+
+        private CachedResponse(StudyLogResponse response, long cachedAt) {
+            this.response = response;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
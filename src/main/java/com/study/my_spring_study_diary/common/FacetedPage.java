@@ -0,0 +1,31 @@
+package com.study.my_spring_study_diary.common;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 개수를 함께 담은 페이지
+ *
+ * 검색 결과와 같은 조건으로 센 카테고리별/이해도별 개수를 함께 돌려주어
+ * 화면에서 카테고리마다 따로 개수를 조회하지 않아도 되게 합니다.
+ */
+public class FacetedPage<T> extends Page<T> {
+
+    private final Map<String, Long> categoryFacets;        // 카테고리별 개수
+    private final Map<String, Long> understandingFacets;   // 이해도별 개수
+
+    public FacetedPage(List<T> content, int page, int size, long totalElements,
+                       Map<String, Long> categoryFacets, Map<String, Long> understandingFacets) {
+        super(content, page, size, totalElements);
+        this.categoryFacets = categoryFacets;
+        this.understandingFacets = understandingFacets;
+    }
+
+    public Map<String, Long> getCategoryFacets() {
+        return categoryFacets;
+    }
+
+    public Map<String, Long> getUnderstandingFacets() {
+        return understandingFacets;
+    }
+}
@@ -13,9 +13,15 @@ public class Page<T> {
     private boolean last;         // 마지막 페이지 여부
     private boolean hasNext;      // 다음 페이지 존재 여부
     private boolean hasPrevious;  // 이전 페이지 존재 여부
+    private Long snapshot;        // 스냅샷 토큰 (다음 페이지 요청에 넘기면 같은 시점의 목록을 읽음, 지원하지 않으면 null)
 
     public Page(List<T> content, int page, int size, long totalElements) {
+        this(content, page, size, totalElements, null);
+    }
+
+    public Page(List<T> content, int page, int size, long totalElements, Long snapshot) {
         this.content = content;
+        this.snapshot = snapshot;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
@@ -65,4 +71,8 @@ public class Page<T> {
     public boolean isHasPrevious() {
         return hasPrevious;
     }
+
+    public Long getSnapshot() {
+        return snapshot;
+    }
 }
@@ -0,0 +1,58 @@
+package com.study.my_spring_study_diary.compression;
+
+import com.study.my_spring_study_diary.entity.StoredText;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 학습 내용(content) 압축 정책
+ *
+ * 켜져 있으면 UTF-8 기준 threshold-bytes 이상인 내용을 deflate로 압축해 저장합니다.
+ * 짧은 내용은 압축 헤더와 CPU 비용이 이득보다 크므로 평문으로 둡니다.
+ * 압축 해제는 StudyLog.getContent()를 호출할 때 일어납니다. (StoredText 참고)
+ */
+@Component
+public class ContentCompressor {
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+    private final int level;
+
+    public ContentCompressor(
+            @Value("${study-diary.content-compression.enabled:false}") boolean enabled,
+            @Value("${study-diary.content-compression.threshold-bytes:512}") int thresholdBytes,
+            @Value("${study-diary.content-compression.level:6}") int level) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.level = level;
+    }
+
+    /**
+     * 압축하지 않는 정책 (테스트, 도구용)
+     */
+    public static ContentCompressor disabled() {
+        return new ContentCompressor(false, Integer.MAX_VALUE, 6);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장할 형태로 변환 (이미 압축된 내용이나 정책 대상이 아니면 그대로)
+     */
+    public StoredText compress(StoredText text) {
+        if (!enabled || text == null || text.isCompressed()) {
+            return text;
+        }
+        String plain = text.text();
+        // 글자당 최대 3바이트(한글)이므로 글자 수로 먼저 걸러 짧은 내용은 인코딩하지 않음
+        if (plain.length() * 3 < thresholdBytes
+                || plain.getBytes(StandardCharsets.UTF_8).length < thresholdBytes) {
+            return text;
+        }
+        return StoredText.deflate(plain, level);
+    }
+}
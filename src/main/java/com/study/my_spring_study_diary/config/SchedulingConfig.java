@@ -0,0 +1,13 @@
+package com.study.my_spring_study_diary.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * (캐시 무효화 버스의 변경 로그 tailing 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,39 @@
+package com.study.my_spring_study_diary.config;
+
+import com.study.my_spring_study_diary.diagnostics.TimedConnectionDataSource;
+import com.study.my_spring_study_diary.limiter.DatabaseSaturation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Server-Timing 구간 기록 구성
+ *
+ * DataSource 빈을 TimedConnectionDataSource로 감싸 커넥션 풀 대기 시간을 기록합니다.
+ * - Server-Timing의 conn 구간 (dao 구간은 StudyLogDaoConfig, sql 구간은 QueryProfiler에서 기록)
+ * - 저하 모드의 DB 포화 감지 (DatabaseSaturation)
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionWaitTimingPostProcessor(
+            @Value("${study-diary.diagnostics.server-timing.enabled:true}") boolean serverTiming,
+            @Value("${study-diary.degraded-mode.enabled:true}") boolean degradedMode,
+            ObjectProvider<DatabaseSaturation> saturation) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ((serverTiming || degradedMode)
+                        && bean instanceof DataSource dataSource && !(bean instanceof TimedConnectionDataSource)) {
+                    return new TimedConnectionDataSource(dataSource, degradedMode ? saturation.getObject() : null);
+                }
+                return bean;
+            }
+        };
+    }
+}
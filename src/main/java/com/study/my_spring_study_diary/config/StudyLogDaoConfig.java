@@ -0,0 +1,95 @@
+package com.study.my_spring_study_diary.config;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogStorageEngine;
+import com.study.my_spring_study_diary.dao.replica.ReplicatedStudyLogDao;
+import com.study.my_spring_study_diary.dao.replica.StudyLogReadReplica;
+import com.study.my_spring_study_diary.diagnostics.ProfiledStudyLogDao;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
+import com.study.my_spring_study_diary.diagnostics.TimedStudyLogDao;
+import com.study.my_spring_study_diary.limiter.ConcurrencyLimitedStudyLogDao;
+import com.study.my_spring_study_diary.limiter.DaoConcurrencyLimits;
+import com.study.my_spring_study_diary.limiter.DatabaseSaturation;
+import com.study.my_spring_study_diary.limiter.DegradedModeStudyLogDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 서비스 계층이 사용할 StudyLogDao 구성
+ *
+ * study-diary.dao.engine으로 실제 저장소 구현체를 고르고, 데코레이터로 감싸서 @Primary 빈으로 등록합니다.
+ * (구현체를 직접 주입받아야 하는 곳은 구체 타입으로 주입받으면 됩니다)
+ *
+ * 구현체 빈은 StudyLogEngineCondition에 따라 설정한 엔진 쪽만 만들어지므로 ObjectProvider로 받아 해당 분기에서만 꺼냅니다.
+ * JDBC 엔진은 spring.datasource.url이 엔진과 맞지 않으면 시작하지 않습니다. (engine=h2인데 MySQL URL인 경우 등)
+ */
+@Slf4j
+@Configuration
+public class StudyLogDaoConfig {
+
+    @Bean
+    @Primary
+    public StudyLogDao studyLogDao(@Value("${study-diary.dao.engine:mysql}") String engineName,
+                                   @Value("${study-diary.diagnostics.server-timing.enabled:true}") boolean serverTiming,
+                                   @Value("${study-diary.dao.read-replica.enabled:false}") boolean readReplicaEnabled,
+                                   @Value("${spring.datasource.url:}") String datasourceUrl,
+                                   ObjectProvider<MySQLStudyLogDaoImpl> mySQLStudyLogDao,
+                                   ObjectProvider<InMemoryStudyLogDao> inMemoryStudyLogDao,
+                                   ObjectProvider<StudyLogReadReplica> readReplica,
+                                   DaoConcurrencyLimits concurrencyLimits,
+                                   DatabaseSaturation saturation,
+                                   QueryProfiler queryProfiler) {
+        StudyLogStorageEngine engine = StudyLogStorageEngine.from(engineName);
+        log.info("학습 일지 저장소 엔진: {} ({})", engine.getKey(), engine.getDescription());
+
+        if (!engine.isJdbc()) {
+            // 읽기 복제본은 DB 앞에 두는 캐시이므로 인메모리 엔진과는 함께 쓸 수 없음
+            if (readReplicaEnabled) {
+                throw new IllegalStateException(
+                        "study-diary.dao.read-replica는 JDBC 엔진(mysql, h2)에서만 사용할 수 있습니다. (engine: " + engine.getKey() + ")");
+            }
+            // 커넥션 풀이 없으므로 동시성 제한도 두지 않음
+            StudyLogDao dao = inMemoryStudyLogDao.getObject();
+            // 실행하는 SQL이 없으므로 DAO 호출 단위로 JFR 이벤트 / 느린 호출 로그
+            if (queryProfiler.isEnabled()) {
+                dao = new ProfiledStudyLogDao(dao, queryProfiler);
+            }
+            return serverTiming ? new TimedStudyLogDao(dao) : dao;
+        }
+
+        if (!engine.matchesDataSource(datasourceUrl)) {
+            throw new IllegalStateException("study-diary.dao.engine(" + engine.getKey() + ")과 spring.datasource.url(" + datasourceUrl
+                    + ")이 맞지 않습니다. h2 엔진은 h2 프로파일(--spring.profiles.active=h2)과 함께 실행하세요.");
+        }
+
+        StudyLogDao dao = mySQLStudyLogDao.getObject();
+
+        // DB가 느려질 때 커넥션 풀 앞에서 빠르게 거절
+        if (concurrencyLimits.isEnabled()) {
+            dao = new ConcurrencyLimitedStudyLogDao(dao, concurrencyLimits);
+        }
+
+        // 커넥션 풀이 포화되면 기다리지 않고 바로 거절 (읽기는 서비스가 마지막 성공 응답으로 대신함)
+        if (saturation.isEnabled()) {
+            dao = new DegradedModeStudyLogDao(dao, saturation);
+        }
+
+        // 읽기는 프로세스 내 복제본에서 처리하고 쓰기만 DB로 (복제본 읽기는 동시성 제한 대상이 아님)
+        if (readReplicaEnabled) {
+            dao = new ReplicatedStudyLogDao(dao, readReplica.getObject());
+        }
+
+        // 요청별 dao 구간 기록 (Server-Timing)
+        if (serverTiming) {
+            dao = new TimedStudyLogDao(dao);
+        }
+
+        return dao;
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.ReviewResponse;
+import com.study.my_spring_study_diary.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 복습 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    /**
+     * 지금 복습할 학습 일지 조회
+     *
+     * GET /api/v1/reviews/due?limit=20
+     *
+     * 이해도가 BAD/VERY_BAD인 일지가 마지막 수정 후 복습 간격이 지나면 나타납니다.
+     * 복습 후 일지를 수정하면 다시 예약되고, 이해도를 NORMAL 이상으로 올리면 빠집니다.
+     *
+     * @param limit 최대 개수 (기본값: 20, 최대: 100)
+     */
+    @GetMapping("/due")
+    public List<ReviewResponse> getDueReviews(@RequestParam(defaultValue = "20") int limit) {
+        return reviewService.getDueReviews(limit);
+    }
+}
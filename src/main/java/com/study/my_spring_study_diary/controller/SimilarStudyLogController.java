@@ -0,0 +1,41 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.SimilarStudyLogResponse;
+import com.study.my_spring_study_diary.service.SimilarStudyLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 비슷한 학습 일지 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/logs")
+@RequiredArgsConstructor
+public class SimilarStudyLogController {
+
+    private final SimilarStudyLogService similarStudyLogService;
+
+    /**
+     * 비슷한 학습 일지 조회
+     *
+     * GET /api/v1/logs/{id}/similar?limit=5
+     *
+     * 같은 주제를 조금 다르게 적은 일지(예: "Java Stream API"와 "자바 Stream API 정리")를 찾습니다.
+     * 상세 화면(GET /api/v1/logs/{id})에서 "관련 일지"로 함께 보여줄 때 사용합니다.
+     *
+     * @param id    기준 일지 ID
+     * @param limit 최대 개수 (기본값: 5, 최대: 50)
+     */
+    @GetMapping("/{id}/similar")
+    public List<SimilarStudyLogResponse> getSimilarStudyLogs(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit) {
+        return similarStudyLogService.getSimilarStudyLogs(id, limit);
+    }
+}
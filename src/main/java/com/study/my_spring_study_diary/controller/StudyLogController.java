@@ -115,16 +115,19 @@ public class StudyLogController {
      * <p>
      * GET /api/v1/logs/page?page=0&size=10
      * GET /api/v1/logs/page (기본값: page=0, size=10)
+     * GET /api/v1/logs/page?page=1&size=10&snapshot=1760000000123 (이전 응답의 snapshot으로 같은 시점 목록 이어 읽기)
      *
      * @param page 페이지 번호 (0-based, 기본값: 0)
      * @param size 페이지 크기 (기본값: 10, 최대: 100)
+     * @param snapshot 스냅샷 토큰 (선택, 인메모리 DAO에서만 응답에 포함됨)
      * @return 페이징된 학습 일지
      */
     @GetMapping("/page")
     public Page<StudyLogResponse> getStudyLogsPage(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return studyLogService.getStudyLogsWithPaging(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long snapshot) {
+        return studyLogService.getStudyLogsWithPaging(page, size, snapshot);
     }
 
     /**
@@ -149,31 +152,38 @@ public class StudyLogController {
     /**
      * 검색 + 페이징 조회
      *
-     * GET /api/v1/logs/search?title=Spring&category=SPRING
+     * GET /api/v1/logs/search?title=Spring&category=SPRING&category=JAVA
+     *     &understanding=GOOD&understanding=VERY_GOOD&studyTime=UNDER_60
      *     &startDate=2026-01-01&endDate=2026-12-31
-     *     &page=0&size=10
+     *     &page=0&size=10&facets=true
      *
      * @param title 제목 키워드 (선택)
-     * @param category 카테고리 (선택)
+     * @param category 카테고리 (선택, 여러 개 가능)
+     * @param understanding 이해도 (선택, 여러 개 가능)
+     * @param studyTime 학습 시간 구간 (선택, 여러 개 가능: UNDER_30, UNDER_60, UNDER_120, OVER_120)
      * @param startDate 시작 날짜 (선택)
      * @param endDate 종료 날짜 (선택)
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param facets true면 카테고리별/이해도별 개수(categoryFacets, understandingFacets)를 함께 반환
      * @return 페이징된 검색 결과
      */
     @GetMapping("/search")
     public Page<StudyLogResponse> searchStudyLogs(
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) String category,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<String> understanding,
+            @RequestParam(required = false) List<String> studyTime,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean facets) {
 
         return studyLogService.searchStudyLogsWithPaging(
-                title, category, startDate, endDate, page, size);
+                title, category, understanding, studyTime, startDate, endDate, page, size, facets);
     }
 
     // ========== UPDATE ==========
@@ -0,0 +1,40 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.feed.StudyLogFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 학습 일지 변경 스트림 컨트롤러 (Server-Sent Events)
+ *
+ * 대시보드가 목록을 주기적으로 다시 조회(polling)하는 대신
+ * 생성/수정/삭제 이벤트를 실시간으로 받을 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/v1/logs")
+@RequiredArgsConstructor
+public class StudyLogStreamController {
+
+    private final StudyLogFeed studyLogFeed;
+
+    /**
+     * 변경 스트림 구독
+     *
+     * GET /api/v1/logs/stream
+     *
+     * 이벤트 이름: CREATED, UPDATED, DELETED, resync
+     * - resync를 받으면 놓친 이벤트가 있으므로 목록을 다시 조회해야 합니다.
+     * - 연결이 끊기면 브라우저 EventSource가 Last-Event-ID 헤더와 함께 자동으로 재접속해 이어 받습니다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재접속 시)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return studyLogFeed.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.StudyTimeRangeResponse;
+import com.study.my_spring_study_diary.service.StudyStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 통계 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class StudyStatsController {
+
+    private final StudyStatsService studyStatsService;
+
+    /**
+     * 기간별 학습 시간 합계
+     *
+     * GET /api/v1/stats/study-time?startDate=2026-01-01&endDate=2026-03-31&granularity=WEEK
+     * GET /api/v1/stats/study-time?startDate=2026-01-01&endDate=2026-01-31&granularity=CUSTOM&bucketDays=10
+     *
+     * @param startDate   시작 날짜 (포함)
+     * @param endDate     종료 날짜 (포함)
+     * @param granularity 집계 단위 (DAY, WEEK, MONTH, YEAR, CUSTOM, TOTAL / 기본값 TOTAL)
+     * @param bucketDays  CUSTOM일 때 구간 일수
+     */
+    @GetMapping("/study-time")
+    public StudyTimeRangeResponse getStudyTime(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "TOTAL") String granularity,
+            @RequestParam(required = false) Integer bucketDays) {
+
+        return studyStatsService.getStudyTime(startDate, endDate, granularity, bucketDays);
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.TitleSuggestionResponse;
+import com.study.my_spring_study_diary.service.TitleAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 제목 자동완성 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/logs")
+@RequiredArgsConstructor
+public class TitleAutocompleteController {
+
+    private final TitleAutocompleteService titleAutocompleteService;
+
+    /**
+     * 제목 자동완성
+     *
+     * GET /api/v1/logs/autocomplete?prefix=java&limit=10
+     *
+     * 입력할 때마다 호출해도 되도록 메모리 인덱스에서 바로 응답합니다. (DB 조회 없음)
+     * 접두어가 비어 있으면 가장 많이 쓰인 제목을 돌려줍니다.
+     *
+     * @param prefix 입력 중인 제목 앞부분
+     * @param limit  최대 개수 (기본값: 10)
+     */
+    @GetMapping("/autocomplete")
+    public List<TitleSuggestionResponse> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return titleAutocompleteService.suggestTitles(prefix, limit);
+    }
+}
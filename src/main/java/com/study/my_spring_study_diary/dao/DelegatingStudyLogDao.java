@@ -0,0 +1,140 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.common.FacetedPage;
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * StudyLogDao 데코레이터의 기반 클래스
+ *
+ * 모든 호출을 invoke()를 거쳐 실제 DAO(delegate)로 위임합니다.
+ * 하위 클래스는 invoke()만 구현하면 모든 DAO 메서드에 같은 처리를 적용할 수 있습니다.
+ */
+public abstract class DelegatingStudyLogDao implements StudyLogDao {
+
+    protected final StudyLogDao delegate;
+
+    protected DelegatingStudyLogDao(StudyLogDao delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param operation DAO 메서드 이름
+     * @param write     쓰기 작업 여부
+     * @param call      실제 DAO 호출
+     */
+    protected abstract <T> T invoke(String operation, boolean write, Supplier<T> call);
+
+    // ========== CREATE ==========
+    @Override
+    public StudyLog save(StudyLog studyLog) {
+        return invoke("save", true, () -> delegate.save(studyLog));
+    }
+
+    // ========== READ ==========
+    @Override
+    public Optional<StudyLog> findById(Long id) {
+        return invoke("findById", false, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<StudyLog> findAll() {
+        return invoke("findAll", false, delegate::findAll);
+    }
+
+    @Override
+    public List<StudyLog> findByCategory(String category) {
+        return invoke("findByCategory", false, () -> delegate.findByCategory(category));
+    }
+
+    @Override
+    public List<StudyLog> findByStudyDate(LocalDate date) {
+        return invoke("findByStudyDate", false, () -> delegate.findByStudyDate(date));
+    }
+
+    @Override
+    public List<StudyLogStudyTime> findAllStudyTimes() {
+        return invoke("findAllStudyTimes", false, delegate::findAllStudyTimes);
+    }
+
+    @Override
+    public List<StudyLogReviewTime> findReviewTimes(Set<Understanding> understandings) {
+        return invoke("findReviewTimes", false, () -> delegate.findReviewTimes(understandings));
+    }
+
+    @Override
+    public List<StudyLogText> findAllTexts() {
+        return invoke("findAllTexts", false, delegate::findAllTexts);
+    }
+
+    @Override
+    public List<StudyLogTitle> findAllTitles() {
+        return invoke("findAllTitles", false, delegate::findAllTitles);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return invoke("existsById", false, () -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return invoke("count", false, delegate::count);
+    }
+
+    // ========== UPDATE ==========
+    @Override
+    public StudyLog update(StudyLog studyLog) {
+        return invoke("update", true, () -> delegate.update(studyLog));
+    }
+
+    // ========== DELETE ==========
+    @Override
+    public boolean deleteById(Long id) {
+        return invoke("deleteById", true, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAll() {
+        invoke("deleteAll", true, () -> {
+            delegate.deleteAll();
+            return null;
+        });
+    }
+
+    // ========== PAGING ==========
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size) {
+        return invoke("findAllWithPaging", false, () -> delegate.findAllWithPaging(page, size));
+    }
+
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, Long snapshot) {
+        return invoke("findAllWithPaging", false, () -> delegate.findAllWithPaging(page, size, snapshot));
+    }
+
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
+        return invoke("findByCategoryWithPaging", false,
+                () -> delegate.findByCategoryWithPaging(category, page, size));
+    }
+
+    @Override
+    public Page<StudyLog> searchWithPaging(StudyLogSearchCondition condition, int page, int size) {
+        return invoke("searchWithPaging", false,
+                () -> delegate.searchWithPaging(condition, page, size));
+    }
+
+    @Override
+    public FacetedPage<StudyLog> searchWithFacets(StudyLogSearchCondition condition, int page, int size) {
+        return invoke("searchWithFacets", false,
+                () -> delegate.searchWithFacets(condition, page, size));
+    }
+}
@@ -1,32 +1,101 @@
 package com.study.my_spring_study_diary.dao;
 
+import com.study.my_spring_study_diary.common.FacetedPage;
 import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.arena.OffHeapTextArena;
+import com.study.my_spring_study_diary.dao.index.StudyLogBitmapIndex;
+import com.study.my_spring_study_diary.dao.mvcc.StudyLogVersions;
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshot;
+import com.study.my_spring_study_diary.dao.wal.StudyLogWal;
+import com.study.my_spring_study_diary.dao.wal.WalRecord;
+import com.study.my_spring_study_diary.dao.wal.WalSnapshot;
 import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StoredText;
 import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
 import com.study.my_spring_study_diary.exception.InvalidPageRequestException;
+import com.study.my_spring_study_diary.exception.ReadOnlyNodeException;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.view.ContentNegotiatingViewResolver;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 @Repository
+@Conditional(StudyLogEngineCondition.InMemory.class)
 public class InMemoryStudyLogDao implements StudyLogDao {
 
+    // 목록 조회 정렬 (학습 날짜 내림차순, ID 내림차순 - MySQL의 ORDER BY study_date DESC, id DESC)
+    private static final Comparator<StudyLog> LATEST_FIRST = Comparator
+            .comparing(StudyLog::getStudyDate, Comparator.reverseOrder())
+            .thenComparing(StudyLog::getId, Comparator.reverseOrder());
+
     // 데이터 저장소 (실제 DB 대신 Map 사용)
-    private final Map<Long, StudyLog> database = new HashMap<>();
+    private final Map<Long, StudyLog> database = new ConcurrentHashMap<>();
+
+    // 카테고리/이해도/학습 시간/날짜 비트맵 인덱스 (검색·페이징용)
+    private final StudyLogBitmapIndex index = new StudyLogBitmapIndex();
+
+    // 저장소와 인덱스를 함께 바꾸는 쓰기 작업과, 인덱스를 읽는 검색 작업 사이의 잠금
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     // ID 자동 증가를 위한 시퀀스
     private final AtomicLong sequence = new AtomicLong(1);
-    private final ContentNegotiatingViewResolver contentNegotiatingViewResolver;
 
-    public InMemoryStudyLogDao(ContentNegotiatingViewResolver contentNegotiatingViewResolver) {
-        this.contentNegotiatingViewResolver = contentNegotiatingViewResolver;
+    // 쓰기 횟수 (마지막 스냅샷 이후 변경이 있었는지 판단용)
+    private final AtomicLong writeCount = new AtomicLong();
+
+    // 긴 학습 내용 압축 정책 (저장 시 압축, getContent() 시 해제)
+    private final ContentCompressor contentCompressor;
+
+    // 제목/내용 오프힙 저장소 (켜져 있으면 힙에는 슬롯 번호만 남음)
+    private final OffHeapTextArena offHeapTextArena;
+
+    // ID별 아레나 슬롯 (제목 슬롯 << 32 | 내용 슬롯), 수정/삭제 시 이전 슬롯을 해제하기 위함
+    private final Map<Long, Long> offHeapSlots = new HashMap<>();
+
+    // 전체 페이징용 버전 관리 목록 (읽기는 잠금 없이 스냅샷, 쓰기는 아래 쓰기 잠금 안에서 새 버전 발행)
+    private final StudyLogVersions versions;
+
+    // 쓰기 선행 로그 (복제 리더일 때만 기록, 쓰기 잠금 안에서 append)
+    private final StudyLogWal wal;
+
+    // 복제 팔로워면 true (API 쓰기는 거절하고 리더의 WAL만 반영)
+    private volatile boolean readOnly = false;
+
+    public InMemoryStudyLogDao() {
+        this(ContentCompressor.disabled(), OffHeapTextArena.disabled());
+    }
+
+    public InMemoryStudyLogDao(ContentCompressor contentCompressor, OffHeapTextArena offHeapTextArena) {
+        this(contentCompressor, offHeapTextArena, StudyLogWal.disabled(), 256, 300_000);
+    }
+
+    @Autowired
+    public InMemoryStudyLogDao(ContentCompressor contentCompressor, OffHeapTextArena offHeapTextArena, StudyLogWal wal,
+                               @Value("${study-diary.dao.in-memory.mvcc.max-pinned:256}") int maxPinnedSnapshots,
+                               @Value("${study-diary.dao.in-memory.mvcc.ttl-ms:300000}") long snapshotTtlMillis) {
+        // 페이징 스냅샷이 유효한 동안에는 그 스냅샷이 가리키는 슬롯을 회수하면 안 됨
+        if (offHeapTextArena.isEnabled() && offHeapTextArena.getFreeGraceMillis() < snapshotTtlMillis) {
+            throw new IllegalArgumentException("off-heap.free-grace-ms(" + offHeapTextArena.getFreeGraceMillis()
+                    + ")는 mvcc.ttl-ms(" + snapshotTtlMillis + ") 이상이어야 합니다.");
+        }
+        this.contentCompressor = contentCompressor;
+        this.offHeapTextArena = offHeapTextArena;
+        this.wal = wal;
+        this.versions = new StudyLogVersions(maxPinnedSnapshots, snapshotTtlMillis);
     }
 
 //    @PostConstruct
@@ -43,34 +112,45 @@ public class InMemoryStudyLogDao implements StudyLogDao {
      */
     @Override
     public StudyLog save(StudyLog studyLog) {
+        checkWritable();
+
         // ID가 없으면 새로운 ID 부여
         if (studyLog.getId() == null) {
             studyLog.setId(sequence.getAndIncrement());
         }
 
+        compressContent(studyLog);
+
         //Map에 저장
-        database.put(studyLog.getId(), studyLog);
+        lock.writeLock().lock();
+        try {
+            put(studyLog);
+        } finally {
+            lock.writeLock().unlock();
+        }
 
         return studyLog;
     }
 
     // ========== READ ==========
+    // 조회 결과는 저장된 객체의 복사본 (호출한 쪽이 수정해도 저장소/인덱스/버전에 보이지 않음)
+
     /**
      * ID로 학습 일지 조회
      */
     @Override
     public Optional<StudyLog> findById(Long id) {
-        return Optional.ofNullable(database.get(id));
+        return Optional.ofNullable(database.get(id)).map(StudyLog::copy);
     }
 
     /**
-     * 전체 학습 일지 조회 (최신순 정렬)
+     * 전체 학습 일지 조회 (학습 날짜 내림차순, ID 내림차순 - JDBC 구현과 같은 순서)
      */
     @Override
     public List<StudyLog> findAll() {
         return database.values().stream()
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
-                //.sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+                .sorted(LATEST_FIRST)
+                .map(StudyLog::copy)
                 .collect(Collectors.toList());
     }
 
@@ -90,17 +170,50 @@ public class InMemoryStudyLogDao implements StudyLogDao {
     private List<StudyLog> findByCategory(Category category) {
         return database.values().stream()
                 .filter(log -> log.getCategory().equals(category))
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
+                .sorted(LATEST_FIRST)
+                .map(StudyLog::copy)
                 .collect(Collectors.toList());
     }
     /**
-     * 날짜로 학습 일지 조회
+     * 날짜로 학습 일지 조회 (ID 내림차순)
      */
     @Override
     public List<StudyLog> findByStudyDate(LocalDate date) {
         return database.values().stream()
                 .filter(log -> log.getStudyDate().equals(date))
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
+                .sorted(LATEST_FIRST)
+                .map(StudyLog::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이해도 조건에 맞는 일지의 수정 시각 (제목/내용을 읽거나 복사하지 않음)
+     */
+    @Override
+    public List<StudyLogReviewTime> findReviewTimes(Set<Understanding> understandings) {
+        return database.values().stream()
+                .filter(log -> understandings.contains(log.getUnderstanding()))
+                .map(StudyLogReviewTime::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 전체 일지의 제목/내용 (일지를 복사하지 않고 텍스트만 꺼냄)
+     */
+    @Override
+    public List<StudyLogText> findAllTexts() {
+        return database.values().stream()
+                .map(StudyLogText::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 전체 일지의 제목 (내용은 읽지 않음)
+     */
+    @Override
+    public List<StudyLogTitle> findAllTitles() {
+        return database.values().stream()
+                .map(StudyLogTitle::of)
                 .collect(Collectors.toList());
     }
 
@@ -123,15 +236,88 @@ public class InMemoryStudyLogDao implements StudyLogDao {
      */
     @Override
     public StudyLog update(StudyLog studyLog) {
+        checkWritable();
         validationStudyLogById(studyLog);
 
         // updatedAt 갱신
         studyLog.setUpdatedAt(java.time.LocalDateTime.now());
+        compressContent(studyLog);
 
-        database.put(studyLog.getId(), studyLog);
+        lock.writeLock().lock();
+        try {
+            put(studyLog);
+        } finally {
+            lock.writeLock().unlock();
+        }
         return studyLog;
     }
 
+    /**
+     * 저장소/인덱스/버전/WAL에 반영 (쓰기 잠금 안에서 호출)
+     */
+    private void put(StudyLog studyLog) {
+        moveTextsOffHeap(studyLog);
+        database.put(studyLog.getId(), studyLog);
+        // 인덱스는 이전에 색인된 값을 기억하고 있으므로 같은 객체를 수정해도 올바르게 갱신됨
+        Long previousEpochDay = index.indexedEpochDay(studyLog.getId());
+        index.add(studyLog);
+        // 스냅샷에는 복사본을 넣어 이후의 수정이 이전 버전에 보이지 않게 함
+        StudyLog copy = studyLog.copy();
+        versions.put(copy, previousEpochDay);
+        wal.appendPut(copy);
+        writeCount.incrementAndGet();
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new ReadOnlyNodeException("복제 팔로워 노드는 읽기 전용입니다. 쓰기는 리더 노드로 보내 주세요.");
+        }
+    }
+
+    /**
+     * 내용 압축 (이미 아레나에 있는 내용은 수정되지 않은 것이므로 그대로 둠)
+     */
+    private void compressContent(StudyLog studyLog) {
+        StoredText content = studyLog.getStoredContent();
+        if (content != null && !content.isStoredIn(offHeapTextArena)) {
+            studyLog.setStoredContent(contentCompressor.compress(content));
+        }
+    }
+
+    /**
+     * 제목/내용을 오프힙 아레나로 옮기고 바뀐 쪽의 이전 슬롯을 해제 (쓰기 잠금 안에서 호출)
+     */
+    private void moveTextsOffHeap(StudyLog studyLog) {
+        if (!offHeapTextArena.isEnabled() || studyLog.getStoredTitle() == null || studyLog.getStoredContent() == null) {
+            return;
+        }
+        StoredText title = offHeapTextArena.store(studyLog.getStoredTitle());
+        StoredText content = offHeapTextArena.store(studyLog.getStoredContent());
+        studyLog.setStoredTitle(title);
+        studyLog.setStoredContent(content);
+
+        Long previous = offHeapSlots.put(studyLog.getId(), ((long) title.getSlot() << 32) | content.getSlot());
+        if (previous != null) {
+            if ((int) (previous >>> 32) != title.getSlot()) {
+                offHeapTextArena.release((int) (previous >>> 32));
+            }
+            if (previous.intValue() != content.getSlot()) {
+                offHeapTextArena.release(previous.intValue());
+            }
+        }
+    }
+
+    /**
+     * 삭제된 일지의 아레나 슬롯 해제 (쓰기 잠금 안에서 호출)
+     */
+    private void releaseOffHeapTexts(Long id) {
+        Long slots = offHeapSlots.remove(id);
+        if (slots != null) {
+            offHeapTextArena.release((int) (slots >>> 32));
+            offHeapTextArena.release(slots.intValue());
+        }
+    }
+
     /**
      * studyLog의 ID 값 검증
      */
@@ -147,63 +333,322 @@ public class InMemoryStudyLogDao implements StudyLogDao {
         }
     }
 
+    /**
+     * 비트맵 인덱스를 이용한 다중 조건 검색
+     *
+     * 1. 카테고리/이해도/학습 시간 구간/날짜 조건 → 비트맵 AND/OR
+     * 2. 제목 키워드가 없으면 카디널리티로 위치를 찾아 요청한 페이지의 ID만 꺼냄 (rank-select)
+     * 3. 제목 키워드가 있으면 비트맵 결과를 순서대로 돌며 제목만 추가로 검사
+     */
     @Override
-    public Page<StudyLog> searchWithPaging(String titleKeyword, String category, LocalDate startDate, LocalDate endDate, int page, int size) {
-
-        List<StudyLog> filteredLogs = database.values().stream()
-                .filter(log -> {
-                    boolean matches = true;
-
-                    // 제목 키워드 필터
-                    if (titleKeyword != null && !titleKeyword.isBlank()) {
-                        matches = log.getTitle().contains(titleKeyword);
-                    }
-
-                    // 카테고리 필터
-                    if (matches && category != null && !category.isBlank()) {
-                        matches = log.getCategory().name().equals(category);
-                    }
+    public Page<StudyLog> searchWithPaging(StudyLogSearchCondition condition, int page, int size) {
+        if (condition.matchesNothing()) {
+            return new Page<>(new ArrayList<>(), page, size, 0);
+        }
 
-                    // 시작 날짜 필터
-                    if (matches && startDate != null) {
-                        matches = !log.getStudyDate().isBefore(startDate);
-                    }
+        long offset = (long) page * size;
 
-                    // 종료 날짜 필터
-                    if (matches && endDate != null) {
-                        matches = !log.getStudyDate().isAfter(endDate);
+        lock.readLock().lock();
+        try {
+            StudyLogBitmapIndex.Selection selection = index.select(
+                    condition.categoryEnums(),
+                    condition.understandingEnums(),
+                    condition.studyTimeBucketEnums(),
+                    condition.getStartDate(),
+                    condition.getEndDate());
+
+            if (!condition.hasTitleKeyword()) {
+                List<StudyLog> content = selection.page(offset, size).stream()
+                        .map(database::get)
+                        .map(StudyLog::copy)
+                        .collect(Collectors.toList());
+                return new Page<>(content, page, size, selection.count());
+            }
+
+            List<StudyLog> content = new ArrayList<>();
+            long[] totalElements = {0};
+            selection.forEach(id -> {
+                StudyLog log = database.get((long) id);
+                if (condition.titleMatches(log.getTitle())) {
+                    if (totalElements[0] >= offset && content.size() < size) {
+                        content.add(log.copy());
                     }
+                    totalElements[0]++;
+                }
+                return true;
+            });
+            return new Page<>(content, page, size, totalElements[0]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-                    return matches;
-                })
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
-
-        int totalElements = filteredLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
-
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
+    /**
+     * 검색 + 패싯 개수
+     *
+     * - 제목 키워드가 없으면: 카테고리/이해도 조건을 뺀 비트맵과 각 카테고리·이해도 비트맵의
+     *   교집합 크기로 패싯을 세고, 결과 페이지는 rank-select로 꺼냄
+     * - 제목 키워드가 있으면: 비트맵 결과를 한 번 순회하면서 패싯과 결과 페이지를 함께 모음
+     */
+    @Override
+    public FacetedPage<StudyLog> searchWithFacets(StudyLogSearchCondition condition, int page, int size) {
+        StudyLogFacetCounts facetCounts = new StudyLogFacetCounts();
+        List<StudyLog> content = new ArrayList<>();
+
+        if (!condition.otherConditionsMatchNothing()) {
+            lock.readLock().lock();
+            try {
+                StudyLogBitmapIndex.Selection base = index.select(
+                        EnumSet.noneOf(Category.class),
+                        EnumSet.noneOf(Understanding.class),
+                        condition.studyTimeBucketEnums(),
+                        condition.getStartDate(),
+                        condition.getEndDate());
+
+                if (!condition.hasTitleKeyword()) {
+                    index.countFacets(base, facetCounts);
+                    content = searchWithPaging(condition, page, size).getContent();
+                } else {
+                    collectWithTitleKeyword(condition, base, facetCounts, content, (long) page * size, size);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
         }
 
-        List<StudyLog> content = filteredLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+        return new FacetedPage<>(content, page, size, facetCounts.total(condition),
+                facetCounts.categoryFacets(condition), facetCounts.understandingFacets(condition));
+    }
+
+    /**
+     * 제목이 일치하는 행을 한 번 순회하며 패싯을 세고, 카테고리/이해도 조건까지 맞는 행 중
+     * offset 위치부터 size개를 content에 담음
+     */
+    private void collectWithTitleKeyword(StudyLogSearchCondition condition, StudyLogBitmapIndex.Selection base,
+                                         StudyLogFacetCounts facetCounts, List<StudyLog> content,
+                                         long offset, int size) {
+        Set<Category> categories = condition.getCategories().isEmpty() ? null : condition.categoryEnums();
+        Set<Understanding> understandings =
+                condition.getUnderstandings().isEmpty() ? null : condition.understandingEnums();
+        long[] matched = {0};
+
+        base.forEach(id -> {
+            StudyLog log = database.get((long) id);
+            if (!condition.titleMatches(log.getTitle())) {
+                return true;
+            }
+            facetCounts.add(log.getCategory(), log.getUnderstanding(), 1);
+
+            boolean selected = (categories == null || categories.contains(log.getCategory()))
+                    && (understandings == null || understandings.contains(log.getUnderstanding()));
+            if (selected) {
+                if (matched[0] >= offset && content.size() < size) {
+                    content.add(log.copy());
+                }
+                matched[0]++;
+            }
+            return true;
+        });
     }
 
     // ========== DELETE ==========
     @Override
     public boolean deleteById(Long id) {
+        checkWritable();
+        return remove(id);
+    }
+
+    private boolean remove(Long id) {
         // Map.remove()는 삭제된 값을 반환, 없으면 null 반환
-        StudyLog removed = database.remove(id);
-        return removed != null;
+        lock.writeLock().lock();
+        try {
+            StudyLog removed = database.remove(id);
+            if (removed != null) {
+                versions.remove(index.indexedEpochDay(id), id);
+                index.remove(id);
+                releaseOffHeapTexts(id);
+                wal.appendDelete(id);
+                writeCount.incrementAndGet();
+            }
+            return removed != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void deleteAll() {
-        database.clear();
-        // 테스트 용도로 시퀀스도 초기화
-        sequence.set(1);
+        checkWritable();
+        clear();
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            database.clear();
+            index.clear();
+            offHeapSlots.clear();
+            offHeapTextArena.releaseAll();
+            versions.replaceAll(List.of());
+            // 테스트 용도로 시퀀스도 초기화
+            sequence.set(1);
+            wal.appendDeleteAll();
+            writeCount.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== REPLICATION ==========
+
+    /**
+     * 복제 팔로워 전환 (API 쓰기 거절)
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * 리더의 WAL 레코드 반영 (복제 팔로워, 읽기 전용이어도 적용)
+     *
+     * 로컬 쓰기와 달리 StudyLogService를 거치지 않으므로, 반영으로 생긴 변경을 돌려주면
+     * WalReplicationFollower가 StudyLogChangedEvent로 발행해 캐시/인덱스/스트림을 갱신합니다.
+     * (DELETE_ALL 후에는 아레나가 비워지므로 삭제 이벤트의 before는 ID/카테고리만 읽을 수 있음)
+     *
+     * @return 반영한 변경 (없는 일지 삭제처럼 바뀐 것이 없으면 빈 목록)
+     */
+    public List<StudyLogChangedEvent> applyReplicated(WalRecord record) {
+        if (record.getType() == WalRecord.Type.PUT) {
+            compressContent(record.getValue());
+        }
+        lock.writeLock().lock();
+        try {
+            return switch (record.getType()) {
+                case PUT -> {
+                    StudyLog studyLog = record.getValue();
+                    StudyLog before = database.get(studyLog.getId());
+                    put(studyLog);
+                    // 리더로 승격될 때 ID가 겹치지 않도록 시퀀스도 따라감
+                    sequence.accumulateAndGet(studyLog.getId() + 1, Math::max);
+                    yield List.of(StudyLogChangedEvent.replicated(before, studyLog));
+                }
+                case DELETE -> {
+                    StudyLog before = database.get(record.getId());
+                    yield remove(record.getId())
+                            ? List.of(StudyLogChangedEvent.replicated(before, null))
+                            : List.of();
+                }
+                case DELETE_ALL -> {
+                    List<StudyLogChangedEvent> events = new ArrayList<>(database.size());
+                    for (StudyLog before : database.values()) {
+                        events.add(StudyLogChangedEvent.replicated(before, null));
+                    }
+                    clear();
+                    yield events;
+                }
+            };
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 리더의 스냅샷으로 저장소 전체를 교체 (복제 팔로워가 처음 접속하거나 오래 끊겼다가 다시 접속할 때)
+     *
+     * 스냅샷은 대부분 이미 가진 일지와 같으므로 생성/수정 시각이 달라진 일지와 사라진 일지만 변경으로 돌려줍니다.
+     *
+     * @return 교체로 생긴 변경
+     */
+    public List<StudyLogChangedEvent> restoreReplicated(StudyLogSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, StudyLog> previous = new HashMap<>(database);
+            restore(snapshot);
+
+            List<StudyLogChangedEvent> events = new ArrayList<>();
+            for (StudyLog after : database.values()) {
+                StudyLog before = previous.remove(after.getId());
+                if (before == null
+                        || !Objects.equals(before.getCreatedAt(), after.getCreatedAt())
+                        || !Objects.equals(before.getUpdatedAt(), after.getUpdatedAt())) {
+                    events.add(StudyLogChangedEvent.replicated(before, after));
+                }
+            }
+            for (StudyLog before : previous.values()) {
+                events.add(StudyLogChangedEvent.replicated(before, null));
+            }
+            return events;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 상태의 스냅샷과 그 시점의 WAL 위치 (복제 리더가 새 팔로워에게 보냄)
+     */
+    public WalSnapshot snapshotWithWalPosition() {
+        lock.readLock().lock();
+        try {
+            return new WalSnapshot(snapshot(), wal.getLogId(), wal.getLastSeq());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== SNAPSHOT ==========
+
+    /**
+     * 현재 상태의 스냅샷 (학습 일지 복사본 + 시퀀스)
+     * 읽기 잠금 안에서 복사만 하고, 파일 쓰기는 잠금 밖에서 합니다. (내용 StoredText는 불변이라 공유)
+     */
+    public StudyLogSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            List<StudyLog> copies = new ArrayList<>(database.size());
+            for (StudyLog studyLog : database.values()) {
+                copies.add(studyLog.copy());
+            }
+            return new StudyLogSnapshot(copies, sequence.get());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷으로 저장소 전체를 교체
+     * 시퀀스는 스냅샷 값과 최대 ID + 1 중 큰 값으로 맞춰 ID가 겹치지 않게 합니다.
+     */
+    public void restore(StudyLogSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            database.clear();
+            index.clear();
+            offHeapSlots.clear();
+            offHeapTextArena.releaseAll();
+            long maxId = 0;
+            List<StudyLog> copies = new ArrayList<>(snapshot.getStudyLogs().size());
+            for (StudyLog studyLog : snapshot.getStudyLogs()) {
+                moveTextsOffHeap(studyLog);
+                database.put(studyLog.getId(), studyLog);
+                index.add(studyLog);
+                copies.add(studyLog.copy());
+                maxId = Math.max(maxId, studyLog.getId());
+            }
+            index.optimize();
+            versions.replaceAll(copies);
+            wal.reset();
+            sequence.set(Math.max(snapshot.getSequence(), maxId + 1));
+            writeCount.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지의 쓰기 횟수 (값이 같으면 그 사이에 변경이 없음)
+     */
+    public long getWriteCount() {
+        return writeCount.get();
     }
 
     /**
@@ -213,23 +658,25 @@ public class InMemoryStudyLogDao implements StudyLogDao {
      * @param size 페이지당 데이터 개수
      * @return 페이징 처리된 결과
      */
+    @Override
     public Page<StudyLog> findAllWithPaging(int page, int size) {
+        return findAllWithPaging(page, size, null);
+    }
 
-        // 1.전체 데이터를 정렬
-        List<StudyLog> allLogs = database.values().stream()
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
+    /**
+     * 스냅샷 토큰 기준 페이징 조회 (MVCC)
+     *
+     * 잠금 없이 현재 버전(또는 토큰의 버전)을 잡아 그 트리에서 페이지를 꺼내므로
+     * 같은 토큰으로 읽는 페이지들은 그 사이의 쓰기와 무관하게 서로 겹치거나 빠지지 않습니다.
+     * 토큰이 만료되었으면 현재 버전을 읽고 새 토큰을 돌려줍니다.
+     */
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, Long snapshot) {
+        StudyLogVersions.Snapshot version = versions.snapshot(snapshot);
+        List<StudyLog> content = version.page((long) page * size, size).stream()
+                .map(StudyLog::copy)
                 .collect(Collectors.toList());
-
-        int totalElements = allLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
-
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
-        }
-
-        List<StudyLog> content = allLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+        return new Page<>(content, page, size, version.size(), version.getVersion());
     }
 
     /**
@@ -239,24 +686,10 @@ public class InMemoryStudyLogDao implements StudyLogDao {
      * @param pageRequest 페이징 요청 정보
      * @return 페이징 처리된 결과
      */
-    public Page<StudyLog> findByCategoryWithPaging(String Category, int page, int size) {
-
-        // 1. 카테코리로 필터링 및 정렬
-        List<StudyLog> categoryLogs = database.values().stream()
-                .filter(log -> log.getCategory().name().equals(Category))
-                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                .collect(Collectors.toList());
-
-        int totalElements = categoryLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
-
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
-        }
-
-        List<StudyLog> content = categoryLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
+        return searchWithPaging(StudyLogSearchCondition.of(null, List.of(category), null, null, null, null),
+                page, size);
     }
 
     /**
@@ -1,11 +1,18 @@
 package com.study.my_spring_study_diary.dao;
 
+import com.study.my_spring_study_diary.common.FacetedPage;
 import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
 import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StoredText;
 import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
 import com.study.my_spring_study_diary.entity.Understanding;
 import jakarta.annotation.PostConstruct;
-import org.springframework.context.annotation.Primary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -15,41 +22,91 @@ import org.springframework.stereotype.Repository;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Repository
-@Primary  // 이 구현체를 기본으로 사용
+@Conditional(StudyLogEngineCondition.Jdbc.class)
 public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
     private final JdbcTemplate jdbcTemplate;
 
-    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate) {
+    // 쿼리별 JFR 이벤트 / 느린 쿼리 로그
+    private final QueryProfiler queryProfiler;
+
+    // 긴 학습 내용 압축 정책
+    private final ContentCompressor contentCompressor;
+
+    // content_compressed 컬럼 존재 여부 (이전 스키마의 DB에서도 동작하도록 시작 시 확인)
+    private volatile boolean compressedColumn = false;
+
+    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate, QueryProfiler queryProfiler,
+                                ContentCompressor contentCompressor) {
         this.jdbcTemplate = jdbcTemplate;
+        this.queryProfiler = queryProfiler;
+        this.contentCompressor = contentCompressor;
+    }
+
+    /**
+     * content_compressed 컬럼 확인
+     * 컬럼이 없으면 압축을 켜도 평문으로 저장하고, 읽을 때도 컬럼을 보지 않습니다.
+     */
+    @PostConstruct
+    public void detectCompressedContentColumn() {
+        try {
+            jdbcTemplate.queryForList("SELECT content_compressed FROM study_logs WHERE 1 = 0");
+            compressedColumn = true;
+        } catch (DataAccessException e) {
+            compressedColumn = false;
+            if (contentCompressor.isEnabled()) {
+                log.warn("study_logs.content_compressed 컬럼이 없어 학습 내용을 압축하지 않습니다. (schema.sql 참고)");
+            }
+        }
     }
 
     // ========== CREATE ==========
     public StudyLog save(StudyLog studyLog) {
-        String sql = """
-            INSERT INTO study_logs (title, content, category, understanding, study_time, study_date)
-            VALUES (?, ?, ?, ?, ?, ?)
-            """;
+        String sql = compressedColumn
+                ? """
+                INSERT INTO study_logs (title, content, category, understanding, study_time, study_date, content_compressed)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """
+                : """
+                INSERT INTO study_logs (title, content, category, understanding, study_time, study_date)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
 
         // KeyHolder: Object to receive auto-generated ID
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
-        jdbcTemplate.update(connection -> {
+        StoredText content = compressContent(studyLog);
+        String plainContent = content.isCompressed() ? "" : content.text();
+        byte[] compressedContent = content.isCompressed() ? content.encoded() : null;
+
+        Object[] params = {studyLog.getTitle(), plainContent, studyLog.getCategory().name(),
+                studyLog.getUnderstanding().name(), studyLog.getStudyTime(), studyLog.getStudyDate()};
+
+        queryProfiler.profile("save", sql, params, () -> jdbcTemplate.update(connection -> {
             PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
             ps.setString(1, studyLog.getTitle());
-            ps.setString(2, studyLog.getContent());
+            ps.setString(2, plainContent);
             ps.setString(3, studyLog.getCategory().name());
             ps.setString(4, studyLog.getUnderstanding().name());
             ps.setInt(5, studyLog.getStudyTime());
             ps.setDate(6, Date.valueOf(studyLog.getStudyDate()));
+            if (compressedColumn) {
+                ps.setBytes(7, compressedContent);
+            }
             return ps;
-        }, keyHolder);
+        }, keyHolder));
 
         // Set the generated ID to StudyLog object
         Number generatedId = keyHolder.getKey();
@@ -60,47 +117,105 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         return studyLog;
     }
 
+    /**
+     * ID로 조회 (없으면 빈 Optional)
+     * 풀 타임아웃 같은 조회 실패는 "없음"과 구분되도록 예외로 전달합니다.
+     * (없는 ID는 예외 없이 0건으로 기록되도록 목록으로 조회)
+     */
     @Override
     public Optional<StudyLog> findById(Long id) {
         String sql = "SELECT * FROM study_logs WHERE id = ?";
 
-        try {
-            StudyLog studyLog = jdbcTemplate.queryForObject(sql, studyLogRowMapper, id);
-            return Optional.ofNullable(studyLog);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        List<StudyLog> studyLogs = queryProfiler.profile("findById", sql, new Object[]{id},
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, id));
+        return studyLogs.stream().findFirst();
     }
 
     @Override
     public List<StudyLog> findAll() {
         String sql = "SELECT * FROM study_logs ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper);
+        return queryProfiler.profile("findAll", sql, null,
+                () -> jdbcTemplate.query(sql, studyLogRowMapper));
     }
 
     @Override
     public List<StudyLog> findByCategory(String category) {
         String sql = "SELECT * FROM study_logs WHERE category = ? ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, category);
+        return queryProfiler.profile("findByCategory", sql, new Object[]{category},
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, category));
     }
 
     @Override
     public List<StudyLog> findByStudyDate(LocalDate date) {
         String sql = "SELECT * FROM study_logs WHERE study_date = ? ORDER BY id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, Date.valueOf(date));
+        return queryProfiler.profile("findByStudyDate", sql, new Object[]{date},
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, Date.valueOf(date)));
+    }
+
+    @Override
+    public List<StudyLogStudyTime> findAllStudyTimes() {
+        String sql = "SELECT id, study_date, study_time FROM study_logs";
+        return queryProfiler.profile("findAllStudyTimes", sql, null,
+                () -> jdbcTemplate.query(sql, (rs, rowNum) -> new StudyLogStudyTime(
+                        rs.getLong("id"), rs.getDate("study_date").toLocalDate(), rs.getInt("study_time"))));
+    }
+
+    @Override
+    public List<StudyLogReviewTime> findReviewTimes(Set<Understanding> understandings) {
+        if (understandings.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(understandings.size(), "?"));
+        String sql = "SELECT id, understanding, study_date, created_at, updated_at FROM study_logs"
+                + " WHERE understanding IN (" + placeholders + ")";
+        Object[] params = understandings.stream().map(Understanding::name).toArray();
+        return queryProfiler.profile("findReviewTimes", sql, params,
+                () -> jdbcTemplate.query(sql, (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    return new StudyLogReviewTime(rs.getLong("id"), Understanding.valueOf(rs.getString("understanding")),
+                            StudyLogReviewTime.modifiedAt(
+                                    updatedAt != null ? updatedAt.toLocalDateTime() : null,
+                                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                                    rs.getDate("study_date").toLocalDate()));
+                }, params));
+    }
+
+    @Override
+    public List<StudyLogText> findAllTexts() {
+        String sql = compressedColumn
+                ? "SELECT id, title, content, content_compressed FROM study_logs"
+                : "SELECT id, title, content FROM study_logs";
+        return queryProfiler.profile("findAllTexts", sql, null,
+                () -> jdbcTemplate.query(sql, (rs, rowNum) -> {
+                    byte[] compressedContent = compressedColumn ? rs.getBytes("content_compressed") : null;
+                    String content = compressedContent != null
+                            ? StoredText.decode(compressedContent).text()
+                            : rs.getString("content");
+                    return new StudyLogText(rs.getLong("id"), rs.getString("title"), content);
+                }));
+    }
+
+    @Override
+    public List<StudyLogTitle> findAllTitles() {
+        String sql = "SELECT id, title FROM study_logs";
+        return queryProfiler.profile("findAllTitles", sql, null,
+                () -> jdbcTemplate.query(sql, (rs, rowNum) -> new StudyLogTitle(rs.getLong("id"), rs.getString("title"))));
     }
 
     @Override
     public boolean existsById(Long id) {
         String sql = "SELECT COUNT(*) FROM study_logs WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        Integer count = queryProfiler.profile("existsById", sql, new Object[]{id},
+                () -> jdbcTemplate.queryForObject(sql, Integer.class, id));
         return count != null && count > 0;
     }
 
     @Override
     public long count() {
         String sql = "SELECT COUNT(*) FROM study_logs";
-        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        Long count = queryProfiler.profile("count", sql, null,
+                () -> jdbcTemplate.queryForObject(sql, Long.class));
         return count != null ? count : 0;
     }
 
@@ -108,24 +223,42 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
     @Override
     public StudyLog update(StudyLog studyLog) {
-        String sql = """
+        String sql = compressedColumn
+                ? """
+                UPDATE study_logs
+                SET title = ?, content = ?, category = ?, understanding = ?,
+                    study_time = ?, study_date = ?, content_compressed = ?, updated_at = CURRENT_TIMESTAMP
+                WHERE id = ?
+                """
+                : """
                 UPDATE study_logs
                 SET title = ?, content = ?, category = ?, understanding = ?,
-                    study_time = ?, study_date = ?
+                    study_time = ?, study_date = ?, updated_at = CURRENT_TIMESTAMP
                 WHERE id = ?
                 """;
 
-        int updated = jdbcTemplate.update(sql,
+        StoredText content = compressContent(studyLog);
+        List<Object> paramList = new ArrayList<>(List.of(
                 studyLog.getTitle(),
-                studyLog.getContent(),
+                content.isCompressed() ? "" : content.text(),
                 studyLog.getCategory().name(),
                 studyLog.getUnderstanding().name(),
                 studyLog.getStudyTime(),
-                studyLog.getStudyDate(),
-                studyLog.getId());
+                studyLog.getStudyDate()));
+        if (compressedColumn) {
+            // null은 List.of에 넣을 수 없으므로 따로 추가 (평문이면 압축 컬럼을 비움)
+            paramList.add(content.isCompressed() ? content.encoded() : null);
+        }
+        paramList.add(studyLog.getId());
+        Object[] params = paramList.toArray();
+
+        int updated = queryProfiler.profile("update", sql, params,
+                () -> jdbcTemplate.update(sql, params));
 
         if (updated == 0) {
-            throw new RuntimeException("Study log not found. ID: " + studyLog.getId());
+            throw new IllegalArgumentException(
+                    "해당 학습 일지를 찾을 수 없습니다. (id: " + studyLog.getId() + ")"
+            );
         }
 
         return studyLog;
@@ -136,14 +269,15 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         String sql = """
                 DELETE FROM study_logs WHERE id = ?
                 """;
-        int deleted = jdbcTemplate.update(sql,id);
+        int deleted = queryProfiler.profile("deleteById", sql, new Object[]{id},
+                () -> jdbcTemplate.update(sql, id));
         return deleted > 0;
     }
 
     @Override
     public void deleteAll() {
         String sql = "DELETE FROM study_logs";
-        jdbcTemplate.update(sql);
+        queryProfiler.profile("deleteAll", sql, null, () -> jdbcTemplate.update(sql));
     }
 
     // ========== PAGING ==========
@@ -152,7 +286,8 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     public Page<StudyLog> findAllWithPaging(int page, int size) {
         // 1단계: 전체 개수 조회
         String countSql = "SELECT COUNT(*) FROM study_logs";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class);
+        Long totalElements = queryProfiler.profile("findAllWithPaging", countSql, null,
+                () -> jdbcTemplate.queryForObject(countSql, Long.class));
 
         // 전체 데이터가 0건이면 빈 페이지 반환
         if (totalElements == null || totalElements == 0) {
@@ -167,7 +302,8 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
                 """;
 
         int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, size, offset);
+        List<StudyLog> content = queryProfiler.profile("findAllWithPaging", dataSql, new Object[]{size, offset},
+                () -> jdbcTemplate.query(dataSql, studyLogRowMapper, size, offset));
 
         // 3단계: Page 객체 생성 및 반환
         return new Page<>(content, page, size, totalElements);
@@ -175,11 +311,12 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
     @Override
     public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
-        // 1단계: 전체 개수 조회
-        String countSql = "SELECT COUNT(*) FROM study_logs";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class);
+        // 1단계: 카테고리 개수 조회
+        String countSql = "SELECT COUNT(*) FROM study_logs WHERE category = ?";
+        Long totalElements = queryProfiler.profile("findByCategoryWithPaging", countSql, new Object[]{category},
+                () -> jdbcTemplate.queryForObject(countSql, Long.class, category));
 
-        // 전체 데이터가 0건이면 빈 페이지 반환
+        // 해당 카테고리 데이터가 0건이면 빈 페이지 반환
         if (totalElements == null || totalElements == 0) {
             return new Page<>(List.of(), page, size, 0);
         }
@@ -187,59 +324,185 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         // 2단계: 해당 페이지 데이터 조회
         String dataSql = """
             SELECT * FROM study_logs
+            WHERE category = ?
             ORDER BY study_date DESC, id DESC
             LIMIT ? OFFSET ?
             """;
 
         int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, size, offset);
+        List<StudyLog> content = queryProfiler.profile("findByCategoryWithPaging", dataSql,
+                new Object[]{category, size, offset},
+                () -> jdbcTemplate.query(dataSql, studyLogRowMapper, category, size, offset));
 
         // 3단계: Page 객체 생성 및 반환
         return new Page<>(content, page, size, totalElements);
     }
 
     @Override
-    public Page<StudyLog> searchWithPaging(
-            String titleKeyword,
-            String category,
-            LocalDate startDate,
-            LocalDate endDate,
-            int page,
-            int size) {
+    public Page<StudyLog> searchWithPaging(StudyLogSearchCondition condition, int page, int size) {
+
+        if (condition.matchesNothing()) {
+            return new Page<>(List.of(), page, size, 0);
+        }
 
         // 공통 WHERE 절 구성
-        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
         List<Object> params = new ArrayList<>();
+        String whereClause = buildWhereClause(condition, true, params);
 
-        if (titleKeyword != null && !titleKeyword.isBlank()) {
-            whereClause.append(" AND title LIKE ?");
-            params.add("%" + titleKeyword + "%");
+        // 1단계: COUNT 쿼리 (WHERE 절 재사용)
+        String countSql = "SELECT COUNT(*) FROM study_logs " + whereClause;
+        Object[] countParams = params.toArray();
+        Long totalElements = queryProfiler.profile("searchWithPaging", countSql, countParams,
+                () -> jdbcTemplate.queryForObject(countSql, Long.class, countParams));
+
+        if (totalElements == null || totalElements == 0) {
+            return new Page<>(List.of(), page, size, 0);
         }
 
-        if (category != null && !category.isBlank()) {
-            whereClause.append(" AND category = ?");
-            params.add(category);
+        // 2단계: 데이터 쿼리 (WHERE 절 재사용 + 페이징)
+        List<StudyLog> content = findSearchContent("searchWithPaging", whereClause, params, page, size);
+
+        return new Page<>(content, page, size, totalElements);
+    }
+
+    /**
+     * 검색 + 패싯 개수
+     * COUNT 쿼리 대신 카테고리 × 이해도 GROUP BY 집계 한 번으로
+     * 전체 개수와 패싯 개수를 함께 구합니다.
+     */
+    @Override
+    public FacetedPage<StudyLog> searchWithFacets(StudyLogSearchCondition condition, int page, int size) {
+
+        StudyLogFacetCounts facetCounts = new StudyLogFacetCounts();
+
+        // 1단계: 집계 쿼리 (카테고리/이해도 조건은 빼고 나머지 조건으로 그룹별 개수)
+        if (!condition.otherConditionsMatchNothing()) {
+            List<Object> facetParams = new ArrayList<>();
+            String facetSql = "SELECT category, understanding, COUNT(*) AS cnt FROM study_logs "
+                    + buildWhereClause(condition, false, facetParams)
+                    + " GROUP BY category, understanding";
+
+            Object[] facetParamArray = facetParams.toArray();
+            List<Object[]> groups = queryProfiler.profile("searchWithFacets", facetSql, facetParamArray,
+                    () -> jdbcTemplate.query(facetSql, (rs, rowNum) -> new Object[]{
+                            Category.from(rs.getString("category")),
+                            Understanding.from(rs.getString("understanding")),
+                            rs.getLong("cnt")
+                    }, facetParamArray));
+
+            for (Object[] group : groups) {
+                if (group[0] != null && group[1] != null) {
+                    facetCounts.add((Category) group[0], (Understanding) group[1], (Long) group[2]);
+                }
+            }
         }
 
-        if (startDate != null) {
-            whereClause.append(" AND study_date >= ?");
-            params.add(Date.valueOf(startDate));
+        long totalElements = facetCounts.total(condition);
+
+        // 2단계: 데이터 쿼리 (모든 조건 적용 + 페이징)
+        List<StudyLog> content = List.of();
+        if (totalElements > 0) {
+            List<Object> params = new ArrayList<>();
+            String whereClause = buildWhereClause(condition, true, params);
+            content = findSearchContent("searchWithFacets", whereClause, params, page, size);
         }
 
-        if (endDate != null) {
-            whereClause.append(" AND study_date <= ?");
-            params.add(Date.valueOf(endDate));
+        return new FacetedPage<>(content, page, size, totalElements,
+                facetCounts.categoryFacets(condition), facetCounts.understandingFacets(condition));
+    }
+
+    // ========== REPLICATION ==========
+
+    /**
+     * ID 순서 배치 조회 (읽기 복제본 초기 적재용, keyset 방식이라 OFFSET 없이 이어서 읽음)
+     */
+    public List<StudyLog> findAfterId(long afterId, int limit) {
+        String sql = "SELECT * FROM study_logs WHERE id > ? ORDER BY id LIMIT ?";
+        return queryProfiler.profile("findAfterId", sql, new Object[]{afterId, limit},
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, afterId, limit));
+    }
+
+    /**
+     * ID 목록으로 조회 (없는 ID는 결과에서 빠짐)
+     */
+    public List<StudyLog> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        String sql = "SELECT * FROM study_logs WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] params = ids.toArray();
+        return queryProfiler.profile("findByIds", sql, params,
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, params));
+    }
 
-        // 1단계: COUNT 쿼리 (WHERE 절 재사용)
-        String countSql = "SELECT COUNT(*) FROM study_logs " + whereClause;
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class, params.toArray());
+    /**
+     * (updated_at, id) 순서로 기준점 이후에 수정된 행 배치 조회 (읽기 복제본 tailing용)
+     */
+    public List<StudyLog> findUpdatedAfter(LocalDateTime updatedAt, long afterId, int limit) {
+        String sql = """
+                SELECT * FROM study_logs
+                WHERE updated_at > ? OR (updated_at = ? AND id > ?)
+                ORDER BY updated_at, id
+                LIMIT ?
+                """;
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        Object[] params = {timestamp, timestamp, afterId, limit};
+        return queryProfiler.profile("findUpdatedAfter", sql, params,
+                () -> jdbcTemplate.query(sql, studyLogRowMapper, params));
+    }
 
-        if (totalElements == null || totalElements == 0) {
-            return new Page<>(List.of(), page, size, 0);
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 검색 조건으로 WHERE 절 구성
+     *
+     * @param includeCategoryAndUnderstanding false면 카테고리/이해도 조건 제외 (패싯 집계용)
+     * @param params                          바인딩 파라미터를 추가할 목록
+     */
+    private String buildWhereClause(StudyLogSearchCondition condition,
+                                    boolean includeCategoryAndUnderstanding, List<Object> params) {
+        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
+
+        if (condition.hasTitleKeyword()) {
+            // 키워드의 %, _는 와일드카드가 아니라 글자로 검색 (메모리 저장소와 같은 결과)
+            whereClause.append(" AND title LIKE ? ESCAPE '!'");
+            params.add("%" + escapeLike(condition.getTitleKeyword()) + "%");
         }
 
-        // 2단계: 데이터 쿼리 (WHERE 절 재사용 + 페이징)
+        if (includeCategoryAndUnderstanding) {
+            appendInClause(whereClause, params, "category", condition.getCategories());
+            appendInClause(whereClause, params, "understanding", condition.getUnderstandings());
+        }
+
+        Set<StudyTimeBucket> buckets = condition.studyTimeBucketEnums();
+        if (!buckets.isEmpty()) {
+            List<String> ranges = new ArrayList<>();
+            for (StudyTimeBucket bucket : buckets) {
+                ranges.add("(study_time >= ? AND study_time < ?)");
+                params.add(bucket.getMinMinutes());
+                params.add(bucket.getMaxMinutes());
+            }
+            whereClause.append(" AND (").append(String.join(" OR ", ranges)).append(")");
+        }
+
+        if (condition.getStartDate() != null) {
+            whereClause.append(" AND study_date >= ?");
+            params.add(Date.valueOf(condition.getStartDate()));
+        }
+
+        if (condition.getEndDate() != null) {
+            whereClause.append(" AND study_date <= ?");
+            params.add(Date.valueOf(condition.getEndDate()));
+        }
+
+        return whereClause.toString();
+    }
+
+    /**
+     * 검색 데이터 쿼리 (WHERE 절 재사용 + 페이징)
+     */
+    private List<StudyLog> findSearchContent(String operation, String whereClause, List<Object> params,
+                                             int page, int size) {
         String dataSql = "SELECT * FROM study_logs "
                 + whereClause
                 + " ORDER BY study_date DESC, id DESC"
@@ -250,13 +513,52 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         dataParams.add(size);
         dataParams.add(page * size);
 
-        List<StudyLog> content = jdbcTemplate.query(
-                dataSql, studyLogRowMapper, dataParams.toArray());
+        Object[] dataParamArray = dataParams.toArray();
+        return queryProfiler.profile(operation, dataSql, dataParamArray,
+                () -> jdbcTemplate.query(dataSql, studyLogRowMapper, dataParamArray));
+    }
 
-        return new Page<>(content, page, size, totalElements);
+    /**
+     * "AND column IN (?, ?, ...)" 조건 추가 (값이 없으면 생략)
+     */
+    private void appendInClause(StringBuilder whereClause, List<Object> params,
+                                String column, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        whereClause.append(" AND ").append(column).append(" IN (")
+                .append(String.join(", ", Collections.nCopies(values.size(), "?")))
+                .append(")");
+        params.addAll(values);
     }
 
-    // ========== PRIVATE METHODS ==========
+    /**
+     * LIKE 패턴의 특수 문자(%, _, 이스케이프 문자 !)를 글자로 취급하도록 이스케이프
+     * (백슬래시는 MySQL과 H2의 문자열 리터럴 규칙이 달라 !를 이스케이프 문자로 씀)
+     */
+    private static String escapeLike(String keyword) {
+        StringBuilder escaped = new StringBuilder(keyword.length() + 8);
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '!' || c == '%' || c == '_') {
+                escaped.append('!');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 저장할 내용 (압축 대상이면 압축하고, 반환할 엔티티도 압축된 형태로 바꿈)
+     */
+    private StoredText compressContent(StudyLog studyLog) {
+        StoredText content = studyLog.getStoredContent();
+        if (compressedColumn && content != null) {
+            content = contentCompressor.compress(content);
+            studyLog.setStoredContent(content);
+        }
+        return content != null ? content : StoredText.of("");
+    }
 
     /**
      * RowMapper: Converts each row of ResultSet to StudyLog object
@@ -266,11 +568,19 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         StudyLog studyLog = new StudyLog();
         studyLog.setId(rs.getLong("id"));
         studyLog.setTitle(rs.getString("title"));
-        studyLog.setContent(rs.getString("content"));
+        // 압축된 내용은 풀지 않고 담아 두고, getContent()를 호출할 때 풂
+        byte[] compressedContent = compressedColumn ? rs.getBytes("content_compressed") : null;
+        studyLog.setStoredContent(compressedContent != null
+                ? StoredText.decode(compressedContent)
+                : StoredText.of(rs.getString("content")));
         studyLog.setCategory(Category.valueOf(rs.getString("category")));
         studyLog.setUnderstanding(Understanding.valueOf(rs.getString("understanding")));
         studyLog.setStudyTime(rs.getInt("study_time"));
         studyLog.setStudyDate(rs.getDate("study_date").toLocalDate());
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        studyLog.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        studyLog.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null);
         return studyLog;
     };
 }
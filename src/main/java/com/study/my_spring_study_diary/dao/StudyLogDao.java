@@ -1,12 +1,15 @@
 package com.study.my_spring_study_diary.dao;
 
+import com.study.my_spring_study_diary.common.FacetedPage;
 import com.study.my_spring_study_diary.common.Page;
 import com.study.my_spring_study_diary.entity.Category;
 import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface StudyLogDao {
 
@@ -23,6 +26,40 @@ public interface StudyLogDao {
 
     List<StudyLog> findByStudyDate(LocalDate date);
 
+    /**
+     * 전체 일지의 ID, 학습 날짜, 학습 시간 (학습 시간 집계 적재용, 순서 없음)
+     * JDBC 구현은 제목/내용을 읽지 않도록 필요한 컬럼만 조회합니다.
+     */
+    default List<StudyLogStudyTime> findAllStudyTimes() {
+        return findAll().stream().map(StudyLogStudyTime::of).toList();
+    }
+
+    /**
+     * 주어진 이해도인 일지의 ID, 이해도, 마지막 수정 시각 (복습 대기열 적재용, 순서 없음)
+     * JDBC 구현은 제목/내용을 읽지 않도록 필요한 컬럼만 조회합니다.
+     */
+    default List<StudyLogReviewTime> findReviewTimes(Set<Understanding> understandings) {
+        return findAll().stream()
+                .filter(studyLog -> understandings.contains(studyLog.getUnderstanding()))
+                .map(StudyLogReviewTime::of)
+                .toList();
+    }
+
+    /**
+     * 전체 일지의 ID, 제목, 내용 (유사 일지 인덱스 적재용, 순서 없음)
+     * JDBC 구현은 정렬 없이 제목/내용 컬럼만 조회합니다.
+     */
+    default List<StudyLogText> findAllTexts() {
+        return findAll().stream().map(StudyLogText::of).toList();
+    }
+
+    /**
+     * 전체 일지의 ID와 제목 (자동완성 인덱스 적재용, 순서 없음)
+     * JDBC 구현은 내용을 읽지 않도록 필요한 컬럼만 조회합니다.
+     */
+    default List<StudyLogTitle> findAllTitles() {
+        return findAll().stream().map(StudyLogTitle::of).toList();
+    }
 
 
     // ========== UPDATE ==========
@@ -45,6 +82,17 @@ public interface StudyLogDao {
      */
     Page<StudyLog> findAllWithPaging(int page, int size);
 
+    /**
+     * 스냅샷 토큰 기준 전체 페이징 조회
+     * 같은 토큰으로 여러 페이지를 읽으면 그 사이의 쓰기와 무관하게 같은 시점의 목록을 봅니다.
+     * 스냅샷을 지원하지 않는 구현은 토큰을 무시하고 현재 목록을 읽습니다. (Page.snapshot은 null)
+     *
+     * @param snapshot 이전 페이지 응답의 스냅샷 토큰 (없거나 만료되었으면 현재 시점)
+     */
+    default Page<StudyLog> findAllWithPaging(int page, int size, Long snapshot) {
+        return findAllWithPaging(page, size);
+    }
+
     /**
      * 카테고리별 학습 일지를 페이징하여 조회
      */
@@ -56,12 +104,32 @@ public interface StudyLogDao {
      * - 카테고리 필터
      * - 날짜 범위 필터
      */
-    Page<StudyLog> searchWithPaging(
+    default Page<StudyLog> searchWithPaging(
             String titleKeyword,
             String category,
             LocalDate startDate,
             LocalDate endDate,
-            int page, int size);
+            int page, int size) {
+        return searchWithPaging(
+                StudyLogSearchCondition.of(titleKeyword,
+                        category == null ? List.of() : List.of(category),
+                        List.of(), List.of(), startDate, endDate),
+                page, size);
+    }
+
+    /**
+     * 여러 조건을 조합하여 페이징 조회
+     * - 카테고리/이해도/학습 시간 구간은 각각 여러 값 중 하나라도 일치하면 포함 (OR)
+     * - 서로 다른 조건끼리는 모두 만족해야 포함 (AND)
+     * - 정렬: 학습 날짜 내림차순, ID 내림차순
+     */
+    Page<StudyLog> searchWithPaging(StudyLogSearchCondition condition, int page, int size);
+
+    /**
+     * 검색 결과와 패싯 개수(카테고리별/이해도별)를 함께 조회
+     * 결과 목록은 searchWithPaging과 같고, 개수는 같은 조회 과정에서 함께 셉니다.
+     */
+    FacetedPage<StudyLog> searchWithFacets(StudyLogSearchCondition condition, int page, int size);
 
     /**
      * 전체 데이터 개수 조회
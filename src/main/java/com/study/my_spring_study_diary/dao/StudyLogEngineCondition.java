@@ -0,0 +1,43 @@
+package com.study.my_spring_study_diary.dao;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * study-diary.dao.engine에 따라 저장소 구현체 빈을 만들지 결정
+ *
+ * 설정한 엔진의 빈만 만들어서, 인메모리 엔진일 때는 MySQLStudyLogDaoImpl의 컬럼 확인이나
+ * 읽기 복제본 적재처럼 DB에 접속하는 빈이 생기지 않게 합니다.
+ * (엔진 값은 StudyLogDaoConfig와 같은 방식으로 해석 - 대소문자 무시, 기본값 mysql)
+ */
+public abstract class StudyLogEngineCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        String value = context.getEnvironment().getProperty("study-diary.dao.engine", "mysql");
+        return matches(StudyLogStorageEngine.from(value));
+    }
+
+    protected abstract boolean matches(StudyLogStorageEngine engine);
+
+    /**
+     * JDBC 엔진(mysql, h2)일 때만
+     */
+    public static class Jdbc extends StudyLogEngineCondition {
+        @Override
+        protected boolean matches(StudyLogStorageEngine engine) {
+            return engine.isJdbc();
+        }
+    }
+
+    /**
+     * 인메모리 엔진일 때만
+     */
+    public static class InMemory extends StudyLogEngineCondition {
+        @Override
+        protected boolean matches(StudyLogStorageEngine engine) {
+            return !engine.isJdbc();
+        }
+    }
+}
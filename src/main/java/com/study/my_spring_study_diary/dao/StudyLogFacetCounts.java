@@ -0,0 +1,97 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 × 이해도 조합별 개수
+ *
+ * 카테고리/이해도 조건을 뺀 나머지 조건(제목, 학습 시간, 날짜)으로 센 값입니다.
+ * 여기서 다음 두 가지를 모두 계산할 수 있습니다.
+ * - 검색 결과 전체 개수 (선택한 카테고리·이해도 칸의 합)
+ * - 패싯 개수 (카테고리 패싯은 이해도 조건만, 이해도 패싯은 카테고리 조건만 적용)
+ *
+ * 패싯에서 자기 자신의 조건을 빼는 이유: 카테고리를 하나 골라도
+ * 다른 카테고리를 골랐을 때의 개수를 함께 보여주기 위해서입니다.
+ */
+public class StudyLogFacetCounts {
+
+    private final long[][] cells = new long[Category.values().length][Understanding.values().length];
+
+    public void add(Category category, Understanding understanding, long count) {
+        cells[category.ordinal()][understanding.ordinal()] += count;
+    }
+
+    /**
+     * 검색 조건을 모두 적용한 전체 개수
+     */
+    public long total(StudyLogSearchCondition condition) {
+        Set<Category> categories = selectedCategories(condition);
+        Set<Understanding> understandings = selectedUnderstandings(condition);
+        long total = 0;
+        for (Category category : categories) {
+            for (Understanding understanding : understandings) {
+                total += cells[category.ordinal()][understanding.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 카테고리별 개수 (이해도 조건만 적용, 모든 카테고리를 Enum 순서로 포함)
+     */
+    public Map<String, Long> categoryFacets(StudyLogSearchCondition condition) {
+        Set<Understanding> understandings = selectedUnderstandings(condition);
+        Map<String, Long> facets = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            long count = 0;
+            for (Understanding understanding : understandings) {
+                count += cells[category.ordinal()][understanding.ordinal()];
+            }
+            facets.put(category.name(), count);
+        }
+        return facets;
+    }
+
+    /**
+     * 이해도별 개수 (카테고리 조건만 적용, 모든 이해도를 Enum 순서로 포함)
+     */
+    public Map<String, Long> understandingFacets(StudyLogSearchCondition condition) {
+        Set<Category> categories = selectedCategories(condition);
+        Map<String, Long> facets = new LinkedHashMap<>();
+        for (Understanding understanding : Understanding.values()) {
+            long count = 0;
+            for (Category category : categories) {
+                count += cells[category.ordinal()][understanding.ordinal()];
+            }
+            facets.put(understanding.name(), count);
+        }
+        return facets;
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 조건이 없으면 전체, 지정했지만 유효한 값이 없으면 빈 Set
+     */
+    private static Set<Category> selectedCategories(StudyLogSearchCondition condition) {
+        if (condition.getCategories().isEmpty()) {
+            return Set.of(Category.values());
+        }
+        Set<Category> categories = condition.categoryEnums();
+        return categories.isEmpty() ? Collections.emptySet() : categories;
+    }
+
+    private static Set<Understanding> selectedUnderstandings(StudyLogSearchCondition condition) {
+        if (condition.getUnderstandings().isEmpty()) {
+            return Set.of(Understanding.values());
+        }
+        Set<Understanding> understandings = condition.understandingEnums();
+        return understandings.isEmpty() ? Collections.emptySet() : understandings;
+    }
+}
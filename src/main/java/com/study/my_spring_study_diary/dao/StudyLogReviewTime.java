@@ -0,0 +1,41 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 학습 일지의 이해도와 마지막 수정 시각 (복습 대기열 적재용, 제목/내용 없음)
+ */
+public class StudyLogReviewTime {
+
+    private final long id;
+    private final Understanding understanding;
+    private final LocalDateTime modifiedAt;
+
+    public StudyLogReviewTime(long id, Understanding understanding, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.understanding = understanding;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public static StudyLogReviewTime of(StudyLog studyLog) {
+        return new StudyLogReviewTime(studyLog.getId(), studyLog.getUnderstanding(),
+                modifiedAt(studyLog.getUpdatedAt(), studyLog.getCreatedAt(), studyLog.getStudyDate()));
+    }
+
+    /**
+     * 마지막 수정 시각 (없으면 생성 시각, 그것도 없으면 학습 날짜 자정)
+     */
+    public static LocalDateTime modifiedAt(LocalDateTime updatedAt, LocalDateTime createdAt, LocalDate studyDate) {
+        return updatedAt != null ? updatedAt
+                : createdAt != null ? createdAt
+                : studyDate.atStartOfDay();
+    }
+
+    public long getId() { return id; }
+    public Understanding getUnderstanding() { return understanding; }
+    public LocalDateTime getModifiedAt() { return modifiedAt; }
+}
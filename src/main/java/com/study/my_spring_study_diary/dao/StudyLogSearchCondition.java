@@ -0,0 +1,157 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 학습 일지 검색 조건
+ *
+ * - 제목 키워드 (부분 일치, 대소문자 무시 - MySQL utf8mb4_unicode_ci의 LIKE와 같게)
+ * - 카테고리 목록 (OR)
+ * - 이해도 목록 (OR)
+ * - 학습 시간 구간 목록 (OR)
+ * - 학습 날짜 범위
+ *
+ * 카테고리/이해도/학습 시간 구간은 대문자 문자열로 정규화해서 보관합니다.
+ * 존재하지 않는 값은 어떤 데이터와도 일치하지 않습니다.
+ * (예: category=FOO 로 검색하면 결과 없음)
+ */
+public class StudyLogSearchCondition {
+
+    private final String titleKeyword;
+    private final Set<String> categories;
+    private final Set<String> understandings;
+    private final Set<String> studyTimeBuckets;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private StudyLogSearchCondition(String titleKeyword, Collection<String> categories,
+                                    Collection<String> understandings,
+                                    Collection<String> studyTimeBuckets,
+                                    LocalDate startDate, LocalDate endDate) {
+        this.titleKeyword = (titleKeyword == null || titleKeyword.isBlank()) ? null : titleKeyword.trim();
+        this.categories = normalize(categories);
+        this.understandings = normalize(understandings);
+        this.studyTimeBuckets = normalize(studyTimeBuckets);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static StudyLogSearchCondition of(String titleKeyword, Collection<String> categories,
+                                             Collection<String> understandings,
+                                             Collection<String> studyTimeBuckets,
+                                             LocalDate startDate, LocalDate endDate) {
+        return new StudyLogSearchCondition(titleKeyword, categories, understandings, studyTimeBuckets,
+                startDate, endDate);
+    }
+
+    /**
+     * 대문자로 바꾸고 정렬된 불변 Set으로 변환 (null/빈 문자열 제외)
+     */
+    private static Set<String> normalize(Collection<String> values) {
+        if (values == null) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                normalized.add(value.trim().toUpperCase());
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    /**
+     * 유효한 카테고리만 Enum으로 변환
+     */
+    public Set<Category> categoryEnums() {
+        Set<Category> result = EnumSet.noneOf(Category.class);
+        for (String category : categories) {
+            Category value = Category.from(category);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 유효한 이해도만 Enum으로 변환
+     */
+    public Set<Understanding> understandingEnums() {
+        Set<Understanding> result = EnumSet.noneOf(Understanding.class);
+        for (String understanding : understandings) {
+            Understanding value = Understanding.from(understanding);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 유효한 학습 시간 구간만 Enum으로 변환
+     */
+    public Set<StudyTimeBucket> studyTimeBucketEnums() {
+        Set<StudyTimeBucket> result = EnumSet.noneOf(StudyTimeBucket.class);
+        for (String bucket : studyTimeBuckets) {
+            StudyTimeBucket value = StudyTimeBucket.from(bucket);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값을 지정했지만 유효한 값이 하나도 없는 조건이 있는지
+     * (있다면 어떤 데이터와도 일치하지 않음)
+     */
+    public boolean matchesNothing() {
+        return (!categories.isEmpty() && categoryEnums().isEmpty())
+                || (!understandings.isEmpty() && understandingEnums().isEmpty())
+                || otherConditionsMatchNothing();
+    }
+
+    /**
+     * 카테고리/이해도를 뺀 나머지 조건만으로도 일치하는 데이터가 없는지 (패싯 계산용)
+     */
+    public boolean otherConditionsMatchNothing() {
+        return (!studyTimeBuckets.isEmpty() && studyTimeBucketEnums().isEmpty())
+                || (startDate != null && endDate != null && startDate.isAfter(endDate));
+    }
+
+    public boolean hasTitleKeyword() {
+        return titleKeyword != null;
+    }
+
+    /**
+     * 제목이 키워드를 포함하는지 (대소문자 무시, 키워드의 %와 _도 글자 그대로 비교)
+     * 메모리 저장소용이며, JDBC 저장소는 같은 조건을 LIKE ... ESCAPE로 만듭니다.
+     */
+    public boolean titleMatches(String title) {
+        int length = titleKeyword.length();
+        int last = title.length() - length;
+        for (int offset = 0; offset <= last; offset++) {
+            if (title.regionMatches(true, offset, titleKeyword, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getTitleKeyword() { return titleKeyword; }
+    public Set<String> getCategories() { return categories; }
+    public Set<String> getUnderstandings() { return understandings; }
+    public Set<String> getStudyTimeBuckets() { return studyTimeBuckets; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+}
@@ -0,0 +1,65 @@
+package com.study.my_spring_study_diary.dao;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 일지 저장소 엔진 (study-diary.dao.engine)
+ *
+ * StudyLogDaoConfig가 이 값에 따라 서비스 계층의 StudyLogDao 구현체를 고릅니다.
+ * 엔진을 추가하면 여기에 상수를 더하고 StudyLogDaoConfig에서 구현체를 연결하며,
+ * 테스트의 StudyLogDaoEngines(계약/성능 테스트 키트)에도 픽스처를 추가해야 합니다.
+ */
+public enum StudyLogStorageEngine {
+    MYSQL("mysql", true, "MySQL (JDBC)"),
+    H2("h2", true, "H2 MySQL 호환 모드 (JDBC, h2 프로파일)"),
+    IN_MEMORY("in-memory", false, "인메모리 (비트맵 인덱스 + MVCC 페이징, 스냅샷/WAL 복제로 유지)");
+
+    private final String key;
+    private final boolean jdbc;        // true면 MySQLStudyLogDaoImpl + spring.datasource
+    private final String description;
+
+    StudyLogStorageEngine(String key, boolean jdbc, String description) {
+        this.key = key;
+        this.jdbc = jdbc;
+        this.description = description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isJdbc() {
+        return jdbc;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * spring.datasource.url이 이 엔진과 맞는지 (인메모리 엔진이나 URL이 없으면 확인하지 않음)
+     *
+     * h2는 jdbc:h2: URL이어야 하고, mysql은 H2가 아닌 URL이어야 합니다.
+     */
+    public boolean matchesDataSource(String url) {
+        if (!jdbc || url == null || url.isBlank()) {
+            return true;
+        }
+        boolean h2Url = url.trim().regionMatches(true, 0, "jdbc:h2:", 0, "jdbc:h2:".length());
+        return this == H2 ? h2Url : !h2Url;
+    }
+
+    /**
+     * 설정 값으로 엔진 찾기 (대소문자 무시, 없는 값이면 예외)
+     */
+    public static StudyLogStorageEngine from(String value) {
+        for (StudyLogStorageEngine engine : values()) {
+            if (engine.key.equalsIgnoreCase(value.trim())) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 저장소 엔진입니다: " + value + " (사용 가능: "
+                + Arrays.stream(values()).map(StudyLogStorageEngine::getKey).collect(Collectors.joining(", ")) + ")");
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 일지의 학습 날짜와 학습 시간 (학습 시간 집계 적재용, 제목/내용 없음)
+ */
+public class StudyLogStudyTime {
+
+    private final long id;
+    private final LocalDate studyDate;
+    private final int studyTime;
+
+    public StudyLogStudyTime(long id, LocalDate studyDate, int studyTime) {
+        this.id = id;
+        this.studyDate = studyDate;
+        this.studyTime = studyTime;
+    }
+
+    public static StudyLogStudyTime of(StudyLog studyLog) {
+        return new StudyLogStudyTime(studyLog.getId(), studyLog.getStudyDate(), studyLog.getStudyTime());
+    }
+
+    public long getId() { return id; }
+    public LocalDate getStudyDate() { return studyDate; }
+    public int getStudyTime() { return studyTime; }
+}
@@ -0,0 +1,27 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+/**
+ * 학습 일지의 제목과 내용 (유사 일지 인덱스 적재용, 나머지 컬럼 없음)
+ */
+public class StudyLogText {
+
+    private final long id;
+    private final String title;
+    private final String content;
+
+    public StudyLogText(long id, String title, String content) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static StudyLogText of(StudyLog studyLog) {
+        return new StudyLogText(studyLog.getId(), studyLog.getTitle(), studyLog.getContent());
+    }
+
+    public long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getContent() { return content; }
+}
@@ -0,0 +1,24 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+/**
+ * 학습 일지의 제목 (자동완성 인덱스 적재용, 내용 없음)
+ */
+public class StudyLogTitle {
+
+    private final long id;
+    private final String title;
+
+    public StudyLogTitle(long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public static StudyLogTitle of(StudyLog studyLog) {
+        return new StudyLogTitle(studyLog.getId(), studyLog.getTitle());
+    }
+
+    public long getId() { return id; }
+    public String getTitle() { return title; }
+}
@@ -0,0 +1,354 @@
+package com.study.my_spring_study_diary.dao.arena;
+
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import com.study.my_spring_study_diary.entity.StoredText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 힙 밖(direct ByteBuffer)에 텍스트를 저장하는 아레나
+ *
+ * InMemoryStudyLogDao의 제목/내용을 String 대신 여기에 UTF-8(StoredText 인코딩)로 넣으면
+ * 힙에는 슬롯 번호만 남으므로 데이터가 늘어도 힙 크기와 GC 시간이 거의 늘지 않습니다.
+ *
+ * 구조
+ * - 세그먼트: segment-size 크기의 direct 버퍼, 현재 세그먼트 끝에 이어 붙이기만 함 (bump 할당)
+ * - 슬롯: 텍스트 하나의 위치 (세그먼트 번호 << 32 | 오프셋)와 길이를 long[]/int[]에 보관
+ *   → 텍스트마다 힙 객체를 만들지 않으므로 GC가 훑을 참조가 없음
+ *
+ * 해제와 압축(compaction)
+ * - release()/releaseAll()은 바로 지우지 않고 free-grace-ms 동안 기다림
+ *   (수정 전 복사본, 응답을 만드는 중인 요청, 페이징 스냅샷처럼 이전 슬롯을 아직 읽을 수 있는 곳이 있기 때문)
+ * - 백그라운드 compact()가 유예가 끝난 슬롯을 회수하고,
+ *   살아 있는 비율이 compact-threshold 아래로 떨어진 세그먼트의 텍스트를 현재 세그먼트로 옮긴 뒤
+ *   빈 세그먼트를 재사용 목록에 돌려놓음
+ *
+ * 읽기는 읽기 잠금, 할당/해제/이동은 쓰기 잠금으로 보호합니다.
+ * 이동은 세그먼트 하나씩 잠금을 잡으므로 읽기가 오래 막히지 않습니다.
+ */
+@Slf4j
+@Component
+@Conditional(StudyLogEngineCondition.InMemory.class)
+public class OffHeapTextArena implements StoredText.Store {
+
+    private static final long FREE = -1L;
+
+    private final boolean enabled;
+    private final int segmentSize;
+    private final double compactThreshold;
+    private final long freeGraceMillis;
+    private final long freeGraceNanos;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 세그먼트 (비워져 재사용 대기 중이면 해당 칸은 그대로 두고 emptySegments에 번호를 넣음)
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final ArrayDeque<Integer> emptySegments = new ArrayDeque<>();
+    private int[] segmentUsed = new int[16];
+    private int[] segmentLive = new int[16];
+    private int current = -1;
+
+    // 슬롯 테이블 (위치, 길이) + 재사용할 슬롯 번호
+    private long[] locations = new long[1024];
+    private int[] lengths = new int[1024];
+    private int slotCount = 0;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    // 유예 중인 해제 (슬롯 번호, 해제 요청 시각)
+    private final ArrayDeque<long[]> pendingReleases = new ArrayDeque<>();
+
+    public OffHeapTextArena(
+            @Value("${study-diary.dao.in-memory.off-heap.enabled:false}") boolean enabled,
+            @Value("${study-diary.dao.in-memory.off-heap.segment-size-mb:8}") int segmentSizeMb,
+            @Value("${study-diary.dao.in-memory.off-heap.compact-threshold:0.5}") double compactThreshold,
+            @Value("${study-diary.dao.in-memory.off-heap.free-grace-ms:300000}") long freeGraceMillis) {
+        this.enabled = enabled;
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.compactThreshold = compactThreshold;
+        this.freeGraceMillis = freeGraceMillis;
+        this.freeGraceNanos = freeGraceMillis * 1_000_000L;
+    }
+
+    /**
+     * 사용하지 않는 아레나 (테스트, 도구용)
+     */
+    public static OffHeapTextArena disabled() {
+        return new OffHeapTextArena(false, 1, 0.5, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 해제된 슬롯을 회수하기까지 기다리는 시간
+     */
+    public long getFreeGraceMillis() {
+        return freeGraceMillis;
+    }
+
+    // ========== 할당 / 읽기 / 해제 ==========
+
+    /**
+     * 텍스트를 아레나에 넣고 슬롯을 가리키는 StoredText를 반환 (이미 이 아레나에 있으면 그대로)
+     */
+    public StoredText store(StoredText text) {
+        if (text.isStoredIn(this)) {
+            return text;
+        }
+        byte[] encoded = text.encoded();
+        return StoredText.external(this, allocate(encoded), text.isCompressed());
+    }
+
+    /**
+     * StoredText.Store: 슬롯의 인코딩 바이트 복사본
+     */
+    @Override
+    public byte[] read(int slot) {
+        lock.readLock().lock();
+        try {
+            long location = locations[slot];
+            if (location == FREE) {
+                throw new IllegalStateException("이미 회수된 텍스트 슬롯입니다: " + slot);
+            }
+            byte[] bytes = new byte[lengths[slot]];
+            segments.get((int) (location >>> 32)).get((int) location, bytes);
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 슬롯 해제 요청 (free-grace-ms가 지난 뒤 compact()에서 실제로 회수)
+     */
+    public void release(int slot) {
+        lock.writeLock().lock();
+        try {
+            pendingReleases.add(new long[]{slot, System.nanoTime()});
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 해제 요청 (저장소 전체를 비우거나 스냅샷으로 교체할 때)
+     *
+     * 슬롯 번호를 처음부터 다시 쓰면 그 전에 꺼낸 StudyLog가 다른 일지의 텍스트를 읽게 되므로,
+     * 살아 있는 슬롯을 모두 release()와 같은 유예 목록에 넣습니다.
+     * 새 할당은 유예가 끝나 회수된 슬롯이나 새 슬롯 번호만 받습니다.
+     */
+    public void releaseAll() {
+        lock.writeLock().lock();
+        try {
+            // 이미 유예 중인 슬롯은 다시 넣지 않음 (두 번 회수하면 재할당된 슬롯을 지우게 됨)
+            BitSet pending = new BitSet(slotCount);
+            for (long[] release : pendingReleases) {
+                pending.set((int) release[0]);
+            }
+            long now = System.nanoTime();
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (locations[slot] != FREE && !pending.get(slot)) {
+                    pendingReleases.add(new long[]{slot, now});
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int allocate(byte[] bytes) {
+        lock.writeLock().lock();
+        try {
+            int slot = nextSlot();
+            placeLocked(slot, bytes);
+            return slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int nextSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.poll();
+        }
+        if (slotCount == locations.length) {
+            locations = Arrays.copyOf(locations, slotCount * 2);
+            lengths = Arrays.copyOf(lengths, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * 현재 세그먼트 끝에 바이트를 쓰고 슬롯 위치를 갱신
+     */
+    private void placeLocked(int slot, byte[] bytes) {
+        if (current < 0 || segmentUsed[current] + bytes.length > segments.get(current).capacity()) {
+            current = openSegment(bytes.length);
+        }
+        int offset = segmentUsed[current];
+        segments.get(current).put(offset, bytes);
+        segmentUsed[current] += bytes.length;
+        segmentLive[current] += bytes.length;
+        locations[slot] = ((long) current << 32) | offset;
+        lengths[slot] = bytes.length;
+    }
+
+    /**
+     * 쓸 세그먼트 선택 (비워진 세그먼트 재사용, 없으면 새로 할당, 한 세그먼트보다 큰 텍스트는 전용 세그먼트)
+     */
+    private int openSegment(int minimumSize) {
+        if (minimumSize <= segmentSize && !emptySegments.isEmpty()) {
+            return emptySegments.poll();
+        }
+        segments.add(ByteBuffer.allocateDirect(Math.max(segmentSize, minimumSize)));
+        int segment = segments.size() - 1;
+        if (segment == segmentUsed.length) {
+            segmentUsed = Arrays.copyOf(segmentUsed, segment * 2);
+            segmentLive = Arrays.copyOf(segmentLive, segment * 2);
+        }
+        return segment;
+    }
+
+    // ========== 압축 (compaction) ==========
+
+    /**
+     * 유예가 끝난 슬롯 회수 + 살아 있는 비율이 낮은 세그먼트 비우기
+     */
+    @Scheduled(fixedDelayString = "${study-diary.dao.in-memory.off-heap.compact-interval-ms:10000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        reclaimReleased();
+
+        List<Integer> sparse = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int segment = 0; segment < segments.size(); segment++) {
+                if (segment != current && segmentUsed[segment] > 0
+                        && segmentLive[segment] < segmentUsed[segment] * compactThreshold) {
+                    sparse.add(segment);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        for (int segment : sparse) {
+            evacuate(segment);
+        }
+        if (!sparse.isEmpty()) {
+            log.debug("오프힙 아레나 세그먼트 {}개 정리 (사용 {} bytes / 살아 있음 {} bytes)",
+                    sparse.size(), getUsedBytes(), getLiveBytes());
+        }
+    }
+
+    private void reclaimReleased() {
+        long now = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            while (!pendingReleases.isEmpty() && now - pendingReleases.peek()[1] >= freeGraceNanos) {
+                int slot = (int) pendingReleases.poll()[0];
+                long location = locations[slot];
+                if (location == FREE) {
+                    continue;
+                }
+                segmentLive[(int) (location >>> 32)] -= lengths[slot];
+                locations[slot] = FREE;
+                freeSlots.add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 세그먼트의 살아 있는 텍스트를 현재 세그먼트로 옮기고 세그먼트를 재사용 목록에 넣음
+     */
+    private void evacuate(int segment) {
+        lock.writeLock().lock();
+        try {
+            if (segment == current) {
+                return;
+            }
+            ByteBuffer source = segments.get(segment);
+            for (int slot = 0; slot < slotCount; slot++) {
+                long location = locations[slot];
+                if (location != FREE && (int) (location >>> 32) == segment) {
+                    byte[] bytes = new byte[lengths[slot]];
+                    source.get((int) location, bytes);
+                    placeLocked(slot, bytes);
+                }
+            }
+            segmentUsed[segment] = 0;
+            segmentLive[segment] = 0;
+            if (source.capacity() > segmentSize) {
+                // 큰 텍스트 전용 세그먼트는 재사용하지 않고 버퍼를 놓아 줌 (칸은 빈 버퍼로 유지)
+                segments.set(segment, ByteBuffer.allocateDirect(0));
+            } else {
+                emptySegments.add(segment);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 상태 ==========
+
+    /**
+     * 세그먼트에 쓰인 바이트 (회수 전 공간 포함)
+     */
+    public long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            long used = 0;
+            for (int segment = 0; segment < segments.size(); segment++) {
+                used += segmentUsed[segment];
+            }
+            return used;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            long live = 0;
+            for (int segment = 0; segment < segments.size(); segment++) {
+                live += segmentLive[segment];
+            }
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 할당된 direct 메모리 (세그먼트 용량 합계)
+     */
+    public long getReservedBytes() {
+        lock.readLock().lock();
+        try {
+            long reserved = 0;
+            for (ByteBuffer segment : segments) {
+                reserved += segment.capacity();
+            }
+            return reserved;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.study.my_spring_study_diary.dao.index;
+
+import com.study.my_spring_study_diary.dao.StudyLogFacetCounts;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * 인메모리 학습 일지용 압축 비트맵(Roaring) 인덱스
+ *
+ * 값마다 "그 값을 가진 ID 집합"을 비트맵으로 보관합니다.
+ * - 카테고리별 비트맵
+ * - 이해도별 비트맵
+ * - 학습 시간 구간별 비트맵
+ * - 학습 날짜(일 단위)별 비트맵
+ *
+ * 여러 조건 검색은 행을 하나씩 검사하는 대신 비트맵 AND/OR 연산으로 처리하고,
+ * 페이지는 날짜 내림차순으로 날짜 비트맵을 건너뛰며(카디널리티 합산) 위치를 찾은 뒤
+ * 해당 날짜 비트맵 안에서 rank-select로 꺼냅니다.
+ * 결과 순서는 MySQL 구현과 같은 "학습 날짜 내림차순, ID 내림차순"입니다.
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class StudyLogBitmapIndex {
+
+    private final RoaringBitmap[] byCategory = newBitmaps(Category.values().length);
+    private final RoaringBitmap[] byUnderstanding = newBitmaps(Understanding.values().length);
+    private final RoaringBitmap[] byStudyTime = newBitmaps(StudyTimeBucket.values().length);
+    private final NavigableMap<Long, RoaringBitmap> byDay = new TreeMap<>();
+
+    // 삭제/수정 시 어느 비트맵에서 빼야 하는지 알기 위해 색인된 값을 기억
+    private final Map<Integer, IndexedValues> indexedValues = new HashMap<>();
+
+    // ========== 변경 ==========
+
+    /**
+     * 색인 추가 (이미 있으면 이전 값을 지우고 다시 색인)
+     */
+    public void add(StudyLog studyLog) {
+        int id = toIndexId(studyLog.getId());
+        remove(studyLog.getId());
+
+        IndexedValues values = new IndexedValues(
+                studyLog.getCategory().ordinal(),
+                studyLog.getUnderstanding().ordinal(),
+                StudyTimeBucket.of(studyLog.getStudyTime()).ordinal(),
+                studyLog.getStudyDate().toEpochDay());
+
+        byCategory[values.category].add(id);
+        byUnderstanding[values.understanding].add(id);
+        byStudyTime[values.studyTime].add(id);
+        byDay.computeIfAbsent(values.epochDay, day -> new RoaringBitmap()).add(id);
+        indexedValues.put(id, values);
+    }
+
+    public void remove(Long studyLogId) {
+        int id = toIndexId(studyLogId);
+        IndexedValues values = indexedValues.remove(id);
+        if (values == null) {
+            return;
+        }
+
+        byCategory[values.category].remove(id);
+        byUnderstanding[values.understanding].remove(id);
+        byStudyTime[values.studyTime].remove(id);
+        RoaringBitmap day = byDay.get(values.epochDay);
+        day.remove(id);
+        if (day.isEmpty()) {
+            byDay.remove(values.epochDay);
+        }
+    }
+
+    /**
+     * 색인된 학습 날짜 (epoch day), 색인되어 있지 않으면 null
+     * 같은 객체를 수정한 뒤 다시 색인하기 전에 이전 날짜를 알아낼 때 사용합니다.
+     */
+    public Long indexedEpochDay(Long studyLogId) {
+        IndexedValues values = indexedValues.get(toIndexId(studyLogId));
+        return values != null ? values.epochDay : null;
+    }
+
+    public void clear() {
+        for (RoaringBitmap bitmap : byCategory) {
+            bitmap.clear();
+        }
+        for (RoaringBitmap bitmap : byUnderstanding) {
+            bitmap.clear();
+        }
+        for (RoaringBitmap bitmap : byStudyTime) {
+            bitmap.clear();
+        }
+        byDay.clear();
+        indexedValues.clear();
+    }
+
+    /**
+     * 비트맵 컨테이너를 run-length 인코딩으로 재압축 (대량 적재 후 호출)
+     */
+    public void optimize() {
+        for (RoaringBitmap bitmap : byCategory) {
+            bitmap.runOptimize();
+        }
+        for (RoaringBitmap bitmap : byUnderstanding) {
+            bitmap.runOptimize();
+        }
+        for (RoaringBitmap bitmap : byStudyTime) {
+            bitmap.runOptimize();
+        }
+        byDay.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 조건에 맞는 선택 결과 생성
+     *
+     * @param categories     카테고리 (비어 있으면 조건 없음)
+     * @param understandings 이해도 (비어 있으면 조건 없음)
+     * @param studyTimes     학습 시간 구간 (비어 있으면 조건 없음)
+     * @param startDate      시작 날짜 (null이면 제한 없음)
+     * @param endDate        종료 날짜 (null이면 제한 없음)
+     */
+    public Selection select(Set<Category> categories, Set<Understanding> understandings,
+                            Set<StudyTimeBucket> studyTimes, LocalDate startDate, LocalDate endDate) {
+        // 같은 종류의 값끼리는 OR, 종류끼리는 AND
+        RoaringBitmap filter = null;
+        filter = intersect(filter, byCategory, categories);
+        filter = intersect(filter, byUnderstanding, understandings);
+        filter = intersect(filter, byStudyTime, studyTimes);
+
+        NavigableMap<Long, RoaringBitmap> days = byDay;
+        if (startDate != null && endDate != null) {
+            days = startDate.isAfter(endDate)
+                    ? new TreeMap<>()
+                    : byDay.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true);
+        } else if (startDate != null) {
+            days = byDay.tailMap(startDate.toEpochDay(), true);
+        } else if (endDate != null) {
+            days = byDay.headMap(endDate.toEpochDay(), true);
+        }
+
+        return new Selection(filter, days.descendingMap(), startDate == null && endDate == null);
+    }
+
+    /**
+     * 선택 결과 안의 카테고리 × 이해도 조합별 개수를 facetCounts에 더함
+     * (패싯용이므로 selection은 카테고리/이해도 조건 없이 만든 것이어야 함)
+     */
+    public void countFacets(Selection selection, StudyLogFacetCounts facetCounts) {
+        RoaringBitmap base = selection.toBitmap();
+        for (Category category : Category.values()) {
+            RoaringBitmap inCategory = base == null
+                    ? byCategory[category.ordinal()]
+                    : RoaringBitmap.and(base, byCategory[category.ordinal()]);
+            if (inCategory.isEmpty()) {
+                continue;
+            }
+            for (Understanding understanding : Understanding.values()) {
+                facetCounts.add(category, understanding,
+                        RoaringBitmap.andCardinality(inCategory, byUnderstanding[understanding.ordinal()]));
+            }
+        }
+    }
+
+    /**
+     * 비트맵 AND/OR 결과
+     * (날짜 내림차순 → ID 내림차순으로 순회)
+     */
+    public class Selection {
+
+        private final RoaringBitmap filter;                 // null이면 카테고리/이해도 조건 없음
+        private final NavigableMap<Long, RoaringBitmap> days;  // 날짜 내림차순
+        private final boolean allDays;
+
+        private Selection(RoaringBitmap filter, NavigableMap<Long, RoaringBitmap> days, boolean allDays) {
+            this.filter = filter;
+            this.days = days;
+            this.allDays = allDays;
+        }
+
+        /**
+         * 일치하는 ID 개수
+         */
+        public long count() {
+            if (allDays) {
+                return filter != null ? filter.getLongCardinality() : indexedValues.size();
+            }
+            long count = 0;
+            for (RoaringBitmap day : days.values()) {
+                count += cardinality(day);
+            }
+            return count;
+        }
+
+        /**
+         * offset 번째부터 limit 개의 ID
+         */
+        public List<Long> page(long offset, int limit) {
+            List<Long> ids = new ArrayList<>();
+            long skip = offset;
+
+            for (RoaringBitmap day : days.values()) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                long dayCount = cardinality(day);
+                if (skip >= dayCount) {
+                    skip -= dayCount;
+                    continue;
+                }
+
+                // 같은 날짜 안에서는 ID 내림차순 → 뒤에서부터 rank-select
+                RoaringBitmap matches = filter == null ? day : RoaringBitmap.and(day, filter);
+                int cardinality = matches.getCardinality();
+                for (long rank = skip; rank < cardinality && ids.size() < limit; rank++) {
+                    ids.add((long) matches.select((int) (cardinality - 1 - rank)));
+                }
+                skip = 0;
+            }
+            return ids;
+        }
+
+        /**
+         * 순서대로 ID를 전달 (consumer가 false를 반환하면 중단)
+         * 제목 키워드처럼 비트맵으로 표현할 수 없는 조건을 추가로 거를 때 사용합니다.
+         */
+        public void forEach(IntPredicate consumer) {
+            for (RoaringBitmap day : days.values()) {
+                RoaringBitmap matches = filter == null ? day : RoaringBitmap.and(day, filter);
+                IntIterator iterator = matches.getReverseIntIterator();
+                while (iterator.hasNext()) {
+                    if (!consumer.test(iterator.next())) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 선택 결과 전체를 하나의 비트맵으로 (null이면 전체 ID)
+         */
+        private RoaringBitmap toBitmap() {
+            if (allDays) {
+                return filter;
+            }
+            RoaringBitmap result = new RoaringBitmap();
+            for (RoaringBitmap day : days.values()) {
+                result.or(day);
+            }
+            if (filter != null) {
+                result.and(filter);
+            }
+            return result;
+        }
+
+        private long cardinality(RoaringBitmap day) {
+            return filter == null ? day.getLongCardinality() : RoaringBitmap.andCardinality(day, filter);
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 선택한 값들의 비트맵을 OR 한 뒤 기존 필터와 AND (값이 없으면 기존 필터 그대로)
+     */
+    private static RoaringBitmap intersect(RoaringBitmap filter, RoaringBitmap[] bitmaps,
+                                           Set<? extends Enum<?>> values) {
+        if (values.isEmpty()) {
+            return filter;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (Enum<?> value : values) {
+            union.or(bitmaps[value.ordinal()]);
+        }
+        return filter == null ? union : RoaringBitmap.and(filter, union);
+    }
+
+    private static RoaringBitmap[] newBitmaps(int length) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[length];
+        for (int i = 0; i < length; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Roaring 비트맵은 32비트 정수를 다루므로 ID 범위를 확인
+     */
+    private static int toIndexId(Long id) {
+        if (id == null || id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalStateException("비트맵 인덱스에 넣을 수 없는 ID입니다: " + id);
+        }
+        return id.intValue();
+    }
+
+    private static class IndexedValues {
+        private final int category;
+        private final int understanding;
+        private final int studyTime;
+        private final long epochDay;
+
+        private IndexedValues(int category, int understanding, int studyTime, long epochDay) {
+            this.category = category;
+            this.understanding = understanding;
+            this.studyTime = studyTime;
+            this.epochDay = epochDay;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.study.my_spring_study_diary.dao.mvcc;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 학습 일지 영속(persistent) 트립 - "학습 날짜 내림차순, ID 내림차순"으로 정렬
+ *
+ * 노드는 만든 뒤 바꾸지 않습니다. 추가/삭제는 루트에서 해당 노드까지의 경로만 새로 만들고
+ * 나머지 서브트리는 이전 버전과 공유(structural sharing)하므로 O(log n)이고,
+ * 이전 루트를 들고 있는 읽기는 그 시점의 트리를 잠금 없이 그대로 볼 수 있습니다.
+ *
+ * 노드마다 서브트리 크기를 두어 페이지 시작 위치를 O(log n)에 찾습니다. (rank-select)
+ * 우선순위는 ID의 해시로 정하므로 노드에 따로 저장하지 않고, 같은 ID는 항상 같은 모양이 됩니다.
+ */
+public final class PersistentStudyLogTree {
+
+    public static final PersistentStudyLogTree EMPTY = new PersistentStudyLogTree(null);
+
+    private final Node root;
+
+    private PersistentStudyLogTree(Node root) {
+        this.root = root;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    // ========== 변경 (새 트리 반환) ==========
+
+    /**
+     * 일지 추가 (value는 이후 바꾸지 않는 복사본이어야 함)
+     */
+    public PersistentStudyLogTree insert(StudyLog value) {
+        Node node = new Node(value.getStudyDate().toEpochDay(), value.getId(), value, null, null);
+        Node[] parts = split(root, node.epochDay, node.id);
+        return new PersistentStudyLogTree(merge(merge(parts[0], node), parts[1]));
+    }
+
+    /**
+     * (학습 날짜, ID) 노드 삭제 (없으면 그대로)
+     */
+    public PersistentStudyLogTree remove(long epochDay, long id) {
+        Node removed = remove(root, epochDay, id);
+        return removed == root ? this : new PersistentStudyLogTree(removed);
+    }
+
+    /**
+     * 정렬되지 않은 목록으로 한 번에 생성 (정렬 후 스택으로 O(n) 구성)
+     */
+    public static PersistentStudyLogTree of(List<StudyLog> values) {
+        List<StudyLog> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.comparing(StudyLog::getStudyDate).thenComparing(StudyLog::getId).reversed());
+
+        // 오른쪽 가장자리 스택으로 Cartesian tree 구성 (우선순위가 큰 노드가 위)
+        ArrayDeque<Builder> spine = new ArrayDeque<>();
+        for (StudyLog value : sorted) {
+            Builder builder = new Builder(value);
+            Builder last = null;
+            while (!spine.isEmpty() && spine.peek().priority < builder.priority) {
+                last = spine.pop();
+            }
+            builder.left = last;
+            if (!spine.isEmpty()) {
+                spine.peek().right = builder;
+            }
+            spine.push(builder);
+        }
+        return new PersistentStudyLogTree(spine.isEmpty() ? null : spine.peekLast().build());
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * offset번째부터 limit개 (정렬 순서대로)
+     */
+    public List<StudyLog> page(long offset, int limit) {
+        List<StudyLog> values = new ArrayList<>(Math.max(0, Math.min(limit, size() - (int) Math.min(offset, size()))));
+        collect(root, offset, limit, values);
+        return values;
+    }
+
+    private static void collect(Node node, long offset, int limit, List<StudyLog> values) {
+        if (node == null || values.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, values);
+        }
+        if (values.size() >= limit) {
+            return;
+        }
+        if (offset <= leftSize) {
+            values.add(node.value);
+        }
+        collect(node.right, Math.max(0, offset - leftSize - 1), limit, values);
+    }
+
+    // ========== 트립 연산 ==========
+
+    /**
+     * 정렬 순서에서 (epochDay, id) 앞쪽과 나머지로 분리
+     */
+    private static Node[] split(Node node, long epochDay, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node.epochDay, node.id, epochDay, id) < 0) {
+            Node[] parts = split(node.right, epochDay, id);
+            return new Node[]{node.with(node.left, parts[0]), parts[1]};
+        }
+        Node[] parts = split(node.left, epochDay, id);
+        return new Node[]{parts[0], node.with(parts[1], node.right)};
+    }
+
+    /**
+     * left의 모든 노드가 right보다 앞일 때 두 트리를 합침
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority() > right.priority()) {
+            return left.with(left.left, merge(left.right, right));
+        }
+        return right.with(merge(left, right.left), right.right);
+    }
+
+    private static Node remove(Node node, long epochDay, long id) {
+        if (node == null) {
+            return null;
+        }
+        int compared = compare(epochDay, id, node.epochDay, node.id);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compared < 0) {
+            Node left = remove(node.left, epochDay, id);
+            return left == node.left ? node : node.with(left, node.right);
+        }
+        Node right = remove(node.right, epochDay, id);
+        return right == node.right ? node : node.with(node.left, right);
+    }
+
+    /**
+     * 정렬 순서 비교: 학습 날짜 내림차순, 같으면 ID 내림차순
+     */
+    private static int compare(long epochDay, long id, long otherEpochDay, long otherId) {
+        if (epochDay != otherEpochDay) {
+            return Long.compare(otherEpochDay, epochDay);
+        }
+        return Long.compare(otherId, id);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static long priority(long id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Node {
+
+        private final long epochDay;
+        private final long id;
+        private final StudyLog value;
+        private final int size;
+        private final Node left;
+        private final Node right;
+
+        private Node(long epochDay, long id, StudyLog value, Node left, Node right) {
+            this.epochDay = epochDay;
+            this.id = id;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + PersistentStudyLogTree.size(left) + PersistentStudyLogTree.size(right);
+        }
+
+        private long priority() {
+            return PersistentStudyLogTree.priority(id);
+        }
+
+        private Node with(Node left, Node right) {
+            return new Node(epochDay, id, value, left, right);
+        }
+    }
+
+    /**
+     * 일괄 생성용 가변 노드 (완성 후 Node로 변환)
+     */
+    private static final class Builder {
+
+        private final StudyLog value;
+        private final long priority;
+        private Builder left;
+        private Builder right;
+
+        private Builder(StudyLog value) {
+            this.value = value;
+            this.priority = PersistentStudyLogTree.priority(value.getId());
+        }
+
+        private Node build() {
+            return new Node(value.getStudyDate().toEpochDay(), value.getId(), value,
+                    left != null ? left.build() : null,
+                    right != null ? right.build() : null);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.study.my_spring_study_diary.dao.mvcc;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 학습 일지 목록의 버전 관리 (MVCC)
+ *
+ * 쓰기는 PersistentStudyLogTree로 새 버전을 만들어 volatile 필드에 발행(publish)하고,
+ * 읽기는 그 필드를 한 번 읽어 스냅샷을 잡습니다. (O(1), 잠금 없음)
+ *
+ * 페이지 응답에 담긴 스냅샷 토큰(버전 번호)으로 다음 페이지를 요청하면 같은 버전을 다시 읽으므로
+ * 그 사이의 추가/삭제로 행이 페이지 사이를 밀려다니지 않습니다.
+ * 토큰으로 다시 찾을 수 있도록 최근 스냅샷을 최대 maxPinned개, ttl 동안 보관합니다.
+ * (트리는 버전끼리 대부분의 노드를 공유하므로 보관 비용은 버전 사이의 변경량에 비례)
+ *
+ * 쓰기 메서드는 호출하는 쪽(DAO 쓰기 잠금)에서 직렬화해야 합니다.
+ */
+public class StudyLogVersions {
+
+    private final int maxPinned;
+    private final long ttlMillis;
+
+    // 재시작 후 이전 프로세스가 준 토큰과 겹치지 않도록 시작 시각에서 출발
+    private volatile Snapshot current = new Snapshot(System.currentTimeMillis(), PersistentStudyLogTree.EMPTY);
+
+    // 토큰으로 다시 읽을 수 있는 스냅샷 (버전 → 스냅샷, 오래된 것부터 정리)
+    private final ConcurrentSkipListMap<Long, Pinned> pinned = new ConcurrentSkipListMap<>();
+
+    public StudyLogVersions(int maxPinned, long ttlMillis) {
+        this.maxPinned = maxPinned;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // ========== 읽기 ==========
+
+    /**
+     * 토큰의 스냅샷 (토큰이 없거나 만료되었으면 현재 스냅샷), 반환한 스냅샷은 토큰으로 다시 찾을 수 있게 보관
+     */
+    public Snapshot snapshot(Long token) {
+        Snapshot snapshot = null;
+        if (token != null) {
+            Pinned entry = pinned.get(token);
+            if (entry != null && !entry.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                snapshot = entry.snapshot;
+            }
+        }
+        if (snapshot == null) {
+            snapshot = current;
+            pin(snapshot);
+        }
+        return snapshot;
+    }
+
+    private void pin(Snapshot snapshot) {
+        long now = System.currentTimeMillis();
+        // 같은 버전은 처음 보관한 시각 기준으로 만료 (계속 읽혀도 ttl 이상 붙잡지 않음)
+        pinned.putIfAbsent(snapshot.version, new Pinned(snapshot, now));
+
+        while (pinned.size() > maxPinned) {
+            pinned.pollFirstEntry();
+        }
+        Map.Entry<Long, Pinned> oldest;
+        while ((oldest = pinned.firstEntry()) != null && oldest.getValue().isExpired(now, ttlMillis)) {
+            pinned.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    // ========== 쓰기 (새 버전 발행) ==========
+
+    /**
+     * 일지 추가/교체 (previousEpochDay가 있으면 그 위치의 이전 버전을 먼저 뺌)
+     */
+    public void put(StudyLog copy, Long previousEpochDay) {
+        PersistentStudyLogTree tree = current.tree;
+        if (previousEpochDay != null) {
+            tree = tree.remove(previousEpochDay, copy.getId());
+        }
+        publish(tree.insert(copy));
+    }
+
+    public void remove(long epochDay, long id) {
+        publish(current.tree.remove(epochDay, id));
+    }
+
+    /**
+     * 전체 교체 (복원, 전체 삭제)
+     * 교체 이전 목록을 토큰으로 이어서 읽지 않도록 보관 중인 스냅샷은 버림
+     */
+    public void replaceAll(List<StudyLog> copies) {
+        publish(copies.isEmpty() ? PersistentStudyLogTree.EMPTY : PersistentStudyLogTree.of(copies));
+        pinned.clear();
+    }
+
+    private void publish(PersistentStudyLogTree tree) {
+        current = new Snapshot(current.version + 1, tree);
+    }
+
+    /**
+     * 특정 버전의 학습 일지 목록
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final PersistentStudyLogTree tree;
+
+        private Snapshot(long version, PersistentStudyLogTree tree) {
+            this.version = version;
+            this.tree = tree;
+        }
+
+        public long getVersion() { return version; }
+        public int size() { return tree.size(); }
+
+        public List<StudyLog> page(long offset, int limit) {
+            return tree.page(offset, limit);
+        }
+    }
+
+    private static final class Pinned {
+
+        private final Snapshot snapshot;
+        private final long pinnedAtMillis;
+
+        private Pinned(Snapshot snapshot, long pinnedAtMillis) {
+            this.snapshot = snapshot;
+            this.pinnedAtMillis = pinnedAtMillis;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - pinnedAtMillis > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.study.my_spring_study_diary.dao.replica;
+
+import com.study.my_spring_study_diary.common.FacetedPage;
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogReviewTime;
+import com.study.my_spring_study_diary.dao.StudyLogSearchCondition;
+import com.study.my_spring_study_diary.dao.StudyLogStudyTime;
+import com.study.my_spring_study_diary.dao.StudyLogText;
+import com.study.my_spring_study_diary.dao.StudyLogTitle;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 쓰기는 원본 DAO(MySQL), 읽기는 프로세스 내 읽기 복제본으로 보내는 StudyLogDao
+ *
+ * 원본 쓰기가 성공하면 같은 스레드에서 바로 복제본에도 반영하므로 이 노드에서는 자신의 쓰기를 곧바로 읽을 수 있고,
+ * 다른 노드의 쓰기는 StudyLogReadReplica의 tailing 주기만큼 늦게 보입니다.
+ * 복제본 적재가 끝나기 전에는 읽기도 원본에서 처리합니다.
+ *
+ * 복제본(InMemoryStudyLogDao)은 조회 결과를 복사본으로 돌려주므로, 서비스가 findById로 받은 객체를 고쳐도
+ * 원본 쓰기 전에 다른 읽기에 보이거나 원본 쓰기가 실패했을 때 복제본에 남지 않습니다.
+ */
+public class ReplicatedStudyLogDao implements StudyLogDao {
+
+    private final StudyLogDao source;
+    private final StudyLogReadReplica replica;
+
+    public ReplicatedStudyLogDao(StudyLogDao source, StudyLogReadReplica replica) {
+        this.source = source;
+        this.replica = replica;
+    }
+
+    private StudyLogDao reads() {
+        StudyLogDao reads = replica.reads();
+        return reads != null ? reads : source;
+    }
+
+    // ========== CREATE ==========
+    @Override
+    public StudyLog save(StudyLog studyLog) {
+        StudyLog saved = source.save(studyLog);
+        replica.applySaved(saved);
+        return saved;
+    }
+
+    // ========== READ ==========
+    @Override
+    public Optional<StudyLog> findById(Long id) {
+        return reads().findById(id);
+    }
+
+    @Override
+    public List<StudyLog> findAll() {
+        return reads().findAll();
+    }
+
+    @Override
+    public List<StudyLog> findByCategory(String category) {
+        return reads().findByCategory(category);
+    }
+
+    @Override
+    public List<StudyLog> findByStudyDate(LocalDate date) {
+        return reads().findByStudyDate(date);
+    }
+
+    @Override
+    public List<StudyLogStudyTime> findAllStudyTimes() {
+        return reads().findAllStudyTimes();
+    }
+
+    @Override
+    public List<StudyLogReviewTime> findReviewTimes(Set<Understanding> understandings) {
+        return reads().findReviewTimes(understandings);
+    }
+
+    @Override
+    public List<StudyLogText> findAllTexts() {
+        return reads().findAllTexts();
+    }
+
+    @Override
+    public List<StudyLogTitle> findAllTitles() {
+        return reads().findAllTitles();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return reads().existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return reads().count();
+    }
+
+    // ========== UPDATE ==========
+    @Override
+    public StudyLog update(StudyLog studyLog) {
+        StudyLog updated = source.update(studyLog);
+        replica.applySaved(updated);
+        return updated;
+    }
+
+    // ========== DELETE ==========
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = source.deleteById(id);
+        if (deleted) {
+            replica.applyDeleted(id);
+        }
+        return deleted;
+    }
+
+    @Override
+    public void deleteAll() {
+        source.deleteAll();
+        replica.applyDeletedAll();
+    }
+
+    // ========== PAGING ==========
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size) {
+        return reads().findAllWithPaging(page, size);
+    }
+
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, Long snapshot) {
+        return reads().findAllWithPaging(page, size, snapshot);
+    }
+
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
+        return reads().findByCategoryWithPaging(category, page, size);
+    }
+
+    @Override
+    public Page<StudyLog> searchWithPaging(StudyLogSearchCondition condition, int page, int size) {
+        return reads().searchWithPaging(condition, page, size);
+    }
+
+    @Override
+    public FacetedPage<StudyLog> searchWithFacets(StudyLogSearchCondition condition, int page, int size) {
+        return reads().searchWithFacets(condition, page, size);
+    }
+}
@@ -0,0 +1,387 @@
+package com.study.my_spring_study_diary.dao.replica;
+
+import com.study.my_spring_study_diary.cache.CacheInvalidationListener;
+import com.study.my_spring_study_diary.cache.StudyLogChange;
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import com.study.my_spring_study_diary.dao.arena.OffHeapTextArena;
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshot;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * study_logs 테이블의 프로세스 내 읽기 복제본
+ *
+ * 시작 시 ID 순서 배치로 전체를 읽어 InMemoryStudyLogDao(비트맵 인덱스 + MVCC 페이징)에 적재하고,
+ * 이후에는 (updated_at, id) 기준점(high-water mark) 이후에 수정된 행을 배치로 읽어 반영합니다.
+ *
+ * - updated_at은 초 단위이고 커밋 순서와 다를 수 있으므로 매 poll마다 overlap-ms만큼 되돌아가 다시 읽음
+ *   (updated_at이 같은 행은 건너뛰므로 다시 읽어도 인덱스는 바뀌지 않음)
+ * - 삭제는 updated_at으로 보이지 않으므로
+ *   로컬 삭제는 ReplicatedStudyLogDao가 바로 반영하고, 다른 노드의 삭제는 변경 로그(CacheInvalidationBus)로 받아
+ *   원본에서 ID를 다시 읽어 반영합니다. (다른 수신자보다 먼저 갱신되도록 가장 높은 우선순위)
+ * - 그래도 놓친 변경은 verify-interval-ms마다 건수를 비교해 두 번 연속 다르면 전체 재동기화(resync)로 바로잡음
+ *
+ * 재동기화는 새 복제본을 따로 채운 뒤 통째로 교체하므로 그동안의 읽기는 이전 복제본이 처리합니다.
+ * (잠시 두 벌이 메모리에 있음) 적재 중에 반영된 ID는 교체 후 원본에서 다시 읽습니다.
+ *
+ * 지표
+ * - studylog.replica.lag: 마지막으로 끝까지 따라잡은 poll의 시작 시각부터 지금까지 (ms, 복제본이 뒤처질 수 있는 상한)
+ * - studylog.replica.rows: 복제본 행 수
+ * - studylog.replica.applied: tailing/변경 로그로 반영한 행 수
+ * - studylog.replica.resyncs: 전체 재동기화 횟수 (시작 시 적재 포함)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Conditional(StudyLogEngineCondition.Jdbc.class)
+public class StudyLogReadReplica implements CacheInvalidationListener {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    // 빈 테이블에서 시작할 때의 기준점 (MySQL TIMESTAMP 범위 안, overlap을 빼도 범위를 벗어나지 않도록 하루 뒤)
+    private static final LocalDateTime TAIL_START = LocalDateTime.of(1970, 1, 2, 0, 0);
+
+    private final MySQLStudyLogDaoImpl source;
+    private final ContentCompressor contentCompressor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long overlapMillis;
+    private final long verifyIntervalMillis;
+
+    // 현재 읽기에 쓰는 복제본 (적재 전에는 null)
+    private volatile InMemoryStudyLogDao replica;
+
+    // 변경 반영(read lock, 동시에 여러 개)과 복제본 교체(write lock) 사이의 잠금
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 재동기화 적재 중 여부와 그동안 반영된 ID (교체 후 원본에서 다시 읽음)
+    private volatile boolean loading = false;
+    private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    // tailing 기준점 (poll()에서만 사용, poll/resync는 synchronized)
+    private LocalDateTime highWaterUpdatedAt;
+    private long highWaterId;
+
+    private volatile long caughtUpAtMillis = 0;
+    private long lastVerifiedAtMillis = 0;
+    private int countMismatches = 0;
+
+    private final AtomicLong appliedCount = new AtomicLong();
+    private final AtomicLong resyncCount = new AtomicLong();
+
+    public StudyLogReadReplica(
+            MySQLStudyLogDaoImpl source,
+            ContentCompressor contentCompressor,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.dao.read-replica.enabled:false}") boolean enabled,
+            @Value("${study-diary.dao.read-replica.batch-size:1000}") int batchSize,
+            @Value("${study-diary.dao.read-replica.overlap-ms:5000}") long overlapMillis,
+            @Value("${study-diary.dao.read-replica.verify-interval-ms:60000}") long verifyIntervalMillis) {
+        this.source = source;
+        this.contentCompressor = contentCompressor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.overlapMillis = overlapMillis;
+        this.verifyIntervalMillis = verifyIntervalMillis;
+
+        Gauge.builder("studylog.replica.lag", this, StudyLogReadReplica::getLagMillis)
+                .baseUnit("milliseconds")
+                .description("읽기 복제본이 원본보다 뒤처질 수 있는 최대 시간")
+                .register(meterRegistry);
+        Gauge.builder("studylog.replica.rows", this, StudyLogReadReplica::size)
+                .description("읽기 복제본 행 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.replica.applied", appliedCount, AtomicLong::get)
+                .description("읽기 복제본에 반영한 변경 행 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.replica.resyncs", resyncCount, AtomicLong::get)
+                .description("읽기 복제본 전체 재동기화 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        if (enabled) {
+            resync("startup");
+        }
+    }
+
+    // ========== 조회 ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 적재가 끝나 읽기를 처리할 수 있는지 여부 (아니면 ReplicatedStudyLogDao가 원본에서 읽음)
+     */
+    public boolean isReady() {
+        return replica != null;
+    }
+
+    /**
+     * 읽기에 사용할 복제본 (isReady()가 true일 때만)
+     */
+    public StudyLogDao reads() {
+        return replica;
+    }
+
+    public long size() {
+        InMemoryStudyLogDao current = replica;
+        return current != null ? current.count() : 0;
+    }
+
+    public long getLagMillis() {
+        return caughtUpAtMillis == 0 ? -1 : System.currentTimeMillis() - caughtUpAtMillis;
+    }
+
+    // ========== 로컬 쓰기 반영 (ReplicatedStudyLogDao에서 원본 쓰기 성공 후 호출) ==========
+
+    /**
+     * 저장된 값 반영 (호출한 쪽과 객체를 공유하지 않도록 복사해서 저장)
+     */
+    public void applySaved(StudyLog studyLog) {
+        StudyLog copy = studyLog.copy();
+        apply(studyLog.getId(), current -> current.save(copy));
+    }
+
+    public void applyDeleted(Long id) {
+        apply(id, current -> current.deleteById(id));
+    }
+
+    public void applyDeletedAll() {
+        apply(null, InMemoryStudyLogDao::deleteAll);
+    }
+
+    /**
+     * 원본에서 다시 읽어 반영 (원본에 없는 ID는 삭제)
+     */
+    public void refresh(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += batchSize) {
+            List<Long> chunk = idList.subList(from, Math.min(from + batchSize, idList.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            for (StudyLog row : source.findByIds(chunk)) {
+                applySaved(row);
+                missing.remove(row.getId());
+            }
+            for (Long id : missing) {
+                applyDeleted(id);
+            }
+        }
+        appliedCount.addAndGet(idList.size());
+    }
+
+    private void apply(Long id, Consumer<InMemoryStudyLogDao> change) {
+        swapLock.readLock().lock();
+        try {
+            InMemoryStudyLogDao current = replica;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (loading && id != null) {
+                touchedWhileLoading.add(id);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // ========== 다른 노드 변경 반영 ==========
+
+    /**
+     * 로컬 변경은 ReplicatedStudyLogDao에서 이미 반영하므로 받지 않음
+     */
+    @Override
+    public boolean receivesLocalChanges() {
+        return false;
+    }
+
+    @Override
+    public void invalidate(List<StudyLogChange> changes) {
+        if (!enabled || replica == null) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (StudyLogChange change : changes) {
+            ids.add(change.getLogId());
+        }
+        try {
+            refresh(ids);
+        } catch (DataAccessException e) {
+            // 수정은 tailing이, 삭제는 건수 비교 후 재동기화가 바로잡음
+            log.warn("읽기 복제본에 다른 노드 변경을 반영하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    // ========== TAILING ==========
+
+    /**
+     * 기준점 이후에 수정된 행을 배치로 읽어 반영
+     */
+    @Scheduled(fixedDelayString = "${study-diary.dao.read-replica.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        if (replica == null) {
+            resync("retry");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime fromUpdatedAt = highWaterUpdatedAt.minusNanos(overlapMillis * 1_000_000);
+            long fromId = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                List<StudyLog> rows = source.findUpdatedAfter(fromUpdatedAt, fromId, batchSize);
+                for (StudyLog row : rows) {
+                    applyIfChanged(row);
+                    advanceHighWater(row);
+                }
+                if (rows.size() < batchSize) {
+                    caughtUpAtMillis = startedAt;
+                    verifyCount();
+                    return;
+                }
+                StudyLog last = rows.get(rows.size() - 1);
+                fromUpdatedAt = last.getUpdatedAt();
+                fromId = last.getId();
+            }
+            // 한 번에 다 따라잡지 못함 → 다음 poll에서 이어서 (lag이 늘어남)
+        } catch (DataAccessException e) {
+            log.warn("읽기 복제본 tailing 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 복제본에 있는 행과 updated_at이 다를 때만 반영 (overlap 구간을 다시 읽어도 인덱스를 건드리지 않음)
+     */
+    private void applyIfChanged(StudyLog row) {
+        Optional<StudyLog> existing = replica.findById(row.getId());
+        if (existing.isPresent() && row.getUpdatedAt().equals(existing.get().getUpdatedAt())) {
+            return;
+        }
+        applySaved(row);
+        appliedCount.incrementAndGet();
+    }
+
+    private void advanceHighWater(StudyLog row) {
+        int compared = row.getUpdatedAt().compareTo(highWaterUpdatedAt);
+        if (compared > 0 || (compared == 0 && row.getId() > highWaterId)) {
+            highWaterUpdatedAt = row.getUpdatedAt();
+            highWaterId = row.getId();
+        }
+    }
+
+    /**
+     * 원본과 건수 비교 (쓰기와 겹쳐 잠깐 다를 수 있으므로 두 번 연속 다를 때만 재동기화)
+     */
+    private void verifyCount() {
+        long now = System.currentTimeMillis();
+        if (now - lastVerifiedAtMillis < verifyIntervalMillis) {
+            return;
+        }
+        lastVerifiedAtMillis = now;
+
+        long expected = source.count();
+        long actual = replica.count();
+        if (expected == actual) {
+            countMismatches = 0;
+            return;
+        }
+        if (++countMismatches >= 2) {
+            countMismatches = 0;
+            resync("count mismatch (source: " + expected + ", replica: " + actual + ")");
+        }
+    }
+
+    // ========== RESYNC ==========
+
+    /**
+     * 원본 전체를 새 복제본에 적재한 뒤 교체
+     */
+    private void resync(String reason) {
+        long startedAt = System.currentTimeMillis();
+        loading = true;
+        touchedWhileLoading.clear();
+        try {
+            List<StudyLog> rows = new ArrayList<>();
+            long lastId = 0;
+            List<StudyLog> batch;
+            do {
+                batch = source.findAfterId(lastId, batchSize);
+                rows.addAll(batch);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == batchSize);
+
+            LocalDateTime maxUpdatedAt = TAIL_START;
+            long maxUpdatedId = 0;
+            for (StudyLog row : rows) {
+                int compared = row.getUpdatedAt().compareTo(maxUpdatedAt);
+                if (compared > 0 || (compared == 0 && row.getId() > maxUpdatedId)) {
+                    maxUpdatedAt = row.getUpdatedAt();
+                    maxUpdatedId = row.getId();
+                }
+            }
+
+            InMemoryStudyLogDao loaded = new InMemoryStudyLogDao(contentCompressor, OffHeapTextArena.disabled());
+            loaded.restore(new StudyLogSnapshot(rows, lastId + 1));
+
+            swapLock.writeLock().lock();
+            try {
+                replica = loaded;
+                loading = false;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            highWaterUpdatedAt = maxUpdatedAt;
+            highWaterId = maxUpdatedId;
+            caughtUpAtMillis = startedAt;
+            resyncCount.incrementAndGet();
+
+            // 적재하는 동안 이전 복제본에만 반영된 변경을 새 복제본에 다시 반영
+            if (!touchedWhileLoading.isEmpty()) {
+                refresh(touchedWhileLoading);
+                touchedWhileLoading.clear();
+            }
+
+            log.info("읽기 복제본 적재 완료 ({}): {}건, {} ms", reason, rows.size(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException e) {
+            loading = false;
+            log.warn("읽기 복제본 적재 실패 ({}), {}: {}", reason,
+                    replica == null ? "원본에서 읽습니다" : "이전 복제본을 계속 사용합니다", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.my_spring_study_diary.dao.snapshot;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 인메모리 저장소 스냅샷 관리
+ *
+ * - 시작: 스냅샷 파일이 있으면 읽어서 저장소와 시퀀스를 복원
+ * - 주기: 마지막 스냅샷 이후 쓰기가 있었으면 다시 저장 (interval-ms)
+ * - 종료: 마지막으로 한 번 더 저장
+ *
+ * 스냅샷이 손상되었으면 경고를 남기고 빈 저장소로 시작합니다. (파일은 덮어쓰기 전까지 남아 있음)
+ */
+@Slf4j
+@Component
+@Conditional(StudyLogEngineCondition.InMemory.class)
+public class InMemorySnapshotManager {
+
+    private final InMemoryStudyLogDao studyLogDao;
+    private final boolean enabled;
+    private final Path path;
+
+    // 마지막으로 저장(또는 복원)한 시점의 쓰기 횟수
+    private long lastSnapshotWriteCount = -1;
+
+    public InMemorySnapshotManager(
+            InMemoryStudyLogDao studyLogDao,
+            @Value("${study-diary.snapshot.enabled:false}") boolean enabled,
+            @Value("${study-diary.snapshot.path:data/in-memory-study-logs.snapshot}") String path) {
+        this.studyLogDao = studyLogDao;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!enabled || !Files.exists(path)) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            StudyLogSnapshot snapshot = StudyLogSnapshotFile.read(path);
+            studyLogDao.restore(snapshot);
+            lastSnapshotWriteCount = studyLogDao.getWriteCount();
+            log.info("인메모리 스냅샷 복원 완료 ({}건, {} ms)",
+                    snapshot.getStudyLogs().size(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("인메모리 스냅샷을 복원하지 못해 빈 저장소로 시작합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 스냅샷 (변경이 없으면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${study-diary.snapshot.interval-ms:300000}",
+            initialDelayString = "${study-diary.snapshot.interval-ms:300000}")
+    public void snapshotIfChanged() {
+        if (enabled && studyLogDao.getWriteCount() != lastSnapshotWriteCount) {
+            snapshot();
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshotIfChanged();
+    }
+
+    /**
+     * 지금 상태를 파일로 저장
+     */
+    public synchronized void snapshot() {
+        long writeCount = studyLogDao.getWriteCount();
+        long startNanos = System.nanoTime();
+        StudyLogSnapshot snapshot = studyLogDao.snapshot();
+        try {
+            StudyLogSnapshotFile.write(path, snapshot);
+            lastSnapshotWriteCount = writeCount;
+            log.info("인메모리 스냅샷 저장 완료 ({}건, {} ms)",
+                    snapshot.getStudyLogs().size(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("인메모리 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+}
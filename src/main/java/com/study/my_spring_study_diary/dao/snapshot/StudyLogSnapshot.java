@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.dao.snapshot;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.List;
+
+/**
+ * 인메모리 저장소의 특정 시점 상태 (학습 일지 목록 + 다음에 부여할 ID)
+ */
+public class StudyLogSnapshot {
+
+    private final List<StudyLog> studyLogs;
+    private final long sequence;
+
+    public StudyLogSnapshot(List<StudyLog> studyLogs, long sequence) {
+        this.studyLogs = studyLogs;
+        this.sequence = sequence;
+    }
+
+    public List<StudyLog> getStudyLogs() { return studyLogs; }
+    public long getSequence() { return sequence; }
+}
@@ -0,0 +1,305 @@
+package com.study.my_spring_study_diary.dao.snapshot;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StoredText;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 인메모리 저장소 바이너리 스냅샷 파일
+ *
+ * 형식 (version 1, 모든 정수는 big-endian)
+ * <pre>
+ * magic        int    'SLSN'
+ * version      short  1
+ * categories   byte 개수 + 이름(modified UTF-8)들   ← 레코드의 카테고리 번호 → 이름
+ * understandings byte 개수 + 이름들                 ← 레코드의 이해도 번호 → 이름
+ * sequence     long   다음에 부여할 ID
+ * count        int    레코드 수
+ * records      id long, category byte, understanding byte, studyTime int, studyDate int(epoch day),
+ *              createdAt/updatedAt (epoch second long + nano int, null이면 Long.MIN_VALUE),
+ *              title (int 길이 + UTF-8), content (int 길이 + StoredText 인코딩)
+ * checksum     long   위 전체의 CRC32C
+ * </pre>
+ *
+ * 열거형은 이름 표를 함께 저장하므로 상수 순서가 바뀌어도 읽을 수 있습니다.
+ * 내용은 StoredText 인코딩을 그대로 쓰므로 압축된 내용은 풀지 않고 저장/복원됩니다.
+ *
+ * 쓰기는 임시 파일에 쓴 뒤 이름을 바꿔서(원자적 교체) 쓰는 도중 종료되어도 이전 스냅샷이 남습니다.
+ * 읽기는 파일을 메모리 매핑해 체크섬을 먼저 확인한 뒤 한 번에 파싱합니다. (최대 2GB)
+ *
+ * 같은 형식을 WAL 복제에서도 씁니다. (encode/decode로 스냅샷 전송, writeRecord/readRecord로 WAL 레코드)
+ */
+public final class StudyLogSnapshotFile {
+
+    private static final int MAGIC = 0x534C534E;   // "SLSN"
+    private static final short VERSION = 1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private StudyLogSnapshotFile() {
+    }
+
+    // ========== WRITE ==========
+
+    public static void write(Path path, StudyLogSnapshot snapshot) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                writeTo(file, snapshot);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 메모리 안에서 파일과 같은 형식의 바이트로 인코딩 (복제 팔로워에게 스냅샷을 보낼 때)
+     */
+    public static byte[] encode(StudyLogSnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeTo(bytes, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeTo(OutputStream target, StudyLogSnapshot snapshot) throws IOException {
+        CRC32C crc = new CRC32C();
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new CheckedOutputStream(target, crc), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        writeNames(out);
+        out.writeLong(snapshot.getSequence());
+        out.writeInt(snapshot.getStudyLogs().size());
+
+        for (StudyLog studyLog : snapshot.getStudyLogs()) {
+            writeRecord(out, studyLog);
+        }
+
+        out.flush();
+        // 체크섬 값을 먼저 읽은 뒤 기록 (체크섬 자신은 계산 범위 밖)
+        out.writeLong(crc.getValue());
+        out.flush();
+    }
+
+    /**
+     * 카테고리/이해도 이름 표 (레코드의 번호 → 이름)
+     */
+    public static void writeNames(DataOutputStream out) throws IOException {
+        writeNames(out, Category.values());
+        writeNames(out, Understanding.values());
+    }
+
+    private static void writeNames(DataOutputStream out, Enum<?>[] values) throws IOException {
+        out.writeByte(values.length);
+        for (Enum<?> value : values) {
+            out.writeUTF(value.name());
+        }
+    }
+
+    public static void writeRecord(DataOutputStream out, StudyLog studyLog) throws IOException {
+        out.writeLong(studyLog.getId());
+        out.writeByte(studyLog.getCategory().ordinal());
+        out.writeByte(studyLog.getUnderstanding().ordinal());
+        out.writeInt(studyLog.getStudyTime());
+        out.writeInt((int) studyLog.getStudyDate().toEpochDay());
+        writeTime(out, studyLog.getCreatedAt());
+        writeTime(out, studyLog.getUpdatedAt());
+        writeBytes(out, studyLog.getTitle().getBytes(StandardCharsets.UTF_8));
+        StoredText content = studyLog.getStoredContent() != null ? studyLog.getStoredContent() : StoredText.of("");
+        writeBytes(out, content.encoded());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NULL_TIME);
+            out.writeInt(0);
+            return;
+        }
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ========== READ ==========
+
+    /**
+     * 스냅샷 읽기
+     *
+     * @throws IOException 파일을 읽지 못했거나 형식/체크섬이 맞지 않을 때
+     */
+    public static StudyLogSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷이 너무 큽니다 (최대 2GB): " + size + " bytes");
+            }
+            if (size < 4 + 2 + 8) {
+                throw new IOException("스냅샷이 잘렸습니다: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int bodyLength = (int) size - 8;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, bodyLength));
+            if (crc.getValue() != buffer.getLong(bodyLength)) {
+                throw new IOException("스냅샷 체크섬이 맞지 않습니다: " + path);
+            }
+
+            try {
+                return parse(buffer.limit(bodyLength));
+            } catch (RuntimeException e) {
+                throw new IOException("스냅샷 형식이 올바르지 않습니다: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * encode()로 만든 바이트 읽기 (체크섬 확인 포함)
+     */
+    public static StudyLogSnapshot decode(ByteBuffer buffer) throws IOException {
+        int size = buffer.remaining();
+        if (size < 4 + 2 + 8) {
+            throw new IOException("스냅샷이 잘렸습니다: " + size + " bytes");
+        }
+        int bodyLength = size - 8;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(buffer.position(), bodyLength));
+        if (crc.getValue() != buffer.getLong(buffer.position() + bodyLength)) {
+            throw new IOException("스냅샷 체크섬이 맞지 않습니다.");
+        }
+        try {
+            return parse(buffer.slice(buffer.position(), bodyLength));
+        } catch (RuntimeException e) {
+            throw new IOException("스냅샷 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static StudyLogSnapshot parse(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("스냅샷 파일이 아닙니다.");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+
+        Names names = readNames(buffer);
+        long sequence = buffer.getLong();
+        int count = buffer.getInt();
+
+        List<StudyLog> studyLogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            studyLogs.add(readRecord(buffer, names));
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IOException("스냅샷 끝에 알 수 없는 데이터가 있습니다: " + buffer.remaining() + " bytes");
+        }
+        return new StudyLogSnapshot(studyLogs, sequence);
+    }
+
+    /**
+     * writeNames()로 쓴 이름 표 읽기
+     */
+    public static Names readNames(ByteBuffer buffer) throws IOException {
+        return new Names(readNames(buffer, Category.class), readNames(buffer, Understanding.class));
+    }
+
+    /**
+     * writeRecord()로 쓴 레코드 하나 읽기
+     */
+    public static StudyLog readRecord(ByteBuffer buffer, Names names) {
+        StudyLog studyLog = new StudyLog();
+        studyLog.setId(buffer.getLong());
+        studyLog.setCategory(names.categories[buffer.get()]);
+        studyLog.setUnderstanding(names.understandings[buffer.get()]);
+        studyLog.setStudyTime(buffer.getInt());
+        studyLog.setStudyDate(LocalDate.ofEpochDay(buffer.getInt()));
+        studyLog.setCreatedAt(readTime(buffer));
+        studyLog.setUpdatedAt(readTime(buffer));
+
+        byte[] title = new byte[buffer.getInt()];
+        buffer.get(title);
+        studyLog.setTitle(new String(title, StandardCharsets.UTF_8));
+
+        byte[] content = new byte[buffer.getInt()];
+        buffer.get(content);
+        studyLog.setStoredContent(StoredText.decode(content));
+        return studyLog;
+    }
+
+    /**
+     * 이름 표를 읽어 번호 → 현재 열거형 상수 배열로 변환 (없어진 이름이면 예외)
+     */
+    private static <E extends Enum<E>> E[] readNames(ByteBuffer buffer, Class<E> type) throws IOException {
+        int count = buffer.get() & 0xFF;
+        @SuppressWarnings("unchecked")
+        E[] values = (E[]) java.lang.reflect.Array.newInstance(type, count);
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(name);
+            // writeUTF의 modified UTF-8은 영문 상수 이름에서는 UTF-8과 같음
+            String constant = new String(name, StandardCharsets.UTF_8);
+            try {
+                values[i] = Enum.valueOf(type, constant);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(type.getSimpleName() + "에 없는 값입니다: " + constant);
+            }
+        }
+        return values;
+    }
+
+    private static LocalDateTime readTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return epochSecond == NULL_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    /**
+     * 기록한 쪽의 카테고리/이해도 번호 → 현재 열거형 상수
+     */
+    public static final class Names {
+
+        private final Category[] categories;
+        private final Understanding[] understandings;
+
+        private Names(Category[] categories, Understanding[] understandings) {
+            this.categories = categories;
+            this.understandings = understandings;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인메모리 저장소 쓰기 선행 로그 (WAL, 복제 리더에서만 기록)
+ *
+ * InMemoryStudyLogDao가 쓰기 잠금 안에서 append()하므로 seq 순서가 곧 저장소에 반영된 순서입니다.
+ * 레코드는 기록할 때 바로 바이트로 인코딩해 두므로, 이후에 저장소의 객체가 바뀌거나
+ * 오프힙 슬롯이 회수되어도 보낼 내용은 그대로이고, 팔로워가 여럿이어도 인코딩은 한 번뿐입니다.
+ *
+ * 최근 max-entries개만 원형 배열에 보관하며, 그보다 뒤처진 팔로워는 스냅샷부터 다시 받습니다.
+ * logId는 이 로그의 수명(프로세스 시작 또는 저장소 전체 복원) 단위로 바뀌어,
+ * 다른 로그의 seq를 들고 온 팔로워를 구별합니다.
+ */
+@Component
+@Conditional(StudyLogEngineCondition.InMemory.class)
+public class StudyLogWal {
+
+    private final boolean enabled;
+    private final byte[][] ring;
+
+    private long logId = newLogId();
+    private long lastSeq = 0;   // 마지막으로 기록한 seq (첫 레코드는 1)
+
+    public StudyLogWal(
+            @Value("${study-diary.replication.role:none}") String role,
+            @Value("${study-diary.replication.wal-max-entries:100000}") int maxEntries) {
+        this.enabled = "leader".equalsIgnoreCase(role);
+        this.ring = new byte[enabled ? maxEntries : 0][];
+    }
+
+    /**
+     * 기록하지 않는 WAL (리더가 아니거나 테스트에서 직접 만든 DAO)
+     */
+    public static StudyLogWal disabled() {
+        return new StudyLogWal("none", 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========== 기록 (DAO 쓰기 잠금 안에서 호출) ==========
+
+    public synchronized void appendPut(StudyLog value) {
+        if (enabled) {
+            append(WalRecord.put(lastSeq + 1, value));
+        }
+    }
+
+    public synchronized void appendDelete(long id) {
+        if (enabled) {
+            append(WalRecord.delete(lastSeq + 1, id));
+        }
+    }
+
+    public synchronized void appendDeleteAll() {
+        if (enabled) {
+            append(WalRecord.deleteAll(lastSeq + 1));
+        }
+    }
+
+    /**
+     * 저장소 전체가 교체되었을 때 (스냅샷 복원) 새 로그로 시작
+     * 접속 중인 팔로워는 logId가 달라진 것을 보고 스냅샷부터 다시 받습니다.
+     */
+    public synchronized void reset() {
+        if (!enabled) {
+            return;
+        }
+        logId = newLogId();
+        lastSeq = 0;
+        Arrays.fill(ring, null);
+        notifyAll();
+    }
+
+    private void append(WalRecord record) {
+        ring[(int) (record.getSeq() % ring.length)] = record.encode();
+        lastSeq = record.getSeq();
+        notifyAll();
+    }
+
+    // ========== 읽기 (복제 리더의 전송 스레드) ==========
+
+    public synchronized long getLogId() {
+        return logId;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * seq까지 받은 팔로워가 이 로그만으로 이어 받을 수 있는지 (다음 레코드가 아직 원형 배열에 있는지)
+     */
+    public synchronized boolean canResume(long logId, long seq) {
+        return logId == this.logId && seq <= lastSeq && seq >= firstSeq() - 1;
+    }
+
+    /**
+     * seq 다음 레코드부터 최대 max개 (인코딩된 바이트)
+     * 새 레코드가 없으면 waitMillis까지 기다렸다가 빈 목록을 돌려주고,
+     * 로그가 바뀌었거나 다음 레코드가 이미 밀려났으면 null을 돌려줍니다. (스냅샷부터 다시)
+     */
+    public synchronized List<byte[]> readAfter(long logId, long seq, int max, long waitMillis)
+            throws InterruptedException {
+        if (logId == this.logId && seq == lastSeq && waitMillis > 0) {
+            wait(waitMillis);
+        }
+        if (!canResume(logId, seq)) {
+            return null;
+        }
+        int count = (int) Math.min(max, lastSeq - seq);
+        List<byte[]> records = new ArrayList<>(count);
+        for (long next = seq + 1; next <= seq + count; next++) {
+            records.add(ring[(int) (next % ring.length)]);
+        }
+        return records;
+    }
+
+    private long firstSeq() {
+        return Math.max(1, lastSeq - ring.length + 1);
+    }
+
+    private static long newLogId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);   // 0은 "받은 로그 없음"
+        return id;
+    }
+}
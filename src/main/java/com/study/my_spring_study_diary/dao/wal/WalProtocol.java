@@ -0,0 +1,123 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshotFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * WAL 복제 TCP 프로토콜 (모든 정수는 big-endian)
+ *
+ * <pre>
+ * 팔로워 → 리더
+ *   HELLO   magic int, version short, logId long, seq long   ← 마지막으로 반영한 위치 (처음이면 0, 0)
+ *   ACK     seq long                                         ← 배치를 반영할 때마다 (리더는 기다리지 않음)
+ *
+ * 리더 → 팔로워: 프레임 = type byte, length int, payload
+ *   HANDSHAKE  magic int, version short, 카테고리/이해도 이름 표
+ *   SNAPSHOT   logId long, seq long, 스냅샷 파일 형식 바이트
+ *   BATCH      count int, WAL 레코드들 (seq 순서, 연속)
+ *   HEARTBEAT  리더의 마지막 seq long                           ← 보낼 레코드가 없을 때
+ * </pre>
+ *
+ * 리더는 ACK를 기다리지 않고 다음 배치를 이어서 보내며(pipelining),
+ * 팔로워는 받은 순서대로 반영하고 seq가 건너뛰면 연결을 끊고 마지막 위치부터 다시 접속합니다.
+ */
+final class WalProtocol {
+
+    static final int MAGIC = 0x534C5752;   // "SLWR"
+    static final short VERSION = 1;
+
+    static final byte HANDSHAKE = 1;
+    static final byte SNAPSHOT = 2;
+    static final byte BATCH = 3;
+    static final byte HEARTBEAT = 4;
+
+    // 스냅샷 프레임 상한 (스냅샷 파일과 같이 2GB)
+    static final int MAX_FRAME_BYTES = Integer.MAX_VALUE - 8;
+
+    private WalProtocol() {
+    }
+
+    // ========== 리더 ==========
+
+    static void writeHandshake(DataOutputStream out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(bytes);
+        payload.writeInt(MAGIC);
+        payload.writeShort(VERSION);
+        StudyLogSnapshotFile.writeNames(payload);
+        payload.flush();
+        writeFrame(out, HANDSHAKE, bytes.toByteArray());
+    }
+
+    static void writeSnapshot(DataOutputStream out, long logId, long seq, byte[] snapshot) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeInt(16 + snapshot.length);
+        out.writeLong(logId);
+        out.writeLong(seq);
+        out.write(snapshot);
+    }
+
+    static void writeBatch(DataOutputStream out, List<byte[]> records) throws IOException {
+        int length = 4;
+        for (byte[] record : records) {
+            length += record.length;
+        }
+        out.writeByte(BATCH);
+        out.writeInt(length);
+        out.writeInt(records.size());
+        for (byte[] record : records) {
+            out.write(record);
+        }
+    }
+
+    static void writeHeartbeat(DataOutputStream out, long lastSeq) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeInt(8);
+        out.writeLong(lastSeq);
+    }
+
+    private static void writeFrame(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        out.writeByte(type);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    // ========== 팔로워 ==========
+
+    static Frame readFrame(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("WAL 프레임 길이가 올바르지 않습니다: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return new Frame(type, ByteBuffer.wrap(payload));
+    }
+
+    static void checkHeader(int magic, short version) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("WAL 복제 상대가 아닙니다.");
+        }
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 WAL 복제 버전입니다: " + version);
+        }
+    }
+
+    static final class Frame {
+
+        final byte type;
+        final ByteBuffer payload;
+
+        private Frame(byte type, ByteBuffer payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshotFile;
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * WAL 레코드 하나 (쓰기 작업 하나)
+ *
+ * 인코딩: seq long, type byte, 본문
+ * - PUT: 학습 일지 레코드 (스냅샷 파일과 같은 형식, 카테고리/이해도는 번호 → 접속 시 보낸 이름 표로 해석)
+ * - DELETE: id long
+ * - DELETE_ALL: 없음
+ */
+public final class WalRecord {
+
+    public enum Type {
+        PUT, DELETE, DELETE_ALL
+    }
+
+    private final long seq;
+    private final Type type;
+    private final long id;
+    private final StudyLog value;   // PUT일 때만
+
+    private WalRecord(long seq, Type type, long id, StudyLog value) {
+        this.seq = seq;
+        this.type = type;
+        this.id = id;
+        this.value = value;
+    }
+
+    public static WalRecord put(long seq, StudyLog value) {
+        return new WalRecord(seq, Type.PUT, value.getId(), value);
+    }
+
+    public static WalRecord delete(long seq, long id) {
+        return new WalRecord(seq, Type.DELETE, id, null);
+    }
+
+    public static WalRecord deleteAll(long seq) {
+        return new WalRecord(seq, Type.DELETE_ALL, 0, null);
+    }
+
+    public long getSeq() { return seq; }
+    public Type getType() { return type; }
+    public long getId() { return id; }
+    public StudyLog getValue() { return value; }
+
+    // ========== 인코딩 ==========
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(type == Type.PUT ? 256 : 17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(seq);
+            out.writeByte(type.ordinal());
+            switch (type) {
+                case PUT -> StudyLogSnapshotFile.writeRecord(out, value);
+                case DELETE -> out.writeLong(id);
+                case DELETE_ALL -> {
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static WalRecord decode(ByteBuffer buffer, StudyLogSnapshotFile.Names names) {
+        long seq = buffer.getLong();
+        Type type = Type.values()[buffer.get()];
+        return switch (type) {
+            case PUT -> put(seq, StudyLogSnapshotFile.readRecord(buffer, names));
+            case DELETE -> delete(seq, buffer.getLong());
+            case DELETE_ALL -> deleteAll(seq);
+        };
+    }
+}
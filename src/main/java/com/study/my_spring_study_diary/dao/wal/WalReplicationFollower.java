@@ -0,0 +1,243 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshotFile;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WAL 복제 팔로워 (study-diary.replication.role=follower)
+ *
+ * 저장소를 읽기 전용으로 바꾸고 리더에 접속해 받은 순서대로 반영합니다.
+ * - 접속할 때 마지막으로 반영한 (logId, seq)를 보내므로, 재접속하면 리더의 WAL에 남아 있는 만큼은 이어서 받고
+ *   그보다 오래 끊겨 있었으면 스냅샷부터 다시 받음
+ * - 배치 하나를 반영할 때마다 ACK를 보내지만 리더는 기다리지 않으므로, ACK는 리더 쪽 지연 지표에만 쓰임
+ * - seq가 건너뛰거나 heartbeat가 끊기면 연결을 끊고 reconnect-delay-ms 뒤에 다시 접속
+ * - 반영한 변경은 StudyLogChangedEvent로 발행해 로컬 쓰기처럼 캐시/인덱스/스트림을 갱신
+ */
+@Slf4j
+@Component
+@Conditional(StudyLogEngineCondition.InMemory.class)
+public class WalReplicationFollower {
+
+    private final InMemoryStudyLogDao studyLogDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String leaderHost;
+    private final int leaderPort;
+    private final long reconnectDelayMillis;
+    private final int readTimeoutMillis;
+
+    private final AtomicLong reconnectCount = new AtomicLong();
+
+    // 마지막으로 반영한 위치 (접속이 끊겨도 유지, 복제 스레드만 씀)
+    private volatile long logId = 0;
+    private volatile long appliedSeq = 0;
+    private volatile long leaderSeq = 0;
+
+    private volatile boolean running = false;
+    private volatile Socket socket;
+    private Thread worker;
+
+    public WalReplicationFollower(
+            InMemoryStudyLogDao studyLogDao,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${study-diary.replication.role:none}") String role,
+            @Value("${study-diary.replication.leader-host:localhost}") String leaderHost,
+            @Value("${study-diary.replication.leader-port:7070}") int leaderPort,
+            @Value("${study-diary.replication.reconnect-delay-ms:1000}") long reconnectDelayMillis,
+            @Value("${study-diary.replication.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis) {
+        this.studyLogDao = studyLogDao;
+        this.eventPublisher = eventPublisher;
+        this.enabled = "follower".equalsIgnoreCase(role);
+        this.leaderHost = leaderHost;
+        this.leaderPort = leaderPort;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        // heartbeat가 몇 번 연달아 오지 않으면 끊긴 것으로 봄
+        this.readTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, heartbeatIntervalMillis * 5);
+
+        Gauge.builder("studylog.replication.follower.lag", this, WalReplicationFollower::getLagRecords)
+                .description("리더보다 뒤처진 WAL 레코드 수 (마지막 heartbeat 기준)")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.replication.reconnects", reconnectCount, AtomicLong::get)
+                .description("복제 리더 재접속 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        studyLogDao.setReadOnly(true);
+        running = true;
+        worker = new Thread(this::replicateLoop, "wal-follower");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("WAL 복제 팔로워 시작 (리더 {}:{})", leaderHost, leaderPort);
+    }
+
+    /**
+     * 접속 종료 (반영한 위치는 유지하므로 다시 start()하면 이어서 받음)
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(reconnectDelayMillis + readTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    public long getAppliedSeq() {
+        return appliedSeq;
+    }
+
+    public long getLagRecords() {
+        return Math.max(0, leaderSeq - appliedSeq);
+    }
+
+    private void replicateLoop() {
+        while (running) {
+            try {
+                replicate();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("WAL 복제 연결 끊김 ({}:{}), {}ms 후 재접속: {}",
+                            leaderHost, leaderPort, reconnectDelayMillis, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // 잘못된 레코드 등 (다시 접속하면 마지막 위치부터 다시 받음)
+                log.error("WAL 복제 반영 실패, {}ms 후 재접속", reconnectDelayMillis, e);
+            }
+            if (!running) {
+                return;
+            }
+            reconnectCount.incrementAndGet();
+            try {
+                Thread.sleep(reconnectDelayMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void replicate() throws IOException {
+        try (Socket current = new Socket()) {
+            socket = current;
+            if (!running) {
+                return;
+            }
+            current.setTcpNoDelay(true);
+            current.connect(new InetSocketAddress(leaderHost, leaderPort), readTimeoutMillis);
+            current.setSoTimeout(readTimeoutMillis);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(current.getInputStream(), 1 << 16));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(current.getOutputStream()));
+
+            out.writeInt(WalProtocol.MAGIC);
+            out.writeShort(WalProtocol.VERSION);
+            out.writeLong(logId);
+            out.writeLong(appliedSeq);
+            out.flush();
+
+            WalProtocol.Frame handshake = WalProtocol.readFrame(in);
+            if (handshake.type != WalProtocol.HANDSHAKE) {
+                throw new IOException("WAL 복제 접속 응답이 올바르지 않습니다: " + handshake.type);
+            }
+            WalProtocol.checkHeader(handshake.payload.getInt(), handshake.payload.getShort());
+            StudyLogSnapshotFile.Names names = StudyLogSnapshotFile.readNames(handshake.payload);
+
+            while (running) {
+                WalProtocol.Frame frame = WalProtocol.readFrame(in);
+                switch (frame.type) {
+                    case WalProtocol.SNAPSHOT -> applySnapshot(frame.payload);
+                    case WalProtocol.BATCH -> {
+                        applyBatch(frame.payload, names);
+                        out.writeLong(appliedSeq);
+                        out.flush();
+                    }
+                    case WalProtocol.HEARTBEAT -> leaderSeq = frame.payload.getLong();
+                    default -> throw new IOException("알 수 없는 WAL 프레임: " + frame.type);
+                }
+            }
+        } finally {
+            socket = null;
+        }
+    }
+
+    private void applySnapshot(ByteBuffer payload) throws IOException {
+        long snapshotLogId = payload.getLong();
+        long snapshotSeq = payload.getLong();
+        List<StudyLogChangedEvent> events = studyLogDao.restoreReplicated(StudyLogSnapshotFile.decode(payload.slice()));
+        logId = snapshotLogId;
+        appliedSeq = snapshotSeq;
+        leaderSeq = Math.max(leaderSeq, snapshotSeq);
+        log.info("WAL 복제 스냅샷 반영 ({}건, 변경 {}건, seq {})", studyLogDao.count(), events.size(), snapshotSeq);
+        publish(events);
+    }
+
+    private void applyBatch(ByteBuffer payload, StudyLogSnapshotFile.Names names) throws IOException {
+        int count = payload.getInt();
+        for (int i = 0; i < count; i++) {
+            WalRecord record = WalRecord.decode(payload, names);
+            if (record.getSeq() <= appliedSeq) {
+                continue;
+            }
+            if (record.getSeq() != appliedSeq + 1) {
+                throw new IOException("WAL seq가 이어지지 않습니다: " + appliedSeq + " → " + record.getSeq());
+            }
+            List<StudyLogChangedEvent> events = studyLogDao.applyReplicated(record);
+            appliedSeq = record.getSeq();
+            publish(events);
+        }
+        leaderSeq = Math.max(leaderSeq, appliedSeq);
+    }
+
+    /**
+     * 반영한 변경 알림 (수신자가 실패해도 복제는 계속하도록 로그만 남김)
+     */
+    private void publish(List<StudyLogChangedEvent> events) {
+        for (StudyLogChangedEvent event : events) {
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("복제된 변경을 알리지 못했습니다 (id: {}): {}", event.getLogId(), e.getMessage());
+            }
+        }
+    }
+}
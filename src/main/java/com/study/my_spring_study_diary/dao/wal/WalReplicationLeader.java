@@ -0,0 +1,272 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogEngineCondition;
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshotFile;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WAL 복제 리더 (study-diary.replication.role=leader)
+ *
+ * 팔로워마다 연결 하나와 스레드 두 개(전송, ACK 수신)를 둡니다.
+ * - 접속 시 팔로워가 보낸 (logId, seq)부터 WAL로 이어 보낼 수 있으면 그대로, 아니면 스냅샷 + 그 시점 이후 WAL
+ * - 전송 스레드는 WAL에 새 레코드가 생기면 최대 max-batch개를 한 프레임으로 묶어 한 번에 flush하고,
+ *   ACK를 기다리지 않고 바로 다음 배치로 넘어감 (쓰기가 몰릴수록 배치가 커져 레코드당 비용이 줄어듦)
+ * - 보낼 레코드가 없으면 heartbeat-interval-ms마다 마지막 seq를 보내 팔로워가 지연을 알 수 있게 함
+ *
+ * 복제는 비동기이므로 리더의 쓰기는 팔로워를 기다리지 않습니다. (리더가 죽으면 아직 보내지 못한 쓰기는 유실)
+ */
+@Slf4j
+@Component
+@Conditional(StudyLogEngineCondition.InMemory.class)
+public class WalReplicationLeader {
+
+    private final InMemoryStudyLogDao studyLogDao;
+    private final StudyLogWal wal;
+    private final boolean enabled;
+    private final String bindAddress;
+    private final int port;
+    private final int maxBatch;
+    private final long heartbeatIntervalMillis;
+
+    private final Set<FollowerSession> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong shippedCount = new AtomicLong();
+    private final AtomicLong snapshotCount = new AtomicLong();
+
+    private volatile ServerSocket serverSocket;
+
+    public WalReplicationLeader(
+            InMemoryStudyLogDao studyLogDao,
+            StudyLogWal wal,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.replication.role:none}") String role,
+            @Value("${study-diary.replication.bind-address:0.0.0.0}") String bindAddress,
+            @Value("${study-diary.replication.port:7070}") int port,
+            @Value("${study-diary.replication.max-batch:512}") int maxBatch,
+            @Value("${study-diary.replication.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis) {
+        this.studyLogDao = studyLogDao;
+        this.wal = wal;
+        this.enabled = "leader".equalsIgnoreCase(role);
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.maxBatch = maxBatch;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+
+        Gauge.builder("studylog.replication.followers", sessions, Set::size)
+                .description("접속 중인 복제 팔로워 수")
+                .register(meterRegistry);
+        Gauge.builder("studylog.replication.leader.lag", this, WalReplicationLeader::getMaxLagRecords)
+                .description("가장 뒤처진 팔로워가 아직 반영하지 않은 WAL 레코드 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.replication.shipped", shippedCount, AtomicLong::get)
+                .description("팔로워에게 보낸 WAL 레코드 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.replication.snapshots", snapshotCount, AtomicLong::get)
+                .description("팔로워에게 보낸 스냅샷 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (!wal.isEnabled()) {
+            throw new IllegalStateException("복제 리더는 WAL이 켜져 있어야 합니다.");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(bindAddress, port));
+
+        Thread acceptor = new Thread(this::acceptLoop, "wal-leader-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("WAL 복제 리더 시작 ({}:{})", bindAddress, getPort());
+    }
+
+    @PreDestroy
+    public void stop() {
+        ServerSocket current = serverSocket;
+        serverSocket = null;
+        if (current != null) {
+            closeQuietly(current);
+        }
+        for (FollowerSession session : sessions) {
+            session.close();
+        }
+    }
+
+    /**
+     * 실제로 받고 있는 포트 (port: 0이면 임의 포트)
+     */
+    public int getPort() {
+        ServerSocket current = serverSocket;
+        return current != null ? current.getLocalPort() : -1;
+    }
+
+    public int getFollowerCount() {
+        return sessions.size();
+    }
+
+    public long getSnapshotsSent() {
+        return snapshotCount.get();
+    }
+
+    public long getMaxLagRecords() {
+        long lastSeq = wal.getLastSeq();
+        long lag = 0;
+        for (FollowerSession session : sessions) {
+            lag = Math.max(lag, lastSeq - session.ackedSeq);
+        }
+        return lag;
+    }
+
+    private void acceptLoop() {
+        ServerSocket current;
+        while ((current = serverSocket) != null) {
+            try {
+                Socket socket = current.accept();
+                FollowerSession session = new FollowerSession(socket);
+                sessions.add(session);
+                Thread sender = new Thread(session, "wal-leader-" + socket.getRemoteSocketAddress());
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException e) {
+                if (serverSocket != null) {
+                    log.warn("WAL 복제 접속 수락 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(java.io.Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    /**
+     * 팔로워 연결 하나
+     */
+    private final class FollowerSession implements Runnable {
+
+        private final Socket socket;
+        private volatile long ackedSeq = 0;
+
+        // 이 연결로 보내고 있는 로그와 마지막으로 보낸 seq
+        private long logId;
+        private long sentSeq;
+
+        private FollowerSession(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try {
+                socket.setTcpNoDelay(true);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+
+                WalProtocol.checkHeader(in.readInt(), in.readShort());
+                long followerLogId = in.readLong();
+                long followerSeq = in.readLong();
+
+                WalProtocol.writeHandshake(out);
+                if (wal.canResume(followerLogId, followerSeq)) {
+                    logId = followerLogId;
+                    sentSeq = followerSeq;
+                    ackedSeq = followerSeq;
+                    log.info("WAL 복제 팔로워 접속 ({}), seq {}부터 이어서 전송", socket.getRemoteSocketAddress(), sentSeq);
+                } else {
+                    sendSnapshot(out);
+                }
+                out.flush();
+
+                Thread ackReader = new Thread(() -> readAcks(in), Thread.currentThread().getName() + "-ack");
+                ackReader.setDaemon(true);
+                ackReader.start();
+
+                ship(out);
+            } catch (IOException e) {
+                log.info("WAL 복제 팔로워 연결 종료 ({}): {}", socket.getRemoteSocketAddress(), e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * WAL을 배치로 계속 전송 (ACK를 기다리지 않음)
+         */
+        private void ship(DataOutputStream out) throws IOException, InterruptedException {
+            while (!socket.isClosed()) {
+                List<byte[]> records = wal.readAfter(logId, sentSeq, maxBatch, heartbeatIntervalMillis);
+                if (records == null) {
+                    // 로그가 바뀌었거나(전체 복원) 너무 뒤처짐
+                    sendSnapshot(out);
+                } else if (records.isEmpty()) {
+                    WalProtocol.writeHeartbeat(out, sentSeq);
+                } else {
+                    WalProtocol.writeBatch(out, records);
+                    sentSeq += records.size();
+                    shippedCount.addAndGet(records.size());
+                }
+                out.flush();
+            }
+        }
+
+        private void sendSnapshot(DataOutputStream out) throws IOException {
+            WalSnapshot snapshot = studyLogDao.snapshotWithWalPosition();
+            byte[] bytes = StudyLogSnapshotFile.encode(snapshot.getSnapshot());
+            if (bytes.length > WalProtocol.MAX_FRAME_BYTES - 16) {
+                throw new IOException("스냅샷이 너무 커서 보낼 수 없습니다: " + bytes.length + " bytes");
+            }
+            WalProtocol.writeSnapshot(out, snapshot.getLogId(), snapshot.getSeq(), bytes);
+            logId = snapshot.getLogId();
+            sentSeq = snapshot.getSeq();
+            snapshotCount.incrementAndGet();
+            log.info("WAL 복제 팔로워({})에게 스냅샷 전송 ({}건, {} bytes, seq {})", socket.getRemoteSocketAddress(),
+                    snapshot.getSnapshot().getStudyLogs().size(), bytes.length, sentSeq);
+        }
+
+        private void readAcks(DataInputStream in) {
+            try {
+                while (true) {
+                    ackedSeq = in.readLong();
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            sessions.remove(this);
+            closeQuietly(socket);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.dao.snapshot.StudyLogSnapshot;
+
+/**
+ * 저장소 스냅샷과 그 시점의 WAL 위치 (팔로워는 스냅샷을 복원한 뒤 seq 다음 레코드부터 받음)
+ */
+public class WalSnapshot {
+
+    private final StudyLogSnapshot snapshot;
+    private final long logId;
+    private final long seq;
+
+    public WalSnapshot(StudyLogSnapshot snapshot, long logId, long seq) {
+        this.snapshot = snapshot;
+        this.logId = logId;
+        this.seq = seq;
+    }
+
+    public StudyLogSnapshot getSnapshot() { return snapshot; }
+    public long getLogId() { return logId; }
+    public long getSeq() { return seq; }
+}
@@ -0,0 +1,90 @@
+package com.study.my_spring_study_diary.dataset;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 합성 데이터 생성 실행기 (Spring 컨텍스트 없이 단독 실행)
+ *
+ * 실행 예시:
+ *   ./gradlew generateDataset -PdatasetArgs="--target=h2 --rows=1000000"
+ *   ./gradlew generateDataset -PdatasetArgs="--target=mysql --rows=100000 --url=jdbc:mysql://localhost:3306/diary_db"
+ *   ./gradlew generateDataset -PdatasetArgs="--target=memory --rows=1000000"
+ *
+ * 옵션:
+ *   --target   h2 | mysql | memory (기본값: h2)
+ *   --rows     생성할 행 수 (기본값: 100000)
+ *   --seed     난수 seed (기본값: 42)
+ *   --days     학습 날짜 범위 (기본값: 730)
+ *   --batch    JDBC 배치 크기 (기본값: 1000)
+ *   --url, --username, --password  JDBC 접속 정보 (h2 기본값: build/dataset/diary 파일 DB)
+ */
+public class DatasetGeneratorApplication {
+
+    private static final String DEFAULT_H2_URL = "jdbc:h2:file:./build/dataset/diary;MODE=MySQL";
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+
+        String target = options.getOrDefault("target", "h2");
+        long rows = Long.parseLong(options.getOrDefault("rows", "100000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int days = Integer.parseInt(options.getOrDefault("days", "730"));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch", "1000"));
+
+        SyntheticStudyLogGenerator generator = new SyntheticStudyLogGenerator(seed, LocalDate.now(), days);
+        StudyLogBulkLoader loader = new StudyLogBulkLoader(batchSize);
+
+        long startNanos = System.nanoTime();
+        switch (target) {
+            case "h2" -> {
+                JdbcTemplate jdbcTemplate = jdbcTemplate(options, DEFAULT_H2_URL, "sa", "");
+                new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")).execute(jdbcTemplate.getDataSource());
+                loader.load(jdbcTemplate, generator, rows);
+            }
+            case "mysql" -> {
+                // 스키마는 docker-compose 초기화 스크립트(schema.sql)로 이미 생성되어 있다고 가정
+                JdbcTemplate jdbcTemplate = jdbcTemplate(options,
+                        "jdbc:mysql://localhost:3306/diary_db?rewriteBatchedStatements=true", "root", "rootpass");
+                loader.load(jdbcTemplate, generator, rows);
+            }
+            case "memory" -> {
+                InMemoryStudyLogDao studyLogDao = new InMemoryStudyLogDao();
+                loader.load(studyLogDao, generator, rows);
+                System.out.println("인메모리 DAO 적재 완료: " + studyLogDao.count() + "건");
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 target입니다: " + target);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.printf("%s에 %,d건 적재 완료 (%,d ms, %,.0f rows/s)%n",
+                target, rows, elapsedMillis, rows * 1000.0 / Math.max(1, elapsedMillis));
+    }
+
+    private static JdbcTemplate jdbcTemplate(Map<String, String> options,
+                                             String defaultUrl, String defaultUsername, String defaultPassword) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                options.getOrDefault("url", defaultUrl),
+                options.getOrDefault("username", defaultUsername),
+                options.getOrDefault("password", defaultPassword));
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int index = arg.indexOf('=');
+                options.put(arg.substring(2, index), arg.substring(index + 1));
+            }
+        }
+        return options;
+    }
+}
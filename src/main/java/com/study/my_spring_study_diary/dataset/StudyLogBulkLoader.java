@@ -0,0 +1,70 @@
+package com.study.my_spring_study_diary.dataset;
+
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합성 데이터 대량 적재
+ *
+ * - JDBC(H2, MySQL): batchUpdate로 batchSize 건씩 INSERT
+ * - StudyLogDao   : save()를 반복 호출 (인메모리 DAO 등 JDBC가 아닌 구현체용)
+ */
+public class StudyLogBulkLoader {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO study_logs
+                (title, content, category, understanding, study_time, study_date, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final int batchSize;
+
+    public StudyLogBulkLoader(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * JDBC 배치 INSERT로 적재
+     */
+    public void load(JdbcTemplate jdbcTemplate, SyntheticStudyLogGenerator generator, long count) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+
+        generator.generate(count, studyLog -> {
+            batch.add(toParams(studyLog));
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+
+    /**
+     * DAO의 save()로 적재
+     */
+    public void load(StudyLogDao studyLogDao, SyntheticStudyLogGenerator generator, long count) {
+        generator.generate(count, studyLogDao::save);
+    }
+
+    private Object[] toParams(StudyLog studyLog) {
+        return new Object[]{
+                studyLog.getTitle(),
+                studyLog.getContent(),
+                studyLog.getCategory().name(),
+                studyLog.getUnderstanding().name(),
+                studyLog.getStudyTime(),
+                Date.valueOf(studyLog.getStudyDate()),
+                Timestamp.valueOf(studyLog.getCreatedAt()),
+                Timestamp.valueOf(studyLog.getUpdatedAt())
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.my_spring_study_diary.dataset;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 합성 학습 일지 데이터 생성기
+ *
+ * 실제 사용 패턴처럼 한쪽으로 치우친(skewed) 데이터를 만듭니다.
+ * - 카테고리   : Zipf 분포 (JAVA, SPRING이 대부분)
+ * - 이해도     : NORMAL/GOOD 위주
+ * - 학습 시간  : 로그 정규 분포 (대부분 30~90분, 가끔 긴 학습)
+ * - 학습 날짜  : 최근 날짜에 몰림 (지수 분포)
+ * - 제목       : 카테고리별 주제 + 약간씩 다른 표현 (비슷한 제목이 반복됨)
+ * - 내용       : 반복적인 문장, 길이는 제각각 (최대 1000자)
+ *
+ * 같은 seed면 항상 같은 데이터를 생성합니다.
+ */
+public class SyntheticStudyLogGenerator {
+
+    private static final Map<Category, String[]> TOPICS = Map.of(
+            Category.JAVA, new String[]{"Java Stream API", "Java 제네릭", "Java 컬렉션 프레임워크", "Java 람다 표현식",
+                    "Java 동시성", "Java Optional", "Java 예외 처리", "JVM 메모리 구조"},
+            Category.SPRING, new String[]{"Spring Boot 시작하기", "Spring DI와 IoC", "Spring MVC 구조",
+                    "Spring 트랜잭션", "Spring Security 기초", "Spring AOP"},
+            Category.JPA, new String[]{"JPA 영속성 컨텍스트", "JPA 연관관계 매핑", "JPA N+1 문제", "JPQL 기초"},
+            Category.DATABASE, new String[]{"MySQL 인덱스 최적화", "SQL 조인", "트랜잭션 격리 수준", "실행 계획 읽기"},
+            Category.ALGORITHM, new String[]{"이진 탐색", "동적 계획법", "그래프 탐색 BFS/DFS", "정렬 알고리즘"},
+            Category.CS, new String[]{"운영체제 프로세스와 스레드", "메모리 관리", "자료구조 기초"},
+            Category.NETWORK, new String[]{"HTTP 기초", "TCP/IP", "REST API 설계"},
+            Category.GIT, new String[]{"Git 브랜치 전략", "Git rebase와 merge"},
+            Category.ETC, new String[]{"개발 회고", "기술 블로그 정리"}
+    );
+
+    private static final String[] TITLE_SUFFIXES = {"", " 정리", " 복습", " 심화", " 실습", " 2회차", " 핵심 요약"};
+
+    private static final String[] SENTENCES = {
+            "오늘은 %s에 대해 학습했습니다.",
+            "핵심 개념과 동작 원리를 예제로 확인했습니다.",
+            "공식 문서를 읽고 중요한 부분을 정리했습니다.",
+            "실습 코드를 작성하면서 헷갈리는 부분을 다시 확인했습니다.",
+            "다음에는 %s를 실제 프로젝트에 적용해 볼 예정입니다.",
+            "비슷한 개념과 비교하면서 차이점을 정리했습니다."
+    };
+
+    // 카테고리 Zipf 가중치 (순서대로 인기 많음)
+    private static final Category[] CATEGORY_BY_POPULARITY = {
+            Category.JAVA, Category.SPRING, Category.DATABASE, Category.ALGORITHM, Category.JPA,
+            Category.CS, Category.NETWORK, Category.GIT, Category.ETC
+    };
+
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+    private static final double[] UNDERSTANDING_WEIGHTS = {0.15, 0.30, 0.30, 0.17, 0.08};
+
+    private final SplittableRandom random;
+    private final LocalDate today;
+    private final int dateRangeDays;
+    private final double[] categoryCumulative;
+
+    /**
+     * @param seed          난수 seed
+     * @param today         기준 날짜 (이 날짜부터 과거로 생성)
+     * @param dateRangeDays 생성할 날짜 범위 (일)
+     */
+    public SyntheticStudyLogGenerator(long seed, LocalDate today, int dateRangeDays) {
+        this.random = new SplittableRandom(seed);
+        this.today = today;
+        this.dateRangeDays = dateRangeDays;
+        this.categoryCumulative = zipfCumulative(CATEGORY_BY_POPULARITY.length, 1.1);
+    }
+
+    /**
+     * count 개의 학습 일지를 생성해 순서대로 consumer에 전달
+     * (전체를 메모리에 모으지 않으므로 수백만 건도 생성 가능)
+     */
+    public void generate(long count, Consumer<StudyLog> consumer) {
+        for (long i = 0; i < count; i++) {
+            consumer.accept(next());
+        }
+    }
+
+    /**
+     * 학습 일지 한 건 생성 (ID는 비워둠)
+     */
+    public StudyLog next() {
+        Category category = pickCategory();
+        String[] topics = TOPICS.get(category);
+        String topic = topics[skewedIndex(topics.length)];
+        String title = topic + TITLE_SUFFIXES[random.nextInt(TITLE_SUFFIXES.length)];
+
+        LocalDate studyDate = pickStudyDate();
+        StudyLog studyLog = new StudyLog(
+                null,
+                title.length() > 100 ? title.substring(0, 100) : title,
+                buildContent(topic),
+                category,
+                pickUnderstanding(),
+                pickStudyTime(),
+                studyDate);
+
+        LocalDateTime createdAt = studyDate.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+        studyLog.setCreatedAt(createdAt);
+        studyLog.setUpdatedAt(createdAt);
+        return studyLog;
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private Category pickCategory() {
+        double r = random.nextDouble();
+        for (int i = 0; i < categoryCumulative.length; i++) {
+            if (r < categoryCumulative[i]) {
+                return CATEGORY_BY_POPULARITY[i];
+            }
+        }
+        return CATEGORY_BY_POPULARITY[CATEGORY_BY_POPULARITY.length - 1];
+    }
+
+    private Understanding pickUnderstanding() {
+        double r = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < UNDERSTANDINGS.length; i++) {
+            cumulative += UNDERSTANDING_WEIGHTS[i];
+            if (r < cumulative) {
+                return UNDERSTANDINGS[i];
+            }
+        }
+        return UNDERSTANDINGS[UNDERSTANDINGS.length - 1];
+    }
+
+    /**
+     * 로그 정규 분포 (중앙값 약 50분), 5~480분으로 제한
+     */
+    private int pickStudyTime() {
+        double minutes = Math.exp(Math.log(50) + 0.6 * nextGaussian());
+        return (int) Math.max(5, Math.min(480, Math.round(minutes)));
+    }
+
+    /**
+     * 최근 날짜일수록 많이 선택되는 지수 분포
+     */
+    private LocalDate pickStudyDate() {
+        double meanDaysAgo = dateRangeDays / 5.0;
+        long daysAgo = (long) (-meanDaysAgo * Math.log(1 - random.nextDouble()));
+        return today.minusDays(Math.min(daysAgo, dateRangeDays - 1));
+    }
+
+    /**
+     * 앞쪽 인덱스가 더 자주 선택되도록 치우친 인덱스
+     */
+    private int skewedIndex(int length) {
+        double r = random.nextDouble();
+        return (int) (length * r * r);
+    }
+
+    private String buildContent(String topic) {
+        int sentenceCount = 1 + (int) Math.abs(nextGaussian() * 6);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < sentenceCount; i++) {
+            String sentence = String.format(SENTENCES[random.nextInt(SENTENCES.length)], topic);
+            if (content.length() + sentence.length() + 1 > 1000) {
+                break;
+            }
+            if (content.length() > 0) {
+                content.append(' ');
+            }
+            content.append(sentence);
+        }
+        return content.toString();
+    }
+
+    private double nextGaussian() {
+        // Box-Muller 변환
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static double[] zipfCumulative(int n, double exponent) {
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+            sum += weights[i];
+        }
+        double[] cumulative = new double[n];
+        double running = 0;
+        for (int i = 0; i < n; i++) {
+            running += weights[i] / sum;
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+}
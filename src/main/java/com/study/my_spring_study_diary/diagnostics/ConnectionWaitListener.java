@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+/**
+ * 커넥션 획득 대기 수신자 (TimedConnectionDataSource가 모든 스레드의 획득마다 호출)
+ *
+ * 요청 처리 경로에서 호출되므로 구현은 가볍게 유지합니다.
+ */
+public interface ConnectionWaitListener {
+
+    /**
+     * 커넥션 요청 시작
+     */
+    void acquisitionStarted();
+
+    /**
+     * 커넥션 요청 종료
+     *
+     * @param waitNanos 대기 시간
+     * @param acquired  false면 풀 타임아웃 등으로 받지 못함
+     */
+    void acquisitionFinished(long waitNanos, boolean acquired);
+}
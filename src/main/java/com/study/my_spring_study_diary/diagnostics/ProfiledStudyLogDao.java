@@ -0,0 +1,26 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import com.study.my_spring_study_diary.dao.DelegatingStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+
+import java.util.function.Supplier;
+
+/**
+ * SQL을 실행하지 않는 저장소 엔진(인메모리)의 DAO 호출을 QueryProfiler로 기록하는 StudyLogDao
+ *
+ * JDBC 엔진은 MySQLStudyLogDaoImpl이 SQL마다 기록하므로 감싸지 않습니다.
+ */
+public class ProfiledStudyLogDao extends DelegatingStudyLogDao {
+
+    private final QueryProfiler queryProfiler;
+
+    public ProfiledStudyLogDao(StudyLogDao delegate, QueryProfiler queryProfiler) {
+        super(delegate);
+        this.queryProfiler = queryProfiler;
+    }
+
+    @Override
+    protected <T> T invoke(String operation, boolean write, Supplier<T> call) {
+        return queryProfiler.profileCall(operation, call);
+    }
+}
@@ -0,0 +1,212 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import com.study.my_spring_study_diary.common.Page;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * DAO 쿼리 진단 도구
+ *
+ * 1. JFR 이벤트: 쿼리마다 operation, SQL, 파라미터, 결과 행 수, 실행 시간을 기록
+ *    (SQL이 없는 인메모리 엔진은 ProfiledStudyLogDao가 DAO 호출마다 operation, 행 수, 실행 시간만 기록)
+ * 2. 느린 쿼리 로그: 임계값을 넘은 SQL은 (SQL 형태별로) 한 번만 EXPLAIN 결과와 함께 로그
+ *    EXPLAIN은 별도 스레드에서 비동기로 실행되어 요청 처리 시간에 영향을 주지 않습니다.
+ * 3. 요청별 sql 구간 (RequestTiming, Server-Timing 헤더)
+ *
+ * JFR 이벤트와 느린 쿼리 로그가 모두 꺼져 있으면 필드 두 개를 읽고 바로 쿼리를 실행합니다.
+ */
+@Slf4j
+@Component
+public class QueryProfiler {
+
+    private static final int MAX_PARAMETER_LENGTH = 200;
+    private static final int MAX_LOGGED_SQL_SHAPES = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean jfrEnabled;
+    private final long slowQueryThresholdNanos;
+
+    // 이미 느린 쿼리로 로그를 남긴 SQL 형태
+    private final Set<String> loggedSqlShapes = ConcurrentHashMap.newKeySet();
+
+    // EXPLAIN 실행용 단일 스레드 (대기열이 차면 버림)
+    private final ThreadPoolExecutor explainExecutor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public QueryProfiler(
+            JdbcTemplate jdbcTemplate,
+            @Value("${study-diary.diagnostics.jfr.enabled:true}") boolean jfrEnabled,
+            @Value("${study-diary.diagnostics.slow-query.threshold-ms:0}") long slowQueryThresholdMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jfrEnabled = jfrEnabled;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    }
+
+    /**
+     * 쿼리 실행 + 진단 정보 기록
+     *
+     * @param operation DAO 메서드 이름
+     * @param sql       실행할 SQL (파라미터는 ? 그대로)
+     * @param params    바인딩 파라미터
+     * @param query     실제 쿼리 실행
+     */
+    public <T> T profile(String operation, String sql, Object[] params, Supplier<T> query) {
+        long sqlStartNanos = RequestTiming.start(RequestTiming.Phase.SQL);
+        try {
+            return diagnose(operation, sql, params, query);
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.SQL, sqlStartNanos);
+        }
+    }
+
+    /**
+     * SQL 없는 DAO 호출 하나를 기록 (인메모리 엔진, 느린 호출은 EXPLAIN 없이 로그)
+     */
+    public <T> T profileCall(String operation, Supplier<T> call) {
+        return diagnose(operation, null, null, call);
+    }
+
+    /**
+     * JFR 이벤트나 느린 쿼리 로그 중 하나라도 켜져 있는지
+     */
+    public boolean isEnabled() {
+        return jfrEnabled || slowQueryThresholdNanos > 0;
+    }
+
+    private <T> T diagnose(String operation, String sql, Object[] params, Supplier<T> query) {
+        boolean slowQueryEnabled = slowQueryThresholdNanos > 0;
+        if (!jfrEnabled && !slowQueryEnabled) {
+            return query.get();
+        }
+
+        StudyLogDaoEvent event = jfrEnabled ? new StudyLogDaoEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long startNanos = System.nanoTime();
+
+        T result = null;
+        boolean failed = true;
+        try {
+            result = query.get();
+            failed = false;
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = operation;
+                    event.sql = sql;
+                    event.parameters = formatParameters(params);
+                    event.rowCount = failed ? -1 : rowCount(result);
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+
+            if (slowQueryEnabled && elapsedNanos >= slowQueryThresholdNanos) {
+                reportSlowQuery(operation, sql, params, elapsedNanos);
+            }
+        }
+    }
+
+    // ========== SLOW QUERY ==========
+
+    private void reportSlowQuery(String operation, String sql, Object[] params, long elapsedNanos) {
+        // SQL이 없는 호출은 operation별로 한 번
+        String shape = sql != null ? sql : "operation:" + operation;
+        if (loggedSqlShapes.size() >= MAX_LOGGED_SQL_SHAPES || !loggedSqlShapes.add(shape)) {
+            return;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (sql == null) {
+            log.warn("느린 DAO 호출 감지 ({} ms, operation: {})", elapsedMillis, operation);
+            return;
+        }
+        explainExecutor.execute(() -> {
+            String plan = explain(sql, params);
+            log.warn("느린 쿼리 감지 ({} ms, operation: {})\nSQL: {}\nParameters: {}\nEXPLAIN:\n{}",
+                    elapsedMillis, operation, sql.strip(), formatParameters(params), plan);
+        });
+    }
+
+    private String explain(String sql, Object[] params) {
+        if (!sql.strip().toUpperCase().startsWith("SELECT")) {
+            return "(SELECT 문만 EXPLAIN 합니다)";
+        }
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+            return rows.stream()
+                    .map(Map::toString)
+                    .collect(Collectors.joining("\n"));
+        } catch (RuntimeException e) {
+            return "(EXPLAIN 실패: " + e.getMessage() + ")";
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static String formatParameters(Object[] params) {
+        if (params == null || params.length == 0) {
+            return "[]";
+        }
+        String formatted = Arrays.toString(params);
+        return formatted.length() > MAX_PARAMETER_LENGTH
+                ? formatted.substring(0, MAX_PARAMETER_LENGTH) + "..."
+                : formatted;
+    }
+
+    /**
+     * 결과 타입별 행 수 계산
+     * - 목록: 크기 / 페이지: 담긴 개수 / Optional: 0 또는 1 / update 결과(Integer): 영향받은 행 수 / 그 외: 1
+     */
+    private static int rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Page<?> page) {
+            return page.getContent().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer updated) {
+            return updated;
+        }
+        return 1;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * 요청 하나의 구간별 처리 시간 (Server-Timing 헤더, 샘플 링 버퍼)
+ *
+ * 서블릿 스레드마다 하나를 만들어 두고 요청마다 다시 씁니다. (기록 중에는 객체를 만들지 않음)
+ * 구간은 conn ⊂ sql ⊂ dao ⊂ app 순서로 겹쳐 있다고 보고, 안쪽 구간을 뺀 값으로 보여 줍니다.
+ * ServerTimingFilter가 begin()을 호출한 스레드에서만 기록하므로, 백그라운드 작업(워밍업, 복제 등)은 비용이 거의 없습니다.
+ *
+ * 사용법:
+ *   long start = RequestTiming.start(Phase.DAO);
+ *   try { ... } finally { RequestTiming.stop(Phase.DAO, start); }
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        CONNECTION("conn"),       // 커넥션 풀 대기
+        SQL("sql"),               // SQL 실행 (커넥션 대기 제외)
+        DAO("dao"),               // 행 매핑, 인메모리 인덱스, 동시성 제한, 읽기 복제본 (SQL 제외)
+        APP("app"),               // 필터 + 컨트롤러 + 서비스 (캐시, StudyLogResponse 변환) - 응답 쓰기 전까지, DAO 제외
+        SERIALIZATION("ser");     // 응답 본문 쓰기 (Jackson)
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * Server-Timing 헤더/샘플에 쓰는 이름
+         */
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final long NOT_TIMED = -1;
+
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+
+    // 직접 재는 구간(conn, sql, dao)의 누적 시간 (안쪽 구간 포함)
+    private final long[] inclusiveNanos = new long[PHASES.length];
+    private final int[] depth = new int[PHASES.length];
+    private final StringBuilder header = new StringBuilder(96);
+
+    private boolean active;
+    private long beginNanos;
+    private long bodyWriteNanos;
+    private long endNanos;
+
+    private RequestTiming() {
+    }
+
+    // ========== REQUEST ==========
+
+    /**
+     * 요청 시작 (이 스레드의 기록을 초기화)
+     */
+    public static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        Arrays.fill(timing.inclusiveNanos, 0);
+        Arrays.fill(timing.depth, 0);
+        timing.active = true;
+        timing.beginNanos = System.nanoTime();
+        timing.bodyWriteNanos = 0;
+        timing.endNanos = 0;
+        return timing;
+    }
+
+    /**
+     * 기록 중인 요청 (없으면 null)
+     */
+    public static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    /**
+     * 응답 본문 쓰기 직전 (여기까지가 app, 이후는 ser)
+     */
+    public void markBodyWrite() {
+        if (bodyWriteNanos == 0) {
+            bodyWriteNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 요청 종료 (이후 이 스레드의 start/stop은 기록하지 않음)
+     */
+    public void end() {
+        endNanos = System.nanoTime();
+        active = false;
+    }
+
+    // ========== PHASE ==========
+
+    /**
+     * 구간 시작 (기록 중인 요청이 없으면 아무것도 하지 않음)
+     *
+     * @return stop()에 넘길 시작 시각
+     */
+    public static long start(Phase phase) {
+        RequestTiming timing = CURRENT.get();
+        if (!timing.active) {
+            return NOT_TIMED;
+        }
+        timing.depth[phase.ordinal()]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * 구간 종료 (같은 구간이 중첩되면 가장 바깥 호출만 더함)
+     */
+    public static void stop(Phase phase, long startNanos) {
+        if (startNanos == NOT_TIMED) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (--timing.depth[phase.ordinal()] == 0) {
+            timing.inclusiveNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    // ========== RESULT ==========
+
+    /**
+     * 안쪽 구간을 뺀 구간별 시간
+     */
+    public long exclusiveNanos(Phase phase) {
+        long connection = inclusiveNanos[Phase.CONNECTION.ordinal()];
+        long sql = Math.max(inclusiveNanos[Phase.SQL.ordinal()], connection);
+        long dao = Math.max(inclusiveNanos[Phase.DAO.ordinal()], sql);
+        long appEnd = bodyWriteNanos != 0 ? bodyWriteNanos : (endNanos != 0 ? endNanos : System.nanoTime());
+        return switch (phase) {
+            case CONNECTION -> connection;
+            case SQL -> sql - connection;
+            case DAO -> dao - sql;
+            case APP -> Math.max(0, appEnd - beginNanos - dao);
+            case SERIALIZATION -> bodyWriteNanos != 0 && endNanos != 0 ? endNanos - bodyWriteNanos : 0;
+        };
+    }
+
+    /**
+     * 요청 전체 시간 (끝나지 않았으면 지금까지)
+     */
+    public long totalNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - beginNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (응답 쓰기 전에 만들므로 ser는 빠짐)
+     * 예) conn;dur=0.012, sql;dur=1.503, dao;dur=0.210, app;dur=0.874
+     */
+    public String serverTimingHeader() {
+        header.setLength(0);
+        for (Phase phase : PHASES) {
+            if (phase == Phase.SERIALIZATION) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            header.append(phase.metricName).append(";dur=");
+            appendMillis(header, exclusiveNanos(phase));
+        }
+        return header.toString();
+    }
+
+    /**
+     * 나노초를 소수점 셋째 자리까지의 밀리초로 (String.format 없이)
+     */
+    private static void appendMillis(StringBuilder target, long nanos) {
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        target.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            target.append('0');
+        }
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+    }
+}
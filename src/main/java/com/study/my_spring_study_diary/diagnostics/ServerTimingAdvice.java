@@ -0,0 +1,36 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 Server-Timing 헤더 추가
+ *
+ * 헤더는 본문보다 먼저 나가야 하므로 ser(Jackson 직렬화)는 헤더에 넣을 수 없고, 샘플 링 버퍼에서 확인합니다.
+ * 예외 처리기(GlobalExceptionHandler) 응답에도 붙습니다.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.markBodyWrite();
+            response.getHeaders().set(RequestTiming.HEADER, timing.serverTimingHeader());
+        }
+        return body;
+    }
+}
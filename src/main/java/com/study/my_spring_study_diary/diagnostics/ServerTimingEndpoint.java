@@ -0,0 +1,33 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 샘플링된 요청의 구간별 시간 조회 (GET /actuator/servertiming)
+ *
+ * 구간: conn(커넥션 풀 대기), sql, dao, app(컨트롤러 + 서비스), ser(응답 직렬화), total (모두 ms)
+ */
+@Component
+@Endpoint(id = "servertiming")
+public class ServerTimingEndpoint {
+
+    private final ServerTimingSamples samples;
+
+    public ServerTimingEndpoint(ServerTimingSamples samples) {
+        this.samples = samples;
+    }
+
+    @ReadOperation
+    public Map<String, Object> samples() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleEvery", samples.getSampleEvery());
+        result.put("capacity", samples.getCapacity());
+        result.put("samples", samples.recent());
+        return result;
+    }
+}
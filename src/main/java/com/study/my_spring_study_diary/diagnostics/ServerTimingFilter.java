@@ -0,0 +1,54 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 구간별 시간 기록 시작/종료
+ *
+ * 가장 먼저 실행되는 필터로 두어 다른 필터 시간도 app 구간에 포함합니다.
+ * Server-Timing 헤더는 응답 본문을 쓰기 직전에 ServerTimingAdvice가 붙이고,
+ * 본문 쓰기(ser)까지 포함한 전체 기록은 샘플링된 요청만 ServerTimingSamples에 남습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final ServerTimingSamples samples;
+    private final boolean enabled;
+
+    public ServerTimingFilter(
+            ServerTimingSamples samples,
+            @Value("${study-diary.diagnostics.server-timing.enabled:true}") boolean enabled) {
+        this.samples = samples;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timing.end();
+            if (samples.shouldSample()) {
+                samples.record(request.getMethod(), request.getRequestURI(), response.getStatus(), timing);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 구간별 시간 샘플 링 버퍼 (/actuator/servertiming)
+ *
+ * sample-every번째 요청마다 하나씩, 미리 만들어 둔 슬롯에 덮어씁니다. (0이면 샘플링하지 않음)
+ * 샘플링하지 않는 요청은 카운터 증가 한 번만 합니다.
+ */
+@Component
+public class ServerTimingSamples {
+
+    private static final RequestTiming.Phase[] PHASES = RequestTiming.Phase.values();
+
+    private final long sampleEvery;
+    private final Sample[] slots;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    // 다음에 쓸 슬롯 (this로 보호)
+    private long next;
+
+    public ServerTimingSamples(
+            @Value("${study-diary.diagnostics.server-timing.sample-every:100}") long sampleEvery,
+            @Value("${study-diary.diagnostics.server-timing.sample-capacity:256}") int capacity) {
+        if (sampleEvery < 0 || capacity < 1) {
+            throw new IllegalArgumentException("server-timing sample-every는 0 이상, sample-capacity는 1 이상이어야 합니다.");
+        }
+        this.sampleEvery = sampleEvery;
+        this.slots = new Sample[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Sample();
+        }
+    }
+
+    /**
+     * 이번 요청을 샘플링할지 결정
+     */
+    public boolean shouldSample() {
+        return sampleEvery > 0 && requestCount.incrementAndGet() % sampleEvery == 0;
+    }
+
+    /**
+     * 끝난 요청의 구간별 시간을 가장 오래된 슬롯에 기록
+     */
+    public synchronized void record(String method, String path, int status, RequestTiming timing) {
+        Sample sample = slots[(int) (next++ % slots.length)];
+        sample.epochMillis = System.currentTimeMillis();
+        sample.method = method;
+        sample.path = path;
+        sample.status = status;
+        sample.totalNanos = timing.totalNanos();
+        for (RequestTiming.Phase phase : PHASES) {
+            sample.phaseNanos[phase.ordinal()] = timing.exclusiveNanos(phase);
+        }
+    }
+
+    /**
+     * 최근 샘플 (최신순, 시간은 밀리초)
+     */
+    public synchronized List<Map<String, Object>> recent() {
+        int size = (int) Math.min(next, slots.length);
+        List<Map<String, Object>> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(slots[(int) ((next - i) % slots.length)].toMap());
+        }
+        return recent;
+    }
+
+    public long getSampleEvery() {
+        return sampleEvery;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    private static final class Sample {
+        private long epochMillis;
+        private String method;
+        private String path;
+        private int status;
+        private long totalNanos;
+        private final long[] phaseNanos = new long[PHASES.length];
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("time", Instant.ofEpochMilli(epochMillis).toString());
+            map.put("method", method);
+            map.put("path", path);
+            map.put("status", status);
+            map.put("total", toMillis(totalNanos));
+            for (RequestTiming.Phase phase : PHASES) {
+                map.put(phase.getMetricName(), toMillis(phaseNanos[phase.ordinal()]));
+            }
+            return map;
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 1000.0) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * StudyLogDao 쿼리 실행 JFR 이벤트
+ *
+ * JFR 녹화가 켜져 있을 때만 기록되며, 녹화가 꺼져 있으면 commit 비용이 거의 없습니다.
+ * 예) java -XX:StartFlightRecording=filename=diary.jfr,settings=profile -jar app.jar
+ *     jfr print --events com.study.diary.StudyLogDaoQuery diary.jfr
+ */
+@Name("com.study.diary.StudyLogDaoQuery")
+@Label("StudyLog DAO Query")
+@jdk.jfr.Category({"Study Diary", "DAO"})
+@Description("StudyLogDao가 실행한 SQL 한 건 (인메모리 엔진은 DAO 호출 한 건, SQL과 파라미터는 비어 있음)")
+@StackTrace(false)
+public class StudyLogDaoEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Parameters")
+    String parameters;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,67 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 획득 시간을 기록하는 DataSource
+ *
+ * - RequestTiming의 conn 구간 (Server-Timing)
+ * - ConnectionWaitListener (DB 포화 감지, 없으면 null)
+ *
+ * Hikari 풀이 비어 있으면 이 시간이 늘어납니다. unwrap()/isWrapperFor()는 원본 풀로 위임하므로
+ * Hikari 메트릭, 헬스 체크, 워밍업은 그대로 동작합니다.
+ */
+public class TimedConnectionDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final ConnectionWaitListener waitListener;
+
+    public TimedConnectionDataSource(DataSource targetDataSource, ConnectionWaitListener waitListener) {
+        super(targetDataSource);
+        this.waitListener = waitListener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(username, password);
+    }
+
+    private Connection timed(String username, String password) throws SQLException {
+        long timingStart = RequestTiming.start(RequestTiming.Phase.CONNECTION);
+        if (waitListener != null) {
+            waitListener.acquisitionStarted();
+        }
+        long startNanos = System.nanoTime();
+        boolean acquired = false;
+        try {
+            Connection connection = username == null
+                    ? super.getConnection()
+                    : super.getConnection(username, password);
+            acquired = true;
+            return connection;
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.CONNECTION, timingStart);
+            if (waitListener != null) {
+                waitListener.acquisitionFinished(System.nanoTime() - startNanos, acquired);
+            }
+        }
+    }
+
+    /**
+     * 컨텍스트 종료 시 원본 풀 닫기 (감싼 뒤에도 Hikari close()가 호출되도록)
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import com.study.my_spring_study_diary.dao.DelegatingStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+
+import java.util.function.Supplier;
+
+/**
+ * DAO 호출 시간을 RequestTiming의 dao 구간으로 기록하는 StudyLogDao
+ *
+ * 가장 바깥 데코레이터로 두어 동시성 제한 대기, 읽기 복제본 조회까지 dao 구간에 포함합니다.
+ */
+public class TimedStudyLogDao extends DelegatingStudyLogDao {
+
+    public TimedStudyLogDao(StudyLogDao delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected <T> T invoke(String operation, boolean write, Supplier<T> call) {
+        long startNanos = RequestTiming.start(RequestTiming.Phase.DAO);
+        try {
+            return call.get();
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.DAO, startNanos);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.my_spring_study_diary.dto.response;
+
+public class ErrorResponse {
+
+    private int status;
+    private String message;
+
+    public static ErrorResponse of(int status, String message) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.status = status;
+        errorResponse.message = message;
+
+        return errorResponse;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
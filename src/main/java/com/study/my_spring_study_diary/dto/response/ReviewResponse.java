@@ -0,0 +1,23 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복습 대상 응답
+ */
+public class ReviewResponse {
+
+    private LocalDateTime dueAt;        // 복습 예정 시각
+    private StudyLogResponse studyLog;
+
+    public static ReviewResponse of(LocalDateTime dueAt, StudyLogResponse studyLog) {
+        ReviewResponse response = new ReviewResponse();
+        response.dueAt = dueAt;
+        response.studyLog = studyLog;
+        return response;
+    }
+
+    // Getter 메서드들
+    public LocalDateTime getDueAt() { return dueAt; }
+    public StudyLogResponse getStudyLog() { return studyLog; }
+}
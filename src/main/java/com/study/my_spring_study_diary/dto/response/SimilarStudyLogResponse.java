@@ -0,0 +1,21 @@
+package com.study.my_spring_study_diary.dto.response;
+
+/**
+ * 비슷한 학습 일지 응답
+ */
+public class SimilarStudyLogResponse {
+
+    private double similarity;          // 추정 유사도 (0.0 ~ 1.0)
+    private StudyLogResponse studyLog;
+
+    public static SimilarStudyLogResponse of(double similarity, StudyLogResponse studyLog) {
+        SimilarStudyLogResponse response = new SimilarStudyLogResponse();
+        response.similarity = similarity;
+        response.studyLog = studyLog;
+        return response;
+    }
+
+    // Getter 메서드들
+    public double getSimilarity() { return similarity; }
+    public StudyLogResponse getStudyLog() { return studyLog; }
+}
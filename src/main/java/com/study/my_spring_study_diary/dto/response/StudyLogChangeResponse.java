@@ -0,0 +1,30 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습 일지 변경 스트림(SSE) 메시지
+ */
+public class StudyLogChangeResponse {
+
+    private String type;               // CREATED, UPDATED, DELETED
+    private Long logId;
+    private StudyLogResponse studyLog; // 삭제면 null
+    private LocalDateTime occurredAt;
+
+    public static StudyLogChangeResponse of(String type, Long logId, StudyLogResponse studyLog,
+                                            LocalDateTime occurredAt) {
+        StudyLogChangeResponse response = new StudyLogChangeResponse();
+        response.type = type;
+        response.logId = logId;
+        response.studyLog = studyLog;
+        response.occurredAt = occurredAt;
+        return response;
+    }
+
+    // Getter 메서드들
+    public String getType() { return type; }
+    public Long getLogId() { return logId; }
+    public StudyLogResponse getStudyLog() { return studyLog; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -0,0 +1,64 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 학습 시간 집계 응답
+ */
+public class StudyTimeRangeResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String granularity;
+    private long totalMinutes;
+    private long totalCount;
+    private List<Bucket> buckets;
+
+    public static StudyTimeRangeResponse of(LocalDate startDate, LocalDate endDate, String granularity,
+                                            List<Bucket> buckets) {
+        StudyTimeRangeResponse response = new StudyTimeRangeResponse();
+        response.startDate = startDate;
+        response.endDate = endDate;
+        response.granularity = granularity;
+        response.buckets = buckets;
+        for (Bucket bucket : buckets) {
+            response.totalMinutes += bucket.minutes;
+            response.totalCount += bucket.count;
+        }
+        return response;
+    }
+
+    // Getter 메서드들
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public String getGranularity() { return granularity; }
+    public long getTotalMinutes() { return totalMinutes; }
+    public long getTotalCount() { return totalCount; }
+    public List<Bucket> getBuckets() { return buckets; }
+
+    /**
+     * 구간 하나의 집계
+     */
+    public static class Bucket {
+
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private long minutes;
+        private long count;
+
+        public static Bucket of(LocalDate startDate, LocalDate endDate, long minutes, long count) {
+            Bucket bucket = new Bucket();
+            bucket.startDate = startDate;
+            bucket.endDate = endDate;
+            bucket.minutes = minutes;
+            bucket.count = count;
+            return bucket;
+        }
+
+        public LocalDate getStartDate() { return startDate; }
+        public LocalDate getEndDate() { return endDate; }
+        public long getMinutes() { return minutes; }
+        public long getCount() { return count; }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.study.my_spring_study_diary.autocomplete.TitleTrie;
+
+/**
+ * 제목 자동완성 응답
+ */
+public class TitleSuggestionResponse {
+
+    private String title;   // 표시용 제목 (같은 제목 중 가장 최근에 저장된 표기)
+    private int count;      // 같은 제목의 일지 수
+
+    public static TitleSuggestionResponse from(TitleTrie.Suggestion suggestion) {
+        TitleSuggestionResponse response = new TitleSuggestionResponse();
+        response.title = suggestion.getTitle();
+        response.count = suggestion.getCount();
+        return response;
+    }
+
+    // Getter 메서드들
+    public String getTitle() { return title; }
+    public int getCount() { return count; }
+}
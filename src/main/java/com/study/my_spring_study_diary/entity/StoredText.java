@@ -0,0 +1,180 @@
+package com.study.my_spring_study_diary.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 저장용 텍스트 (평문 또는 압축된 바이트)
+ *
+ * 압축된 텍스트는 text()를 호출할 때마다 풀고 결과를 들고 있지 않습니다.
+ * 저장소에는 압축된 채로 남고, 실제로 내용을 읽는 응답 변환 시점에만 CPU를 씁니다.
+ *
+ * 인코딩된 바이트를 힙 밖 저장소(Store)에 두고 슬롯 번호만 들고 있을 수도 있습니다. (external)
+ *
+ * 인코딩 형식 (DB 컬럼, 스냅샷 등 바이트로 옮길 때)
+ * - [0x00][UTF-8 바이트]                     : 평문
+ * - [0x01][원본 UTF-8 길이 4바이트][deflate]  : 압축
+ */
+public final class StoredText {
+
+    private static final byte PLAIN = 0x00;
+    private static final byte DEFLATE = 0x01;
+
+    private final String plain;
+    private final byte[] encoded;
+
+    // 외부 저장소에 있는 경우 (store != null)
+    private final Store store;
+    private final int slot;
+    private final boolean externalCompressed;
+
+    /**
+     * 인코딩된 바이트를 슬롯 번호로 보관하는 외부 저장소 (예: 오프힙 아레나)
+     */
+    public interface Store {
+
+        /**
+         * 슬롯에 저장된 인코딩 바이트 (마커 바이트 포함)
+         */
+        byte[] read(int slot);
+    }
+
+    private StoredText(String plain, byte[] encoded) {
+        this(plain, encoded, null, -1, false);
+    }
+
+    private StoredText(String plain, byte[] encoded, Store store, int slot, boolean externalCompressed) {
+        this.plain = plain;
+        this.encoded = encoded;
+        this.store = store;
+        this.slot = slot;
+        this.externalCompressed = externalCompressed;
+    }
+
+    /**
+     * 평문 그대로 보관
+     */
+    public static StoredText of(String text) {
+        return new StoredText(text, null);
+    }
+
+    /**
+     * deflate로 압축해서 보관 (압축해도 작아지지 않으면 평문)
+     */
+    public static StoredText deflate(String text, int level) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 2 + 16);
+            out.write(DEFLATE);
+            out.write(ByteBuffer.allocate(4).putInt(utf8.length).array(), 0, 4);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] encoded = out.toByteArray();
+            // 마커 바이트 + 길이까지 더해서도 UTF-8보다 작아야 압축해 둘 의미가 있음
+            return encoded.length < utf8.length ? new StoredText(null, encoded) : of(text);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 인코딩된 바이트를 풀지 않고 그대로 보관 (마커 바이트로 형식을 판단)
+     */
+    public static StoredText decode(byte[] encoded) {
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("인코딩된 텍스트가 비어 있습니다.");
+        }
+        return switch (encoded[0]) {
+            case PLAIN -> of(new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8));
+            case DEFLATE -> new StoredText(null, encoded);
+            default -> throw new IllegalArgumentException("알 수 없는 텍스트 인코딩 마커입니다: " + encoded[0]);
+        };
+    }
+
+    /**
+     * 외부 저장소의 슬롯을 가리키는 텍스트 (읽을 때마다 저장소에서 바이트를 복사해 풂)
+     */
+    public static StoredText external(Store store, int slot, boolean compressed) {
+        return new StoredText(null, null, store, slot, compressed);
+    }
+
+    public boolean isCompressed() {
+        return store != null ? externalCompressed : encoded != null;
+    }
+
+    public boolean isStoredIn(Store store) {
+        return this.store != null && this.store == store;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * 원본 텍스트 (압축되어 있으면 매번 풂)
+     */
+    public String text() {
+        if (store != null) {
+            return decode(store.read(slot)).text();
+        }
+        if (encoded == null) {
+            return plain;
+        }
+
+        int length = ByteBuffer.wrap(encoded, 1, 4).getInt();
+        byte[] utf8 = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 5, encoded.length - 5);
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(utf8, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("압축된 텍스트가 손상되었습니다.");
+                }
+                read += n;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 텍스트가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 마커 바이트를 포함한 인코딩 바이트 (평문이면 새로 만듦)
+     */
+    public byte[] encoded() {
+        if (store != null) {
+            return store.read(slot);
+        }
+        if (encoded != null) {
+            return encoded.clone();
+        }
+        byte[] utf8 = plain.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[utf8.length + 1];
+        bytes[0] = PLAIN;
+        System.arraycopy(utf8, 0, bytes, 1, utf8.length);
+        return bytes;
+    }
+
+    /**
+     * 힙에 보관 중인 데이터의 대략적인 바이트 수 (평문은 UTF-16 기준 2바이트/글자, 외부 저장소면 0)
+     */
+    public int storedBytes() {
+        if (store != null) {
+            return 0;
+        }
+        return encoded != null ? encoded.length : plain.length() * 2;
+    }
+}
@@ -10,8 +10,8 @@ import java.util.Optional;
 public class StudyLog {
 
     private Long id;
-    private String title;
-    private String content;
+    private StoredText title;          // 오프힙 아레나에 있으면 getTitle()에서 읽음
+    private StoredText content;        // 압축되어 있으면 getContent()에서 풂
     private Category category;
     private Understanding understanding;
     private Integer studyTime;
@@ -27,8 +27,8 @@ public class StudyLog {
     public StudyLog(Long id, String title, String content, Category category,
                     Understanding understanding, Integer studyTime, LocalDate studyDate) {
         this.id = id;
-        this.title = title;
-        this.content = content;
+        this.title = title != null ? StoredText.of(title) : null;
+        this.content = content != null ? StoredText.of(content) : null;
         this.category = category;
         this.understanding = understanding;
         this.studyTime = studyTime;
@@ -50,20 +50,36 @@ public class StudyLog {
                 .map(String::toUpperCase)
                 .map(Category::valueOf)
                 .ifPresent(this::setCategory);
-        Optional.ofNullable(studyLogUpdateRequest.getCategory())
+        Optional.ofNullable(studyLogUpdateRequest.getUnderstanding())
                 .map(String::toUpperCase)
-                .map(Category::valueOf)
-                .ifPresent(this::setCategory);
+                .map(Understanding::valueOf)
+                .ifPresent(this::setUnderstanding);
         Optional.ofNullable(studyLogUpdateRequest.getStudyTime()).ifPresent(this::setStudyTime);
         Optional.ofNullable(studyLogUpdateRequest.getStudyDate()).ifPresent(this::setStudyDate);
 
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 현재 상태의 복사본 생성
+     * 수정 전 상태를 변경 이벤트에 담을 때 사용합니다.
+     */
+    public StudyLog copy() {
+        StudyLog copy = new StudyLog(id, null, null, category, understanding, studyTime, studyDate);
+        // 제목/내용은 풀지 않고 그대로 공유 (StoredText는 불변)
+        copy.setStoredTitle(title);
+        copy.setStoredContent(content);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        return copy;
+    }
+
     // Getter 메서드들
     public Long getId() { return id; }
-    public String getTitle() { return title; }
-    public String getContent() { return content; }
+    public String getTitle() { return title != null ? title.text() : null; }
+    public StoredText getStoredTitle() { return title; }
+    public String getContent() { return content != null ? content.text() : null; }
+    public StoredText getStoredContent() { return content; }
     public Category getCategory() { return category; }
     public Understanding getUnderstanding() { return understanding; }
     public Integer getStudyTime() { return studyTime; }
@@ -73,8 +89,10 @@ public class StudyLog {
 
     // Setter 메서드들
     public void setId(Long id) { this.id = id; }
-    public void setTitle(String title) { this.title = title; }
-    public void setContent(String content) { this.content = content; }
+    public void setTitle(String title) { this.title = title != null ? StoredText.of(title) : null; }
+    public void setStoredTitle(StoredText title) { this.title = title; }
+    public void setContent(String content) { this.content = content != null ? StoredText.of(content) : null; }
+    public void setStoredContent(StoredText content) { this.content = content; }
     public void setCategory(Category category) { this.category = category; }
     public void setUnderstanding(Understanding understanding) { this.understanding = understanding; }
     public void setStudyTime(Integer studyTime) { this.studyTime = studyTime; }
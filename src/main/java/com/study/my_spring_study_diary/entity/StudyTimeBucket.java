@@ -0,0 +1,55 @@
+package com.study.my_spring_study_diary.entity;
+
+/**
+ * 학습 시간 구간 (분 단위)
+ * 검색 조건과 비트맵 인덱스에서 학습 시간을 구간으로 묶어 다룰 때 사용합니다.
+ */
+public enum StudyTimeBucket {
+    UNDER_30(0, 30, "30분 미만"),
+    UNDER_60(30, 60, "30분 ~ 1시간"),
+    UNDER_120(60, 120, "1시간 ~ 2시간"),
+    OVER_120(120, Integer.MAX_VALUE, "2시간 이상");
+
+    private final int minMinutes;   // 포함
+    private final int maxMinutes;   // 미포함
+    private final String description;
+
+    StudyTimeBucket(int minMinutes, int maxMinutes, String description) {
+        this.minMinutes = minMinutes;
+        this.maxMinutes = maxMinutes;
+        this.description = description;
+    }
+
+    public int getMinMinutes() {
+        return minMinutes;
+    }
+
+    public int getMaxMinutes() {
+        return maxMinutes;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 학습 시간(분)이 속한 구간
+     */
+    public static StudyTimeBucket of(int studyTime) {
+        for (StudyTimeBucket bucket : values()) {
+            if (studyTime < bucket.maxMinutes) {
+                return bucket;
+            }
+        }
+        return OVER_120;
+    }
+
+    // null 체크
+    public static StudyTimeBucket from(String value) {
+        try {
+            return StudyTimeBucket.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
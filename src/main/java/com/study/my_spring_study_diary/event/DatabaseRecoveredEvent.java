@@ -0,0 +1,9 @@
+package com.study.my_spring_study_diary.event;
+
+/**
+ * DB 커넥션 획득이 정상으로 돌아와 저하 모드가 끝났을 때 발행 (DatabaseSaturation의 확인 스레드에서)
+ *
+ * 저하 모드 동안 오래된 응답을 돌려준 조회를 다시 읽어 캐시를 갱신하는 데 사용합니다.
+ */
+public class DatabaseRecoveredEvent {
+}
@@ -0,0 +1,10 @@
+package com.study.my_spring_study_diary.event;
+
+/**
+ * 학습 일지 변경 유형
+ */
+public enum StudyLogChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,91 @@
+package com.study.my_spring_study_diary.event;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 학습 일지 변경 이벤트
+ *
+ * StudyLogService의 쓰기(생성/수정/삭제)가 성공하면 발행됩니다.
+ * 복제 팔로워에서는 리더의 WAL 레코드를 반영한 뒤 WalReplicationFollower가 발행합니다. (replicated)
+ * - before: 변경 전 상태 (생성이면 null)
+ * - after : 변경 후 상태 (삭제면 null)
+ *
+ * 캐시, 인덱스 등 파생 데이터는 이 이벤트를 구독해서 갱신합니다.
+ */
+public class StudyLogChangedEvent {
+
+    private final StudyLogChangeType type;
+    private final StudyLog before;
+    private final StudyLog after;
+    private final boolean replicated;
+
+    private StudyLogChangedEvent(StudyLogChangeType type, StudyLog before, StudyLog after, boolean replicated) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+        this.replicated = replicated;
+    }
+
+    public static StudyLogChangedEvent created(StudyLog after) {
+        return new StudyLogChangedEvent(StudyLogChangeType.CREATED, null, after, false);
+    }
+
+    public static StudyLogChangedEvent updated(StudyLog before, StudyLog after) {
+        return new StudyLogChangedEvent(StudyLogChangeType.UPDATED, before, after, false);
+    }
+
+    public static StudyLogChangedEvent deleted(StudyLog before) {
+        return new StudyLogChangedEvent(StudyLogChangeType.DELETED, before, null, false);
+    }
+
+    /**
+     * 리더의 쓰기를 팔로워에 반영한 변경 (before/after로 생성/수정/삭제를 구분)
+     */
+    public static StudyLogChangedEvent replicated(StudyLog before, StudyLog after) {
+        StudyLogChangeType type = before == null ? StudyLogChangeType.CREATED
+                : after == null ? StudyLogChangeType.DELETED
+                : StudyLogChangeType.UPDATED;
+        return new StudyLogChangedEvent(type, before, after, true);
+    }
+
+    public StudyLogChangeType getType() {
+        return type;
+    }
+
+    public StudyLog getBefore() {
+        return before;
+    }
+
+    public StudyLog getAfter() {
+        return after;
+    }
+
+    /**
+     * 리더가 이미 변경 로그에 기록한 변경이면 true (다시 기록하지 않음)
+     */
+    public boolean isReplicated() {
+        return replicated;
+    }
+
+    public Long getLogId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    /**
+     * 이 변경의 영향을 받는 카테고리 (수정으로 카테고리가 바뀌면 두 개)
+     */
+    public Set<Category> getAffectedCategories() {
+        Set<Category> categories = EnumSet.noneOf(Category.class);
+        if (before != null && before.getCategory() != null) {
+            categories.add(before.getCategory());
+        }
+        if (after != null && after.getCategory() != null) {
+            categories.add(after.getCategory());
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.my_spring_study_diary.exception;
+
+import com.study.my_spring_study_diary.dto.response.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 전역 예외 처리
+ *
+ * @RestControllerAdvice 어노테이션 설명:
+ * - 모든 컨트롤러에서 발생한 예외를 한 곳에서 처리합니다
+ * - 반환값은 JSON으로 변환되어 응답됩니다
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * 과부하로 인한 즉시 거절 → 503 + Retry-After
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
+    /**
+     * 읽기 전용 노드에 쓰기 → 503
+     */
+    @ExceptionHandler(ReadOnlyNodeException.class)
+    public ResponseEntity<ErrorResponse> handleReadOnlyNode(ReadOnlyNodeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
+    /**
+     * 잘못된 통계 조회 조건 → 400
+     */
+    @ExceptionHandler(InvalidStatsRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatsRequest(InvalidStatsRequestException e) {
+        return ResponseEntity.badRequest()
+                .body(ErrorResponse.of(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.my_spring_study_diary.exception;
+
+/**
+ * 잘못된 통계 조회 조건 (집계 단위, 날짜 범위, 구간 수)
+ */
+public class InvalidStatsRequestException extends RuntimeException {
+
+    public InvalidStatsRequestException(String message) {
+        super(message);
+    }
+}
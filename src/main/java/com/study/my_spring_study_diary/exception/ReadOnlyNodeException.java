@@ -0,0 +1,12 @@
+package com.study.my_spring_study_diary.exception;
+
+/**
+ * 읽기 전용 노드(복제 팔로워)에 쓰기 요청이 들어왔을 때 사용하는 예외
+ * GlobalExceptionHandler에서 503 Service Unavailable로 변환됩니다. (쓰기는 리더 노드로 보내야 함)
+ */
+public class ReadOnlyNodeException extends RuntimeException {
+
+    public ReadOnlyNodeException(String message) {
+        super(message);
+    }
+}
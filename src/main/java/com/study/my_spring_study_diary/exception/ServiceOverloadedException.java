@@ -0,0 +1,19 @@
+package com.study.my_spring_study_diary.exception;
+
+/**
+ * 서버가 과부하 상태라 요청을 바로 거절할 때 사용하는 예외
+ * GlobalExceptionHandler에서 503 Service Unavailable + Retry-After 헤더로 변환됩니다.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.my_spring_study_diary.feed;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 링 버퍼 (쓰기 하나, 읽기 여럿)
+ *
+ * - 쓰기는 한 번에 하나씩 순서 번호(sequence)를 붙여 칸을 덮어씁니다. 읽는 쪽을 기다리지 않습니다.
+ * - 읽는 쪽은 각자 자기 위치(sequence)를 들고 다니며 get(sequence)로 꺼냅니다.
+ * - 너무 뒤처져서 이미 덮어쓴 칸을 읽으려 하면 null을 받습니다. (따라잡기 불가 → 재동기화 필요)
+ *
+ * sequence는 1부터 시작합니다.
+ */
+public class EventRing<E> {
+
+    private final Entry<E>[] slots;
+    private final int mask;
+
+    // 마지막으로 쓴 sequence (0이면 아직 없음)
+    private volatile long published = 0;
+
+    // 새 항목을 기다리는 읽기 스레드용
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition newEntries = waitLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    public EventRing(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 붙은 sequence
+     */
+    public synchronized long publish(E event) {
+        long sequence = published + 1;
+        slots[(int) (sequence & mask)] = new Entry<>(sequence, event);
+        published = sequence;  // volatile 쓰기 → 위 칸 쓰기가 읽는 쪽에 보임
+
+        waitLock.lock();
+        try {
+            newEntries.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+        return sequence;
+    }
+
+    /**
+     * sequence 위치의 항목 (아직 쓰지 않았거나 이미 덮어썼으면 null)
+     */
+    public E get(long sequence) {
+        if (sequence < 1 || sequence > published) {
+            return null;
+        }
+        Entry<E> entry = slots[(int) (sequence & mask)];
+        return entry != null && entry.sequence == sequence ? entry.event : null;
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * 아직 덮어쓰지 않은 가장 오래된 sequence
+     */
+    public long getOldestAvailable() {
+        return Math.max(1, published - slots.length + 1);
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * published가 sequence보다 커질 때까지 최대 timeoutMillis 동안 대기
+     *
+     * @return 새 항목이 있으면 true
+     */
+    public boolean awaitAfter(long sequence, long timeoutMillis) throws InterruptedException {
+        if (published > sequence) {
+            return true;
+        }
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        waitLock.lock();
+        try {
+            while (published <= sequence && remaining > 0) {
+                remaining = newEntries.awaitNanos(remaining);
+            }
+            return published > sequence;
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    private static final class Entry<E> {
+        private final long sequence;
+        private final E event;
+
+        private Entry(long sequence, E event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.study.my_spring_study_diary.feed;
+
+import com.study.my_spring_study_diary.cache.CacheInvalidationListener;
+import com.study.my_spring_study_diary.cache.StudyLogChange;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dto.response.StudyLogChangeResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학습 일지 변경 SSE 스트림
+ *
+ * 동작 방식:
+ * 1. 변경 이벤트(로컬 쓰기 + 다른 노드의 쓰기)를 JSON으로 한 번 직렬화해 링 버퍼에 추가
+ *    (쓰기 쪽은 구독자를 전혀 기다리지 않음)
+ * 2. 구독자는 고정된 수의 fan-out 스레드(샤드)에 나눠 배정
+ * 3. 각 fan-out 스레드는 자기 샤드의 구독자 중 밀린 이벤트가 있는 구독자를 전송 스레드 풀에 맡김
+ *    (구독자마다 한 번에 하나의 전송만 진행, 위치(cursor)부터 최대 max-batch개씩)
+ *
+ * 느린 구독자 처리:
+ * - 링 버퍼가 한 바퀴 돌아 밀린 이벤트를 잃었으면 "resync" 이벤트를 보내고 최신 위치로 이동
+ *   (클라이언트는 목록을 다시 조회)
+ * - 전송 한 번이 slow-send-ms보다 오래 걸리면 fan-out 스레드가 구독을 끊음
+ *   (클라이언트는 Last-Event-ID로 재접속해 이어 받음)
+ *   TCP 윈도가 가득 찬 연결은 전송이 소켓 타임아웃까지 막히므로, fan-out 스레드는 직접 보내지 않고
+ *   막힌 전송이 끝날 때까지 전송 스레드를 하나 늘려 다른 구독자의 전송 용량을 유지합니다.
+ *
+ * 이벤트 ID는 "스트림ID-sequence" 형식입니다.
+ * 재시작했거나 다른 노드에 재접속해 스트림ID가 다르면 resync를 보냅니다.
+ */
+@Slf4j
+@Component
+public class StudyLogFeed implements CacheInvalidationListener {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private final StudyLogDao studyLogDao;
+    private final JsonMapper jsonMapper;
+    private final EventRing<StudyLogFeedEvent> ring;
+    private final int fanOutThreads;
+    private final int maxSubscribers;
+    private final int maxBatch;
+    private final long heartbeatIntervalMillis;
+    private final long slowSendNanos;
+    private final long stalledCheckMillis;
+    private final long emitterTimeoutMillis;
+
+    // 재시작 전이나 다른 노드의 이벤트 ID와 구분하기 위한 스트림 식별자
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final List<Shard> shards = new ArrayList<>();
+
+    // 실제 emitter.send를 하는 스레드 (막힌 전송 수만큼 늘렸다가 끝나면 줄임)
+    private final int sendThreads;
+    private final ThreadPoolExecutor sender;
+    private int stalledSends = 0;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong resyncCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public StudyLogFeed(
+            StudyLogDao studyLogDao,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.feed.ring-capacity:4096}") int ringCapacity,
+            @Value("${study-diary.feed.fan-out-threads:4}") int fanOutThreads,
+            @Value("${study-diary.feed.max-subscribers:10000}") int maxSubscribers,
+            @Value("${study-diary.feed.max-batch:64}") int maxBatch,
+            @Value("${study-diary.feed.send-threads:8}") int sendThreads,
+            @Value("${study-diary.feed.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+            @Value("${study-diary.feed.slow-send-ms:2000}") long slowSendMillis,
+            @Value("${study-diary.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.studyLogDao = studyLogDao;
+        this.jsonMapper = jsonMapper;
+        this.ring = new EventRing<>(ringCapacity);
+        this.fanOutThreads = fanOutThreads;
+        this.maxSubscribers = maxSubscribers;
+        this.maxBatch = maxBatch;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.slowSendNanos = TimeUnit.MILLISECONDS.toNanos(slowSendMillis);
+        this.stalledCheckMillis = Math.max(1, Math.min(slowSendMillis, heartbeatIntervalMillis));
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendThreads = sendThreads;
+        AtomicInteger senderNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                sendThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "study-log-feed-send-" + senderNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("studylog.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.feed.dropped", droppedCount, AtomicLong::get)
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.feed.resyncs", resyncCount, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < fanOutThreads; i++) {
+            Shard shard = new Shard();
+            Thread thread = new Thread(shard, "study-log-feed-" + i);
+            thread.setDaemon(true);
+            shard.thread = thread;
+            shards.add(shard);
+            thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            shard.thread.interrupt();
+            for (Subscriber subscriber : shard.subscribers) {
+                close(shard, subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+        sender.shutdownNow();
+    }
+
+    // ========== PUBLISH ==========
+
+    /**
+     * 로컬 쓰기
+     */
+    @EventListener
+    public void onStudyLogChanged(StudyLogChangedEvent event) {
+        StudyLog after = event.getAfter();
+        publish(event.getType(), event.getLogId(), after != null ? StudyLogResponse.from(after) : null);
+    }
+
+    /**
+     * 로컬 변경은 onStudyLogChanged에서 이미 발행하므로 받지 않음
+     */
+    @Override
+    public boolean receivesLocalChanges() {
+        return false;
+    }
+
+    /**
+     * 다른 노드의 쓰기 (변경 로그에는 내용이 없으므로 DAO에서 다시 읽음)
+     */
+    @Override
+    public void invalidate(List<StudyLogChange> changes) {
+        for (StudyLogChange change : changes) {
+            try {
+                if (change.getChangeType() == StudyLogChangeType.DELETED) {
+                    publish(StudyLogChangeType.DELETED, change.getLogId(), null);
+                    continue;
+                }
+                studyLogDao.findById(change.getLogId()).ifPresentOrElse(
+                        studyLog -> publish(change.getChangeType(), change.getLogId(), StudyLogResponse.from(studyLog)),
+                        () -> publish(StudyLogChangeType.DELETED, change.getLogId(), null));
+            } catch (RuntimeException e) {
+                log.warn("다른 노드의 변경을 스트림에 발행하지 못했습니다 (id: {}): {}", change.getLogId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 링 버퍼에 추가 (쓰기 요청이 실패하지 않도록 예외는 로그만 남김)
+     */
+    private void publish(StudyLogChangeType type, Long logId, StudyLogResponse studyLog) {
+        try {
+            String json = jsonMapper.writeValueAsString(
+                    StudyLogChangeResponse.of(type.name(), logId, studyLog, LocalDateTime.now()));
+            ring.publish(new StudyLogFeedEvent(type.name(), json));
+        } catch (RuntimeException e) {
+            log.warn("학습 일지 변경 스트림 발행 실패 (id: {}): {}", logId, e.getMessage());
+        }
+    }
+
+    // ========== SUBSCRIBE ==========
+
+    /**
+     * 구독 시작
+     *
+     * @param lastEventId 재접속 시 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더, 없으면 null)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    /**
+     * 구독 시작 (테스트에서 전송을 지켜볼 emitter를 넘길 때)
+     */
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceOverloadedException("스트림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.", 5);
+        }
+
+        long published = ring.getPublished();
+
+        // 이어 받을 수 있는 위치인지 확인 (모르는 ID이거나 이미 덮어쓴 위치면 resync)
+        Long resumeFrom = parseSequence(lastEventId);
+        boolean resync = lastEventId != null
+                && (resumeFrom == null || resumeFrom > published || resumeFrom < ring.getOldestAvailable() - 1);
+        Subscriber subscriber = new Subscriber(emitter, resync || resumeFrom == null ? published : resumeFrom);
+
+        Shard shard = shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+        emitter.onCompletion(() -> close(shard, subscriber));
+        emitter.onTimeout(() -> close(shard, subscriber));
+        emitter.onError(e -> close(shard, subscriber));
+
+        // fan-out 스레드에 넘기기 전에 첫 메시지 전송 (같은 emitter에 동시에 보내지 않도록)
+        try {
+            if (resync) {
+                sendResync(subscriber, published);
+            } else {
+                send(subscriber, SseEmitter.event().comment("connected"));
+            }
+        } catch (IOException e) {
+            close(shard, subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        shard.subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // ========== FAN-OUT ==========
+
+    /**
+     * fan-out 스레드 하나가 담당하는 구독자 묶음
+     */
+    private final class Shard implements Runnable {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private Thread thread;
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    long published = ring.getPublished();
+                    boolean sending = false;
+                    for (Subscriber subscriber : subscribers) {
+                        sending |= schedule(this, subscriber, published);
+                    }
+                    // 진행 중인 전송이 있으면 막혔는지 확인하러 일찍 깸
+                    ring.awaitAfter(published, sending ? stalledCheckMillis : heartbeatIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("학습 일지 변경 스트림 전송 중 오류: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 보낼 것이 있는 구독자의 전송을 전송 스레드에 맡기고, 진행 중인 전송이 slow-send-ms를 넘겼으면 구독을 끊음
+     * (fan-out 스레드는 emitter에 직접 쓰지 않으므로 막힌 연결이 있어도 다른 구독자를 계속 처리)
+     *
+     * @return 아직 전송이 진행 중이면 true
+     */
+    private boolean schedule(Shard shard, Subscriber subscriber, long published) {
+        if (subscriber.sending.get()) {
+            if (subscriber.markStalled(System.nanoTime() - slowSendNanos)) {
+                droppedCount.incrementAndGet();
+                close(shard, subscriber);
+                resizeSender(+1);
+                return false;
+            }
+            return true;
+        }
+        boolean heartbeatDue = System.currentTimeMillis() - subscriber.lastSentAt >= heartbeatIntervalMillis;
+        if ((subscriber.cursor < published || heartbeatDue) && subscriber.sending.compareAndSet(false, true)) {
+            sender.execute(() -> drain(shard, subscriber));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 전송 스레드: 한 묶음을 보내고, 남은 이벤트가 있으면 대기열 뒤에 다시 넣음 (구독자 사이 공정성)
+     */
+    private void drain(Shard shard, Subscriber subscriber) {
+        try {
+            if (!subscriber.closed.get()) {
+                deliver(subscriber);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 emitter
+            close(shard, subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+
+        if (subscriber.stalled) {
+            // 막혔던 전송이 이제 끝남 → 늘렸던 전송 스레드를 되돌리고 연결 종료
+            resizeSender(-1);
+            subscriber.emitter.complete();
+            return;
+        }
+        // 내려놓는 사이 발행된 이벤트는 fan-out 스레드가 이미 지나쳤을 수 있으므로 여기서 다시 맡음
+        if (!subscriber.closed.get() && subscriber.cursor < ring.getPublished()
+                && subscriber.sending.compareAndSet(false, true)) {
+            sender.execute(() -> drain(shard, subscriber));
+        }
+    }
+
+    /**
+     * 구독자 한 명에게 밀린 이벤트를 최대 maxBatch개 전송 (밀린 것이 없고 오래 조용했으면 heartbeat)
+     */
+    private void deliver(Subscriber subscriber) throws IOException {
+        long published = ring.getPublished();
+
+        // 링 버퍼가 한 바퀴 돌아 따라잡을 수 없음
+        if (subscriber.cursor < ring.getOldestAvailable() - 1) {
+            sendResync(subscriber, published);
+            return;
+        }
+
+        int sent = 0;
+        while (subscriber.cursor < published && sent < maxBatch && !subscriber.closed.get()) {
+            long sequence = subscriber.cursor + 1;
+            StudyLogFeedEvent event = ring.get(sequence);
+            if (event == null) {
+                sendResync(subscriber, published);
+                return;
+            }
+            send(subscriber, SseEmitter.event()
+                    .id(eventId(sequence))
+                    .name(event.getType())
+                    .data(event.getJson(), MediaType.APPLICATION_JSON));
+            subscriber.cursor = sequence;
+            sent++;
+        }
+
+        if (sent == 0 && System.currentTimeMillis() - subscriber.lastSentAt >= heartbeatIntervalMillis) {
+            send(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStarted();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendFinished();
+        }
+        subscriber.lastSentAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 막힌 전송 수만큼 전송 스레드를 늘리거나 줄임 (막힌 스레드는 소켓 타임아웃까지 돌아오지 않음)
+     */
+    private synchronized void resizeSender(int delta) {
+        stalledSends += delta;
+        sender.setCorePoolSize(sendThreads + stalledSends);
+    }
+
+    private void sendResync(Subscriber subscriber, long published) throws IOException {
+        resyncCount.incrementAndGet();
+        send(subscriber, SseEmitter.event()
+                .id(eventId(published))
+                .name(RESYNC_EVENT)
+                .data(Map.of("latestEventId", eventId(published)), MediaType.APPLICATION_JSON));
+        subscriber.cursor = published;
+    }
+
+    private void close(Shard shard, Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            shard.subscribers.remove(subscriber);
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    // ========== EVENT ID ==========
+
+    private String eventId(long sequence) {
+        return streamId + "-" + sequence;
+    }
+
+    /**
+     * 이 스트림의 이벤트 ID면 sequence, 아니면 null
+     */
+    private Long parseSequence(String eventId) {
+        if (eventId == null || !eventId.startsWith(streamId + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(streamId.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 구독자 한 명의 상태 (cursor는 sending을 잡은 전송 스레드만 변경)
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+        private volatile long cursor;
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        // 진행 중인 emitter.send 시작 시각 (진행 중이 아니면 sendInProgress = false)
+        private boolean sendInProgress = false;
+        private long sendStartedAt;
+        private volatile boolean stalled = false;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private synchronized void sendStarted() {
+            sendInProgress = true;
+            sendStartedAt = System.nanoTime();
+        }
+
+        private synchronized void sendFinished() {
+            sendInProgress = false;
+        }
+
+        /**
+         * 진행 중인 전송이 deadline 이전에 시작했으면 막힌 것으로 표시
+         * (전송이 끝나는 것과 겹쳐도 한쪽만 이기도록 같은 잠금 안에서 판단)
+         */
+        private synchronized boolean markStalled(long deadline) {
+            if (stalled || !sendInProgress || sendStartedAt - deadline > 0) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+    }
+}
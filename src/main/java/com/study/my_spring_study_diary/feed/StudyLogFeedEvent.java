@@ -0,0 +1,19 @@
+package com.study.my_spring_study_diary.feed;
+
+/**
+ * 링 버퍼에 담기는 변경 이벤트
+ * 구독자 수만큼 직렬화하지 않도록 JSON은 발행할 때 한 번만 만들어 둡니다.
+ */
+public final class StudyLogFeedEvent {
+
+    private final String type;
+    private final String json;
+
+    public StudyLogFeedEvent(String type, String json) {
+        this.type = type;
+        this.json = json;
+    }
+
+    public String getType() { return type; }
+    public String getJson() { return json; }
+}
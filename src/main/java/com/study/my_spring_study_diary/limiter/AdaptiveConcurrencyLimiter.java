@@ -0,0 +1,148 @@
+package com.study.my_spring_study_diary.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 방식의 적응형 동시성 제한기
+ *
+ * - 동시에 처리 중인 요청 수(inFlight)가 limit 이상이면 즉시 거절합니다.
+ * - 응답 시간이 기준 지연(baseline)의 tolerance 배를 넘거나 연결 실패가 나면
+ *   limit을 backoffRatio 만큼 곱해서 줄입니다. (Multiplicative Decrease)
+ * - 지연이 정상이고 limit을 충분히 쓰고 있으면 1씩 늘립니다. (Additive Increase)
+ *
+ * baseline은 최근 baselineWindow 개 샘플의 최소 응답 시간을 천천히 따라갑니다.
+ * DB가 느려져 Hikari 대기열에서 시간이 쌓이면 응답 시간이 늘어나고,
+ * limit이 줄어들어 Tomcat 스레드가 30초씩 묶이기 전에 빠르게 거절하게 됩니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int baselineWindow;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private volatile int limit;
+
+    // 아래 필드는 onSample()에서만 (synchronized) 변경
+    private long baselineRttNanos = 0;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples = 0;
+    private long lastDecreaseNanos = 0;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double latencyTolerance, int baselineWindow) {
+        this(name, initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, baselineWindow, System::nanoTime);
+    }
+
+    /**
+     * 응답 시간을 잴 시계를 지정하는 생성자 (테스트에서 지연을 직접 흉내 낼 때)
+     */
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                               double backoffRatio, double latencyTolerance, int baselineWindow,
+                               LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("잘못된 동시성 제한 범위입니다: " + minLimit + "~" + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.baselineWindow = baselineWindow;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 처리 슬롯 획득 시도
+     *
+     * @return 획득하면 true, limit에 도달해 거절되면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 응답 시간 측정 시작 시각 (tryAcquire 직후에 받아 release에 넘김)
+     */
+    public long startNanos() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * 처리 슬롯 반납 및 응답 시간 샘플 반영
+     *
+     * @param startNanos tryAcquire 직후 startNanos()로 받은 값
+     * @param dropped    연결 획득 실패, 타임아웃 등 과부하로 인한 실패 여부
+     */
+    public void release(long startNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        onSample(now, now - startNanos, inFlightBeforeRelease, dropped);
+    }
+
+    private synchronized void onSample(long now, long rttNanos, int inFlightBeforeRelease, boolean dropped) {
+        updateBaseline(rttNanos);
+
+        boolean overloaded = dropped
+                || (baselineRttNanos > 0 && rttNanos > baselineRttNanos * latencyTolerance);
+
+        if (overloaded) {
+            // 같은 혼잡으로 연달아 줄어들지 않도록 응답 시간 한 번에 최대 한 번만 감소
+            if (now - lastDecreaseNanos >= rttNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlightBeforeRelease * 2 >= limit) {
+            // limit의 절반 이상을 실제로 쓰고 있을 때만 늘림 (유휴 상태에서 무한히 커지는 것 방지)
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private void updateBaseline(long rttNanos) {
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples < baselineWindow && baselineRttNanos > 0) {
+            return;
+        }
+
+        // 첫 샘플은 그대로 사용하고, 이후에는 윈도우 최소값을 천천히 따라감
+        baselineRttNanos = baselineRttNanos == 0
+                ? windowMinRttNanos
+                : (long) (baselineRttNanos * 0.8 + windowMinRttNanos * 0.2);
+        windowMinRttNanos = Long.MAX_VALUE;
+        windowSamples = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.my_spring_study_diary.limiter;
+
+import com.study.my_spring_study_diary.dao.DelegatingStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.exception.ServiceOverloadedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.util.function.Supplier;
+
+/**
+ * 적응형 동시성 제한을 적용한 StudyLogDao
+ *
+ * limit을 넘는 호출은 DB 커넥션을 기다리지 않고 바로 ServiceOverloadedException(503)으로 거절합니다.
+ */
+public class ConcurrencyLimitedStudyLogDao extends DelegatingStudyLogDao {
+
+    private final DaoConcurrencyLimits limits;
+
+    public ConcurrencyLimitedStudyLogDao(StudyLogDao delegate, DaoConcurrencyLimits limits) {
+        super(delegate);
+        this.limits = limits;
+    }
+
+    @Override
+    protected <T> T invoke(String operation, boolean write, Supplier<T> call) {
+        AdaptiveConcurrencyLimiter limiter = write ? limits.getWriteLimiter() : limits.getReadLimiter();
+
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요. (" + operation + ")",
+                    limits.getRetryAfterSeconds());
+        }
+
+        long startNanos = limiter.startNanos();
+        boolean dropped = false;
+        try {
+            return call.get();
+        } catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+            // 커넥션 획득 실패, 쿼리 타임아웃 등은 과부하 신호로 취급
+            dropped = true;
+            throw e;
+        } finally {
+            limiter.release(startNanos, dropped);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.study.my_spring_study_diary.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * DAO 계층의 읽기/쓰기 동시성 제한 설정과 메트릭
+ *
+ * 읽기와 쓰기는 별도의 제한기를 사용합니다.
+ * (조회 폭주 때문에 쓰기까지 거절되거나, 그 반대가 되지 않도록)
+ *
+ * 메트릭:
+ * - studylog.dao.concurrency.limit     : 현재 limit
+ * - studylog.dao.concurrency.in-flight : 처리 중인 요청 수
+ * - studylog.dao.concurrency.rejected  : 누적 거절 수
+ */
+@Component
+public class DaoConcurrencyLimits {
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    public DaoConcurrencyLimits(
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.dao.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${study-diary.dao.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${study-diary.dao.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${study-diary.dao.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${study-diary.dao.concurrency-limit.baseline-window:100}") int baselineWindow,
+            @Value("${study-diary.dao.concurrency-limit.read.initial-limit:10}") int readInitialLimit,
+            @Value("${study-diary.dao.concurrency-limit.read.min-limit:2}") int readMinLimit,
+            @Value("${study-diary.dao.concurrency-limit.read.max-limit:100}") int readMaxLimit,
+            @Value("${study-diary.dao.concurrency-limit.write.initial-limit:5}") int writeInitialLimit,
+            @Value("${study-diary.dao.concurrency-limit.write.min-limit:1}") int writeMinLimit,
+            @Value("${study-diary.dao.concurrency-limit.write.max-limit:50}") int writeMaxLimit) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.readLimiter = new AdaptiveConcurrencyLimiter("read",
+                readInitialLimit, readMinLimit, readMaxLimit, backoffRatio, latencyTolerance, baselineWindow);
+        this.writeLimiter = new AdaptiveConcurrencyLimiter("write",
+                writeInitialLimit, writeMinLimit, writeMaxLimit, backoffRatio, latencyTolerance, baselineWindow);
+
+        registerMetrics(meterRegistry, readLimiter);
+        registerMetrics(meterRegistry, writeLimiter);
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("studylog.dao.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("type", limiter.getName())
+                .description("현재 DAO 동시성 limit")
+                .register(meterRegistry);
+        Gauge.builder("studylog.dao.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("type", limiter.getName())
+                .description("처리 중인 DAO 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.dao.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .tag("type", limiter.getName())
+                .description("동시성 limit 초과로 거절된 DAO 호출 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public AdaptiveConcurrencyLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+}
@@ -0,0 +1,174 @@
+package com.study.my_spring_study_diary.limiter;
+
+import com.study.my_spring_study_diary.diagnostics.ConnectionWaitListener;
+import com.study.my_spring_study_diary.event.DatabaseRecoveredEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 커넥션 풀 포화 감지 (저하 모드)
+ *
+ * 커넥션 획득이 예산(acquire-budget-ms)을 넘으면 저하 모드로 들어갑니다.
+ * - 끝난 획득: 대기 시간이 예산을 넘었거나 풀 타임아웃으로 실패
+ * - 진행 중인 획득: 대기 중인 스레드가 있고 가장 오래 기다린 요청이 예산을 넘음 (30초 타임아웃을 기다리지 않음)
+ *
+ * 저하 모드에서는 DegradedModeStudyLogDao가 DB 호출을 바로 거절하고, 서비스는 마지막으로 성공한 응답(stale)을 돌려줍니다.
+ * 별도 스레드가 probe-interval-ms마다 커넥션을 하나 받아 보고, 예산 안에 받으면 저하 모드를 끝내고
+ * DatabaseRecoveredEvent를 발행합니다. (오래된 응답 다시 읽기)
+ *
+ * 메트릭:
+ * - studylog.degraded.active  : 저하 모드 여부 (1/0)
+ * - studylog.degraded.entered : 저하 모드 진입 횟수
+ */
+@Slf4j
+@Component
+public class DatabaseSaturation implements ConnectionWaitListener {
+
+    private final boolean enabled;
+    private final long budgetNanos;
+    private final long probeIntervalMillis;
+    private final long retryAfterSeconds;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean degraded = new AtomicBoolean();
+    private final AtomicLong enteredCount = new AtomicLong();
+
+    // 커넥션을 기다리는 스레드 수와, 대기가 시작된 (대략적인) 시각
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile long waitingSinceNanos;
+
+    private final ExecutorService probeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "db-saturation-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DatabaseSaturation(
+            MeterRegistry meterRegistry,
+            ObjectProvider<DataSource> dataSource,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${study-diary.degraded-mode.enabled:true}") boolean enabled,
+            @Value("${study-diary.degraded-mode.acquire-budget-ms:200}") long budgetMillis,
+            @Value("${study-diary.degraded-mode.probe-interval-ms:1000}") long probeIntervalMillis,
+            @Value("${study-diary.degraded-mode.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+
+        Gauge.builder("studylog.degraded.active", this, s -> s.degraded.get() ? 1 : 0)
+                .description("DB 포화로 저하 모드(오래된 응답 제공) 중인지 여부")
+                .register(meterRegistry);
+        FunctionCounter.builder("studylog.degraded.entered", enteredCount, AtomicLong::get)
+                .description("저하 모드 진입 횟수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 지금 DB 호출을 거절해야 하는지 (DAO 호출마다 확인)
+     */
+    public boolean isSaturated() {
+        if (!enabled) {
+            return false;
+        }
+        if (degraded.get()) {
+            return true;
+        }
+        if (waiting.get() > 0 && System.nanoTime() - waitingSinceNanos > budgetNanos) {
+            enter("커넥션 대기 " + waiting.get() + "건이 예산을 넘김");
+            return true;
+        }
+        return false;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    // ========== CONNECTION WAIT ==========
+
+    @Override
+    public void acquisitionStarted() {
+        if (waiting.getAndIncrement() == 0) {
+            waitingSinceNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void acquisitionFinished(long waitNanos, boolean acquired) {
+        // 남은 대기자가 언제부터 기다렸는지는 모르므로 지금으로 당김 (풀이 멈춰 있으면 아무도 끝나지 않아 곧 예산을 넘음)
+        if (waiting.decrementAndGet() > 0) {
+            waitingSinceNanos = System.nanoTime();
+        }
+        if (enabled && (!acquired || waitNanos > budgetNanos)) {
+            enter(acquired
+                    ? "커넥션 획득 " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms"
+                    : "커넥션 획득 실패");
+        }
+    }
+
+    // ========== MODE ==========
+
+    private void enter(String reason) {
+        if (!degraded.compareAndSet(false, true)) {
+            return;
+        }
+        enteredCount.incrementAndGet();
+        log.warn("DB 포화로 저하 모드 시작 ({}): 읽기는 마지막 응답으로, 쓰기는 바로 거절", reason);
+        probeExecutor.execute(this::probeUntilRecovered);
+    }
+
+    /**
+     * 커넥션을 예산 안에 받을 때까지 주기적으로 확인
+     */
+    private void probeUntilRecovered() {
+        long startedAt = System.currentTimeMillis();
+        while (degraded.get()) {
+            try {
+                Thread.sleep(probeIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long startNanos = System.nanoTime();
+            try (Connection ignored = dataSource.getObject().getConnection()) {
+                if (System.nanoTime() - startNanos <= budgetNanos) {
+                    degraded.set(false);
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("저하 모드 확인 실패: {}", e.getMessage());
+            }
+        }
+        log.info("DB 커넥션 획득이 정상으로 돌아와 저하 모드 종료 ({}ms)", System.currentTimeMillis() - startedAt);
+        eventPublisher.publishEvent(new DatabaseRecoveredEvent());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
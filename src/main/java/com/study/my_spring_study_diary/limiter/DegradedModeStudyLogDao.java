@@ -0,0 +1,32 @@
+package com.study.my_spring_study_diary.limiter;
+
+import com.study.my_spring_study_diary.dao.DelegatingStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.exception.ServiceOverloadedException;
+
+import java.util.function.Supplier;
+
+/**
+ * DB 포화(저하 모드) 중에는 커넥션을 기다리지 않고 바로 거절하는 StudyLogDao
+ *
+ * 읽기는 서비스가 마지막으로 성공한 응답으로 대신하고, 쓰기와 대신할 응답이 없는 읽기는 503 + Retry-After가 됩니다.
+ */
+public class DegradedModeStudyLogDao extends DelegatingStudyLogDao {
+
+    private final DatabaseSaturation saturation;
+
+    public DegradedModeStudyLogDao(StudyLogDao delegate, DatabaseSaturation saturation) {
+        super(delegate);
+        this.saturation = saturation;
+    }
+
+    @Override
+    protected <T> T invoke(String operation, boolean write, Supplier<T> call) {
+        if (saturation.isSaturated()) {
+            throw new ServiceOverloadedException(
+                    "DB 연결이 부족해 처리할 수 없습니다. 잠시 후 다시 시도해 주세요. (" + operation + ")",
+                    saturation.getRetryAfterSeconds());
+        }
+        return call.get();
+    }
+}
@@ -0,0 +1,87 @@
+package com.study.my_spring_study_diary.review;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 복습 예정 시각 순으로 정렬된 인덱스
+ *
+ * - (예정 시각, ID) 순서의 정렬 집합 + ID → 예정 시각 맵
+ * - 예약/변경/취소: O(log n)
+ * - 지금 복습할 항목 조회: 앞에서부터 예정 시각이 지난 것만 꺼내므로 O(log n + 반환 개수)
+ *   (예약된 항목이 수백만 개여도 아직 때가 안 된 항목은 보지 않음)
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class ReviewIndex {
+
+    private static final Comparator<ScheduledReview> DUE_ORDER =
+            Comparator.comparingLong(ScheduledReview::getDueAtMillis)
+                    .thenComparingLong(ScheduledReview::getLogId);
+
+    private final NavigableSet<ScheduledReview> byDueAt = new TreeSet<>(DUE_ORDER);
+    private final Map<Long, ScheduledReview> byId = new HashMap<>();
+
+    /**
+     * 예약 (이미 있으면 예정 시각 변경)
+     */
+    public void schedule(long logId, long dueAtMillis) {
+        ScheduledReview scheduled = new ScheduledReview(logId, dueAtMillis);
+        ScheduledReview previous = byId.put(logId, scheduled);
+        if (previous != null) {
+            byDueAt.remove(previous);
+        }
+        byDueAt.add(scheduled);
+    }
+
+    public void cancel(long logId) {
+        ScheduledReview previous = byId.remove(logId);
+        if (previous != null) {
+            byDueAt.remove(previous);
+        }
+    }
+
+    public void clear() {
+        byDueAt.clear();
+        byId.clear();
+    }
+
+    /**
+     * nowMillis까지 예정된 항목을 오래된 순으로 최대 limit개
+     */
+    public List<ScheduledReview> due(long nowMillis, int limit) {
+        List<ScheduledReview> result = new ArrayList<>();
+        for (ScheduledReview scheduled : byDueAt) {
+            if (scheduled.getDueAtMillis() > nowMillis || result.size() >= limit) {
+                break;
+            }
+            result.add(scheduled);
+        }
+        return result;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 예약된 복습 하나
+     */
+    public static final class ScheduledReview {
+        private final long logId;
+        private final long dueAtMillis;
+
+        private ScheduledReview(long logId, long dueAtMillis) {
+            this.logId = logId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        public long getLogId() { return logId; }
+        public long getDueAtMillis() { return dueAtMillis; }
+    }
+}
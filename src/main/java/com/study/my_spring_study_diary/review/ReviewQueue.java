@@ -0,0 +1,135 @@
+package com.study.my_spring_study_diary.review;
+
+import com.study.my_spring_study_diary.cache.StudyLogDerivedIndex;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogReviewTime;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 복습 대기열
+ *
+ * 이해도가 낮은(BAD, VERY_BAD) 학습 일지를 마지막 수정 시각 + 복습 간격에 다시 보도록 예약합니다.
+ * - VERY_BAD: very-bad-interval-hours 후
+ * - BAD: bad-interval-hours 후
+ * - 그 외: 예약 취소
+ *
+ * 복습 후 일지를 수정하면(이해도 변경 포함) 수정 시각 기준으로 다시 예약되고,
+ * 이해도가 NORMAL 이상이 되면 대기열에서 빠집니다.
+ *
+ * 예정 시각은 일지의 수정 시각만으로 정해지므로 재시작 시 그대로 복원할 수 있습니다.
+ * (적재 시에는 복습 대상 이해도인 일지의 ID, 이해도, 수정 시각만 읽음 - 제목/내용은 읽지 않음)
+ */
+@Component
+public class ReviewQueue extends StudyLogDerivedIndex<List<StudyLogReviewTime>> {
+
+    // 복습 간격이 있는 이해도 (intervalMillis와 같아야 함)
+    private static final Set<Understanding> REVIEWED = EnumSet.of(Understanding.VERY_BAD, Understanding.BAD);
+
+    private final long veryBadIntervalMillis;
+    private final long badIntervalMillis;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final ReviewIndex index = new ReviewIndex();
+
+    public ReviewQueue(
+            StudyLogDao studyLogDao,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.review.very-bad-interval-hours:24}") long veryBadIntervalHours,
+            @Value("${study-diary.review.bad-interval-hours:72}") long badIntervalHours) {
+        super(studyLogDao, "복습 대기열");
+        this.veryBadIntervalMillis = veryBadIntervalHours * 3_600_000L;
+        this.badIntervalMillis = badIntervalHours * 3_600_000L;
+
+        Gauge.builder("studylog.review.scheduled", this, ReviewQueue::size)
+                .register(meterRegistry);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 지금 복습할 항목 (예정 시각이 오래된 순)
+     */
+    public List<ReviewIndex.ScheduledReview> due(LocalDateTime now, int limit) {
+        ensureLoaded();
+        long nowMillis = now.atZone(zoneId).toInstant().toEpochMilli();
+        synchronized (index) {
+            return index.due(nowMillis, limit);
+        }
+    }
+
+    public int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    public LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+
+    // ========== 갱신 ==========
+
+    @Override
+    protected List<StudyLogReviewTime> load() {
+        return studyLogDao.findReviewTimes(REVIEWED);
+    }
+
+    @Override
+    protected int replace(List<StudyLogReviewTime> reviewTimes) {
+        synchronized (index) {
+            index.clear();
+            for (StudyLogReviewTime reviewTime : reviewTimes) {
+                applyLocked(reviewTime);
+            }
+            return index.size();
+        }
+    }
+
+    @Override
+    protected void apply(StudyLog studyLog) {
+        StudyLogReviewTime reviewTime = StudyLogReviewTime.of(studyLog);
+        synchronized (index) {
+            applyLocked(reviewTime);
+        }
+    }
+
+    @Override
+    protected void remove(Long id) {
+        synchronized (index) {
+            index.cancel(id);
+        }
+    }
+
+    private void applyLocked(StudyLogReviewTime reviewTime) {
+        long interval = intervalMillis(reviewTime.getUnderstanding());
+        if (interval < 0) {
+            index.cancel(reviewTime.getId());
+            return;
+        }
+        long modifiedMillis = reviewTime.getModifiedAt().atZone(zoneId).toInstant().toEpochMilli();
+        index.schedule(reviewTime.getId(), modifiedMillis + interval);
+    }
+
+    /**
+     * 이해도별 복습 간격 (복습 대상이 아니면 -1)
+     */
+    private long intervalMillis(Understanding understanding) {
+        return switch (understanding) {
+            case VERY_BAD -> veryBadIntervalMillis;
+            case BAD -> badIntervalMillis;
+            default -> -1;
+        };
+    }
+}
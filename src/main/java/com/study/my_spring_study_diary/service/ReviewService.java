@@ -0,0 +1,46 @@
+package com.study.my_spring_study_diary.service;
+
+import com.study.my_spring_study_diary.dto.response.ReviewResponse;
+import com.study.my_spring_study_diary.review.ReviewIndex;
+import com.study.my_spring_study_diary.review.ReviewQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 복습 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ReviewQueue reviewQueue;
+    private final StudyLogService studyLogService;
+
+    /**
+     * 지금 복습할 학습 일지 (예정 시각이 오래된 순)
+     * 대기열에서 예정 시각이 지난 항목만 꺼내고, 내용은 ID 조회(캐시 경유)로 채웁니다.
+     *
+     * @param limit 최대 개수 (1 ~ 100)
+     */
+    public List<ReviewResponse> getDueReviews(int limit) {
+        limit = Math.min(Math.max(1, limit), MAX_LIMIT);
+
+        List<ReviewResponse> reviews = new ArrayList<>();
+        for (ReviewIndex.ScheduledReview scheduled : reviewQueue.due(LocalDateTime.now(), limit)) {
+            try {
+                reviews.add(ReviewResponse.of(
+                        reviewQueue.toDateTime(scheduled.getDueAtMillis()),
+                        studyLogService.getStudyLogById(scheduled.getLogId())));
+            } catch (IllegalArgumentException e) {
+                // 대기열 조회와 내용 조회 사이에 삭제된 일지는 건너뜀
+            }
+        }
+        return reviews;
+    }
+}
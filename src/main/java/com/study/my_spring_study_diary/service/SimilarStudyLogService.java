@@ -0,0 +1,46 @@
+package com.study.my_spring_study_diary.service;
+
+import com.study.my_spring_study_diary.dto.response.SimilarStudyLogResponse;
+import com.study.my_spring_study_diary.similarity.SimilarLogIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비슷한 학습 일지 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class SimilarStudyLogService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final SimilarLogIndex similarLogIndex;
+    private final StudyLogService studyLogService;
+
+    /**
+     * 제목과 내용이 비슷한 학습 일지 (유사도 높은 순)
+     * 인덱스에서 후보 ID와 유사도를 얻고, 내용은 ID 조회(캐시 경유)로 채웁니다.
+     *
+     * @param id    기준 일지 ID (없으면 IllegalArgumentException)
+     * @param limit 최대 개수 (1 ~ 50)
+     */
+    public List<SimilarStudyLogResponse> getSimilarStudyLogs(Long id, int limit) {
+        studyLogService.getStudyLogById(id);
+        limit = Math.min(Math.max(1, limit), MAX_LIMIT);
+
+        List<SimilarStudyLogResponse> similar = new ArrayList<>();
+        for (SimilarLogIndex.SimilarLog candidate : similarLogIndex.findSimilar(id, limit)) {
+            try {
+                similar.add(SimilarStudyLogResponse.of(
+                        candidate.getSimilarity(),
+                        studyLogService.getStudyLogById(candidate.getLogId())));
+            } catch (IllegalArgumentException e) {
+                // 인덱스 조회와 내용 조회 사이에 삭제된 일지는 건너뜀
+            }
+        }
+        return similar;
+    }
+}
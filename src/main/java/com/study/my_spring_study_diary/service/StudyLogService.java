@@ -1,5 +1,12 @@
 package com.study.my_spring_study_diary.service;
 
+import com.study.my_spring_study_diary.cache.LastKnownGoodCache;
+import com.study.my_spring_study_diary.cache.PageQueryCache;
+import com.study.my_spring_study_diary.cache.PageQueryKey;
+import com.study.my_spring_study_diary.cache.SingleFlight;
+import com.study.my_spring_study_diary.cache.StaleServing;
+import com.study.my_spring_study_diary.cache.StudyLogResponseCache;
+import com.study.my_spring_study_diary.common.FacetedPage;
 import com.study.my_spring_study_diary.common.Page;
 import com.study.my_spring_study_diary.dao.StudyLogDao;
 import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
@@ -9,7 +16,15 @@ import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
 import com.study.my_spring_study_diary.entity.Category;
 import com.study.my_spring_study_diary.entity.StudyLog;
 import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.DatabaseRecoveredEvent;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.exception.ServiceOverloadedException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -26,6 +41,7 @@ import java.util.stream.Collectors;
  * - @Component와 기능적으로 동일하지만, 역할을 명확히 표현합니다
  */
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StudyLogService {
@@ -33,10 +49,29 @@ public class StudyLogService {
     // 의존성 주입: Repository를 주입받음
     private final StudyLogDao studyLogDao;
 
+    // 쓰기 성공 시 변경 이벤트 발행 (캐시 무효화 등)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ID별 응답 캐시
+    private final StudyLogResponseCache responseCache;
+
+    // 페이징 조회 결과 캐시
+    private final PageQueryCache pageCache;
+
+    // DB 포화/장애 시 대신 돌려줄 마지막 성공 응답
+    private final LastKnownGoodCache lastKnownGood;
+
+    // 동일한 조회의 동시 실행을 하나로 합침 (thundering herd 방지)
+    private final SingleFlight<Long, StudyLogResponse> findByIdFlight = new SingleFlight<>();
+    private final SingleFlight<PageQueryKey, Page<StudyLogResponse>> pageFlight = new SingleFlight<>();
+
     // 페이징 관련 상수
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final int MAX_PAGE_SIZE = 100;
 
+    // 학습 날짜 하한 (MySQL DATE 범위, 날짜별 집계 인덱스도 이 범위 안의 날짜만 다룸)
+    private static final LocalDate MIN_STUDY_DATE = LocalDate.of(1000, 1, 1);
+
     /**
      * 학습 일지 생성
      * @param request 생성 요청 DTO
@@ -60,6 +95,7 @@ public class StudyLogService {
 
         // 3. 저장
         StudyLog savedStudyLog = studyLogDao.save(studyLog);
+        eventPublisher.publishEvent(StudyLogChangedEvent.created(savedStudyLog));
 
         // 4. Entity → Response DTO 변환 후 반환
         return StudyLogResponse.from(savedStudyLog);
@@ -82,10 +118,28 @@ public class StudyLogService {
      * ID로 학습 일지 단건 조회
      */
     public StudyLogResponse getStudyLogById(Long id) {
+        StudyLogResponse cached = responseCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 같은 ID를 동시에 조회하면 DB 조회는 한 번만 수행 (그 사이 쓰기가 있었으면 새로 조회)
+        long stamp = responseCache.stamp();
+        try {
+            return findByIdFlight.execute(id, stamp, () -> loadById(id, stamp));
+        } catch (ServiceOverloadedException | DataAccessResourceFailureException | TransientDataAccessException e) {
+            return serveStale(lastKnownGood.staleById(id), e);
+        }
+    }
+
+    private StudyLogResponse loadById(Long id, long stamp) {
         StudyLog studyLog = studyLogDao.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 학습 일지를 찾을 수 없습니다. (id: " + id + ")"));
 
-        return StudyLogResponse.from(studyLog);
+        StudyLogResponse response = StudyLogResponse.from(studyLog);
+        responseCache.put(response, stamp);
+        lastKnownGood.putById(response);
+        return response;
     }
 
     /**
@@ -127,19 +181,24 @@ public class StudyLogService {
      * 페이징 처리된 학습 일지 목록 조회
      */
     public Page<StudyLogResponse> getStudyLogsWithPaging(int page, int size) {
+        return getStudyLogsWithPaging(page, size, null);
+    }
+
+    /**
+     * 스냅샷 토큰 기준 페이징 조회
+     * 토큰이 있으면 그 시점의 목록을 읽어야 하므로 페이지 캐시를 거치지 않고 DAO에서 바로 읽습니다.
+     *
+     * @param snapshot 이전 페이지 응답의 스냅샷 토큰 (첫 페이지는 null)
+     */
+    public Page<StudyLogResponse> getStudyLogsWithPaging(int page, int size, Long snapshot) {
         // 파라미터 유효성 검증
         page = Math.max(0, page);  // 음수 방지
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1~100 범위
 
-        Page<StudyLog> studyLogPage = studyLogDao.findAllWithPaging(page, size);
-
-        //Entity를 Response DTO로 변환
-        List<StudyLogResponse> content = studyLogPage.getContent().stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
-
-        // 페이징 정보를 유지하면서 DTO로 변환
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        if (snapshot != null) {
+            return toResponsePage(studyLogDao.findAllWithPaging(page, size, snapshot), page, size);
+        }
+        return findPage(PageQueryKey.all(page, size));
     }
 
     /**
@@ -155,50 +214,134 @@ public class StudyLogService {
             return new Page<>(List.of(), page, size, 0);
         }
 
-        Page<StudyLog> studyLogPage = studyLogDao.findByCategoryWithPaging(categoryStr.toUpperCase(), page, size);
-
-        List<StudyLogResponse> content = studyLogPage.getContent().stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
-
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        return findPage(PageQueryKey.category(categoryStr, page, size));
     }
 
     /**
      * 검색 + 페이징 조회
+     * 카테고리/이해도/학습 시간 구간은 여러 개를 지정할 수 있습니다. (같은 조건끼리는 OR)
+     *
      * @param titleKeyword 제목 키워드
-     * @param categoryStr 카테고리 문자열
+     * @param categories 카테고리 목록
+     * @param understandings 이해도 목록
+     * @param studyTimeBuckets 학습 시간 구간 목록
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param facets 패싯 개수(카테고리별/이해도별) 포함 여부
      * @return 페이징된 학습 일지 응답
      */
     public Page<StudyLogResponse> searchStudyLogsWithPaging(
             String titleKeyword,
-            String categoryStr,
+            List<String> categories,
+            List<String> understandings,
+            List<String> studyTimeBuckets,
             LocalDate startDate,
             LocalDate endDate,
             int page,
-            int size) {
+            int size,
+            boolean facets) {
 
         page = Math.max(0, page);
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
 
-        // 카테고리 문자열을 대문자로 변환 (유효성 검증은 DAO에서 처리)
-        String category = null;
-        if (categoryStr != null && !categoryStr.isBlank()) {
-            category = categoryStr.toUpperCase();
+        // 키 생성 시 카테고리는 대문자로, 키워드는 공백 제거 후 정규화 (유효성 검증은 DAO에서 처리)
+        return findPage(PageQueryKey.search(titleKeyword, categories, understandings, studyTimeBuckets,
+                startDate, endDate, page, size, facets));
+    }
+
+    /**
+     * 페이징 조회 공통 처리
+     * 1. 버전이 유효한 캐시 결과가 있으면 바로 반환
+     * 2. 없으면 같은 키로 동시에 들어온 요청끼리 하나의 DAO 조회 결과를 함께 사용
+     */
+    private Page<StudyLogResponse> findPage(PageQueryKey key) {
+        Page<StudyLogResponse> cached = pageCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = pageCache.currentVersion(key);
+        try {
+            return pageFlight.execute(key, version, () -> loadAndCachePage(key, version));
+        } catch (ServiceOverloadedException | DataAccessResourceFailureException | TransientDataAccessException e) {
+            return serveStale(lastKnownGood.stalePage(key), e);
         }
+    }
 
-        Page<StudyLog> studyLogPage = studyLogDao.searchWithPaging(
-                titleKeyword, category, startDate, endDate, page, size);
+    private Page<StudyLogResponse> loadAndCachePage(PageQueryKey key, long version) {
+        Page<StudyLogResponse> page = loadPage(key);
+        pageCache.put(key, page, version);
+        lastKnownGood.putPage(key, page);
+        return page;
+    }
+
+    private Page<StudyLogResponse> loadPage(PageQueryKey key) {
+        Page<StudyLog> studyLogPage = switch (key.getKind()) {
+            case ALL -> studyLogDao.findAllWithPaging(key.getPage(), key.getSize());
+            case CATEGORY -> studyLogDao.findByCategoryWithPaging(
+                    key.getCategory(), key.getPage(), key.getSize());
+            case SEARCH -> studyLogDao.searchWithPaging(key.getCondition(), key.getPage(), key.getSize());
+            case FACETED_SEARCH -> studyLogDao.searchWithFacets(key.getCondition(), key.getPage(), key.getSize());
+        };
+        return toResponsePage(studyLogPage, key.getPage(), key.getSize());
+    }
 
+    private Page<StudyLogResponse> toResponsePage(Page<StudyLog> studyLogPage, int page, int size) {
+        //Entity를 Response DTO로 변환
         List<StudyLogResponse> content = studyLogPage.getContent().stream()
                 .map(StudyLogResponse::from)
                 .collect(Collectors.toList());
 
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        // 페이징 정보를 유지하면서 DTO로 변환
+        if (studyLogPage instanceof FacetedPage<StudyLog> facetedPage) {
+            return new FacetedPage<>(content, page, size, facetedPage.getTotalElements(),
+                    facetedPage.getCategoryFacets(), facetedPage.getUnderstandingFacets());
+        }
+        return new Page<>(content, page, size, studyLogPage.getTotalElements(), studyLogPage.getSnapshot());
+    }
+
+    // ========== DEGRADED MODE ==========
+
+    /**
+     * DB 포화/장애로 조회에 실패하면 마지막 성공 응답을 돌려줌 (없으면 원래 예외 → 503)
+     * 쓰기는 이 경로를 타지 않으므로 그대로 실패합니다.
+     */
+    private <T> T serveStale(LastKnownGoodCache.Stale<T> stale, RuntimeException cause) {
+        if (stale == null) {
+            throw cause;
+        }
+        StaleServing.mark(stale.getAgeMillis());
+        return stale.getValue();
+    }
+
+    /**
+     * 저하 모드가 끝나면 그동안 오래된 응답을 돌려준 조회를 다시 읽어 캐시 갱신
+     * (DatabaseSaturation의 확인 스레드에서 실행, 다시 실패하면 남은 키는 다음 요청이 갱신)
+     */
+    @EventListener
+    public void revalidateStale(DatabaseRecoveredEvent event) {
+        List<Object> keys = lastKnownGood.drainPendingRefresh();
+        int refreshed = 0;
+        try {
+            for (Object key : keys) {
+                if (key instanceof PageQueryKey pageKey) {
+                    loadAndCachePage(pageKey, pageCache.currentVersion(pageKey));
+                } else if (key instanceof Long id) {
+                    long stamp = responseCache.stamp();
+                    studyLogDao.findById(id).ifPresent(studyLog -> {
+                        StudyLogResponse response = StudyLogResponse.from(studyLog);
+                        responseCache.put(response, stamp);
+                        lastKnownGood.putById(response);
+                    });
+                }
+                refreshed++;
+            }
+            log.info("저하 모드 동안 오래된 응답을 돌려준 조회 {}건 다시 읽음", refreshed);
+        } catch (RuntimeException e) {
+            log.warn("오래된 응답 다시 읽기 중단 ({}/{}건): {}", refreshed, keys.size(), e.getMessage());
+        }
     }
 
     // ========== UPDATE ==========
@@ -225,11 +368,13 @@ public class StudyLogService {
         // 3. 수정할 값들의 유효성 검증
         validateUpdateRequest(request);
 
-        // 4. 업데이트
+        // 4. 업데이트 (변경 전 상태는 이벤트용으로 복사해 둠)
+        StudyLog before = studyLog.copy();
         studyLog.update(request);
 
         // 5. 저장 및 응답 반환
         StudyLog updatedStudying = studyLogDao.update(studyLog);
+        eventPublisher.publishEvent(StudyLogChangedEvent.updated(before, updatedStudying));
         return StudyLogResponse.from(updatedStudying);
     }
 
@@ -258,7 +403,10 @@ public class StudyLogService {
         }
         if (Understanding.from(request.getUnderstanding()) == null || request.getUnderstanding().trim().isEmpty() ) {
             throw new IllegalArgumentException(
-                    "유효하지 않은 이해도입니다: " + request.getCategory());
+                    "유효하지 않은 이해도입니다: " + request.getUnderstanding());
+        }
+        if (request.getStudyDate() != null) {
+            validateStudyDate(request.getStudyDate());
         }
     }
 
@@ -289,8 +437,8 @@ public class StudyLogService {
             throw new IllegalArgumentException("학습 시간은 1분 이상이어야 합니다.");
         }
 
-        if (request.getStudyDate() != null && request.getStudyDate().isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("학습 날짜는 미래일 수 없습니다.");
+        if (request.getStudyDate() != null) {
+            validateStudyDate(request.getStudyDate());
         }
 
         if (request.getCategory() != null && Category.from(request.getCategory()) == null) {
@@ -300,7 +448,19 @@ public class StudyLogService {
 
         if (request.getUnderstanding() != null && Understanding.from(request.getUnderstanding()) == null) {
             throw new IllegalArgumentException(
-                    "유효하지 않은 이해도입니다: " + request.getCategory());
+                    "유효하지 않은 이해도입니다: " + request.getUnderstanding());
+        }
+    }
+
+    /**
+     * 학습 날짜 범위 검증 (미래 날짜, 저장할 수 없는 오래된 날짜)
+     */
+    private void validateStudyDate(LocalDate studyDate) {
+        if (studyDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("학습 날짜는 미래일 수 없습니다.");
+        }
+        if (studyDate.isBefore(MIN_STUDY_DATE)) {
+            throw new IllegalArgumentException("학습 날짜는 " + MIN_STUDY_DATE + " 이후여야 합니다.");
         }
     }
 
@@ -317,7 +477,9 @@ public class StudyLogService {
                         "해당 학습 일지를 찾을 수 없습니다. (id: " + id + ")"));
 
         //2. 삭제 수행
-        studyLogDao.deleteById(id);
+        if (studyLogDao.deleteById(id)) {
+            eventPublisher.publishEvent(StudyLogChangedEvent.deleted(studyLog));
+        }
 
         // 3. 삭제 결과 반환
         return StudyLogDeleteResponse.of(id);
@@ -0,0 +1,68 @@
+package com.study.my_spring_study_diary.service;
+
+import com.study.my_spring_study_diary.dto.response.StudyTimeRangeResponse;
+import com.study.my_spring_study_diary.exception.InvalidStatsRequestException;
+import com.study.my_spring_study_diary.stats.StudyTimeGranularity;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeSum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학습 통계 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyStatsService {
+
+    // 한 번에 돌려줄 수 있는 최대 구간 수 (예: 일 단위로 약 3년)
+    private static final int MAX_BUCKETS = 1000;
+
+    private final StudyTimeRangeIndex studyTimeRangeIndex;
+
+    /**
+     * 기간별 학습 시간 합계
+     * 구간마다 Fenwick 트리 구간 합 한 번(O(log 일수))으로 계산합니다.
+     *
+     * @param startDate      시작 날짜 (포함)
+     * @param endDate        종료 날짜 (포함)
+     * @param granularityStr 집계 단위 (DAY, WEEK, MONTH, YEAR, CUSTOM, TOTAL)
+     * @param bucketDays     CUSTOM일 때 구간 일수
+     */
+    public StudyTimeRangeResponse getStudyTime(LocalDate startDate, LocalDate endDate,
+                                               String granularityStr, Integer bucketDays) {
+        StudyTimeGranularity granularity = StudyTimeGranularity.from(granularityStr);
+        if (granularity == null) {
+            throw new InvalidStatsRequestException("지원하지 않는 집계 단위입니다: " + granularityStr);
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidStatsRequestException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        int days = 0;
+        if (granularity == StudyTimeGranularity.CUSTOM) {
+            if (bucketDays == null || bucketDays < 1) {
+                throw new InvalidStatsRequestException("CUSTOM 집계에는 1 이상의 bucketDays가 필요합니다.");
+            }
+            days = bucketDays;
+        }
+
+        List<StudyTimeRangeResponse.Bucket> buckets = new ArrayList<>();
+        LocalDate bucketStart = startDate;
+        while (!bucketStart.isAfter(endDate)) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                throw new InvalidStatsRequestException(
+                        "구간이 너무 많습니다. (최대 " + MAX_BUCKETS + "개) 더 큰 집계 단위를 사용하세요.");
+            }
+            LocalDate bucketEnd = granularity.bucketEnd(bucketStart, endDate, days);
+            StudyTimeSum sum = studyTimeRangeIndex.sum(bucketStart, bucketEnd);
+            buckets.add(StudyTimeRangeResponse.Bucket.of(bucketStart, bucketEnd, sum.getMinutes(), sum.getCount()));
+            bucketStart = bucketEnd.plusDays(1);
+        }
+
+        return StudyTimeRangeResponse.of(startDate, endDate, granularity.name(), buckets);
+    }
+}
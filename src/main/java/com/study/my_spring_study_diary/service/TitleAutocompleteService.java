@@ -0,0 +1,31 @@
+package com.study.my_spring_study_diary.service;
+
+import com.study.my_spring_study_diary.autocomplete.TitleAutocompleteIndex;
+import com.study.my_spring_study_diary.dto.response.TitleSuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 제목 자동완성 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class TitleAutocompleteService {
+
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+
+    /**
+     * 접두어로 시작하는 제목 (같은 제목의 일지가 많은 순)
+     * 대소문자와 연속 공백은 구분하지 않습니다.
+     *
+     * @param prefix 입력 중인 제목 앞부분
+     * @param limit  최대 개수 (1 ~ study-diary.autocomplete.top-k)
+     */
+    public List<TitleSuggestionResponse> suggestTitles(String prefix, int limit) {
+        return titleAutocompleteIndex.suggest(prefix, Math.max(1, limit)).stream()
+                .map(TitleSuggestionResponse::from)
+                .toList();
+    }
+}
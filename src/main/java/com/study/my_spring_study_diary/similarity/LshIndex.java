@@ -0,0 +1,119 @@
+package com.study.my_spring_study_diary.similarity;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash 서명용 LSH(Locality-Sensitive Hashing) 인덱스
+ *
+ * 서명을 bands개 구간(band)으로 나누고, 구간마다 그 값들의 해시를 버킷 키로 사용합니다.
+ * 어느 한 band라도 버킷이 같으면 후보가 됩니다.
+ * - 유사도가 s인 두 문서가 후보가 될 확률: 1 - (1 - s^rows)^bands
+ * - 조회는 자기 버킷들에 든 ID만 보므로 전체 개수와 무관하게 후보 수에 비례합니다.
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class LshIndex {
+
+    private final int bands;
+    private final int rows;
+
+    // band별 버킷 (버킷 키 → ID 집합)
+    private final Map<Long, Set<Long>>[] buckets;
+
+    // ID별 서명 (유사도 계산과 삭제 시 버킷 키 재계산에 사용)
+    private final Map<Long, int[]> signatures = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public LshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.buckets = new Map[bands];
+        for (int band = 0; band < bands; band++) {
+            buckets[band] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 서명 추가 (이미 있으면 교체)
+     */
+    public void put(long id, int[] signature) {
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException(
+                    "서명 길이가 bands × rows와 다릅니다: " + signature.length + " != " + bands * rows);
+        }
+        remove(id);
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets[band].computeIfAbsent(bandKey(signature, band), key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets[band].get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets[band].remove(key);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        signatures.clear();
+        for (Map<Long, Set<Long>> band : buckets) {
+            band.clear();
+        }
+    }
+
+    public int[] getSignature(long id) {
+        return signatures.get(id);
+    }
+
+    /**
+     * 서명과 버킷을 하나라도 공유하는 후보 ID (최대 maxCandidates개, excludeId 제외)
+     */
+    public Set<Long> candidates(int[] signature, long excludeId, int maxCandidates) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> bucket = buckets[band].get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Long id : bucket) {
+                if (id != excludeId) {
+                    candidates.add(id);
+                    if (candidates.size() >= maxCandidates) {
+                        return candidates;
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * band 구간 값들을 섞은 버킷 키 (band 번호도 섞어 band끼리 키가 겹치지 않게 함)
+     */
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        int from = band * rows;
+        for (int i = from; i < from + rows; i++) {
+            key = MinHasher.mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+}
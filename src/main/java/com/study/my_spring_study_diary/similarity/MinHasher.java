@@ -0,0 +1,92 @@
+package com.study.my_spring_study_diary.similarity;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 텍스트의 MinHash 서명 생성기
+ *
+ * 1. 텍스트를 정규화(소문자, 공백 하나로)한 뒤 글자 단위 k-gram(shingle) 집합으로 만듦
+ * 2. 서로 다른 해시 함수 numHashes개 각각에 대해 shingle 해시의 최솟값을 서명으로 사용
+ *
+ * 두 서명에서 같은 자리의 값이 일치하는 비율은 두 shingle 집합의 Jaccard 유사도의 추정치입니다.
+ * 글자 단위 shingle을 쓰므로 띄어쓰기나 조사가 조금 다른 한글 제목도 비슷하게 잡힙니다.
+ */
+public class MinHasher {
+
+    private final int numHashes;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, int shingleSize, long seed) {
+        if (numHashes < 1 || shingleSize < 1) {
+            throw new IllegalArgumentException("numHashes와 shingleSize는 1 이상이어야 합니다.");
+        }
+        this.numHashes = numHashes;
+        this.shingleSize = shingleSize;
+        this.seeds = new SplittableRandom(seed).longs(numHashes).toArray();
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * 텍스트의 MinHash 서명
+     */
+    public int[] signature(String text) {
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (int shingle : shingles(text)) {
+            for (int i = 0; i < numHashes; i++) {
+                int hash = (int) mix(shingle ^ seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명으로 추정한 Jaccard 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    /**
+     * 정규화한 텍스트의 글자 k-gram 해시 집합 (텍스트가 k보다 짧으면 전체를 하나로)
+     */
+    private Set<Integer> shingles(String text) {
+        String normalized = text == null ? "" : text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+        Set<Integer> shingles = new HashSet<>();
+        if (normalized.length() <= shingleSize) {
+            shingles.add(normalized.hashCode());
+            return shingles;
+        }
+        for (int i = 0; i + shingleSize <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + shingleSize).hashCode());
+        }
+        return shingles;
+    }
+
+    /**
+     * 64비트 해시 섞기 (SplitMix64 마무리 단계)
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,164 @@
+package com.study.my_spring_study_diary.similarity;
+
+import com.study.my_spring_study_diary.cache.StudyLogDerivedIndex;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogText;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 비슷한 학습 일지 인덱스 (MinHash + LSH)
+ *
+ * 제목과 내용의 글자 shingle로 MinHash 서명을 만들고 LSH 버킷에 넣어 둡니다.
+ * 조회 시 같은 버킷에 든 후보만 서명으로 유사도를 계산하므로 전체 일지와 쌍으로 비교하지 않습니다.
+ * - 기본값(64개 해시 = 16 band × 4 row)에서 후보가 될 확률이 50%를 넘는 유사도는 약 0.5
+ * - 후보 수는 max-candidates로 제한해 흔한 문구가 모인 큰 버킷에서도 조회 비용이 일정함
+ *
+ * 서명 생성(해시 계산)은 락 밖에서 하고, 인덱스 갱신과 조회만 락 안에서 합니다.
+ */
+@Component
+public class SimilarLogIndex extends StudyLogDerivedIndex<Map<Long, int[]>> {
+
+    private final MinHasher minHasher;
+    private final LshIndex index;
+    private final double minSimilarity;
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SimilarLogIndex(
+            StudyLogDao studyLogDao,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.similarity.bands:16}") int bands,
+            @Value("${study-diary.similarity.rows:4}") int rows,
+            @Value("${study-diary.similarity.shingle-size:3}") int shingleSize,
+            @Value("${study-diary.similarity.min-similarity:0.3}") double minSimilarity,
+            @Value("${study-diary.similarity.max-candidates:500}") int maxCandidates) {
+        super(studyLogDao, "유사 일지 인덱스");
+        this.minHasher = new MinHasher(bands * rows, shingleSize, 0x5EED_5EEDL);
+        this.index = new LshIndex(bands, rows);
+        this.minSimilarity = minSimilarity;
+        this.maxCandidates = maxCandidates;
+
+        Gauge.builder("studylog.similarity.indexed", this, SimilarLogIndex::size)
+                .register(meterRegistry);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 비슷한 일지 (유사도 높은 순, 같으면 ID 내림차순)
+     * 인덱스에 없는 ID면 빈 목록
+     */
+    public List<SimilarLog> findSimilar(long id, int limit) {
+        ensureLoaded();
+
+        List<SimilarLog> similar = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] signature = index.getSignature(id);
+            if (signature == null) {
+                return similar;
+            }
+            for (Long candidateId : index.candidates(signature, id, maxCandidates)) {
+                double similarity = MinHasher.similarity(signature, index.getSignature(candidateId));
+                if (similarity >= minSimilarity) {
+                    similar.add(new SimilarLog(candidateId, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        similar.sort(Comparator.comparingDouble(SimilarLog::getSimilarity).reversed()
+                .thenComparing(SimilarLog::getLogId, Comparator.reverseOrder()));
+        return similar.size() > limit ? new ArrayList<>(similar.subList(0, limit)) : similar;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 전체 일지의 서명 (제목/내용만 읽고, 해시 계산은 락 밖에서)
+     */
+    @Override
+    protected Map<Long, int[]> load() {
+        Map<Long, int[]> signatures = new LinkedHashMap<>();
+        for (StudyLogText text : studyLogDao.findAllTexts()) {
+            signatures.put(text.getId(), signatureOf(text.getTitle(), text.getContent()));
+        }
+        return signatures;
+    }
+
+    @Override
+    protected int replace(Map<Long, int[]> signatures) {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            signatures.forEach(index::put);
+            return index.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void apply(StudyLog studyLog) {
+        int[] signature = signatureOf(studyLog.getTitle(), studyLog.getContent());
+        lock.writeLock().lock();
+        try {
+            index.put(studyLog.getId(), signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] signatureOf(String title, String content) {
+        return minHasher.signature((title != null ? title : "") + " " + (content != null ? content : ""));
+    }
+
+    /**
+     * 비슷한 일지 ID와 추정 유사도
+     */
+    public static class SimilarLog {
+
+        private final long logId;
+        private final double similarity;
+
+        public SimilarLog(long logId, double similarity) {
+            this.logId = logId;
+            this.similarity = similarity;
+        }
+
+        public long getLogId() { return logId; }
+        public double getSimilarity() { return similarity; }
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.my_spring_study_diary.startup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 첫 요청 시점을 StartupTimingReport에 전달
+ *
+ * 헬스 체크(/actuator)는 트래픽이 아니므로 세지 않습니다.
+ * 기록한 뒤에는 요청마다 volatile 읽기 한 번만 합니다.
+ */
+@Component
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final ObjectProvider<StartupTimingReport> startupTimingReport;
+
+    private volatile boolean recorded;
+
+    public FirstRequestTimingFilter(ObjectProvider<StartupTimingReport> startupTimingReport) {
+        this.startupTimingReport = startupTimingReport;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorded || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!recorded) {
+            recorded = true;
+            startupTimingReport.ifAvailable(StartupTimingReport::recordFirstRequest);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.my_spring_study_diary.startup;
+
+import com.study.my_spring_study_diary.dao.replica.StudyLogReadReplica;
+import com.study.my_spring_study_diary.dao.snapshot.InMemorySnapshotManager;
+import com.study.my_spring_study_diary.dao.wal.WalReplicationFollower;
+import com.study.my_spring_study_diary.dao.wal.WalReplicationLeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * 시작 시간 관련 구성 (fast-start 프로파일에서 켬)
+ *
+ * - 버전 확인 SQL 초기화: 스크립트가 바뀌었을 때만 spring.sql.init 실행
+ * - 지연 초기화 예외: spring.main.lazy-initialization=true여도
+ *   요청이 오기 전에 돌아야 하는 빈(WAL 복제 리더/팔로워, 읽기 복제본 tailing, 스냅샷 복원)은 바로 만듦
+ *   (@Scheduled 메서드가 있는 빈은 Spring Boot가 이미 제외함)
+ *   파생 인덱스(StudyLogDerivedIndex)는 첫 조회 때 적재해도 되므로 지연 초기화 대상으로 둠
+ */
+@Configuration
+public class StartupConfig {
+
+    // 시작 시 바로 만들어야 하는 빈 (모두 @PostConstruct에서 백그라운드 작업을 시작함)
+    private static final List<Class<?>> STARTS_WORK_ON_INIT = List.of(
+            WalReplicationLeader.class,
+            WalReplicationFollower.class,
+            StudyLogReadReplica.class,
+            InMemorySnapshotManager.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter startsWorkOnInitExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                AbstractScriptDatabaseInitializer.class.isAssignableFrom(beanType)
+                        || STARTS_WORK_ON_INIT.stream().anyMatch(type -> type.isAssignableFrom(beanType));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "study-diary.startup.versioned-sql-init", havingValue = "true")
+    public VersionedSqlInitializer versionedSqlInitializer(
+            DataSource dataSource,
+            @Value("${spring.sql.init.mode:embedded}") DatabaseInitializationMode mode,
+            @Value("${spring.sql.init.platform:all}") String platform,
+            @Value("${spring.sql.init.schema-locations:}") List<String> schemaLocations,
+            @Value("${spring.sql.init.data-locations:}") List<String> dataLocations,
+            @Value("${spring.sql.init.continue-on-error:false}") boolean continueOnError,
+            @Value("${spring.sql.init.separator:;}") String separator,
+            @Value("${spring.sql.init.encoding:UTF-8}") Charset encoding) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setMode(mode);
+        settings.setSchemaLocations(locationsOrDefault(schemaLocations, "schema", platform));
+        settings.setDataLocations(locationsOrDefault(dataLocations, "data", platform));
+        settings.setContinueOnError(continueOnError);
+        settings.setSeparator(separator);
+        settings.setEncoding(encoding);
+        return new VersionedSqlInitializer(dataSource, settings);
+    }
+
+    /**
+     * 경로를 지정하지 않았을 때 Spring Boot와 같은 기본 경로 (schema-{platform}.sql, schema.sql)
+     */
+    private static List<String> locationsOrDefault(List<String> locations, String fallback, String platform) {
+        List<String> configured = locations.stream().filter(location -> !location.isBlank()).toList();
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        return List.of("optional:classpath*:" + fallback + "-" + platform + ".sql",
+                "optional:classpath*:" + fallback + ".sql");
+    }
+}
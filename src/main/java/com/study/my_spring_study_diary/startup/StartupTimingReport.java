@@ -0,0 +1,155 @@
+package com.study.my_spring_study_diary.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 단계별 소요 시간 리포트
+ *
+ * 모든 시각은 JVM 시작 기준 경과 시간(ms)입니다. 준비 완료(ApplicationReadyEvent) 시점에
+ * 단계별 시간과 생성이 오래 걸린 빈 목록을 로그로 남기고, studylog.startup.phase 게이지로 노출합니다.
+ * 첫 요청까지의 시간은 FirstRequestTimingFilter가 기록합니다. (studylog.startup.first-request)
+ *
+ * Spring 컨텍스트보다 먼저 만들어야 하므로 main()에서 SpringApplication에 직접 등록합니다.
+ * 빈 생성 시간은 SpringApplication에 BufferingApplicationStartup을 설정했을 때만 나옵니다.
+ */
+@Slf4j
+public class StartupTimingReport implements ApplicationListener<ApplicationEvent> {
+
+    public static final String BEAN_NAME = "startupTimingReport";
+
+    private static final int SLOWEST_BEANS = 10;
+
+    private volatile long startingMillis = -1;
+    private volatile long environmentPreparedMillis = -1;
+    private volatile long preparedMillis = -1;
+    private volatile long refreshedMillis = -1;
+    private volatile long startedMillis = -1;
+    private volatile long readyMillis = -1;
+    private volatile long firstRequestMillis = -1;
+
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationStartingEvent) {
+            startingMillis = uptimeMillis();
+        } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+            environmentPreparedMillis = uptimeMillis();
+        } else if (event instanceof ApplicationPreparedEvent prepared) {
+            preparedMillis = uptimeMillis();
+            prepared.getApplicationContext().getBeanFactory().registerSingleton(BEAN_NAME, this);
+        } else if (event instanceof ContextRefreshedEvent && refreshedMillis < 0) {
+            refreshedMillis = uptimeMillis();
+        } else if (event instanceof ApplicationStartedEvent) {
+            startedMillis = uptimeMillis();
+        } else if (event instanceof ApplicationReadyEvent ready) {
+            readyMillis = uptimeMillis();
+            report(ready.getApplicationContext());
+        }
+    }
+
+    /**
+     * 첫 요청이 들어온 시점 기록 (FirstRequestTimingFilter에서 한 번 호출)
+     */
+    public void recordFirstRequest() {
+        if (firstRequestMillis >= 0) {
+            return;
+        }
+        firstRequestMillis = uptimeMillis();
+        log.info("첫 요청까지 {}ms (JVM 시작 기준, 준비 완료 후 {}ms)",
+                firstRequestMillis, readyMillis >= 0 ? firstRequestMillis - readyMillis : -1);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            TimeGauge.builder("studylog.startup.first-request", this, TimeUnit.MILLISECONDS, r -> r.firstRequestMillis)
+                    .description("JVM 시작부터 첫 요청(actuator 제외)까지 걸린 시간")
+                    .register(registry);
+        }
+    }
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    // ========== REPORT ==========
+
+    private void report(ConfigurableApplicationContext context) {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        phases.put("jvm", startingMillis);                                    // JVM 시작 → main (클래스 로딩, CDS 효과)
+        phases.put("environment", environmentPreparedMillis - startingMillis); // 설정 파일/프로파일
+        phases.put("context-prepare", preparedMillis - environmentPreparedMillis);
+        phases.put("refresh", refreshedMillis - preparedMillis);              // 빈 생성 + 웹 서버 시작
+        phases.put("started", startedMillis - refreshedMillis);
+        phases.put("runners", readyMillis - startedMillis);                   // ApplicationRunner, 준비 전 작업
+
+        StringBuilder report = new StringBuilder("시작 단계별 소요 시간 (준비 완료까지 ")
+                .append(readyMillis).append("ms)\n");
+        phases.forEach((phase, millis) -> report.append(String.format("  %-16s %6dms%n", phase, millis)));
+
+        List<StartupTimeline.TimelineEvent> slowest = slowestBeans(context);
+        if (!slowest.isEmpty()) {
+            report.append("  생성이 오래 걸린 빈 (의존 빈 생성 시간 포함)\n");
+            for (StartupTimeline.TimelineEvent bean : slowest) {
+                report.append(String.format("    %6dms  %s%n", bean.getDuration().toMillis(), beanName(bean)));
+            }
+        }
+        log.info(report.toString().stripTrailing());
+
+        meterRegistry = context.getBeanProvider(MeterRegistry.class).getIfAvailable();
+        if (meterRegistry != null) {
+            for (Map.Entry<String, Long> phase : phases.entrySet()) {
+                long millis = phase.getValue();
+                TimeGauge.builder("studylog.startup.phase", () -> millis, TimeUnit.MILLISECONDS)
+                        .tag("phase", phase.getKey())
+                        .description("시작 단계별 소요 시간")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * 생성 시간이 긴 빈 (버퍼는 여기서 비워 메모리를 돌려줌)
+     */
+    private static List<StartupTimeline.TimelineEvent> slowestBeans(ConfigurableApplicationContext context) {
+        if (!(context.getApplicationStartup() instanceof BufferingApplicationStartup buffering)) {
+            return List.of();
+        }
+        return buffering.drainBufferedTimeline().getEvents().stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .toList();
+    }
+
+    private static String beanName(StartupTimeline.TimelineEvent event) {
+        for (var tag : event.getStartupStep().getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -0,0 +1,256 @@
+package com.study.my_spring_study_diary.startup;
+
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogSearchCondition;
+import com.study.my_spring_study_diary.dao.StudyLogStorageEngine;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 준비(readiness) 전 워밍업
+ *
+ * ApplicationRunner는 Spring Boot가 준비 상태를 ACCEPTING_TRAFFIC으로 바꾸기 전에 실행되므로,
+ * 워밍업이 끝날 때까지 /actuator/health/readiness는 OUT_OF_SERVICE이고 로드 밸런서가 트래픽을 보내지 않습니다.
+ *
+ * 1. 커넥션 풀 채우기: JDBC 엔진이면 Hikari 최대 크기만큼 커넥션을 동시에 빌렸다가 반납
+ * 2. 조회 재생: mix 비율대로 읽기 전용 DAO 조회를 rounds × calls-per-round번 실행 (캐시를 거치지 않아 JIT/DB가 데워짐)
+ * 3. 핫 항목 적재: 서비스를 통해 앞쪽 페이지, 카테고리별 첫 페이지, 최신 항목 단건 조회를 캐시에 올림
+ *
+ * 조회에 실패하면(DB 장애 등) 경고를 남기고 워밍업만 중단합니다. 준비 상태는 헬스 체크가 판단합니다.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp implements ApplicationRunner {
+
+    // 클라이언트 기본 페이지 크기 (StudyLogController)
+    private static final int PAGE_SIZE = 10;
+    // 단건 조회/검색어에 쓸 최신 항목 수
+    private static final int SAMPLE_SIZE = 50;
+    private static final int RECENT_DAYS = 30;
+
+    private final StudyLogDao studyLogDao;
+    private final StudyLogService studyLogService;
+    private final ObjectProvider<DataSource> dataSource;
+    private final boolean jdbcEngine;
+    private final boolean enabled;
+    private final int rounds;
+    private final int callsPerRound;
+    private final WarmUpMix mix;
+    private final int hotPages;
+    private final long maxDurationNanos;
+
+    private volatile double durationMillis = Double.NaN;
+    private volatile double firstRoundNanos = Double.NaN;
+    private volatile double lastRoundNanos = Double.NaN;
+
+    public StartupWarmUp(
+            StudyLogDao studyLogDao,
+            StudyLogService studyLogService,
+            ObjectProvider<DataSource> dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${study-diary.dao.engine:mysql}") String engine,
+            @Value("${study-diary.warm-up.enabled:true}") boolean enabled,
+            @Value("${study-diary.warm-up.rounds:10}") int rounds,
+            @Value("${study-diary.warm-up.calls-per-round:200}") int callsPerRound,
+            @Value("${study-diary.warm-up.mix:page=4,search=3,facets=1,category=1,by-id=1}") String mix,
+            @Value("${study-diary.warm-up.hot-pages:5}") int hotPages,
+            @Value("${study-diary.warm-up.max-duration-ms:30000}") long maxDurationMs) {
+        if (rounds < 1 || callsPerRound < 1 || hotPages < 1) {
+            throw new IllegalArgumentException("워밍업 rounds, calls-per-round, hot-pages는 1 이상이어야 합니다.");
+        }
+        this.studyLogDao = studyLogDao;
+        this.studyLogService = studyLogService;
+        this.dataSource = dataSource;
+        this.jdbcEngine = StudyLogStorageEngine.from(engine).isJdbc();
+        this.enabled = enabled;
+        this.rounds = rounds;
+        this.callsPerRound = callsPerRound;
+        this.mix = WarmUpMix.parse(mix);
+        this.hotPages = hotPages;
+        this.maxDurationNanos = TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+
+        TimeGauge.builder("studylog.warmup.duration", this, TimeUnit.MILLISECONDS, w -> w.durationMillis)
+                .description("준비 전 워밍업 소요 시간")
+                .register(meterRegistry);
+        TimeGauge.builder("studylog.warmup.call.latency", this, TimeUnit.NANOSECONDS, w -> w.firstRoundNanos)
+                .tag("round", "first")
+                .description("워밍업 조회 평균 지연 시간 (첫 라운드/마지막 라운드)")
+                .register(meterRegistry);
+        TimeGauge.builder("studylog.warmup.call.latency", this, TimeUnit.NANOSECONDS, w -> w.lastRoundNanos)
+                .tag("round", "last")
+                .description("워밍업 조회 평균 지연 시간 (첫 라운드/마지막 라운드)")
+                .register(meterRegistry);
+        Gauge.builder("studylog.warmup.speedup", this, w -> w.firstRoundNanos / w.lastRoundNanos)
+                .description("첫 라운드 대비 마지막 라운드 조회 속도 향상 배수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + maxDurationNanos;
+        try {
+            int connections = fillConnectionPool();
+            List<StudyLog> recent = studyLogDao.findAllWithPaging(0, SAMPLE_SIZE).getContent();
+            int completedRounds = replay(recent, deadline);
+            int hotEntries = preloadHotEntries(recent);
+            durationMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+            log.info("워밍업 완료 ({}ms, 커넥션 {}개, {}라운드 × {}건 [{}], 평균 {}µs → {}µs, 핫 항목 {}건)",
+                    Math.round(durationMillis), connections, completedRounds, callsPerRound, mix,
+                    Math.round(firstRoundNanos / 1000), Math.round(lastRoundNanos / 1000), hotEntries);
+        } catch (RuntimeException | SQLException e) {
+            durationMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+            log.warn("워밍업 중단 ({}ms): {}", Math.round(durationMillis), e.getMessage());
+        }
+    }
+
+    // ========== CONNECTION POOL ==========
+
+    /**
+     * 최대 크기만큼 커넥션을 동시에 빌려 풀에 미리 만들어 둠 (인메모리 엔진이면 DataSource를 꺼내지 않음)
+     */
+    private int fillConnectionPool() throws SQLException {
+        if (!jdbcEngine) {
+            return 0;
+        }
+        DataSource dataSource = this.dataSource.getIfAvailable();
+        if (dataSource == null || !dataSource.isWrapperFor(HikariDataSource.class)) {
+            return 0;
+        }
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        List<Connection> borrowed = new ArrayList<>(poolSize);
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+        return borrowed.size();
+    }
+
+    // ========== REPLAY ==========
+
+    /**
+     * mix 비율대로 DAO 조회 재생 (시간 제한을 넘으면 라운드 단위로 멈춤)
+     *
+     * @return 실행한 라운드 수
+     */
+    private int replay(List<StudyLog> recent, long deadline) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Long> ids = recent.stream().map(StudyLog::getId).toList();
+        List<String> keywords = keywords(recent);
+
+        int round = 0;
+        while (round < rounds && System.nanoTime() < deadline) {
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < callsPerRound; i++) {
+                execute(mix.pick(random), random, ids, keywords);
+            }
+            double meanNanos = (double) (System.nanoTime() - roundStart) / callsPerRound;
+            if (round == 0) {
+                firstRoundNanos = meanNanos;
+            }
+            lastRoundNanos = meanNanos;
+            round++;
+        }
+        return round;
+    }
+
+    private void execute(WarmUpMix.Operation operation, SplittableRandom random, List<Long> ids, List<String> keywords) {
+        switch (operation) {
+            case PAGE -> studyLogDao.findAllWithPaging(random.nextInt(hotPages), PAGE_SIZE);
+            case CATEGORY -> studyLogDao.findByCategoryWithPaging(
+                    randomCategory(random).name(), random.nextInt(hotPages), PAGE_SIZE);
+            case SEARCH -> studyLogDao.searchWithPaging(randomCondition(random, keywords), 0, PAGE_SIZE);
+            case FACETS -> studyLogDao.searchWithFacets(randomCondition(random, keywords), 0, PAGE_SIZE);
+            case BY_ID -> {
+                if (ids.isEmpty()) {
+                    studyLogDao.findAllWithPaging(0, PAGE_SIZE);
+                } else {
+                    studyLogDao.findById(ids.get(random.nextInt(ids.size())));
+                }
+            }
+        }
+    }
+
+    /**
+     * 키워드/카테고리/최근 기간을 각각 절반 확률로 섞은 검색 조건
+     */
+    private static StudyLogSearchCondition randomCondition(SplittableRandom random, List<String> keywords) {
+        String keyword = !keywords.isEmpty() && random.nextBoolean()
+                ? keywords.get(random.nextInt(keywords.size())) : null;
+        List<String> categories = random.nextBoolean() ? List.of(randomCategory(random).name()) : List.of();
+        LocalDate startDate = random.nextBoolean() ? LocalDate.now().minusDays(RECENT_DAYS) : null;
+        return StudyLogSearchCondition.of(keyword, categories, List.of(), List.of(), startDate, null);
+    }
+
+    private static Category randomCategory(SplittableRandom random) {
+        return Category.values()[random.nextInt(Category.values().length)];
+    }
+
+    /**
+     * 최신 항목 제목의 첫 단어 (실제로 결과가 나오는 검색어)
+     */
+    private static List<String> keywords(List<StudyLog> recent) {
+        Set<String> keywords = new LinkedHashSet<>();
+        for (StudyLog studyLog : recent) {
+            String title = studyLog.getTitle();
+            if (title != null && !title.isBlank()) {
+                keywords.add(title.trim().split("\\s+")[0]);
+            }
+        }
+        return List.copyOf(keywords);
+    }
+
+    // ========== HOT ENTRIES ==========
+
+    /**
+     * 서비스를 거쳐 자주 보는 페이지와 최신 항목을 캐시에 적재
+     *
+     * @return 적재한 응답 수
+     */
+    private int preloadHotEntries(List<StudyLog> recent) {
+        int loaded = 0;
+        for (int page = 0; page < hotPages; page++) {
+            studyLogService.getStudyLogsWithPaging(page, PAGE_SIZE);
+            loaded++;
+        }
+        for (Category category : Category.values()) {
+            studyLogService.getStudyLogsByCategoryWithPaging(category.name(), 0, PAGE_SIZE);
+            loaded++;
+        }
+        for (StudyLog studyLog : recent) {
+            studyLogService.getStudyLogById(studyLog.getId());
+            loaded++;
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,127 @@
+package com.study.my_spring_study_diary.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 스크립트 내용이 바뀌었을 때만 실행하는 spring.sql.init
+ *
+ * 스키마/데이터 스크립트 내용의 체크섬을 DB의 study_diary_schema_version 테이블에 기록해 두고,
+ * 재시작할 때 체크섬이 같으면 스크립트를 건너뜁니다. (인메모리 H2처럼 DB가 새로 만들어지면 항상 실행)
+ * 여러 노드가 동시에 시작하면 둘 다 실행할 수 있으므로 스크립트는 IF NOT EXISTS로 다시 실행해도 안전해야 합니다.
+ *
+ * 이 빈이 있으면 Spring Boot의 기본 SQL 초기화는 등록되지 않고,
+ * JdbcTemplate을 쓰는 빈은 기본 초기화와 마찬가지로 이 초기화가 끝난 뒤에 만들어집니다.
+ */
+@Slf4j
+public class VersionedSqlInitializer extends DataSourceScriptDatabaseInitializer {
+
+    private static final String VERSION_TABLE = "study_diary_schema_version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseInitializationSettings settings;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    public VersionedSqlInitializer(DataSource dataSource, DatabaseInitializationSettings settings) {
+        super(dataSource, settings);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.settings = settings;
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        if (settings.getMode() == DatabaseInitializationMode.NEVER) {
+            return false;
+        }
+        String checksum = checksum();
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + VERSION_TABLE + " ("
+                + "id INT PRIMARY KEY, "
+                + "checksum VARCHAR(16) NOT NULL, "
+                + "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT checksum FROM " + VERSION_TABLE + " WHERE id = 1", String.class);
+
+        if (!applied.isEmpty() && applied.get(0).equals(checksum)) {
+            log.info("SQL 초기화 건너뜀 (스크립트 버전 {} 적용됨)", checksum);
+            return false;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean initialized = super.initializeDatabase();
+        if (!initialized) {
+            // 실행할 스크립트가 없거나 embedded 모드인데 외부 DB (기록하지 않고 다음 시작 때 다시 확인)
+            return false;
+        }
+        if (applied.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + VERSION_TABLE + " (id, checksum) VALUES (1, ?)", checksum);
+        } else {
+            jdbcTemplate.update("UPDATE " + VERSION_TABLE + " SET checksum = ?, applied_at = CURRENT_TIMESTAMP WHERE id = 1",
+                    checksum);
+        }
+        log.info("SQL 초기화 실행 (스크립트 버전 {} → {}, {}ms)",
+                applied.isEmpty() ? "없음" : applied.get(0), checksum, (System.nanoTime() - startNanos) / 1_000_000);
+        return initialized;
+    }
+
+    /**
+     * 스키마 + 데이터 스크립트 내용의 CRC32C (경로 순서대로)
+     */
+    private String checksum() {
+        CRC32C crc = new CRC32C();
+        List<String> locations = new ArrayList<>();
+        if (settings.getSchemaLocations() != null) {
+            locations.addAll(settings.getSchemaLocations());
+        }
+        if (settings.getDataLocations() != null) {
+            locations.addAll(settings.getDataLocations());
+        }
+        for (String location : locations) {
+            crc.update(location.getBytes(StandardCharsets.UTF_8));
+            for (Resource resource : resolve(location)) {
+                try (InputStream in = resource.getInputStream()) {
+                    crc.update(in.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("SQL 스크립트를 읽을 수 없습니다: " + resource, e);
+                }
+            }
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+    private List<Resource> resolve(String location) {
+        boolean optional = location.startsWith("optional:");
+        String path = optional ? location.substring("optional:".length()) : location;
+        try {
+            List<Resource> resources = new ArrayList<>();
+            for (Resource resource : resourceResolver.getResources(path)) {
+                if (resource.exists()) {
+                    resources.add(resource);
+                }
+            }
+            resources.sort(Comparator.comparing(Resource::getDescription));
+            return resources;
+        } catch (IOException e) {
+            if (optional) {
+                return List.of();
+            }
+            throw new UncheckedIOException("SQL 스크립트 경로를 확인할 수 없습니다: " + location, e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.my_spring_study_diary.startup;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 워밍업에서 재생할 조회 비율 (study-diary.warm-up.mix)
+ *
+ * "page=4,search=3,facets=1,category=1,by-id=1" 형식이며, 적지 않은 조회는 재생하지 않습니다.
+ * 운영 트래픽의 엔드포인트 비율에 맞추면 JIT가 실제로 자주 쓰는 경로부터 컴파일합니다.
+ */
+public final class WarmUpMix {
+
+    /**
+     * 재생할 수 있는 읽기 전용 조회
+     */
+    public enum Operation {
+        PAGE("page"),           // 전체 목록 페이징
+        CATEGORY("category"),   // 카테고리 페이징
+        SEARCH("search"),       // 조건 검색
+        FACETS("facets"),       // 조건 검색 + 패싯 개수
+        BY_ID("by-id");         // 단건 조회
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        static Operation from(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equalsIgnoreCase(key.trim())) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 워밍업 조회입니다: " + key + " (사용 가능: "
+                    + Arrays.stream(values()).map(Operation::getKey).collect(Collectors.joining(", ")) + ")");
+        }
+    }
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private WarmUpMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * "page=4,search=3" 형식 해석 (가중치는 0 이상, 합은 1 이상)
+     */
+    public static WarmUpMix parse(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("워밍업 비율은 조회=가중치 형식이어야 합니다: " + entry.trim());
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("워밍업 가중치는 정수여야 합니다: " + entry.trim());
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("워밍업 가중치는 0 이상이어야 합니다: " + entry.trim());
+            }
+            if (weight > 0) {
+                weights.merge(Operation.from(pair[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("워밍업 비율에 재생할 조회가 없습니다: " + value);
+        }
+        return new WarmUpMix(weights);
+    }
+
+    /**
+     * 가중치에 비례해 조회 하나 선택
+     */
+    public Operation pick(SplittableRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,79 @@
+package com.study.my_spring_study_diary.stats;
+
+/**
+ * Fenwick 트리 (Binary Indexed Tree)
+ *
+ * 배열의 한 칸 변경과 구간 합 조회를 모두 O(log n)에 처리합니다.
+ * 인덱스는 0부터 시작하며, 내부 배열만 1부터 사용합니다.
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class FenwickTree {
+
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    /**
+     * 원본 값 배열로부터 O(n)에 생성
+     */
+    public static FenwickTree of(long[] values) {
+        FenwickTree fenwickTree = new FenwickTree(values.length);
+        long[] tree = fenwickTree.tree;
+        for (int i = 1; i <= values.length; i++) {
+            tree[i] += values[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        return fenwickTree;
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * index 위치 값에 delta 더하기
+     */
+    public void add(int index, long delta) {
+        checkIndex(index);
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * [0, index] 구간 합 (index가 음수면 0)
+     */
+    public long prefixSum(int index) {
+        if (index < 0) {
+            return 0;
+        }
+        checkIndex(index);
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * [from, to] 구간 합 (양 끝 포함)
+     */
+    public long rangeSum(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.study.my_spring_study_diary.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 학습 시간 구간 집계 단위
+ *
+ * 주/월/연 단위는 달력 경계(월요일, 1일, 1월 1일)에 맞춰 나누고,
+ * CUSTOM은 시작 날짜부터 지정한 일수씩 나눕니다.
+ */
+public enum StudyTimeGranularity {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR,
+    CUSTOM,
+    TOTAL;
+
+    /**
+     * bucketStart가 속한 구간의 마지막 날짜 (rangeEnd를 넘지 않음)
+     *
+     * @param bucketDays CUSTOM일 때 구간 일수
+     */
+    public LocalDate bucketEnd(LocalDate bucketStart, LocalDate rangeEnd, int bucketDays) {
+        LocalDate end = switch (this) {
+            case DAY -> bucketStart;
+            case WEEK -> bucketStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> bucketStart.with(TemporalAdjusters.lastDayOfMonth());
+            case YEAR -> bucketStart.with(TemporalAdjusters.lastDayOfYear());
+            case CUSTOM -> bucketStart.plusDays(bucketDays - 1L);
+            case TOTAL -> rangeEnd;
+        };
+        return end.isAfter(rangeEnd) ? rangeEnd : end;
+    }
+
+    // null 체크
+    public static StudyTimeGranularity from(String value) {
+        try {
+            return StudyTimeGranularity.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
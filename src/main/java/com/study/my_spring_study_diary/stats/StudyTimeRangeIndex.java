@@ -0,0 +1,194 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.cache.StudyLogDerivedIndex;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogStudyTime;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 학습 날짜(epoch day)별 학습 시간/일지 개수 Fenwick 트리
+ *
+ * "A일부터 B일까지 총 학습 시간"을 일지를 훑지 않고 O(log 일수)로 계산합니다.
+ *
+ * ID별로 마지막에 반영한 (날짜, 학습 시간)을 기억해 두고, 새 값을 반영할 때 이전 값을 빼므로
+ * 같은 변경이 여러 번 전달되어도 결과가 같습니다.
+ *
+ * 트리가 다루는 날짜 범위는 필요할 때 두 배씩 늘립니다. (늘릴 때만 O(일수)로 다시 생성)
+ */
+@Component
+public class StudyTimeRangeIndex extends StudyLogDerivedIndex<List<StudyLogStudyTime>> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ID별로 마지막에 반영한 값
+    private final Map<Long, Indexed> indexed = new HashMap<>();
+
+    // 트리의 0번 칸에 해당하는 epoch day
+    private long originDay;
+    private long[] minutesPerDay;
+    private long[] countPerDay;
+    private FenwickTree minutesTree;
+    private FenwickTree countTree;
+
+    public StudyTimeRangeIndex(StudyLogDao studyLogDao) {
+        super(studyLogDao, "학습 시간 집계");
+        reset(LocalDate.now().toEpochDay() - INITIAL_CAPACITY / 2, INITIAL_CAPACITY);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * [startDate, endDate] 구간의 학습 시간 합계와 일지 개수 (양 끝 포함)
+     */
+    public StudyTimeSum sum(LocalDate startDate, LocalDate endDate) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            long from = Math.max(startDate.toEpochDay(), originDay);
+            long to = Math.min(endDate.toEpochDay(), originDay + minutesPerDay.length - 1);
+            if (from > to) {
+                return new StudyTimeSum(0, 0);
+            }
+            int fromIndex = (int) (from - originDay);
+            int toIndex = (int) (to - originDay);
+            return new StudyTimeSum(
+                    minutesTree.rangeSum(fromIndex, toIndex),
+                    countTree.rangeSum(fromIndex, toIndex));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * ID, 학습 날짜, 학습 시간만 읽음 (제목/내용 제외)
+     */
+    @Override
+    protected List<StudyLogStudyTime> load() {
+        return studyLogDao.findAllStudyTimes();
+    }
+
+    @Override
+    protected int replace(List<StudyLogStudyTime> studyTimes) {
+        lock.writeLock().lock();
+        try {
+            indexed.clear();
+            reset(originDay, minutesPerDay.length);
+            for (StudyLogStudyTime studyTime : studyTimes) {
+                applyLocked(studyTime.getId(), studyTime.getStudyDate(), studyTime.getStudyTime());
+            }
+            return indexed.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void apply(StudyLog studyLog) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(studyLog.getId(), studyLog.getStudyDate(), studyLog.getStudyTime());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Indexed previous = indexed.remove(id);
+            if (previous != null) {
+                addAt(previous.epochDay, -previous.minutes, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Long id, LocalDate studyDate, int studyTime) {
+        Indexed current = new Indexed(studyDate.toEpochDay(), studyTime);
+        Indexed previous = indexed.put(id, current);
+        if (previous != null) {
+            addAt(previous.epochDay, -previous.minutes, -1);
+        }
+        addAt(current.epochDay, current.minutes, 1);
+    }
+
+    private void addAt(long epochDay, long minutes, long count) {
+        ensureCovers(epochDay);
+        int index = (int) (epochDay - originDay);
+        minutesPerDay[index] += minutes;
+        countPerDay[index] += count;
+        minutesTree.add(index, minutes);
+        countTree.add(index, count);
+    }
+
+    // ========== 범위 확장 ==========
+
+    /**
+     * epochDay가 트리 범위 밖이면 범위를 두 배씩 늘려 다시 생성
+     */
+    private void ensureCovers(long epochDay) {
+        long endDay = originDay + minutesPerDay.length;  // 미포함
+        if (epochDay >= originDay && epochDay < endDay) {
+            return;
+        }
+
+        long newOrigin = originDay;
+        long newEnd = endDay;
+        while (epochDay < newOrigin || epochDay >= newEnd) {
+            long span = newEnd - newOrigin;
+            if (epochDay < newOrigin) {
+                newOrigin -= span;
+            } else {
+                newEnd += span;
+            }
+        }
+        if (newEnd - newOrigin > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("집계할 수 없는 학습 날짜입니다: " + LocalDate.ofEpochDay(epochDay));
+        }
+
+        long[] minutes = new long[(int) (newEnd - newOrigin)];
+        long[] counts = new long[minutes.length];
+        int shift = (int) (originDay - newOrigin);
+        System.arraycopy(minutesPerDay, 0, minutes, shift, minutesPerDay.length);
+        System.arraycopy(countPerDay, 0, counts, shift, countPerDay.length);
+
+        originDay = newOrigin;
+        minutesPerDay = minutes;
+        countPerDay = counts;
+        minutesTree = FenwickTree.of(minutes);
+        countTree = FenwickTree.of(counts);
+    }
+
+    private void reset(long originDay, int capacity) {
+        this.originDay = originDay;
+        this.minutesPerDay = new long[capacity];
+        this.countPerDay = new long[capacity];
+        this.minutesTree = new FenwickTree(capacity);
+        this.countTree = new FenwickTree(capacity);
+    }
+
+    private static class Indexed {
+        private final long epochDay;
+        private final long minutes;
+
+        private Indexed(long epochDay, long minutes) {
+            this.epochDay = epochDay;
+            this.minutes = minutes;
+        }
+    }
+}
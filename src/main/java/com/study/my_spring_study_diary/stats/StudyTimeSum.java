@@ -0,0 +1,18 @@
+package com.study.my_spring_study_diary.stats;
+
+/**
+ * 구간 집계 결과 (학습 시간 합계와 일지 개수)
+ */
+public final class StudyTimeSum {
+
+    private final long minutes;
+    private final long count;
+
+    public StudyTimeSum(long minutes, long count) {
+        this.minutes = minutes;
+        this.count = count;
+    }
+
+    public long getMinutes() { return minutes; }
+    public long getCount() { return count; }
+}
@@ -0,0 +1,36 @@
+-- H2 용 스키마 (테스트 / 로컬 실행)
+-- MySQL 스키마(schema.sql)와 같은 테이블을 H2 문법으로 정의합니다.
+
+-- 학습 일지 테이블
+CREATE TABLE IF NOT EXISTS study_logs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    -- MySQL의 utf8mb4_unicode_ci처럼 제목 검색(LIKE)이 대소문자를 무시하도록
+    title VARCHAR_IGNORECASE(100) NOT NULL,
+    content TEXT NOT NULL,
+    content_compressed BLOB,
+    category VARCHAR(50) NOT NULL,
+    understanding VARCHAR(20) NOT NULL,
+    study_time INT NOT NULL,
+    study_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_study_logs_category ON study_logs(category);
+CREATE INDEX IF NOT EXISTS idx_study_logs_study_date ON study_logs(study_date);
+CREATE INDEX IF NOT EXISTS idx_study_logs_understanding ON study_logs(understanding);
+CREATE INDEX IF NOT EXISTS idx_study_logs_created_at ON study_logs(created_at);
+CREATE INDEX IF NOT EXISTS idx_study_logs_updated_at_id ON study_logs(updated_at, id);
+
+-- 학습 일지 변경 로그 테이블 (노드 간 캐시 무효화용)
+CREATE TABLE IF NOT EXISTS study_log_changes (
+    version BIGINT AUTO_INCREMENT PRIMARY KEY,
+    log_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    category VARCHAR(50),
+    previous_category VARCHAR(50),
+    node_id VARCHAR(64) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_study_log_changes_changed_at ON study_log_changes(changed_at);
@@ -9,6 +9,7 @@ CREATE TABLE IF NOT EXISTS study_logs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '학습 일지 ID',
     title VARCHAR(100) NOT NULL COMMENT '학습 주제',
     content TEXT NOT NULL COMMENT '학습 내용',
+    content_compressed MEDIUMBLOB NULL COMMENT '압축된 학습 내용 (마커 바이트 + deflate, 있으면 content는 빈 문자열)',
     category VARCHAR(50) NOT NULL COMMENT '카테고리 (JAVA, SPRING, DATABASE, ALGORITHM, ETC)',
     understanding VARCHAR(20) NOT NULL COMMENT '이해도 (HIGH, MEDIUM, LOW)',
     study_time INT NOT NULL COMMENT '학습 시간 (분)',
@@ -17,11 +18,30 @@ CREATE TABLE IF NOT EXISTS study_logs (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학습 일지 테이블';
 
+-- 이전 스키마로 만든 DB에는 압축 컬럼을 추가해야 내용 압축(study-diary.content-compression)이 동작합니다.
+-- ALTER TABLE study_logs ADD COLUMN content_compressed MEDIUMBLOB NULL AFTER content;
+
 -- 인덱스 생성
 CREATE INDEX idx_study_logs_category ON study_logs(category);
 CREATE INDEX idx_study_logs_study_date ON study_logs(study_date);
 CREATE INDEX idx_study_logs_understanding ON study_logs(understanding);
 CREATE INDEX idx_study_logs_created_at ON study_logs(created_at);
+-- 읽기 복제본 tailing (updated_at, id 기준점 이후 배치 조회)
+CREATE INDEX idx_study_logs_updated_at_id ON study_logs(updated_at, id);
+
+-- 학습 일지 변경 로그 테이블 (노드 간 캐시 무효화용)
+-- 각 노드는 version 순서대로 이 테이블을 읽어 다른 노드의 쓰기를 반영합니다.
+CREATE TABLE IF NOT EXISTS study_log_changes (
+    version BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '변경 버전 (단조 증가)',
+    log_id BIGINT NOT NULL COMMENT '변경된 학습 일지 ID',
+    change_type VARCHAR(20) NOT NULL COMMENT '변경 유형 (CREATED, UPDATED, DELETED)',
+    category VARCHAR(50) COMMENT '변경 후 카테고리',
+    previous_category VARCHAR(50) COMMENT '변경 전 카테고리',
+    node_id VARCHAR(64) NOT NULL COMMENT '변경을 기록한 노드 ID',
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '변경 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학습 일지 변경 로그 테이블';
+
+CREATE INDEX idx_study_log_changes_changed_at ON study_log_changes(changed_at);
 
 -- 초기 데이터 삽입 (테스트용)
 INSERT INTO study_logs (title, content, category, understanding, study_time, study_date) VALUES
@@ -0,0 +1,129 @@
+package com.study.my_spring_study_diary.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 추가/삭제 후 접두어별 상위 목록과 노드 정리, 제목 수/길이 상한을 확인합니다.
+ */
+class TitleTrieTest {
+
+    @Test
+    void topKFollowsCountsAfterAddAndRemove() {
+        TitleTrie trie = new TitleTrie(3, 100, 100);
+        add(trie, "Java Stream", 3);
+        add(trie, "Java Record", 1);
+        add(trie, "Java Optional", 2);
+        long lambda = add(trie, "Java Lambda", 4);
+
+        assertThat(suggest(trie, "java")).containsExactly("Java Lambda:4", "Java Stream:3", "Java Optional:2");
+
+        for (int i = 0; i < 3; i++) {
+            trie.removeHash(lambda);
+        }
+        assertThat(suggest(trie, "java")).containsExactly("Java Stream:3", "Java Optional:2", "Java Lambda:1");
+
+        // 부모 목록에서 밀려나 있던 제목도 자식 목록에서 다시 올라옴 (같은 빈도는 키 사전 순)
+        for (int i = 0; i < 3; i++) {
+            trie.remove("java stream");
+        }
+        assertThat(suggest(trie, "JAVA")).containsExactly("Java Optional:2", "Java Lambda:1", "Java Record:1");
+        assertThat(suggest(trie, "java s")).isEmpty();
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    void nodesArePrunedWhenCountReachesZero() {
+        TitleTrie trie = new TitleTrie(10, 100, 100);
+        assertThat(trie.nodeCount()).isEqualTo(1);
+
+        trie.add("ab");
+        add(trie, "ac", 2);
+        assertThat(trie.nodeCount()).isEqualTo(4);
+
+        // 빈도가 남아 있으면 노드 유지
+        trie.remove("ac");
+        assertThat(trie.nodeCount()).isEqualTo(4);
+
+        trie.remove("ac");
+        assertThat(trie.nodeCount()).isEqualTo(3);
+        assertThat(suggest(trie, "a")).containsExactly("ab:1");
+
+        trie.remove("ab");
+        trie.remove("ab");
+        assertThat(trie.nodeCount()).isEqualTo(1);
+        assertThat(trie.size()).isZero();
+        assertThat(suggest(trie, "")).isEmpty();
+    }
+
+    @Test
+    void evictsTheLeastFrequentTitleAtMaxTitles() {
+        TitleTrie trie = new TitleTrie(10, 2, 100);
+        add(trie, "a title", 2);
+        add(trie, "b title", 3);
+        trie.add("c title");
+
+        assertThat(trie.getEvictions()).isEqualTo(1);
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(suggest(trie, "")).containsExactly("b title:3", "c title:1");
+        assertThat(suggest(trie, "a")).isEmpty();
+
+        // 내보낸 제목은 다시 들어오면 빈도 1부터 (이번에는 c title이 가장 낮음)
+        trie.add("a title");
+        assertThat(trie.getEvictions()).isEqualTo(2);
+        assertThat(suggest(trie, "")).containsExactly("b title:3", "a title:1");
+    }
+
+    @Test
+    void titlesAreTruncatedAtMaxTitleLength() {
+        TitleTrie trie = new TitleTrie(10, 100, 10);
+        trie.add("Spring Boot Actuator");
+        trie.add("spring boot auto-config");
+
+        // 앞 10글자("spring boo")가 같으면 한 제목으로 셈 (표시용 제목은 마지막 값)
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(suggest(trie, "spring boo")).containsExactly("spring boot auto-config:2");
+        // 더 긴 접두어도 저장된 길이까지로 찾음
+        assertThat(suggest(trie, "spring boot actuator")).containsExactly("spring boot auto-config:2");
+        assertThat(trie.normalize("  Spring   Boot Actuator")).isEqualTo("spring boo");
+    }
+
+    @Test
+    void trailingSpaceInPrefixMeansNextWord() {
+        TitleTrie trie = new TitleTrie(10, 100, 100);
+        trie.add("Spring Bean");
+        trie.add("SpringBoot");
+
+        assertThat(suggest(trie, "spring ")).containsExactly("Spring Bean:1");
+        assertThat(suggest(trie, "  spring")).containsExactly("Spring Bean:1", "SpringBoot:1");
+        assertThat(suggest(trie, "Spring   B")).containsExactly("Spring Bean:1");
+    }
+
+    @Test
+    void emptyTitlesAreIgnoredAndInvalidLimitsRejected() {
+        TitleTrie trie = new TitleTrie(10, 100, 100);
+        assertThat(trie.add("   ")).isZero();
+        assertThat(trie.add(null)).isZero();
+        assertThat(trie.size()).isZero();
+
+        assertThatThrownBy(() -> new TitleTrie(0, 100, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long add(TitleTrie trie, String title, int times) {
+        long hash = 0;
+        for (int i = 0; i < times; i++) {
+            hash = trie.add(title);
+        }
+        return hash;
+    }
+
+    private static List<String> suggest(TitleTrie trie, String prefix) {
+        return trie.suggest(prefix, 10).stream()
+                .map(suggestion -> suggestion.getTitle() + ":" + suggestion.getCount())
+                .toList();
+    }
+}
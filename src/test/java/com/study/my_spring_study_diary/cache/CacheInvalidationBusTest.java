@@ -0,0 +1,118 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 같은 H2 DB의 study_log_changes 테이블을 공유하는 상황을 재현합니다.
+ */
+class CacheInvalidationBusTest {
+
+    private EmbeddedDatabase database;
+    private StudyLogChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:db/schema-h2.sql")
+                .build();
+        changeLog = new StudyLogChangeLog(new JdbcTemplate(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void remoteWriteIsInvalidatedByTailing() {
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+        CacheInvalidationBus nodeA = newBus("node-a", listenerA);
+        CacheInvalidationBus nodeB = newBus("node-b", listenerB);
+
+        nodeA.onStudyLogChanged(StudyLogChangedEvent.created(studyLog(1L, Category.SPRING)));
+
+        // 로컬 노드는 즉시 무효화
+        assertThat(listenerA.logIds).containsExactly(1L);
+        assertThat(listenerB.logIds).isEmpty();
+
+        nodeB.poll();
+        assertThat(listenerB.logIds).containsExactly(1L);
+        assertThat(nodeB.getLastVersion()).isEqualTo(changeLog.currentVersion());
+
+        // 자기 자신이 기록한 변경은 다시 처리하지 않음
+        nodeA.poll();
+        assertThat(listenerA.logIds).containsExactly(1L);
+    }
+
+    @Test
+    void categoryMoveCarriesPreviousCategory() {
+        RecordingListener listenerB = new RecordingListener();
+        CacheInvalidationBus nodeA = newBus("node-a", new RecordingListener());
+        CacheInvalidationBus nodeB = newBus("node-b", listenerB);
+
+        StudyLog before = studyLog(7L, Category.JAVA);
+        StudyLog after = studyLog(7L, Category.SPRING);
+        nodeA.onStudyLogChanged(StudyLogChangedEvent.updated(before, after));
+        nodeB.poll();
+
+        StudyLogChange change = listenerB.changes.get(0);
+        assertThat(change.getCategory()).isEqualTo(Category.SPRING);
+        assertThat(change.getPreviousCategory()).isEqualTo(Category.JAVA);
+    }
+
+    @Test
+    void pollCatchesUpAcrossMultipleBatches() {
+        RecordingListener listenerB = new RecordingListener();
+        CacheInvalidationBus nodeA = newBus("node-a", new RecordingListener());
+        CacheInvalidationBus nodeB = newBus("node-b", listenerB);
+
+        for (long id = 1; id <= 25; id++) {
+            nodeA.onStudyLogChanged(StudyLogChangedEvent.deleted(studyLog(id, Category.ETC)));
+        }
+        nodeB.poll();
+
+        assertThat(listenerB.logIds).hasSize(25);
+        assertThat(nodeB.getLastVersion()).isEqualTo(25);
+    }
+
+    private CacheInvalidationBus newBus(String nodeId, CacheInvalidationListener listener) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                changeLog, List.of(listener), nodeId, true, 10, 10_000, 24);
+        bus.init();
+        return bus;
+    }
+
+    private StudyLog studyLog(Long id, Category category) {
+        return new StudyLog(id, "제목", "내용", category, Understanding.GOOD, 30, LocalDate.now());
+    }
+
+    private static class RecordingListener implements CacheInvalidationListener {
+        private final List<StudyLogChange> changes = new ArrayList<>();
+        private final List<Long> logIds = new ArrayList<>();
+
+        @Override
+        public void invalidate(List<StudyLogChange> batch) {
+            changes.addAll(batch);
+            batch.forEach(change -> logIds.add(change.getLogId()));
+        }
+    }
+}
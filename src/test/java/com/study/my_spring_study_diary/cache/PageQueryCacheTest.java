@@ -0,0 +1,132 @@
+package com.study.my_spring_study_diary.cache;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 종류 × 조회 종류별로 어떤 캐시 항목이 살아남는지 확인합니다.
+ */
+class PageQueryCacheTest {
+
+    private static final Page<StudyLogResponse> PAGE = new Page<>(List.of(), 0, 10, 0);
+
+    private final Map<String, PageQueryKey> keys = new LinkedHashMap<>();
+    private PageQueryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PageQueryCache(new SimpleMeterRegistry(), true, 100, 60);
+
+        keys.put("all", PageQueryKey.all(0, 10));
+        keys.put("java", PageQueryKey.category("JAVA", 0, 10));
+        keys.put("spring", PageQueryKey.category("spring", 0, 10));
+        keys.put("network", PageQueryKey.category("NETWORK", 0, 10));
+        keys.put("search", search(List.of(), false));
+        keys.put("search-java-spring", search(List.of("JAVA", "SPRING"), false));
+        keys.put("search-git", search(List.of("GIT"), false));
+        keys.put("faceted-git", search(List.of("GIT"), true));
+    }
+
+    @Test
+    void createdLogInvalidatesItsCategoryAndUnfilteredQueries() {
+        assertSurvivors(change(StudyLogChangeType.CREATED, Category.JAVA, null),
+                "java", "search-java-spring", "all", "search", "faceted-git");
+    }
+
+    @Test
+    void updateMovingCategoriesInvalidatesBothCategories() {
+        assertSurvivors(change(StudyLogChangeType.UPDATED, Category.SPRING, Category.JAVA),
+                "java", "spring", "search-java-spring", "all", "search", "faceted-git");
+    }
+
+    @Test
+    void updateWithinCategoryInvalidatesOnlyThatCategory() {
+        assertSurvivors(change(StudyLogChangeType.UPDATED, Category.NETWORK, Category.NETWORK),
+                "network", "all", "search", "faceted-git");
+    }
+
+    @Test
+    void deletedLogInvalidatesItsPreviousCategory() {
+        assertSurvivors(change(StudyLogChangeType.DELETED, null, Category.GIT),
+                "search-git", "faceted-git", "all", "search");
+    }
+
+    @Test
+    void pageReadBeforeConcurrentWriteIsNotServed() {
+        PageQueryKey key = keys.get("java");
+        long version = cache.currentVersion(key);
+
+        // 조회 도중 쓰기
+        cache.invalidate(List.of(change(StudyLogChangeType.CREATED, Category.JAVA, null)));
+        cache.put(key, PAGE, version);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void hitRatioCountsHitsAndMisses() {
+        PageQueryKey key = keys.get("all");
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, PAGE, cache.currentVersion(key));
+        assertThat(cache.get(key)).isSameAs(PAGE);
+        assertThat(cache.get(key)).isSameAs(PAGE);
+
+        assertThat(cache.getHitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtMaxSize() {
+        PageQueryCache small = new PageQueryCache(new SimpleMeterRegistry(), true, 2, 60);
+        PageQueryKey first = PageQueryKey.all(0, 10);
+        PageQueryKey second = PageQueryKey.all(1, 10);
+        PageQueryKey third = PageQueryKey.all(2, 10);
+        small.put(first, PAGE, small.currentVersion(first));
+        small.put(second, PAGE, small.currentVersion(second));
+        small.get(first);
+        small.put(third, PAGE, small.currentVersion(third));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.get(first)).isSameAs(PAGE);
+        assertThat(small.get(second)).isNull();
+    }
+
+    /**
+     * 모든 키를 채운 뒤 변경을 반영하고, 살아남는 키가 기대한 것과 같은지 확인
+     *
+     * @param invalidated 무효가 되어야 하는 키 이름
+     */
+    private void assertSurvivors(StudyLogChange change, String... invalidated) {
+        keys.values().forEach(key -> cache.put(key, PAGE, cache.currentVersion(key)));
+        cache.invalidate(List.of(change));
+
+        Set<String> expectedMisses = Set.of(invalidated);
+        keys.forEach((name, key) -> {
+            if (expectedMisses.contains(name)) {
+                assertThat(cache.get(key)).as(name).isNull();
+            } else {
+                assertThat(cache.get(key)).as(name).isSameAs(PAGE);
+            }
+        });
+    }
+
+    private static PageQueryKey search(List<String> categories, boolean facets) {
+        return PageQueryKey.search("spring", categories, null, null, null, null, 0, 10, facets);
+    }
+
+    private static StudyLogChange change(StudyLogChangeType type, Category category, Category previousCategory) {
+        return new StudyLogChange(0, 1L, type, category, previousCategory, "test-node", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,151 @@
+package com.study.my_spring_study_diary.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoaderCall() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("page-0", 1, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        awaitInFlight(1);
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < callers - 1; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("page-0", 1, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        // 합류한 호출은 로더를 실행하지 않고 기다림
+        Thread.sleep(100);
+        assertThat(followers).noneMatch(Future::isDone);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+
+        // 끝난 뒤의 호출은 새로 실행 (결과를 캐싱하지 않음)
+        assertThat(singleFlight.execute("page-0", 1, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void callerWithNewerVersionDoesNotJoinOlderFlight() throws Exception {
+        CountDownLatch releaseOld = new CountDownLatch(1);
+        Future<String> old = executor.submit(() -> singleFlight.execute("log-1", 1, () -> {
+            await(releaseOld);
+            return "before write";
+        }));
+        awaitInFlight(1);
+
+        // 쓰기 이후(버전 2)의 조회는 쓰기 전에 시작한 실행을 기다리지 않고 새로 실행
+        assertThat(singleFlight.execute("log-1", 2, () -> "after write")).isEqualTo("after write");
+        assertThat(old.isDone()).isFalse();
+
+        releaseOld.countDown();
+        assertThat(old.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void newerFlightReplacesOlderOneForLaterCallers() throws Exception {
+        CountDownLatch releaseOld = new CountDownLatch(1);
+        CountDownLatch releaseNew = new CountDownLatch(1);
+        AtomicInteger newLoads = new AtomicInteger();
+
+        Future<String> old = executor.submit(() -> singleFlight.execute("log-1", 1, () -> {
+            await(releaseOld);
+            return "v1";
+        }));
+        awaitInFlight(1);
+        Future<String> newer = executor.submit(() -> singleFlight.execute("log-1", 2, () -> {
+            newLoads.incrementAndGet();
+            await(releaseNew);
+            return "v2";
+        }));
+        while (newLoads.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // 이전 실행이 먼저 끝나도 새 실행의 자리를 지우지 않음
+        releaseOld.countDown();
+        assertThat(old.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        Future<String> joined = executor.submit(() -> singleFlight.execute("log-1", 2, () -> {
+            newLoads.incrementAndGet();
+            return "duplicate";
+        }));
+        Thread.sleep(50);
+        releaseNew.countDown();
+        assertThat(newer.get(5, TimeUnit.SECONDS)).isEqualTo("v2");
+        assertThat(joined.get(5, TimeUnit.SECONDS)).isEqualTo("v2");
+        assertThat(newLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderFailureIsRethrownToJoinedCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("page-0", 1, () -> {
+            await(release);
+            throw new IllegalStateException("조회 실패");
+        }));
+        awaitInFlight(1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("page-0", 1, () -> "unexpected"));
+        Thread.sleep(50);
+
+        release.countDown();
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private void awaitInFlight(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.inFlightCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.inFlightCount()).isEqualTo(count);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
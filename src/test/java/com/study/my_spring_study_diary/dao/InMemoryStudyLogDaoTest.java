@@ -0,0 +1,103 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.exception.ReadOnlyNodeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryStudyLogDaoTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void snapshotPagingNeitherOverlapsNorSkipsWhileWritesRun() throws InterruptedException {
+        InMemoryStudyLogDao dao = new InMemoryStudyLogDao();
+        for (int i = 0; i < 500; i++) {
+            dao.save(studyLog(TODAY.minusDays(i % 40)));
+        }
+        List<Long> expected = ids(dao.findAll());
+
+        Page<StudyLog> first = dao.findAllWithPaging(0, 17, null);
+        Long token = first.getSnapshot();
+        assertThat(token).isNotNull();
+
+        // 페이지를 넘기는 동안 맨 앞에 추가하고, 아직 읽지 않은 뒤쪽 행을 삭제
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger writes = new AtomicInteger();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(1);
+            while (running.get()) {
+                dao.save(studyLog(TODAY.plusDays(1)));
+                dao.deleteById(expected.get(random.nextInt(expected.size())));
+                writes.incrementAndGet();
+            }
+        });
+        writer.start();
+
+        List<Long> collected = new ArrayList<>(ids(first.getContent()));
+        try {
+            for (int page = 1; ; page++) {
+                // 쓰기가 페이지 사이에 끼어들도록 잠깐 기다림
+                while (writes.get() < page * 5) {
+                    Thread.onSpinWait();
+                }
+                Page<StudyLog> current = dao.findAllWithPaging(page, 17, token);
+                assertThat(current.getSnapshot()).isEqualTo(token);
+                assertThat(current.getTotalElements()).isEqualTo(expected.size());
+                collected.addAll(ids(current.getContent()));
+                if (current.isLast()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        assertThat(collected).isEqualTo(expected);
+
+        // 토큰 없이 읽으면 그동안의 쓰기가 보임
+        Page<StudyLog> latest = dao.findAllWithPaging(0, 17, null);
+        assertThat(latest.getSnapshot()).isNotEqualTo(token);
+        assertThat(latest.getTotalElements()).isEqualTo(dao.count());
+        assertThat(latest.getContent().get(0).getStudyDate()).isEqualTo(TODAY.plusDays(1));
+    }
+
+    @Test
+    void rejectedUpdateOnFollowerLeavesStoredLogUntouched() {
+        InMemoryStudyLogDao dao = new InMemoryStudyLogDao();
+        Long id = dao.save(studyLog(TODAY)).getId();
+        dao.setReadOnly(true);
+
+        // 서비스처럼 조회한 객체를 고친 뒤 update 호출
+        StudyLog found = dao.findById(id).orElseThrow();
+        found.setTitle("거절될 제목");
+        found.setCategory(Category.SPRING);
+        assertThatThrownBy(() -> dao.update(found)).isInstanceOf(ReadOnlyNodeException.class);
+
+        assertThat(dao.findById(id).orElseThrow().getTitle()).isEqualTo("제목");
+        assertThat(dao.findByCategory("JAVA")).extracting(StudyLog::getId).containsExactly(id);
+        assertThat(dao.findByCategory("SPRING")).isEmpty();
+        assertThat(dao.findAllWithPaging(0, 10).getContent().get(0).getCategory()).isEqualTo(Category.JAVA);
+    }
+
+    private static StudyLog studyLog(LocalDate studyDate) {
+        return new StudyLog(null, "제목", "내용", Category.JAVA, Understanding.GOOD, 30, studyDate);
+    }
+
+    private static List<Long> ids(List<StudyLog> studyLogs) {
+        return studyLogs.stream().map(StudyLog::getId).toList();
+    }
+}
@@ -0,0 +1,309 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.common.FacetedPage;
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모든 저장소 엔진이 지켜야 하는 StudyLogDao 동작
+ *
+ * 같은 데이터를 넣고, 결과를 저장한 목록으로 계산한 기대값과 비교합니다.
+ * 목록/페이징/검색은 모두 학습 날짜 내림차순, ID 내림차순입니다.
+ */
+class StudyLogDaoContractTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private static final Comparator<StudyLog> LATEST_FIRST = Comparator
+            .comparing(StudyLog::getStudyDate, Comparator.reverseOrder())
+            .thenComparing(StudyLog::getId, Comparator.reverseOrder());
+
+    static List<StudyLogStorageEngine> engines() {
+        return StudyLogDaoEngines.available();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void saveAssignsIdAndReadsBack(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+
+            StudyLog saved = dao.save(new StudyLog(null, "트랜잭션 전파", "REQUIRES_NEW 정리",
+                    Category.SPRING, Understanding.NORMAL, 45, TODAY));
+
+            assertThat(saved.getId()).isNotNull();
+            assertThat(dao.existsById(saved.getId())).isTrue();
+            assertThat(dao.count()).isEqualTo(1);
+
+            StudyLog found = dao.findById(saved.getId()).orElseThrow();
+            assertThat(found.getTitle()).isEqualTo("트랜잭션 전파");
+            assertThat(found.getContent()).isEqualTo("REQUIRES_NEW 정리");
+            assertThat(found.getCategory()).isEqualTo(Category.SPRING);
+            assertThat(found.getUnderstanding()).isEqualTo(Understanding.NORMAL);
+            assertThat(found.getStudyTime()).isEqualTo(45);
+            assertThat(found.getStudyDate()).isEqualTo(TODAY);
+
+            assertThat(dao.findById(saved.getId() + 1000)).isEmpty();
+            assertThat(dao.existsById(saved.getId() + 1000)).isFalse();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void listsAreOrderedLatestFirst(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+
+            assertThat(ids(dao.findAll())).isEqualTo(expected(saved, log -> true));
+            assertThat(ids(dao.findByCategory(Category.JAVA.name())))
+                    .isEqualTo(expected(saved, log -> log.getCategory() == Category.JAVA));
+            assertThat(ids(dao.findByStudyDate(TODAY.minusDays(3))))
+                    .isEqualTo(expected(saved, log -> log.getStudyDate().equals(TODAY.minusDays(3))));
+            assertThat(dao.findByCategory("NOT_A_CATEGORY")).isEmpty();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void pagingWalksTheSameOrder(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+
+            assertThat(collectPages(page -> dao.findAllWithPaging(page, 7)))
+                    .isEqualTo(expected(saved, log -> true));
+            assertThat(dao.findAllWithPaging(0, 7).getTotalElements()).isEqualTo(saved.size());
+            assertThat(dao.findAllWithPaging(100, 7).getContent()).isEmpty();
+
+            // 카테고리 페이징은 해당 카테고리만 세고 담음
+            List<Long> spring = expected(saved, log -> log.getCategory() == Category.SPRING);
+            assertThat(dao.findByCategoryWithPaging(Category.SPRING.name(), 0, 5).getTotalElements())
+                    .isEqualTo(spring.size());
+            assertThat(collectPages(page -> dao.findByCategoryWithPaging(Category.SPRING.name(), page, 5)))
+                    .isEqualTo(spring);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void searchAndFacetsMatchFilteredList(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+
+            StudyLogSearchCondition condition = StudyLogSearchCondition.of("Stream",
+                    List.of(Category.JAVA.name(), Category.SPRING.name()),
+                    List.of(Understanding.GOOD.name(), Understanding.BAD.name()),
+                    List.of(StudyTimeBucket.UNDER_30.name(), StudyTimeBucket.OVER_120.name()),
+                    TODAY.minusDays(8), TODAY.minusDays(1));
+            Predicate<StudyLog> others = log -> log.getTitle().contains("Stream")
+                    && (log.getStudyTime() < 30 || log.getStudyTime() >= 120)
+                    && !log.getStudyDate().isBefore(TODAY.minusDays(8))
+                    && !log.getStudyDate().isAfter(TODAY.minusDays(1));
+            Predicate<StudyLog> understanding = log ->
+                    log.getUnderstanding() == Understanding.GOOD || log.getUnderstanding() == Understanding.BAD;
+            Predicate<StudyLog> matches = others.and(understanding)
+                    .and(log -> log.getCategory() == Category.JAVA || log.getCategory() == Category.SPRING);
+            List<Long> expected = expected(saved, matches);
+            assertThat(expected).isNotEmpty();
+
+            assertThat(collectPages(page -> dao.searchWithPaging(condition, page, 3))).isEqualTo(expected);
+            assertThat(dao.searchWithPaging(condition, 0, 3).getTotalElements()).isEqualTo(expected.size());
+
+            // 패싯: 카테고리 개수는 카테고리 조건만 뺀 나머지 조건으로 셈 (고르지 않은 카테고리도 개수가 나옴)
+            FacetedPage<StudyLog> faceted = dao.searchWithFacets(condition, 0, 3);
+            assertThat(faceted.getTotalElements()).isEqualTo(expected.size());
+            assertThat(ids(faceted.getContent())).isEqualTo(expected.subList(0, Math.min(3, expected.size())));
+            for (Category category : Category.values()) {
+                assertThat(faceted.getCategoryFacets().get(category.name())).as(category.name())
+                        .isEqualTo(saved.stream().filter(others.and(understanding))
+                                .filter(log -> log.getCategory() == category).count());
+            }
+
+            // 기존 파라미터 방식 검색
+            Page<StudyLog> simple = dao.searchWithPaging(null, Category.GIT.name(), TODAY.minusDays(5), TODAY, 0, 100);
+            assertThat(ids(simple.getContent())).isEqualTo(expected(saved, log -> log.getCategory() == Category.GIT
+                    && !log.getStudyDate().isBefore(TODAY.minusDays(5))));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void titleKeywordIgnoresCaseAndMatchesWildcardsLiterally(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = new ArrayList<>();
+            for (String title : List.of("Stream API", "stream 병렬 처리", "STREAMING 정리", "Optional",
+                    "진도 100% 달성", "snake_case 규칙", "snakeXcase 규칙")) {
+                saved.add(dao.save(new StudyLog(null, title, "내용", Category.JAVA, Understanding.GOOD, 30, TODAY)));
+            }
+
+            // MySQL(utf8mb4_unicode_ci)의 LIKE처럼 대소문자를 무시
+            assertThat(titleSearch(dao, "sTrEaM"))
+                    .isEqualTo(expected(saved, log -> log.getTitle().toLowerCase().contains("stream")));
+            assertThat(dao.searchWithFacets(titleCondition("sTrEaM"), 0, 10).getTotalElements()).isEqualTo(3);
+
+            // %와 _는 와일드카드가 아니라 글자
+            assertThat(titleSearch(dao, "100%")).isEqualTo(expected(saved, log -> log.getTitle().contains("100%")));
+            assertThat(titleSearch(dao, "%")).hasSize(1);
+            assertThat(titleSearch(dao, "snake_case"))
+                    .isEqualTo(expected(saved, log -> log.getTitle().startsWith("snake_case")));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void updateAndDelete(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+            Long id = saved.get(0).getId();
+
+            StudyLog changed = dao.findById(id).orElseThrow();
+            changed.setTitle("수정된 제목");
+            changed.setCategory(Category.NETWORK);
+            changed.setStudyTime(200);
+            dao.update(changed);
+
+            StudyLog found = dao.findById(id).orElseThrow();
+            assertThat(found.getTitle()).isEqualTo("수정된 제목");
+            assertThat(found.getCategory()).isEqualTo(Category.NETWORK);
+            assertThat(ids(dao.findByCategory(Category.NETWORK.name()))).contains(id);
+            assertThat(ids(dao.searchWithPaging(StudyLogSearchCondition.of(null, List.of(Category.NETWORK.name()),
+                    List.of(), List.of(StudyTimeBucket.OVER_120.name()), null, null), 0, 100).getContent()))
+                    .contains(id);
+
+            StudyLog missing = new StudyLog(id + 1000, "없음", "없음", Category.ETC, Understanding.GOOD, 10, TODAY);
+            assertThatThrownBy(() -> dao.update(missing)).isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(dao.deleteById(id)).isTrue();
+            assertThat(dao.deleteById(id)).isFalse();
+            assertThat(dao.findById(id)).isEmpty();
+            assertThat(dao.count()).isEqualTo(saved.size() - 1);
+            assertThat(dao.findAllWithPaging(0, 100).getTotalElements()).isEqualTo(saved.size() - 1);
+
+            dao.deleteAll();
+            assertThat(dao.count()).isZero();
+            assertThat(dao.findAll()).isEmpty();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void reviewTimesOnlyCoverRequestedUnderstandings(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+            Set<Understanding> low = EnumSet.of(Understanding.BAD, Understanding.VERY_BAD);
+
+            List<StudyLogReviewTime> reviewTimes = dao.findReviewTimes(low);
+            assertThat(reviewTimes).extracting(StudyLogReviewTime::getId).containsExactlyInAnyOrderElementsOf(
+                    expected(saved, log -> low.contains(log.getUnderstanding())));
+            for (StudyLogReviewTime reviewTime : reviewTimes) {
+                StudyLog stored = dao.findById(reviewTime.getId()).orElseThrow();
+                assertThat(reviewTime.getUnderstanding()).isEqualTo(stored.getUnderstanding());
+                assertThat(reviewTime.getModifiedAt()).isNotNull();
+            }
+            assertThat(dao.findReviewTimes(EnumSet.noneOf(Understanding.class))).isEmpty();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void textsMatchStoredTitlesAndContents(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+
+            List<StudyLogText> texts = dao.findAllTexts();
+            assertThat(texts).extracting(StudyLogText::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected(saved, log -> true));
+            for (StudyLogText text : texts) {
+                StudyLog stored = dao.findById(text.getId()).orElseThrow();
+                assertThat(text.getTitle()).isEqualTo(stored.getTitle());
+                assertThat(text.getContent()).isEqualTo(stored.getContent());
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void titlesMatchStoredTitles(StudyLogStorageEngine engine) {
+        try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+            StudyLogDao dao = fixture.dao();
+            List<StudyLog> saved = saveSamples(dao);
+
+            List<StudyLogTitle> titles = dao.findAllTitles();
+            assertThat(titles).extracting(StudyLogTitle::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected(saved, log -> true));
+            for (StudyLogTitle title : titles) {
+                assertThat(title.getTitle()).isEqualTo(dao.findById(title.getId()).orElseThrow().getTitle());
+            }
+        }
+    }
+
+    // ========== FIXTURE ==========
+
+    /**
+     * 날짜 10일 × 카테고리/이해도/학습 시간을 고르게 섞은 60건 (같은 날짜에 여러 건이 있어 ID 정렬도 확인됨)
+     */
+    private static List<StudyLog> saveSamples(StudyLogDao dao) {
+        Category[] categories = {Category.JAVA, Category.SPRING, Category.GIT, Category.DATABASE};
+        int[] studyTimes = {10, 45, 90, 150};
+        List<StudyLog> saved = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String title = (i % 3 == 0 ? "Stream API " : "Bean 생명주기 ") + i;
+            saved.add(dao.save(new StudyLog(null, title, "내용 " + i,
+                    categories[i % categories.length],
+                    Understanding.values()[i % Understanding.values().length],
+                    studyTimes[(i / 2) % studyTimes.length],
+                    TODAY.minusDays((i * 7) % 10))));
+        }
+        return saved;
+    }
+
+    private static List<Long> expected(List<StudyLog> saved, Predicate<StudyLog> filter) {
+        return saved.stream().filter(filter).sorted(LATEST_FIRST).map(StudyLog::getId).toList();
+    }
+
+    private static StudyLogSearchCondition titleCondition(String titleKeyword) {
+        return StudyLogSearchCondition.of(titleKeyword, List.of(), List.of(), List.of(), null, null);
+    }
+
+    private static List<Long> titleSearch(StudyLogDao dao, String titleKeyword) {
+        return ids(dao.searchWithPaging(titleCondition(titleKeyword), 0, 100).getContent());
+    }
+
+    private static List<Long> ids(List<StudyLog> logs) {
+        return logs.stream().map(StudyLog::getId).toList();
+    }
+
+    private static List<Long> collectPages(IntFunction<Page<StudyLog>> pages) {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            Page<StudyLog> current = pages.apply(page);
+            ids.addAll(ids(current.getContent()));
+            if (current.getContent().isEmpty() || current.isLast()) {
+                return ids;
+            }
+        }
+    }
+}
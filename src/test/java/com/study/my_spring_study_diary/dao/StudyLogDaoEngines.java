@@ -0,0 +1,145 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dataset.StudyLogBulkLoader;
+import com.study.my_spring_study_diary.dataset.SyntheticStudyLogGenerator;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 저장소 엔진별 테스트 픽스처 (StudyLogDaoContractTest와 DaoScalingReportTest가 함께 사용)
+ *
+ * StudyLogStorageEngine의 모든 상수에 픽스처가 있어야 컴파일되므로, 엔진을 추가하면 여기에도 추가합니다.
+ * MySQL은 접속 정보를 주었을 때만 사용하며, study_logs를 비우므로 schema.sql로 만든 테스트 전용 DB를 지정합니다.
+ *   ./gradlew test -Dengine.mysql.url=jdbc:mysql://localhost:3306/diary_test -Dengine.mysql.password=rootpass
+ */
+public final class StudyLogDaoEngines {
+
+    private static final String MYSQL_URL = System.getProperty("engine.mysql.url");
+
+    private StudyLogDaoEngines() {
+    }
+
+    /**
+     * 이 환경에서 테스트할 수 있는 엔진
+     */
+    public static List<StudyLogStorageEngine> available() {
+        return Arrays.stream(StudyLogStorageEngine.values())
+                .filter(engine -> engine != StudyLogStorageEngine.MYSQL || MYSQL_URL != null)
+                .toList();
+    }
+
+    /**
+     * 비어 있는 저장소로 엔진 준비
+     */
+    public static Fixture open(StudyLogStorageEngine engine) {
+        return switch (engine) {
+            case IN_MEMORY -> new InMemoryFixture();
+            case H2 -> new H2Fixture();
+            case MYSQL -> new MySqlFixture();
+        };
+    }
+
+    public interface Fixture extends AutoCloseable {
+
+        StudyLogDao dao();
+
+        /**
+         * 합성 데이터 대량 적재 (JDBC 엔진은 DAO를 거치지 않고 배치 INSERT)
+         */
+        void load(SyntheticStudyLogGenerator generator, long count);
+
+        @Override
+        void close();
+    }
+
+    // ========== ENGINES ==========
+
+    private static final class InMemoryFixture implements Fixture {
+
+        private final InMemoryStudyLogDao studyLogDao = new InMemoryStudyLogDao();
+
+        @Override
+        public StudyLogDao dao() {
+            return studyLogDao;
+        }
+
+        @Override
+        public void load(SyntheticStudyLogGenerator generator, long count) {
+            new StudyLogBulkLoader(1000).load(studyLogDao, generator, count);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class JdbcFixture implements Fixture {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final StudyLogDao studyLogDao;
+
+        private JdbcFixture(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+            MySQLStudyLogDaoImpl jdbcDao = new MySQLStudyLogDaoImpl(jdbcTemplate,
+                    new QueryProfiler(jdbcTemplate, false, 0), ContentCompressor.disabled());
+            jdbcDao.detectCompressedContentColumn();
+            this.studyLogDao = jdbcDao;
+        }
+
+        @Override
+        public StudyLogDao dao() {
+            return studyLogDao;
+        }
+
+        @Override
+        public void load(SyntheticStudyLogGenerator generator, long count) {
+            new StudyLogBulkLoader(1000).load(jdbcTemplate, generator, count);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class H2Fixture extends JdbcFixture {
+
+        private final EmbeddedDatabase database;
+
+        private H2Fixture() {
+            this(new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("classpath:db/schema-h2.sql")
+                    .build());
+        }
+
+        private H2Fixture(EmbeddedDatabase database) {
+            super(new JdbcTemplate(database));
+            this.database = database;
+        }
+
+        @Override
+        public void close() {
+            database.shutdown();
+        }
+    }
+
+    private static final class MySqlFixture extends JdbcFixture {
+
+        private MySqlFixture() {
+            super(new JdbcTemplate(new DriverManagerDataSource(
+                    MYSQL_URL,
+                    System.getProperty("engine.mysql.username", "root"),
+                    System.getProperty("engine.mysql.password", ""))));
+            dao().deleteAll();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.my_spring_study_diary.dao.arena;
+
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.entity.StoredText;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapTextArenaTest {
+
+    @Test
+    void releaseAllKeepsEarlierTextsReadableUntilGraceEnds() {
+        OffHeapTextArena arena = new OffHeapTextArena(true, 1, 0.5, 300_000);
+        StoredText before = arena.store(StoredText.of("스냅샷 이전 제목"));
+
+        arena.releaseAll();
+        StoredText after = arena.store(StoredText.of("스냅샷 이후 제목"));
+        arena.compact();
+
+        // 유예 중에는 슬롯 번호를 다시 쓰지 않으므로 이전 텍스트가 그대로 읽힘
+        assertThat(after.getSlot()).isNotEqualTo(before.getSlot());
+        assertThat(before.text()).isEqualTo("스냅샷 이전 제목");
+        assertThat(after.text()).isEqualTo("스냅샷 이후 제목");
+    }
+
+    @Test
+    void graceShorterThanSnapshotTtlIsRejected() {
+        OffHeapTextArena arena = new OffHeapTextArena(true, 1, 0.5, 1_000);
+
+        assertThatThrownBy(() -> new InMemoryStudyLogDao(ContentCompressor.disabled(), arena))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.my_spring_study_diary.dao.index;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트맵 선택 결과를 저장한 일지 목록을 직접 거른 결과(학습 날짜 내림차순, ID 내림차순)와 비교합니다.
+ */
+class StudyLogBitmapIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private static final Comparator<StudyLog> LATEST_FIRST = Comparator
+            .comparing(StudyLog::getStudyDate, Comparator.reverseOrder())
+            .thenComparing(StudyLog::getId, Comparator.reverseOrder());
+
+    private final Random random = new Random(33);
+    private final StudyLogBitmapIndex index = new StudyLogBitmapIndex();
+    private final Map<Long, StudyLog> rows = new HashMap<>();
+
+    @Test
+    void multiValueConditionsMatchFilteredList() {
+        for (long id = 1; id <= 600; id++) {
+            put(randomStudyLog(id));
+        }
+        index.optimize();
+
+        verifyRandomSelections(300);
+    }
+
+    @Test
+    void dateBoundedPagingCrossesDayBuckets() {
+        // 하루 3건씩 10일, 페이지 크기 4 → 대부분의 페이지가 날짜 경계에 걸침
+        long id = 1;
+        for (int day = 0; day < 10; day++) {
+            for (int i = 0; i < 3; i++) {
+                put(studyLog(id++, Category.values()[i], Understanding.GOOD, 30, TODAY.minusDays(day)));
+            }
+        }
+        LocalDate start = TODAY.minusDays(7);
+        LocalDate end = TODAY.minusDays(2);
+        Set<Category> categories = EnumSet.of(Category.values()[0], Category.values()[2]);
+
+        List<Long> expected = expected(log -> categories.contains(log.getCategory())
+                && !log.getStudyDate().isBefore(start) && !log.getStudyDate().isAfter(end));
+        StudyLogBitmapIndex.Selection selection = index.select(categories, Set.of(), Set.of(), start, end);
+
+        assertThat(selection.count()).isEqualTo(expected.size());
+        for (int offset = 0; offset <= expected.size() + 1; offset++) {
+            assertThat(selection.page(offset, 4)).as("offset=%d", offset)
+                    .isEqualTo(slice(expected, offset, 4));
+        }
+
+        // 시작만, 끝만, 시작 > 끝
+        assertThat(index.select(Set.of(), Set.of(), Set.of(), start, null).page(0, 100))
+                .isEqualTo(expected(log -> !log.getStudyDate().isBefore(start)));
+        assertThat(index.select(Set.of(), Set.of(), Set.of(), null, end).page(0, 100))
+                .isEqualTo(expected(log -> !log.getStudyDate().isAfter(end)));
+        assertThat(index.select(Set.of(), Set.of(), Set.of(), end, start).count()).isZero();
+    }
+
+    @Test
+    void reindexingAfterUpdateMovesDateCategoryAndStudyTime() {
+        StudyLog studyLog = studyLog(1, Category.JAVA, Understanding.BAD, 20, TODAY);
+        put(studyLog);
+        put(studyLog(2, Category.JAVA, Understanding.GOOD, 20, TODAY));
+
+        // DAO처럼 같은 객체를 고친 뒤 다시 색인
+        studyLog.setCategory(Category.SPRING);
+        studyLog.setUnderstanding(Understanding.VERY_GOOD);
+        studyLog.setStudyTime(150);
+        studyLog.setStudyDate(TODAY.minusDays(3));
+        put(studyLog);
+
+        assertThat(index.indexedEpochDay(1L)).isEqualTo(TODAY.minusDays(3).toEpochDay());
+        assertThat(select(EnumSet.of(Category.JAVA)).page(0, 10)).containsExactly(2L);
+        assertThat(select(EnumSet.of(Category.SPRING)).page(0, 10)).containsExactly(1L);
+        assertThat(index.select(Set.of(), EnumSet.of(Understanding.BAD), Set.of(), null, null).count()).isZero();
+        assertThat(index.select(Set.of(), Set.of(), EnumSet.of(StudyTimeBucket.OVER_120), null, null).page(0, 10))
+                .containsExactly(1L);
+        assertThat(index.select(Set.of(), Set.of(), Set.of(), TODAY, TODAY).page(0, 10)).containsExactly(2L);
+
+        // 무작위 수정/삭제 뒤에도 결과가 목록과 같음
+        for (long id = 3; id <= 400; id++) {
+            put(randomStudyLog(id));
+        }
+        for (int i = 0; i < 300; i++) {
+            List<Long> ids = new ArrayList<>(rows.keySet());
+            Long id = ids.get(random.nextInt(ids.size()));
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                rows.remove(id);
+            } else {
+                StudyLog changed = rows.get(id);
+                StudyLog replacement = randomStudyLog(id);
+                changed.setCategory(replacement.getCategory());
+                changed.setUnderstanding(replacement.getUnderstanding());
+                changed.setStudyTime(replacement.getStudyTime());
+                changed.setStudyDate(replacement.getStudyDate());
+                put(changed);
+            }
+        }
+        index.remove(10_000L);
+
+        verifyRandomSelections(200);
+    }
+
+    // ========== HELPERS ==========
+
+    private void verifyRandomSelections(int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            Set<Category> categories = randomSubset(Category.class);
+            Set<Understanding> understandings = randomSubset(Understanding.class);
+            Set<StudyTimeBucket> studyTimes = randomSubset(StudyTimeBucket.class);
+            LocalDate start = random.nextBoolean() ? TODAY.minusDays(random.nextInt(60)) : null;
+            LocalDate end = random.nextBoolean() ? TODAY.minusDays(random.nextInt(60)) : null;
+
+            List<Long> expected = expected(log -> (categories.isEmpty() || categories.contains(log.getCategory()))
+                    && (understandings.isEmpty() || understandings.contains(log.getUnderstanding()))
+                    && (studyTimes.isEmpty() || studyTimes.contains(StudyTimeBucket.of(log.getStudyTime())))
+                    && (start == null || !log.getStudyDate().isBefore(start))
+                    && (end == null || !log.getStudyDate().isAfter(end)));
+            String description = String.format("categories=%s, understandings=%s, studyTimes=%s, %s~%s",
+                    categories, understandings, studyTimes, start, end);
+
+            StudyLogBitmapIndex.Selection selection = index.select(categories, understandings, studyTimes, start, end);
+            assertThat(selection.count()).as(description).isEqualTo(expected.size());
+
+            int limit = 1 + random.nextInt(15);
+            List<Long> paged = new ArrayList<>();
+            for (int offset = 0; offset < expected.size(); offset += limit) {
+                paged.addAll(selection.page(offset, limit));
+            }
+            assertThat(paged).as(description).isEqualTo(expected);
+            assertThat(selection.page(expected.size(), limit)).as(description).isEmpty();
+
+            List<Long> iterated = new ArrayList<>();
+            selection.forEach(id -> iterated.add((long) id));
+            assertThat(iterated).as(description).isEqualTo(expected);
+        }
+    }
+
+    private StudyLogBitmapIndex.Selection select(Set<Category> categories) {
+        return index.select(categories, Set.of(), Set.of(), null, null);
+    }
+
+    private void put(StudyLog studyLog) {
+        index.add(studyLog);
+        rows.put(studyLog.getId(), studyLog);
+    }
+
+    private List<Long> expected(Predicate<StudyLog> filter) {
+        return rows.values().stream().filter(filter).sorted(LATEST_FIRST).map(StudyLog::getId).toList();
+    }
+
+    private static List<Long> slice(List<Long> ids, int offset, int limit) {
+        return ids.subList(Math.min(offset, ids.size()), Math.min(offset + limit, ids.size()));
+    }
+
+    private <E extends Enum<E>> Set<E> randomSubset(Class<E> type) {
+        Set<E> subset = EnumSet.noneOf(type);
+        if (random.nextInt(3) == 0) {
+            return subset;
+        }
+        for (E value : type.getEnumConstants()) {
+            if (random.nextInt(3) == 0) {
+                subset.add(value);
+            }
+        }
+        return subset;
+    }
+
+    private StudyLog randomStudyLog(long id) {
+        Category[] categories = Category.values();
+        Understanding[] understandings = Understanding.values();
+        return studyLog(id, categories[random.nextInt(categories.length)],
+                understandings[random.nextInt(understandings.length)],
+                1 + random.nextInt(200), TODAY.minusDays(random.nextInt(50)));
+    }
+
+    private static StudyLog studyLog(long id, Category category, Understanding understanding, int studyTime,
+                                     LocalDate studyDate) {
+        return new StudyLog(id, "제목", "내용", category, understanding, studyTime, studyDate);
+    }
+}
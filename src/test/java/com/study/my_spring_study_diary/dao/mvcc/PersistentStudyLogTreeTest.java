@@ -0,0 +1,132 @@
+package com.study.my_spring_study_diary.dao.mvcc;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트립을 정렬된 List(학습 날짜 내림차순, ID 내림차순)와 같은 연산으로 비교합니다.
+ */
+class PersistentStudyLogTreeTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private static final Comparator<StudyLog> LATEST_FIRST = Comparator
+            .comparing(StudyLog::getStudyDate, Comparator.reverseOrder())
+            .thenComparing(StudyLog::getId, Comparator.reverseOrder());
+
+    @Test
+    void randomInsertRemoveAndPageMatchSortedList() {
+        Random random = new Random(42);
+        PersistentStudyLogTree tree = PersistentStudyLogTree.EMPTY;
+        List<StudyLog> expected = new ArrayList<>();
+        long nextId = 1;
+
+        for (int step = 0; step < 5_000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                // 같은 날짜에 여러 건이 몰리도록 날짜 범위를 좁게
+                StudyLog studyLog = studyLog(nextId++, random.nextInt(30));
+                tree = tree.insert(studyLog);
+                expected.add(studyLog);
+            } else {
+                StudyLog removed = expected.remove(random.nextInt(expected.size()));
+                tree = tree.remove(removed.getStudyDate().toEpochDay(), removed.getId());
+            }
+            expected.sort(LATEST_FIRST);
+
+            assertThat(tree.size()).isEqualTo(expected.size());
+            if (step % 50 == 0) {
+                assertPages(tree, expected, random);
+            }
+        }
+        assertThat(ids(tree.page(0, expected.size()))).isEqualTo(ids(expected));
+    }
+
+    @Test
+    void removingMissingKeyReturnsSameTree() {
+        PersistentStudyLogTree tree = PersistentStudyLogTree.EMPTY.insert(studyLog(1, 0));
+
+        assertThat(tree.remove(TODAY.toEpochDay(), 2)).isSameAs(tree);
+        // ID가 같아도 날짜가 다르면 다른 키
+        assertThat(tree.remove(TODAY.minusDays(1).toEpochDay(), 1)).isSameAs(tree);
+    }
+
+    @Test
+    void olderVersionsAreUnchangedByLaterWrites() {
+        PersistentStudyLogTree before = PersistentStudyLogTree.EMPTY;
+        for (long id = 1; id <= 100; id++) {
+            before = before.insert(studyLog(id, (int) (id % 7)));
+        }
+        List<Long> snapshot = ids(before.page(0, 100));
+
+        PersistentStudyLogTree after = before;
+        for (long id = 1; id <= 100; id += 2) {
+            after = after.remove(TODAY.minusDays(id % 7).toEpochDay(), id);
+        }
+        after = after.insert(studyLog(101, 0));
+
+        assertThat(ids(before.page(0, 100))).isEqualTo(snapshot);
+        assertThat(before.size()).isEqualTo(100);
+        assertThat(after.size()).isEqualTo(51);
+    }
+
+    @Test
+    void bulkBuildMatchesIncrementalInserts() {
+        Random random = new Random(7);
+        List<StudyLog> values = new ArrayList<>();
+        PersistentStudyLogTree incremental = PersistentStudyLogTree.EMPTY;
+        for (long id = 1; id <= 2_000; id++) {
+            StudyLog studyLog = studyLog(id, random.nextInt(60));
+            values.add(studyLog);
+            incremental = incremental.insert(studyLog);
+        }
+        // 일괄 생성은 입력 순서와 무관
+        List<StudyLog> shuffled = new ArrayList<>(values);
+        Collections.shuffle(shuffled, random);
+
+        PersistentStudyLogTree bulk = PersistentStudyLogTree.of(shuffled);
+        values.sort(LATEST_FIRST);
+
+        assertThat(bulk.size()).isEqualTo(values.size());
+        assertThat(ids(bulk.page(0, values.size()))).isEqualTo(ids(values));
+        assertThat(ids(bulk.page(0, values.size()))).isEqualTo(ids(incremental.page(0, values.size())));
+        assertPages(bulk, values, random);
+
+        // 일괄 생성한 트리에도 이어서 추가/삭제
+        StudyLog first = values.get(0);
+        PersistentStudyLogTree changed = bulk.remove(first.getStudyDate().toEpochDay(), first.getId())
+                .insert(studyLog(5_000, 0));
+        assertThat(changed.size()).isEqualTo(values.size());
+        assertThat(changed.page(0, 1).get(0).getId()).isEqualTo(5_000L);
+        assertThat(PersistentStudyLogTree.of(List.of()).size()).isZero();
+    }
+
+    private static void assertPages(PersistentStudyLogTree tree, List<StudyLog> expected, Random random) {
+        for (int i = 0; i < 10; i++) {
+            int limit = 1 + random.nextInt(20);
+            int offset = random.nextInt(expected.size() + limit + 1);
+            List<StudyLog> slice = expected.subList(Math.min(offset, expected.size()),
+                    Math.min(offset + limit, expected.size()));
+            assertThat(ids(tree.page(offset, limit))).as("offset=%d, limit=%d", offset, limit)
+                    .isEqualTo(ids(slice));
+        }
+    }
+
+    private static StudyLog studyLog(long id, int daysAgo) {
+        return new StudyLog(id, "제목 " + id, "내용", Category.JAVA, Understanding.GOOD, 30, TODAY.minusDays(daysAgo));
+    }
+
+    private static List<Long> ids(List<StudyLog> studyLogs) {
+        return studyLogs.stream().map(StudyLog::getId).toList();
+    }
+}
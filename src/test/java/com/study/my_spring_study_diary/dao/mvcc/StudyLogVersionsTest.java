@@ -0,0 +1,90 @@
+package com.study.my_spring_study_diary.dao.mvcc;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogVersionsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void tokenReadsThePinnedVersion() {
+        StudyLogVersions versions = new StudyLogVersions(16, 60_000);
+        versions.put(studyLog(1, TODAY), null);
+        versions.put(studyLog(2, TODAY), null);
+
+        StudyLogVersions.Snapshot first = versions.snapshot(null);
+        versions.remove(TODAY.toEpochDay(), 2);
+        versions.put(studyLog(3, TODAY), null);
+
+        StudyLogVersions.Snapshot again = versions.snapshot(first.getVersion());
+        assertThat(again).isSameAs(first);
+        assertThat(ids(again.page(0, 10))).containsExactly(2L, 1L);
+
+        StudyLogVersions.Snapshot latest = versions.snapshot(null);
+        assertThat(latest.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(ids(latest.page(0, 10))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void putWithPreviousDateMovesTheEntry() {
+        StudyLogVersions versions = new StudyLogVersions(16, 60_000);
+        versions.put(studyLog(1, TODAY), null);
+        versions.put(studyLog(2, TODAY.minusDays(1)), null);
+
+        versions.put(studyLog(2, TODAY.plusDays(1)), TODAY.minusDays(1).toEpochDay());
+
+        StudyLogVersions.Snapshot snapshot = versions.snapshot(null);
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(ids(snapshot.page(0, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void unknownEvictedOrExpiredTokensFallBackToCurrent() throws InterruptedException {
+        StudyLogVersions versions = new StudyLogVersions(2, 100);
+        long[] tokens = new long[3];
+        for (int i = 0; i < 3; i++) {
+            versions.put(studyLog(i + 1, TODAY), null);
+            tokens[i] = versions.snapshot(null).getVersion();
+        }
+
+        // maxPinned(2)를 넘어 가장 오래된 토큰은 버려짐
+        assertThat(versions.snapshot(tokens[0]).getVersion()).isEqualTo(tokens[2]);
+        assertThat(versions.snapshot(tokens[1]).getVersion()).isEqualTo(tokens[1]);
+        assertThat(versions.snapshot(-1L).getVersion()).isEqualTo(tokens[2]);
+
+        Thread.sleep(150);
+        versions.put(studyLog(4, TODAY), null);
+        StudyLogVersions.Snapshot current = versions.snapshot(tokens[1]);
+        assertThat(current.getVersion()).isNotEqualTo(tokens[1]);
+        assertThat(current.size()).isEqualTo(4);
+    }
+
+    @Test
+    void replaceAllDropsPinnedSnapshots() {
+        StudyLogVersions versions = new StudyLogVersions(16, 60_000);
+        versions.put(studyLog(1, TODAY), null);
+        long token = versions.snapshot(null).getVersion();
+
+        versions.replaceAll(List.of(studyLog(7, TODAY), studyLog(8, TODAY.minusDays(1))));
+
+        StudyLogVersions.Snapshot snapshot = versions.snapshot(token);
+        assertThat(snapshot.getVersion()).isNotEqualTo(token);
+        assertThat(ids(snapshot.page(0, 10))).containsExactly(7L, 8L);
+    }
+
+    private static StudyLog studyLog(long id, LocalDate studyDate) {
+        return new StudyLog(id, "제목", "내용", Category.JAVA, Understanding.GOOD, 30, studyDate);
+    }
+
+    private static List<Long> ids(List<StudyLog> studyLogs) {
+        return studyLogs.stream().map(StudyLog::getId).toList();
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.my_spring_study_diary.dao.replica;
+
+import com.study.my_spring_study_diary.cache.StudyLogChange;
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2를 원본으로 복제본의 tailing, 재동기화, 다른 노드 변경 반영을 확인합니다.
+ * (updated_at은 SQL로 직접 지정해 커밋 순서가 뒤섞인 경우를 흉내 냄)
+ */
+class StudyLogReadReplicaTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private StudyLogReadReplica replica;
+
+    // 재동기화가 첫 배치를 읽은 직후 실행할 작업 (한 번만)
+    private Runnable afterFirstBatch;
+
+    private MySQLStudyLogDaoImpl source;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:db/schema-h2.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        meterRegistry = new SimpleMeterRegistry();
+        source = new MySQLStudyLogDaoImpl(jdbcTemplate,
+                new QueryProfiler(jdbcTemplate, false, 0), ContentCompressor.disabled()) {
+            @Override
+            public List<StudyLog> findAfterId(long afterId, int limit) {
+                List<StudyLog> batch = super.findAfterId(afterId, limit);
+                Runnable action = afterFirstBatch;
+                afterFirstBatch = null;
+                if (action != null) {
+                    action.run();
+                }
+                return batch;
+            }
+        };
+        source.detectCompressedContentColumn();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void tailingReReadsOverlapButAppliesOnlyChangedRows() {
+        Long first = insert("첫 번째", T0);
+        Long second = insert("두 번째", T0);
+        Long third = insert("세 번째", T0);
+        startReplica(2, 0);
+
+        // overlap 구간을 다시 읽어도 바뀐 행이 없으면 반영하지 않음 (배치 경계도 (updated_at, id)로 이어 읽음)
+        replica.poll();
+        replica.poll();
+        assertThat(applied()).isZero();
+
+        // 기준점보다 이르지만 overlap 안에 있는 시각으로 늦게 커밋된 수정
+        update(first, "늦게 커밋된 수정", T0.minusSeconds(2));
+        replica.poll();
+        assertThat(replica.reads().findById(first).orElseThrow().getTitle()).isEqualTo("늦게 커밋된 수정");
+        assertThat(replica.reads().findById(third).orElseThrow().getTitle()).isEqualTo("세 번째");
+        assertThat(applied()).isEqualTo(1);
+
+        // 기준점 이후의 새 행
+        Long fourth = insert("네 번째", T0.plusMinutes(1));
+        replica.poll();
+        assertThat(replica.reads().findById(fourth)).isPresent();
+        assertThat(replica.size()).isEqualTo(4);
+        assertThat(applied()).isEqualTo(2);
+    }
+
+    @Test
+    void idsTouchedWhileLoadingAreReadAgainAfterSwap() {
+        Long first = insert("첫 번째", T0);
+        Long second = insert("두 번째", T0);
+
+        // 적재가 첫 배치를 읽은 뒤에 로컬 쓰기가 원본에 커밋되고 복제본에 반영됨
+        afterFirstBatch = () -> {
+            update(first, "적재 중 수정", T0.plusSeconds(1));
+            replica.applySaved(source.findById(first).orElseThrow());
+            jdbcTemplate.update("DELETE FROM study_logs WHERE id = ?", second);
+            replica.applyDeleted(second);
+        };
+        startReplica(100, 60_000);
+
+        assertThat(replica.reads().findById(first).orElseThrow().getTitle()).isEqualTo("적재 중 수정");
+        assertThat(replica.reads().findById(second)).isEmpty();
+        assertThat(replica.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resyncsAfterTwoConsecutiveCountMismatches() {
+        insert("첫 번째", T0);
+        insert("두 번째", T0);
+        startReplica(100, 0);
+        assertThat(resyncs()).isEqualTo(1);
+
+        // overlap보다 오래된 updated_at으로 들어온 행은 tailing으로 보이지 않음
+        Long missed = insert("놓친 행", T0.minusDays(1));
+
+        replica.poll();
+        assertThat(replica.size()).as("한 번 다른 것은 쓰기와 겹친 것일 수 있음").isEqualTo(2);
+        assertThat(resyncs()).isEqualTo(1);
+
+        replica.poll();
+        assertThat(resyncs()).isEqualTo(2);
+        assertThat(replica.size()).isEqualTo(3);
+        assertThat(replica.reads().findById(missed)).isPresent();
+    }
+
+    @Test
+    void deleteFromAnotherNodeIsAppliedThroughChangeLog() {
+        Long first = insert("첫 번째", T0);
+        Long second = insert("두 번째", T0);
+        startReplica(100, 60_000);
+
+        jdbcTemplate.update("DELETE FROM study_logs WHERE id = ?", first);
+        update(second, "다른 노드 수정", T0.minusDays(1));
+        replica.invalidate(List.of(
+                change(first, StudyLogChangeType.DELETED),
+                change(second, StudyLogChangeType.UPDATED)));
+
+        assertThat(replica.reads().findById(first)).isEmpty();
+        assertThat(replica.reads().findById(second).orElseThrow().getTitle()).isEqualTo("다른 노드 수정");
+        assertThat(replica.size()).isEqualTo(1);
+    }
+
+    private void startReplica(int batchSize, long verifyIntervalMillis) {
+        replica = new StudyLogReadReplica(source, ContentCompressor.disabled(), meterRegistry,
+                true, batchSize, 5_000, verifyIntervalMillis);
+        replica.init();
+        assertThat(replica.isReady()).isTrue();
+    }
+
+    private Long insert(String title, LocalDateTime updatedAt) {
+        StudyLog saved = source.save(new StudyLog(null, title, "내용", Category.JAVA, Understanding.GOOD, 30,
+                LocalDate.of(2024, 1, 1)));
+        jdbcTemplate.update("UPDATE study_logs SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(updatedAt), saved.getId());
+        return saved.getId();
+    }
+
+    private void update(Long id, String title, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE study_logs SET title = ?, updated_at = ? WHERE id = ?",
+                title, Timestamp.valueOf(updatedAt), id);
+    }
+
+    private double applied() {
+        return meterRegistry.get("studylog.replica.applied").functionCounter().count();
+    }
+
+    private double resyncs() {
+        return meterRegistry.get("studylog.replica.resyncs").functionCounter().count();
+    }
+
+    private static StudyLogChange change(Long id, StudyLogChangeType type) {
+        return new StudyLogChange(1, id, type, null, Category.JAVA, "node-b", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,214 @@
+package com.study.my_spring_study_diary.dao.snapshot;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StoredText;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudyLogSnapshotFileTest {
+
+    private static final int MAGIC = 0x534C534E;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsNullTimestampsAndCompressedContent() throws IOException {
+        String longContent = "압축되는 내용 ".repeat(200);
+        StudyLog compressed = studyLog(1L, Category.SPRING, Understanding.BAD, "압축", longContent);
+        compressed.setStoredContent(StoredText.deflate(longContent, 6));
+        StudyLog plain = studyLog(2L, Category.ETC, Understanding.VERY_GOOD, "평문", "짧은 내용");
+        plain.setCreatedAt(null);
+        plain.setUpdatedAt(null);
+        StudyLog withNanos = studyLog(3L, Category.JAVA, Understanding.NORMAL, "시각", "내용");
+        withNanos.setCreatedAt(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789));
+        withNanos.setUpdatedAt(LocalDateTime.of(1970, 1, 1, 0, 0));
+        assertThat(compressed.getStoredContent().isCompressed()).isTrue();
+
+        Path path = directory.resolve("study-logs.snapshot");
+        StudyLogSnapshotFile.write(path, new StudyLogSnapshot(List.of(compressed, plain, withNanos), 42));
+        StudyLogSnapshot read = StudyLogSnapshotFile.read(path);
+
+        assertThat(read.getSequence()).isEqualTo(42);
+        assertThat(read.getStudyLogs()).hasSize(3);
+        assertSameLog(read.getStudyLogs().get(0), compressed);
+        assertSameLog(read.getStudyLogs().get(1), plain);
+        assertSameLog(read.getStudyLogs().get(2), withNanos);
+        // 내용은 풀지 않고 압축된 채로 복원
+        assertThat(read.getStudyLogs().get(0).getStoredContent().isCompressed()).isTrue();
+        assertThat(read.getStudyLogs().get(1).getCreatedAt()).isNull();
+        assertThat(read.getStudyLogs().get(1).getUpdatedAt()).isNull();
+
+        // encode/decode도 같은 결과
+        StudyLogSnapshot decoded = StudyLogSnapshotFile.decode(
+                ByteBuffer.wrap(StudyLogSnapshotFile.encode(new StudyLogSnapshot(List.of(compressed), 2))));
+        assertSameLog(decoded.getStudyLogs().get(0), compressed);
+    }
+
+    @Test
+    void flippedByteFailsTheChecksum() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int position : new int[]{0, 10, bytes.length / 2, bytes.length - 9, bytes.length - 1}) {
+            byte[] corrupted = bytes.clone();
+            corrupted[position] ^= 0x10;
+            Files.write(path, corrupted);
+
+            assertThatThrownBy(() -> StudyLogSnapshotFile.read(path))
+                    .as("position %d", position)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("체크섬");
+        }
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int length : new int[]{0, 5, 13, bytes.length / 2, bytes.length - 1}) {
+            Files.write(path, Arrays.copyOf(bytes, length));
+
+            assertThatThrownBy(() -> StudyLogSnapshotFile.read(path))
+                    .as("length %d", length)
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void reorderedNameTableMapsToCurrentConstants() throws IOException {
+        // 상수 순서가 지금과 반대였던 버전이 쓴 파일
+        Category[] categories = reversed(Category.values());
+        Understanding[] understandings = reversed(Understanding.values());
+        byte[] body = body(categories, understandings, Category.NETWORK, Understanding.VERY_BAD);
+
+        Path path = directory.resolve("reordered.snapshot");
+        Files.write(path, withChecksum(body));
+        StudyLog read = StudyLogSnapshotFile.read(path).getStudyLogs().get(0);
+
+        assertThat(read.getCategory()).isEqualTo(Category.NETWORK);
+        assertThat(read.getUnderstanding()).isEqualTo(Understanding.VERY_BAD);
+        assertThat(read.getTitle()).isEqualTo("순서");
+        assertThat(read.getContent()).isEqualTo("내용");
+    }
+
+    @Test
+    void unknownConstantNameIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(1);
+        out.writeByte(1);
+        out.writeUTF("KOTLIN");
+        out.writeByte(0);
+        out.writeLong(1);
+        out.writeInt(0);
+        out.flush();
+
+        Path path = directory.resolve("unknown.snapshot");
+        Files.write(path, withChecksum(bytes.toByteArray()));
+
+        assertThatThrownBy(() -> StudyLogSnapshotFile.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("KOTLIN");
+    }
+
+    private Path writeSample() throws IOException {
+        Path path = directory.resolve("sample.snapshot");
+        StudyLogSnapshotFile.write(path, new StudyLogSnapshot(List.of(
+                studyLog(1L, Category.JAVA, Understanding.GOOD, "제목1", "내용1"),
+                studyLog(2L, Category.GIT, Understanding.BAD, "제목2", "내용2")), 3));
+        return path;
+    }
+
+    /**
+     * 주어진 이름 표 순서대로 번호를 매긴 레코드 하나짜리 본문 (체크섬 제외)
+     */
+    private static byte[] body(Category[] categories, Understanding[] understandings,
+                               Category category, Understanding understanding) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(1);
+        out.writeByte(categories.length);
+        for (Category value : categories) {
+            out.writeUTF(value.name());
+        }
+        out.writeByte(understandings.length);
+        for (Understanding value : understandings) {
+            out.writeUTF(value.name());
+        }
+        out.writeLong(2);
+        out.writeInt(1);
+
+        out.writeLong(1);
+        out.writeByte(Arrays.asList(categories).indexOf(category));
+        out.writeByte(Arrays.asList(understandings).indexOf(understanding));
+        out.writeInt(30);
+        out.writeInt((int) LocalDate.of(2024, 1, 1).toEpochDay());
+        out.writeLong(Long.MIN_VALUE);
+        out.writeInt(0);
+        out.writeLong(Long.MIN_VALUE);
+        out.writeInt(0);
+        byte[] title = "순서".getBytes(StandardCharsets.UTF_8);
+        out.writeInt(title.length);
+        out.write(title);
+        byte[] content = StoredText.of("내용").encoded();
+        out.writeInt(content.length);
+        out.write(content);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] withChecksum(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return ByteBuffer.allocate(body.length + 8).put(body).putLong(crc.getValue()).array();
+    }
+
+    private static <E> E[] reversed(E[] values) {
+        E[] copy = values.clone();
+        for (int i = 0; i < copy.length / 2; i++) {
+            E swap = copy[i];
+            copy[i] = copy[copy.length - 1 - i];
+            copy[copy.length - 1 - i] = swap;
+        }
+        return copy;
+    }
+
+    private static void assertSameLog(StudyLog actual, StudyLog expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(actual.getContent()).isEqualTo(expected.getContent());
+        assertThat(actual.getCategory()).isEqualTo(expected.getCategory());
+        assertThat(actual.getUnderstanding()).isEqualTo(expected.getUnderstanding());
+        assertThat(actual.getStudyTime()).isEqualTo(expected.getStudyTime());
+        assertThat(actual.getStudyDate()).isEqualTo(expected.getStudyDate());
+        assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+        assertThat(actual.getUpdatedAt()).isEqualTo(expected.getUpdatedAt());
+    }
+
+    private static StudyLog studyLog(Long id, Category category, Understanding understanding,
+                                     String title, String content) {
+        return new StudyLog(id, title, content, category, understanding, 30, LocalDate.of(2024, 3, 15));
+    }
+}
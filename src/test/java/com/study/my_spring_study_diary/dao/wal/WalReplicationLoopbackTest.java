@@ -0,0 +1,184 @@
+package com.study.my_spring_study_diary.dao.wal;
+
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.arena.OffHeapTextArena;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangeType;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.exception.ReadOnlyNodeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리더와 팔로워를 한 프로세스에 두고 127.0.0.1로 복제합니다.
+ */
+class WalReplicationLoopbackTest {
+
+    private static final int WAL_MAX_ENTRIES = 1024;
+
+    private InMemoryStudyLogDao leaderDao;
+    private WalReplicationLeader leader;
+    private InMemoryStudyLogDao followerDao;
+    private WalReplicationFollower follower;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StudyLogWal wal = new StudyLogWal("leader", WAL_MAX_ENTRIES);
+        leaderDao = newDao(wal);
+        leader = new WalReplicationLeader(leaderDao, wal, new SimpleMeterRegistry(),
+                "leader", "127.0.0.1", 0, 16, 100);
+        leader.start();
+
+        followerDao = newDao(StudyLogWal.disabled());
+        follower = new WalReplicationFollower(followerDao, new SimpleMeterRegistry(), events::add,
+                "follower", "127.0.0.1", leader.getPort(), 50, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        follower.stop();
+        leader.stop();
+    }
+
+    @Test
+    void followerCatchesUpFromSnapshotThenStreams() {
+        // 팔로워가 붙기 전의 쓰기는 WAL 보관 개수보다 많아 스냅샷으로만 받을 수 있음
+        for (int i = 0; i < WAL_MAX_ENTRIES * 3; i++) {
+            leaderDao.save(studyLog("이전 일지 " + i, Category.values()[i % Category.values().length]));
+        }
+        follower.start();
+        awaitInSync();
+        assertThat(leader.getSnapshotsSent()).isEqualTo(1);
+
+        for (int i = 0; i < 500; i++) {
+            StudyLog saved = leaderDao.save(studyLog("새 일지 " + i, Category.SPRING));
+            if (i % 3 == 0) {
+                StudyLog changed = leaderDao.findById(saved.getId()).orElseThrow();
+                changed.setContent("수정된 내용 " + i);
+                changed.setUnderstanding(Understanding.VERY_GOOD);
+                leaderDao.update(changed);
+            }
+            if (i % 5 == 0) {
+                leaderDao.deleteById((long) (i + 1));
+            }
+        }
+        awaitInSync();
+
+        // 쓰기 묶음이 WAL 보관 개수보다 작으므로 전부 WAL로 받음
+        assertThat(leader.getSnapshotsSent()).isEqualTo(1);
+        assertThat(follower.getLagRecords()).isZero();
+    }
+
+    @Test
+    void reconnectResumesFromWalTail() {
+        leaderDao.save(studyLog("첫 일지", Category.JAVA));
+        follower.start();
+        awaitInSync();
+
+        follower.stop();
+        for (int i = 0; i < WAL_MAX_ENTRIES / 2; i++) {
+            leaderDao.save(studyLog("끊긴 동안의 일지 " + i, Category.DATABASE));
+        }
+        follower.start();
+        awaitInSync();
+
+        // 끊긴 동안의 쓰기가 WAL에 남아 있으므로 스냅샷 없이 이어 받음
+        assertThat(leader.getSnapshotsSent()).isEqualTo(1);
+
+        leaderDao.deleteAll();
+        await(() -> followerDao.count() == 0);
+    }
+
+    @Test
+    void followerPublishesReplicatedChanges() {
+        StudyLog kept = leaderDao.save(studyLog("그대로 둘 일지", Category.JAVA));
+        StudyLog changed = leaderDao.save(studyLog("수정할 일지", Category.JAVA));
+        follower.start();
+        awaitInSync();
+        // 스냅샷으로 받은 일지도 새로 생긴 것으로 알림
+        assertThat(changes()).containsExactlyInAnyOrder(
+                StudyLogChangeType.CREATED + "|" + kept.getId(),
+                StudyLogChangeType.CREATED + "|" + changed.getId());
+
+        events.clear();
+        StudyLog edited = leaderDao.findById(changed.getId()).orElseThrow();
+        edited.setCategory(Category.SPRING);
+        leaderDao.update(edited);
+        leaderDao.deleteById(kept.getId());
+        awaitInSync();
+
+        assertThat(changes()).containsExactly(
+                StudyLogChangeType.UPDATED + "|" + changed.getId(),
+                StudyLogChangeType.DELETED + "|" + kept.getId());
+        StudyLogChangedEvent updated = (StudyLogChangedEvent) events.get(0);
+        assertThat(updated.isReplicated()).isTrue();
+        assertThat(updated.getBefore().getCategory()).isEqualTo(Category.JAVA);
+        assertThat(updated.getAfter().getCategory()).isEqualTo(Category.SPRING);
+    }
+
+    @Test
+    void followerRejectsWrites() {
+        follower.start();
+
+        assertThatThrownBy(() -> followerDao.save(studyLog("팔로워에 쓰기", Category.ETC)))
+                .isInstanceOf(ReadOnlyNodeException.class);
+        assertThatThrownBy(() -> followerDao.deleteAll())
+                .isInstanceOf(ReadOnlyNodeException.class);
+    }
+
+    private void awaitInSync() {
+        await(() -> follower.getAppliedSeq() == leaderDao.snapshotWithWalPosition().getSeq());
+        assertThat(contents(followerDao)).isEqualTo(contents(leaderDao));
+    }
+
+    private List<String> changes() {
+        return events.stream()
+                .map(event -> (StudyLogChangedEvent) event)
+                .map(event -> event.getType() + "|" + event.getLogId())
+                .toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("복제 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static List<String> contents(InMemoryStudyLogDao dao) {
+        return dao.findAll().stream()
+                .sorted(Comparator.comparing(StudyLog::getId))
+                .map(log -> log.getId() + "|" + log.getTitle() + "|" + log.getContent() + "|"
+                        + log.getCategory() + "|" + log.getUnderstanding() + "|" + log.getUpdatedAt())
+                .toList();
+    }
+
+    private static InMemoryStudyLogDao newDao(StudyLogWal wal) {
+        return new InMemoryStudyLogDao(ContentCompressor.disabled(), OffHeapTextArena.disabled(), wal, 256, 300_000);
+    }
+
+    private static StudyLog studyLog(String title, Category category) {
+        return new StudyLog(null, title, title + " 내용", category, Understanding.GOOD, 30, LocalDate.now());
+    }
+}
@@ -0,0 +1,182 @@
+package com.study.my_spring_study_diary.dataset;
+
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.arena.OffHeapTextArena;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
+import com.study.my_spring_study_diary.entity.StoredText;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 학습 내용 압축 리포트
+ *
+ * 같은 합성 데이터로 압축 끔/켬을 비교합니다.
+ * - I/O: H2에 저장된 content + content_compressed 바이트 합계, 전체 페이지 조회 시간
+ * - 힙: 인메모리 DAO에 적재한 뒤 GC 후 사용 중인 힙 증가량 (오프힙 아레나 사용 시 포함)
+ * - CPU: 압축/해제 1건당 스레드 CPU 시간
+ *
+ * 기본 테스트에서는 제외되며 benchmark 태스크로 실행합니다.
+ *   ./gradlew benchmark --tests '*ContentCompressionReportTest' -Dcompression.rows=50000 -Dcompression.threshold=256
+ *
+ * 결과: build/reports/content-compression/report.md
+ */
+@Tag("benchmark")
+class ContentCompressionReportTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private final int rows = Integer.getInteger("compression.rows", 20_000);
+    private final int threshold = Integer.getInteger("compression.threshold", 512);
+
+    @Test
+    void writeCompressionReport() throws IOException {
+        List<StudyLog> studyLogs = new ArrayList<>(rows);
+        new SyntheticStudyLogGenerator(42, TODAY, 730).generate(rows, studyLogs::add);
+
+        ContentCompressor off = ContentCompressor.disabled();
+        ContentCompressor on = new ContentCompressor(true, threshold, 6);
+
+        StringBuilder markdown = new StringBuilder("# Content Compression Report\n\n");
+        markdown.append(String.format("rows=%,d, threshold=%,d bytes, deflate level=6%n%n", rows, threshold));
+
+        markdown.append("## CPU\n\n| 작업 | ns/건 (스레드 CPU) |\n|---|---:|\n");
+        long[] cpu = measureCpu(studyLogs, on);
+        markdown.append(String.format("| 압축 | %,d |%n| 해제 (getContent) | %,d |%n%n", cpu[0], cpu[1]));
+
+        markdown.append("## I/O (H2)\n\n| 모드 | 저장 바이트 | 압축된 행 | 전체 페이지 조회 ms |\n|---|---:|---:|---:|\n");
+        markdown.append(measureH2("off", studyLogs, off));
+        markdown.append(measureH2("on", studyLogs, on));
+
+        markdown.append("\n## Heap (in-memory DAO)\n\n| 모드 | 사용 힙 증가 MB |\n|---|---:|\n");
+        markdown.append(String.format("| off | %.1f |%n", measureHeap(studyLogs, off, OffHeapTextArena.disabled()) / 1_048_576.0));
+        markdown.append(String.format("| on | %.1f |%n", measureHeap(studyLogs, on, OffHeapTextArena.disabled()) / 1_048_576.0));
+        OffHeapTextArena arena = new OffHeapTextArena(true, 8, 0.5, 300_000);
+        markdown.append(String.format("| off-heap | %.1f (direct %.1f) |%n",
+                measureHeap(studyLogs, off, arena) / 1_048_576.0, arena.getReservedBytes() / 1_048_576.0));
+
+        Path directory = Path.of("build", "reports", "content-compression");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report.md"), markdown);
+        System.out.println(markdown);
+    }
+
+    // ========== MEASUREMENTS ==========
+
+    /**
+     * 압축 / 해제 1건당 CPU 시간 (압축 대상 행만, 해제 결과가 원본과 같은지도 확인)
+     */
+    private long[] measureCpu(List<StudyLog> studyLogs, ContentCompressor compressor) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<StoredText> compressed = new ArrayList<>();
+        List<String> originals = new ArrayList<>();
+
+        long start = threads.getCurrentThreadCpuTime();
+        for (StudyLog studyLog : studyLogs) {
+            StoredText text = compressor.compress(StoredText.of(studyLog.getContent()));
+            if (text.isCompressed()) {
+                compressed.add(text);
+                originals.add(studyLog.getContent());
+            }
+        }
+        long compressNanos = threads.getCurrentThreadCpuTime() - start;
+
+        start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < compressed.size(); i++) {
+            assertEquals(originals.get(i), compressed.get(i).text());
+        }
+        long decompressNanos = threads.getCurrentThreadCpuTime() - start;
+
+        int count = Math.max(1, compressed.size());
+        return new long[]{compressNanos / studyLogs.size(), decompressNanos / count};
+    }
+
+    private String measureH2(String mode, List<StudyLog> studyLogs, ContentCompressor compressor) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:db/schema-h2.sql")
+                .build();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            MySQLStudyLogDaoImpl studyLogDao =
+                    new MySQLStudyLogDaoImpl(jdbcTemplate, new QueryProfiler(jdbcTemplate, false, 0), compressor);
+            studyLogDao.detectCompressedContentColumn();
+            for (StudyLog studyLog : studyLogs) {
+                studyLogDao.save(studyLog.copy());
+            }
+
+            Map<String, Object> bytes = jdbcTemplate.queryForMap("""
+                    SELECT COALESCE(SUM(OCTET_LENGTH(content)), 0) + COALESCE(SUM(OCTET_LENGTH(content_compressed)), 0) AS total,
+                           COUNT(content_compressed) AS compressed
+                    FROM study_logs
+                    """);
+
+            long start = System.nanoTime();
+            long contentChars = 0;
+            for (int page = 0; page * 100 < studyLogs.size(); page++) {
+                for (StudyLog studyLog : studyLogDao.findAllWithPaging(page, 100).getContent()) {
+                    contentChars += studyLog.getContent().length();
+                }
+            }
+            long readMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(totalChars(studyLogs), contentChars);
+
+            return String.format("| %s | %,d | %,d | %,d |%n",
+                    mode, ((Number) bytes.get("TOTAL")).longValue(), ((Number) bytes.get("COMPRESSED")).longValue(),
+                    readMillis);
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    private long measureHeap(List<StudyLog> studyLogs, ContentCompressor compressor, OffHeapTextArena arena) {
+        // 원본 목록이 들고 있는 문자열은 제외하고 DAO가 보관하는 내용만 재기 위해 복사본에 새 문자열을 넣음
+        long before = usedHeapAfterGc();
+        InMemoryStudyLogDao studyLogDao = new InMemoryStudyLogDao(compressor, arena);
+        for (StudyLog studyLog : studyLogs) {
+            StudyLog copy = studyLog.copy();
+            copy.setId(null);
+            copy.setContent(new String(studyLog.getContent().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+            studyLogDao.save(copy);
+        }
+        long used = usedHeapAfterGc() - before;
+        assertEquals(studyLogs.size(), studyLogDao.count());
+        return used;
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private long totalChars(List<StudyLog> studyLogs) {
+        long total = 0;
+        for (StudyLog studyLog : studyLogs) {
+            total += studyLog.getContent().length();
+        }
+        return total;
+    }
+}
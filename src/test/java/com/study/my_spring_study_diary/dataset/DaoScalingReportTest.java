@@ -0,0 +1,204 @@
+package com.study.my_spring_study_diary.dataset;
+
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDaoEngines;
+import com.study.my_spring_study_diary.dao.StudyLogSearchCondition;
+import com.study.my_spring_study_diary.dao.StudyLogStorageEngine;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.StudyTimeBucket;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * DAO 규모별 성능 리포트
+ *
+ * 데이터 크기를 늘려가며 모든 DAO 메서드의 지연 시간을 측정하고,
+ * 크기 대비 증가율(기울기)로 O(n) 경로를 찾아냅니다.
+ *
+ * 기본 테스트에서는 제외되며 benchmark 태스크로 실행합니다.
+ *   ./gradlew benchmark --tests '*DaoScalingReportTest' -Dscaling.sizes=1000,10000,100000,1000000
+ *   (MySQL도 측정하려면 -Dengine.mysql.url=... 추가)
+ *
+ * 결과: build/reports/dao-scaling/report.md, report.csv
+ */
+@Tag("benchmark")
+class DaoScalingReportTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private final long[] sizes = Arrays.stream(System.getProperty("scaling.sizes", "1000,10000,100000").split(","))
+            .map(String::trim)
+            .mapToLong(Long::parseLong)
+            .toArray();
+    private final int iterations = Integer.getInteger("scaling.iterations", 30);
+
+    @Test
+    void writeScalingReport() throws IOException {
+        List<Measurement> measurements = new ArrayList<>();
+
+        for (StudyLogStorageEngine engine : StudyLogDaoEngines.available()) {
+            measureEngine(engine, measurements);
+        }
+
+        writeReport(measurements);
+    }
+
+    // ========== ENGINES ==========
+
+    /**
+     * 크기마다 빈 저장소를 새로 만들어 같은 합성 데이터를 적재한 뒤 측정
+     * (MySQL은 -Dengine.mysql.url을 주었을 때만, StudyLogDaoEngines 참고)
+     */
+    private void measureEngine(StudyLogStorageEngine engine, List<Measurement> measurements) {
+        for (long size : sizes) {
+            try (StudyLogDaoEngines.Fixture fixture = StudyLogDaoEngines.open(engine)) {
+                fixture.load(new SyntheticStudyLogGenerator(42, TODAY, 730), size);
+                measureAll(engine.getKey(), fixture.dao(), size, measurements);
+            }
+        }
+    }
+
+    // ========== SCENARIOS ==========
+
+    private void measureAll(String engine, StudyLogDao dao, long size, List<Measurement> measurements) {
+        SplittableRandom random = new SplittableRandom(7);
+        SyntheticStudyLogGenerator generator = new SyntheticStudyLogGenerator(99, TODAY, 730);
+        List<Long> ids = dao.findAllWithPaging(0, 100).getContent().stream().map(StudyLog::getId).toList();
+        int deepPage = (int) Math.max(0, size / 10 / 2);
+
+        Map<String, Consumer<Integer>> scenarios = new LinkedHashMap<>();
+        scenarios.put("save", i -> dao.save(generator.next()));
+        scenarios.put("findById", i -> dao.findById(ids.get(random.nextInt(ids.size()))));
+        scenarios.put("existsById", i -> dao.existsById(ids.get(random.nextInt(ids.size()))));
+        scenarios.put("count", i -> dao.count());
+        scenarios.put("findAll", i -> dao.findAll());
+        scenarios.put("findByCategory", i -> dao.findByCategory(Category.GIT.name()));
+        scenarios.put("findByStudyDate", i -> dao.findByStudyDate(TODAY.minusDays(random.nextInt(30))));
+        scenarios.put("findAllWithPaging(first)", i -> dao.findAllWithPaging(0, 10));
+        scenarios.put("findAllWithPaging(deep)", i -> dao.findAllWithPaging(deepPage, 10));
+        scenarios.put("findByCategoryWithPaging", i -> dao.findByCategoryWithPaging(Category.SPRING.name(), 0, 10));
+        scenarios.put("searchWithPaging(keyword)", i -> dao.searchWithPaging("Stream", null, null, null, 0, 10));
+        scenarios.put("searchWithPaging(category+date)", i -> dao.searchWithPaging(
+                null, Category.JAVA.name(), TODAY.minusDays(30), TODAY, 0, 10));
+        scenarios.put("searchWithPaging(multi-predicate)", i -> dao.searchWithPaging(
+                StudyLogSearchCondition.of(null, List.of(Category.JAVA.name(), Category.SPRING.name()),
+                        List.of(Understanding.GOOD.name(), Understanding.VERY_GOOD.name()),
+                        List.of(StudyTimeBucket.UNDER_60.name()), TODAY.minusDays(90), TODAY),
+                0, 10));
+        scenarios.put("update", i -> dao.findById(ids.get(random.nextInt(ids.size())))
+                .ifPresent(studyLog -> {
+                    studyLog.setStudyTime(studyLog.getStudyTime() + 1);
+                    dao.update(studyLog);
+                }));
+        scenarios.put("deleteById", i -> {
+            StudyLog saved = dao.save(generator.next());
+            dao.deleteById(saved.getId());
+        });
+
+        for (Map.Entry<String, Consumer<Integer>> scenario : scenarios.entrySet()) {
+            // 전체 조회처럼 결과가 큰 작업은 반복 횟수를 줄임
+            int runs = scenario.getKey().equals("findAll") ? Math.max(3, iterations / 10) : iterations;
+            measurements.add(measure(engine, scenario.getKey(), size, runs, scenario.getValue()));
+        }
+    }
+
+    private Measurement measure(String engine, String operation, long size, int runs, Consumer<Integer> action) {
+        // 워밍업
+        for (int i = 0; i < Math.min(5, runs); i++) {
+            action.accept(i);
+        }
+
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            action.accept(i);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return new Measurement(engine, operation, size,
+                samples[runs / 2] / 1_000.0,
+                samples[Math.min(runs - 1, (int) Math.ceil(runs * 0.95) - 1)] / 1_000.0);
+    }
+
+    // ========== REPORT ==========
+
+    private void writeReport(List<Measurement> measurements) throws IOException {
+        Path directory = Path.of("build", "reports", "dao-scaling");
+        Files.createDirectories(directory);
+
+        StringBuilder csv = new StringBuilder("engine,operation,rows,median_us,p95_us\n");
+        for (Measurement m : measurements) {
+            csv.append(String.format("%s,%s,%d,%.1f,%.1f%n", m.engine, m.operation, m.rows, m.medianMicros, m.p95Micros));
+        }
+        Files.writeString(directory.resolve("report.csv"), csv);
+
+        StringBuilder markdown = new StringBuilder("# DAO Scaling Report\n\n");
+        markdown.append("지연 시간은 중앙값(µs). 기울기 = log(t2/t1) / log(n2/n1), 0.5 이상이면 O(n)에 가까운 경로로 표시합니다.\n\n");
+
+        Map<String, List<Measurement>> byEngineAndOperation = new LinkedHashMap<>();
+        for (Measurement m : measurements) {
+            byEngineAndOperation.computeIfAbsent(m.engine + " | " + m.operation, k -> new ArrayList<>()).add(m);
+        }
+
+        markdown.append("| engine | operation |");
+        for (long size : sizes) {
+            markdown.append(String.format(" %,d rows |", size));
+        }
+        markdown.append(" slope | |\n|---|---|");
+        markdown.append("---|".repeat(sizes.length));
+        markdown.append("---|---|\n");
+
+        for (Map.Entry<String, List<Measurement>> entry : byEngineAndOperation.entrySet()) {
+            List<Measurement> series = entry.getValue();
+            markdown.append("| ").append(entry.getKey()).append(" |");
+            for (Measurement m : series) {
+                markdown.append(String.format(" %.1f |", m.medianMicros));
+            }
+            double slope = slope(series);
+            markdown.append(String.format(" %.2f | %s |%n", slope, slope >= 0.5 ? "⚠️ O(n)" : ""));
+        }
+        Files.writeString(directory.resolve("report.md"), markdown);
+
+        System.out.println(markdown);
+    }
+
+    private double slope(List<Measurement> series) {
+        if (series.size() < 2) {
+            return 0;
+        }
+        Measurement first = series.get(0);
+        Measurement last = series.get(series.size() - 1);
+        double timeRatio = Math.max(last.medianMicros, 0.1) / Math.max(first.medianMicros, 0.1);
+        return Math.log(timeRatio) / Math.log((double) last.rows / first.rows);
+    }
+
+    private static class Measurement {
+        private final String engine;
+        private final String operation;
+        private final long rows;
+        private final double medianMicros;
+        private final double p95Micros;
+
+        private Measurement(String engine, String operation, long rows, double medianMicros, double p95Micros) {
+            this.engine = engine;
+            this.operation = operation;
+            this.rows = rows;
+            this.medianMicros = medianMicros;
+            this.p95Micros = p95Micros;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.my_spring_study_diary.diagnostics;
+
+import com.study.my_spring_study_diary.diagnostics.RequestTiming.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingTest {
+
+    @Test
+    void reportsNestedPhasesExclusively() {
+        RequestTiming timing = RequestTiming.begin();
+        pause(5);
+
+        long dao = RequestTiming.start(Phase.DAO);
+        long nestedDao = RequestTiming.start(Phase.DAO);     // 데코레이터 안쪽 DAO 호출은 한 번만 셈
+        long sql = RequestTiming.start(Phase.SQL);
+        long connection = RequestTiming.start(Phase.CONNECTION);
+        pause(5);
+        RequestTiming.stop(Phase.CONNECTION, connection);
+        pause(5);
+        RequestTiming.stop(Phase.SQL, sql);
+        RequestTiming.stop(Phase.DAO, nestedDao);
+        pause(5);
+        RequestTiming.stop(Phase.DAO, dao);
+        timing.markBodyWrite();
+        pause(5);
+        timing.end();
+
+        long sum = 0;
+        for (Phase phase : Phase.values()) {
+            assertThat(timing.exclusiveNanos(phase)).as(phase.name()).isGreaterThanOrEqualTo(4_000_000);
+            sum += timing.exclusiveNanos(phase);
+        }
+        assertThat(sum).isLessThanOrEqualTo(timing.totalNanos());
+        assertThat(timing.serverTimingHeader())
+                .matches("conn;dur=\\d+\\.\\d{3}, sql;dur=\\d+\\.\\d{3}, dao;dur=\\d+\\.\\d{3}, app;dur=\\d+\\.\\d{3}");
+    }
+
+    @Test
+    void ignoresPhasesOutsideRequest() {
+        RequestTiming.begin().end();
+
+        long dao = RequestTiming.start(Phase.DAO);
+        pause(2);
+        RequestTiming.stop(Phase.DAO, dao);
+
+        assertThat(RequestTiming.current()).isNull();
+        assertThat(RequestTiming.begin().exclusiveNanos(Phase.DAO)).isZero();
+    }
+
+    private static void pause(long millis) {
+        long until = System.nanoTime() + millis * 1_000_000;
+        while (System.nanoTime() < until) {
+            LockSupport.parkNanos(until - System.nanoTime());
+        }
+    }
+}
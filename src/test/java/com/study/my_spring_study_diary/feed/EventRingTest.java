@@ -0,0 +1,51 @@
+package com.study.my_spring_study_diary.feed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventRingTest {
+
+    @Test
+    void overwrittenEntriesAreNoLongerAvailable() {
+        EventRing<String> ring = new EventRing<>(4);
+        for (int i = 1; i <= 6; i++) {
+            assertThat(ring.publish("event-" + i)).isEqualTo(i);
+        }
+
+        assertThat(ring.getPublished()).isEqualTo(6);
+        assertThat(ring.getOldestAvailable()).isEqualTo(3);
+        assertThat(ring.get(2)).isNull();
+        assertThat(ring.get(3)).isEqualTo("event-3");
+        assertThat(ring.get(6)).isEqualTo("event-6");
+        assertThat(ring.get(7)).isNull();
+    }
+
+    @Test
+    void awaitAfterWakesOnPublishOrTimesOut() throws InterruptedException {
+        EventRing<String> ring = new EventRing<>(4);
+        assertThat(ring.awaitAfter(0, 20)).isFalse();
+
+        Thread publisher = new Thread(() -> {
+            sleep(50);
+            ring.publish("late");
+        });
+        publisher.start();
+        assertThat(ring.awaitAfter(0, 5_000)).isTrue();
+        publisher.join();
+    }
+
+    @Test
+    void capacityMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new EventRing<String>(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.study.my_spring_study_diary.feed;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 샤드에 TCP 윈도가 가득 찬(전송이 돌아오지 않는) 구독자가 있어도 다른 구독자는 계속 받는지 확인합니다.
+ */
+class StudyLogFeedTest {
+
+    private static final long SLOW_SEND_MILLIS = 200;
+
+    private StudyLogFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        // fan-out 스레드 1개 → 모든 구독자가 같은 샤드
+        feed = new StudyLogFeed(new InMemoryStudyLogDao(), JsonMapper.builder().build(), new SimpleMeterRegistry(),
+                64, 1, 100, 64, 2, 60_000, SLOW_SEND_MILLIS, 60_000);
+        feed.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void blockedSubscriberIsDroppedWithoutStallingTheShard() throws InterruptedException {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter(unblock);
+        feed.subscribe(null, blocked);
+        List<RecordingEmitter> healthy = List.of(new RecordingEmitter(null), new RecordingEmitter(null),
+                new RecordingEmitter(null));
+        healthy.forEach(emitter -> feed.subscribe(null, emitter));
+        assertThat(feed.getSubscriberCount()).isEqualTo(4);
+
+        for (long id = 1; id <= 5; id++) {
+            feed.onStudyLogChanged(StudyLogChangedEvent.created(studyLog(id)));
+        }
+
+        // 막힌 구독자의 첫 전송이 돌아오지 않아도 나머지는 모두 받음
+        await(() -> healthy.stream().allMatch(emitter -> emitter.events.size() == 5));
+        // slow-send-ms가 지나면 막힌 구독자만 끊김
+        await(() -> feed.getSubscriberCount() == 3);
+        assertThat(blocked.events).isEmpty();
+
+        // 막혔던 전송이 끝나면 더 보내지 않고 연결을 닫음
+        unblock.countDown();
+        await(() -> blocked.completed);
+        assertThat(blocked.events).hasSize(1);
+
+        feed.onStudyLogChanged(StudyLogChangedEvent.created(studyLog(6L)));
+        await(() -> healthy.stream().allMatch(emitter -> emitter.events.size() == 6));
+        assertThat(blocked.events).hasSize(1);
+    }
+
+    private static StudyLog studyLog(Long id) {
+        return new StudyLog(id, "제목 " + id, "내용", Category.JAVA, Understanding.GOOD, 30, LocalDate.now());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * 첫 "connected" 코멘트 다음 전송부터 기록 (unblock이 있으면 풀릴 때까지 전송이 돌아오지 않음)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch unblock;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed = false;
+
+        private RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (calls.getAndIncrement() == 0) {
+                return;
+            }
+            if (unblock != null) {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.my_spring_study_diary.limiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가짜 시계로 응답 시간을 정해 AIMD 동작을 확인합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 초기 10, 범위 2~20, 감소 비율 0.5, 기준 지연의 2배를 넘으면 과부하, 기준 지연 윈도우 5개
+        limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 20, 0.5, 2.0, 5, clock::get);
+    }
+
+    @Test
+    void rejectsAtLimitUntilSlotIsReleased() {
+        long[] starts = new long[10];
+        for (int i = 0; i < starts.length; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            starts[i] = limiter.startNanos();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+
+        limiter.release(starts[0], false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increasesByOneWhileBusyAndFast() {
+        hold(9);
+        for (int i = 0; i < 5; i++) {
+            call(1, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(15);
+
+        for (int i = 0; i < 20; i++) {
+            call(1, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void doesNotIncreaseWhileMostlyIdle() {
+        for (int i = 0; i < 50; i++) {
+            call(1, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void slowResponsesHalveLimitAtMostOncePerResponseTime() {
+        call(1, false);   // 기준 지연 1ms
+
+        // 같은 시각에 끝난 느린 응답 두 개는 한 번만 줄임
+        long first = acquire();
+        long second = acquire();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        limiter.release(first, false);
+        limiter.release(second, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        call(10, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        call(10, false);
+        assertThat(limiter.getLimit()).as("minLimit 아래로는 줄지 않음").isEqualTo(2);
+    }
+
+    @Test
+    void droppedCallDecreasesEvenWhenFast() {
+        call(1, false);
+        call(1, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void baselineFollowsSustainedLatency() {
+        call(1, false);   // 기준 지연 1ms
+
+        // 3ms가 계속되면 기준 지연이 따라 올라가 더 이상 과부하로 보지 않음
+        for (int i = 0; i < 20; i++) {
+            call(3, false);
+        }
+        int settled = limiter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            call(3, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(settled);
+    }
+
+    @Test
+    void invalidRangeIsRejected() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 0, 10, 0.9, 2.0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 10, 5, 0.9, 2.0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void hold(int count) {
+        for (int i = 0; i < count; i++) {
+            acquire();
+        }
+    }
+
+    private long acquire() {
+        assertThat(limiter.tryAcquire()).isTrue();
+        return limiter.startNanos();
+    }
+
+    /**
+     * 슬롯을 얻고 latencyMillis 뒤에 반납
+     */
+    private void call(long latencyMillis, boolean dropped) {
+        long start = acquire();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        limiter.release(start, dropped);
+    }
+}
@@ -0,0 +1,90 @@
+package com.study.my_spring_study_diary.limiter;
+
+import com.study.my_spring_study_diary.cache.LastKnownGoodCache;
+import com.study.my_spring_study_diary.cache.PageQueryCache;
+import com.study.my_spring_study_diary.cache.StudyLogResponseCache;
+import com.study.my_spring_study_diary.controller.StudyLogController;
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.exception.GlobalExceptionHandler;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * limit을 넘은 DAO 호출이 503 + Retry-After로 응답되는지, 읽기/쓰기 제한이 서로 독립인지 확인합니다.
+ */
+class ConcurrencyLimitResponseTest {
+
+    private static final String CREATE_BODY = """
+            {"title": "제목", "content": "내용", "category": "JAVA", "understanding": "GOOD",
+             "studyTime": 30, "studyDate": "2024-05-01"}
+            """;
+
+    private DaoConcurrencyLimits limits;
+    private InMemoryStudyLogDao dao;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Retry-After 7초, 읽기 limit 2, 쓰기 limit 1 고정
+        limits = new DaoConcurrencyLimits(meterRegistry, true, 7, 0.9, 2.0, 100,
+                2, 2, 2, 1, 1, 1);
+        dao = new InMemoryStudyLogDao();
+
+        StudyLogService service = new StudyLogService(
+                new ConcurrencyLimitedStudyLogDao(dao, limits),
+                event -> { },
+                new StudyLogResponseCache(100, 60),
+                new PageQueryCache(meterRegistry, true, 100, 30),
+                new LastKnownGoodCache(meterRegistry, true, 100, 600, 10));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudyLogController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void saturatedWritesAreRejectedWithRetryAfterWhileReadsContinue() throws Exception {
+        Long id = dao.save(studyLog()).getId();
+        limits.getWriteLimiter().tryAcquire();
+
+        mockMvc.perform(post("/api/v1/logs").contentType(MediaType.APPLICATION_JSON).content(CREATE_BODY))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+        mockMvc.perform(get("/api/v1/logs/{id}", id))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void saturatedReadsAreRejectedWithRetryAfterWhileWritesContinue() throws Exception {
+        Long id = dao.save(studyLog()).getId();
+        limits.getReadLimiter().tryAcquire();
+        limits.getReadLimiter().tryAcquire();
+
+        // 한 번도 성공한 적 없는 조회라 대신 내줄 이전 응답도 없음
+        mockMvc.perform(get("/api/v1/logs/{id}", id))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+        mockMvc.perform(post("/api/v1/logs").contentType(MediaType.APPLICATION_JSON).content(CREATE_BODY))
+                .andExpect(status().isOk());
+    }
+
+    private static StudyLog studyLog() {
+        return new StudyLog(null, "제목", "내용", Category.JAVA, Understanding.GOOD, 30, LocalDate.of(2024, 5, 1));
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.my_spring_study_diary.limiter;
+
+import com.study.my_spring_study_diary.compression.ContentCompressor;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.diagnostics.QueryProfiler;
+import com.study.my_spring_study_diary.diagnostics.TimedConnectionDataSource;
+import com.study.my_spring_study_diary.event.DatabaseRecoveredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseSaturationTest {
+
+    private static final long BUDGET_MILLIS = 200;
+
+    private EmbeddedDatabase database;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private DatabaseSaturation saturation;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        saturation = new DatabaseSaturation(new SimpleMeterRegistry(),
+                new StaticListableBeanFactory(Map.of("dataSource", database)).getBeanProvider(DataSource.class),
+                events::add, true, BUDGET_MILLIS, 20, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saturation.shutdown();
+        database.shutdown();
+    }
+
+    @Test
+    void slowAcquisitionEntersDegradedModeUntilProbeSucceeds() throws InterruptedException {
+        saturation.acquisitionStarted();
+        saturation.acquisitionFinished(TimeUnit.MILLISECONDS.toNanos(10), true);
+        assertThat(saturation.isSaturated()).isFalse();
+
+        saturation.acquisitionStarted();
+        saturation.acquisitionFinished(TimeUnit.MILLISECONDS.toNanos(BUDGET_MILLIS + 1), true);
+        assertThat(saturation.isSaturated()).isTrue();
+
+        // 확인 스레드가 H2에서 커넥션을 바로 받으면 저하 모드 종료
+        awaitRecovery();
+        assertThat(saturation.isSaturated()).isFalse();
+        assertThat(events).hasSize(1).first().isInstanceOf(DatabaseRecoveredEvent.class);
+    }
+
+    @Test
+    void waitingLongerThanBudgetIsDetectedBeforeTheAcquisitionEnds() throws InterruptedException {
+        saturation.acquisitionStarted();
+        assertThat(saturation.isSaturated()).isFalse();
+
+        Thread.sleep(BUDGET_MILLIS + 50);
+        assertThat(saturation.isSaturated()).isTrue();
+
+        saturation.acquisitionFinished(TimeUnit.MILLISECONDS.toNanos(BUDGET_MILLIS + 50), true);
+        awaitRecovery();
+    }
+
+    @Test
+    void poolTimeoutInsideDaoIsThrownAndEntersDegradedMode() throws InterruptedException {
+        DataSource timingOut = new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out after 30000ms.");
+            }
+        };
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new TimedConnectionDataSource(timingOut, saturation));
+        MySQLStudyLogDaoImpl studyLogDao = new MySQLStudyLogDaoImpl(jdbcTemplate,
+                new QueryProfiler(jdbcTemplate, false, 0), ContentCompressor.disabled());
+
+        // 빈 Optional(없는 일지)이 아니라 예외로 전달되어야 서비스가 마지막 성공 응답을 돌려줌
+        assertThatThrownBy(() -> studyLogDao.findById(1L))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(saturation.isSaturated()).isTrue();
+
+        awaitRecovery();
+    }
+
+    private void awaitRecovery() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (events.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(events).isNotEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.my_spring_study_diary.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 버킷을 공유하는 서명만 후보가 되고, 교체/삭제 후에는 이전 버킷에 ID가 남지 않는지 확인합니다.
+ */
+class LshIndexTest {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+
+    private final MinHasher minHasher = new MinHasher(BANDS * ROWS, 3, 0x5EED_5EEDL);
+    private final LshIndex index = new LshIndex(BANDS, ROWS);
+
+    private final int[] transaction = minHasher.signature("스프링 트랜잭션 전파 속성 정리");
+    private final int[] transactionAgain = minHasher.signature("스프링 트랜잭션 전파 속성 정리하기");
+    private final int[] rebase = minHasher.signature("Git rebase 충돌 해결");
+    private final int[] garbageCollector = minHasher.signature("JVM 가비지 컬렉터 비교");
+
+    @Test
+    void nearDuplicatesBecomeCandidatesAndUnrelatedOnesDoNot() {
+        index.put(1L, transaction);
+        index.put(2L, transactionAgain);
+        index.put(3L, rebase);
+        index.put(4L, garbageCollector);
+
+        assertThat(index.candidates(transaction, 1L, 100)).containsExactly(2L);
+        assertThat(index.candidates(rebase, 3L, 100)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void putOnExistingIdReplacesItsBuckets() {
+        index.put(1L, transaction);
+        index.put(1L, rebase);
+
+        assertThat(index.getSignature(1L)).isEqualTo(rebase);
+        assertThat(index.candidates(transaction, -1L, 100)).isEmpty();
+        assertThat(index.candidates(rebase, -1L, 100)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeLeavesNoIdsInTheBuckets() {
+        index.put(1L, transaction);
+        index.put(2L, transaction);
+
+        index.remove(1L);
+        assertThat(index.candidates(transaction, -1L, 100)).containsExactly(2L);
+        assertThat(index.getSignature(1L)).isNull();
+
+        index.remove(2L);
+        index.remove(2L);
+        assertThat(index.candidates(transaction, -1L, 100)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void maxCandidatesTruncatesAndExcludesTheQueriedId() {
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, transaction);
+        }
+
+        assertThat(index.candidates(transaction, 1L, 3)).hasSize(3).doesNotContain(1L);
+        assertThat(index.candidates(transaction, 1L, 100)).hasSize(9).doesNotContain(1L);
+    }
+
+    @Test
+    void rejectsSignatureOfWrongLength() {
+        assertThatThrownBy(() -> index.put(1L, new int[BANDS * ROWS - 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.my_spring_study_diary.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명 유사도가 글자 shingle 집합의 Jaccard 유사도를 따라가는지 확인합니다.
+ */
+class MinHasherTest {
+
+    private final MinHasher minHasher = new MinHasher(64, 3, 0x5EED_5EEDL);
+
+    @Test
+    void caseAndSpacingAreNormalized() {
+        assertThat(minHasher.signature("Spring   Bean 생명주기"))
+                .isEqualTo(minHasher.signature("  spring bean 생명주기 "));
+    }
+
+    @Test
+    void nearDuplicatesScoreHighAndUnrelatedTextsLow() {
+        int[] original = minHasher.signature("스프링 트랜잭션 전파 속성 정리");
+        int[] nearDuplicate = minHasher.signature("스프링 트랜잭션 전파 속성 정리하기");
+        int[] unrelated = minHasher.signature("Git rebase 충돌 해결");
+
+        // shingle 기준 Jaccard 유사도는 15/17 (약 0.88)
+        assertThat(MinHasher.similarity(original, nearDuplicate)).isGreaterThan(0.6);
+        assertThat(MinHasher.similarity(original, unrelated)).isLessThan(0.2);
+        assertThat(MinHasher.similarity(original, original)).isEqualTo(1.0);
+    }
+
+    @Test
+    void sameSeedGivesSameSignature() {
+        MinHasher other = new MinHasher(64, 3, 0x5EED_5EEDL);
+        assertThat(other.signature("JPA 지연 로딩")).isEqualTo(minHasher.signature("JPA 지연 로딩"));
+        assertThat(minHasher.signature("JPA 지연 로딩")).hasSize(64);
+    }
+
+    @Test
+    void rejectsEmptyConfiguration() {
+        assertThatThrownBy(() -> new MinHasher(0, 3, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MinHasher(64, 0, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.study.my_spring_study_diary.similarity;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DAO에서 적재한 뒤 로컬 변경을 반영했을 때 비슷한 일지 목록이 따라가는지 확인합니다.
+ */
+class SimilarLogIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private InMemoryStudyLogDao dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new InMemoryStudyLogDao();
+    }
+
+    @Test
+    void findsNearDuplicatesButNotUnrelatedLogs() {
+        StudyLog original = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리"));
+        StudyLog nearDuplicate = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리하기"));
+        StudyLog unrelated = dao.save(studyLog("Git rebase 충돌 해결"));
+        SimilarLogIndex index = newIndex(500);
+
+        assertThat(index.findSimilar(original.getId(), 10))
+                .extracting(SimilarLogIndex.SimilarLog::getLogId)
+                .containsExactly(nearDuplicate.getId());
+        assertThat(index.findSimilar(unrelated.getId(), 10)).isEmpty();
+        assertThat(index.findSimilar(999L, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void updateMovesTheLogToItsNewBuckets() {
+        StudyLog original = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리"));
+        StudyLog nearDuplicate = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리하기"));
+        SimilarLogIndex index = newIndex(500);
+        assertThat(index.findSimilar(original.getId(), 10)).hasSize(1);
+
+        StudyLog changed = studyLog("Git rebase 충돌 해결");
+        changed.setId(nearDuplicate.getId());
+        dao.update(changed);
+        index.onStudyLogChanged(StudyLogChangedEvent.updated(nearDuplicate, changed));
+
+        assertThat(index.findSimilar(original.getId(), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void deletedLogIsNoLongerSuggested() {
+        StudyLog original = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리"));
+        StudyLog nearDuplicate = dao.save(studyLog("스프링 트랜잭션 전파 속성 정리하기"));
+        SimilarLogIndex index = newIndex(500);
+
+        dao.deleteById(nearDuplicate.getId());
+        index.onStudyLogChanged(StudyLogChangedEvent.deleted(nearDuplicate));
+
+        assertThat(index.findSimilar(original.getId(), 10)).isEmpty();
+        assertThat(index.findSimilar(nearDuplicate.getId(), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void maxCandidatesLimitsHowManyLogsAreScored() {
+        StudyLog first = dao.save(studyLog("JPA 지연 로딩과 프록시"));
+        for (int i = 0; i < 9; i++) {
+            dao.save(studyLog("JPA 지연 로딩과 프록시"));
+        }
+
+        assertThat(newIndex(3).findSimilar(first.getId(), 100)).hasSize(3);
+        assertThat(newIndex(500).findSimilar(first.getId(), 100)).hasSize(9)
+                .allSatisfy(similar -> assertThat(similar.getSimilarity()).isEqualTo(1.0));
+    }
+
+    private SimilarLogIndex newIndex(int maxCandidates) {
+        SimilarLogIndex index = new SimilarLogIndex(dao, new SimpleMeterRegistry(), 16, 4, 3, 0.3, maxCandidates);
+        index.init();
+        return index;
+    }
+
+    private static StudyLog studyLog(String title) {
+        return new StudyLog(null, title, "", Category.SPRING, Understanding.NORMAL, 30, TODAY);
+    }
+}
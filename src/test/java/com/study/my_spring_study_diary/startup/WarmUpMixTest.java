@@ -0,0 +1,37 @@
+package com.study.my_spring_study_diary.startup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarmUpMixTest {
+
+    @Test
+    void picksOperationsInProportionToWeights() {
+        WarmUpMix mix = WarmUpMix.parse("page=3, search=1, by-id=0");
+
+        Map<WarmUpMix.Operation, Integer> picked = new EnumMap<>(WarmUpMix.Operation.class);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 40_000; i++) {
+            picked.merge(mix.pick(random), 1, Integer::sum);
+        }
+
+        // 가중치 0인 조회는 재생하지 않음
+        assertThat(picked).containsOnlyKeys(WarmUpMix.Operation.PAGE, WarmUpMix.Operation.SEARCH);
+        assertThat(picked.get(WarmUpMix.Operation.PAGE)).isBetween(29_000, 31_000);
+        assertThat(mix.toString()).isEqualTo("page=3,search=1");
+    }
+
+    @Test
+    void rejectsInvalidMix() {
+        assertThatThrownBy(() -> WarmUpMix.parse("page=1,scan=2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WarmUpMix.parse("page")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WarmUpMix.parse("page=-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WarmUpMix.parse("page=0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.my_spring_study_diary.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FenwickTreeTest {
+
+    @Test
+    void randomAddsMatchBruteForceSums() {
+        Random random = new Random(34);
+        long[] values = new long[257];
+        FenwickTree tree = new FenwickTree(values.length);
+
+        for (int step = 0; step < 2_000; step++) {
+            int index = random.nextInt(values.length);
+            long delta = random.nextInt(200) - 50;
+            values[index] += delta;
+            tree.add(index, delta);
+
+            int from = random.nextInt(values.length);
+            int to = random.nextInt(values.length);
+            assertThat(tree.rangeSum(from, to)).as("[%d, %d]", from, to).isEqualTo(bruteForce(values, from, to));
+        }
+        assertThat(tree.prefixSum(values.length - 1)).isEqualTo(bruteForce(values, 0, values.length - 1));
+        assertThat(tree.prefixSum(-1)).isZero();
+    }
+
+    @Test
+    void linearBuildMatchesIncrementalAdds() {
+        Random random = new Random(7);
+        for (int size : new int[]{1, 2, 3, 8, 100, 1024, 1025}) {
+            long[] values = new long[size];
+            FenwickTree incremental = new FenwickTree(size);
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(1_000);
+                incremental.add(i, values[i]);
+            }
+
+            FenwickTree built = FenwickTree.of(values);
+            assertThat(built.size()).isEqualTo(size);
+            for (int from = 0; from < size; from += Math.max(1, size / 16)) {
+                for (int to = from; to < size; to += Math.max(1, size / 16)) {
+                    assertThat(built.rangeSum(from, to)).as("size=%d [%d, %d]", size, from, to)
+                            .isEqualTo(bruteForce(values, from, to))
+                            .isEqualTo(incremental.rangeSum(from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    void outOfRangeIndexIsRejected() {
+        FenwickTree tree = new FenwickTree(4);
+
+        assertThat(tree.rangeSum(3, 1)).isZero();
+        assertThatThrownBy(() -> tree.add(4, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> tree.prefixSum(4)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static long bruteForce(long[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i <= to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,121 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.dao.InMemoryStudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 결과를 DAO에 저장된 일지를 직접 더한 값과 비교합니다.
+ */
+class StudyTimeRangeIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final Random random = new Random(34);
+    private InMemoryStudyLogDao dao;
+    private StudyTimeRangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dao = new InMemoryStudyLogDao();
+        for (int i = 0; i < 200; i++) {
+            dao.save(studyLog(TODAY.minusDays(random.nextInt(300)), 1 + random.nextInt(120)));
+        }
+        index = new StudyTimeRangeIndex(dao);
+        index.init();
+    }
+
+    @Test
+    void initialLoadMatchesBruteForce() {
+        verifyRandomRanges(TODAY.minusDays(400), TODAY.plusDays(10));
+    }
+
+    @Test
+    void growsInBothDirectionsWithoutLosingSums() {
+        // 초기 범위(오늘 기준 ±512일) 밖으로 양쪽 모두 여러 번 늘어나도록
+        create(studyLog(TODAY.minusDays(5_000), 40));
+        create(studyLog(TODAY.plusDays(3_000), 50));
+        create(studyLog(TODAY.minusDays(20_000), 60));
+        create(studyLog(TODAY.minusDays(1), 70));
+
+        verifyRandomRanges(TODAY.minusDays(21_000), TODAY.plusDays(3_100));
+        assertThat(index.sum(TODAY.minusDays(20_000), TODAY.minusDays(20_000)).getMinutes()).isEqualTo(60);
+        assertThat(index.sum(TODAY.plusDays(3_000), TODAY.plusDays(3_000)).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedEventsAreAppliedOnce() {
+        StudyLog created = studyLog(TODAY.minusDays(2), 30);
+        create(created);
+        index.onStudyLogChanged(StudyLogChangedEvent.created(created));
+
+        StudyLog moved = studyLog(TODAY.minusDays(700), 90);
+        moved.setId(created.getId());
+        dao.update(moved);
+        StudyLogChangedEvent updated = StudyLogChangedEvent.updated(created, moved);
+        index.onStudyLogChanged(updated);
+        index.onStudyLogChanged(updated);
+
+        verifyRandomRanges(TODAY.minusDays(800), TODAY);
+
+        dao.deleteById(moved.getId());
+        StudyLogChangedEvent deleted = StudyLogChangedEvent.deleted(moved);
+        index.onStudyLogChanged(deleted);
+        index.onStudyLogChanged(deleted);
+
+        verifyRandomRanges(TODAY.minusDays(800), TODAY);
+    }
+
+    @Test
+    void unaggregatableDateDoesNotFailTheWriteAndReloads() {
+        // DAO에는 없는 일지가 집계할 수 없는 날짜로 전달되어도 예외를 던지지 않음
+        StudyLog farFuture = new StudyLog(99_999L, "제목", "내용", Category.JAVA, Understanding.GOOD, 30,
+                LocalDate.of(5_000_000, 1, 1));
+        index.onStudyLogChanged(StudyLogChangedEvent.created(farFuture));
+
+        // 다음 조회 때 DAO에서 다시 적재
+        verifyRandomRanges(TODAY.minusDays(400), TODAY);
+    }
+
+    private void create(StudyLog studyLog) {
+        dao.save(studyLog);
+        index.onStudyLogChanged(StudyLogChangedEvent.created(studyLog));
+    }
+
+    private void verifyRandomRanges(LocalDate min, LocalDate max) {
+        List<StudyLog> saved = new ArrayList<>(dao.findAll());
+        int span = (int) (max.toEpochDay() - min.toEpochDay());
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = min.plusDays(random.nextInt(span + 1));
+            LocalDate end = start.plusDays(random.nextInt(span + 1));
+            long minutes = 0;
+            long count = 0;
+            for (StudyLog studyLog : saved) {
+                if (!studyLog.getStudyDate().isBefore(start) && !studyLog.getStudyDate().isAfter(end)) {
+                    minutes += studyLog.getStudyTime();
+                    count++;
+                }
+            }
+            StudyTimeSum sum = index.sum(start, end);
+            assertThat(sum.getMinutes()).as("%s~%s", start, end).isEqualTo(minutes);
+            assertThat(sum.getCount()).as("%s~%s", start, end).isEqualTo(count);
+        }
+        StudyTimeSum all = index.sum(LocalDate.MIN, LocalDate.MAX);
+        assertThat(all.getCount()).isEqualTo(saved.size());
+    }
+
+    private static StudyLog studyLog(LocalDate studyDate, int studyTime) {
+        return new StudyLog(null, "제목", "내용", Category.JAVA, Understanding.GOOD, studyTime, studyDate);
+    }
+}